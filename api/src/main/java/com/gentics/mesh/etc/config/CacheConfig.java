@@ -1,5 +1,7 @@
 package com.gentics.mesh.etc.config;
 
+import java.io.File;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.gentics.mesh.annotation.Setter;
@@ -15,14 +17,83 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_LINK_SIZE_ENV = "MESH_CACHE_LINK_SIZE";
+
+	public static final String MESH_CACHE_RESPONSE_SIZE_ENV = "MESH_CACHE_RESPONSE_SIZE";
+
+	public static final String MESH_CACHE_NAVIGATION_SIZE_ENV = "MESH_CACHE_NAVIGATION_SIZE";
+
+	public static final String MESH_CACHE_PREWARM_ENABLED_ENV = "MESH_CACHE_PREWARM_ENABLED";
+
+	public static final String MESH_CACHE_PREWARM_TIMEOUT_ENV = "MESH_CACHE_PREWARM_TIMEOUT";
+
+	public static final String MESH_CACHE_PREWARM_MAX_ENTRIES_ENV = "MESH_CACHE_PREWARM_MAX_ENTRIES";
+
+	public static final String MESH_CACHE_PREWARM_SNAPSHOT_PATH_ENV = "MESH_CACHE_PREWARM_SNAPSHOT_PATH";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_LINK_CACHE_SIZE = 20_000;
+
+	private static final long DEFAULT_RESPONSE_CACHE_SIZE = 0;
+
+	private static final long DEFAULT_NAVIGATION_CACHE_SIZE = 500;
+
+	private static final boolean DEFAULT_PREWARM_ENABLED = false;
+
+	private static final long DEFAULT_PREWARM_TIMEOUT = 60_000;
+
+	private static final int DEFAULT_PREWARM_MAX_ENTRIES = 1000;
+
+	private static final String DEFAULT_PREWARM_SNAPSHOT_PATH = "data" + File.separator + "cache" + File.separator + "hotkeys.json";
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the cache for resolved mesh links. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_LINK_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_LINK_SIZE_ENV, description = "Override the link cache size.")
+	private long linkCacheSize = DEFAULT_LINK_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size in bytes of the cache for rendered REST responses. The cache is cleared whenever an element is changed. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_RESPONSE_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_RESPONSE_SIZE_ENV, description = "Override the response cache size.")
+	private long responseCacheSize = DEFAULT_RESPONSE_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of navigation structures which will be cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NAVIGATION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NAVIGATION_SIZE_ENV, description = "Override the navigation cache size.")
+	private long navigationCacheSize = DEFAULT_NAVIGATION_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether the caches should be prewarmed during startup. The hottest cache entries will be stored in a snapshot during shutdown and loaded again during the next startup. The instance will only report readiness once the prewarming has finished. Default: "
+		+ DEFAULT_PREWARM_ENABLED)
+	@EnvironmentVariable(name = MESH_CACHE_PREWARM_ENABLED_ENV, description = "Override the cache prewarm enabled flag.")
+	private boolean prewarmEnabled = DEFAULT_PREWARM_ENABLED;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the time budget in milliseconds for the cache prewarming during startup. The remaining entries will be skipped once the time budget has been exceeded. Default: "
+		+ DEFAULT_PREWARM_TIMEOUT)
+	@EnvironmentVariable(name = MESH_CACHE_PREWARM_TIMEOUT_ENV, description = "Override the cache prewarm timeout.")
+	private long prewarmTimeout = DEFAULT_PREWARM_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of hot entries per cache which will be stored in the prewarm snapshot. Default: "
+		+ DEFAULT_PREWARM_MAX_ENTRIES)
+	@EnvironmentVariable(name = MESH_CACHE_PREWARM_MAX_ENTRIES_ENV, description = "Override the maximum amount of entries per cache in the prewarm snapshot.")
+	private int prewarmMaxEntries = DEFAULT_PREWARM_MAX_ENTRIES;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Path to the file in which the snapshot of the hot cache entries will be stored. Default: " + DEFAULT_PREWARM_SNAPSHOT_PATH)
+	@EnvironmentVariable(name = MESH_CACHE_PREWARM_SNAPSHOT_PATH_ENV, description = "Override the path of the cache prewarm snapshot.")
+	private String prewarmSnapshotPath = DEFAULT_PREWARM_SNAPSHOT_PATH;
+
 	public CacheConfig() {
 
 	}
@@ -37,6 +108,76 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getLinkCacheSize() {
+		return linkCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setLinkCacheSize(long linkCacheSize) {
+		this.linkCacheSize = linkCacheSize;
+		return this;
+	}
+
+	public long getResponseCacheSize() {
+		return responseCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setResponseCacheSize(long responseCacheSize) {
+		this.responseCacheSize = responseCacheSize;
+		return this;
+	}
+
+	public long getNavigationCacheSize() {
+		return navigationCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setNavigationCacheSize(long navigationCacheSize) {
+		this.navigationCacheSize = navigationCacheSize;
+		return this;
+	}
+
+	public boolean isPrewarmEnabled() {
+		return prewarmEnabled;
+	}
+
+	@Setter
+	public CacheConfig setPrewarmEnabled(boolean prewarmEnabled) {
+		this.prewarmEnabled = prewarmEnabled;
+		return this;
+	}
+
+	public long getPrewarmTimeout() {
+		return prewarmTimeout;
+	}
+
+	@Setter
+	public CacheConfig setPrewarmTimeout(long prewarmTimeout) {
+		this.prewarmTimeout = prewarmTimeout;
+		return this;
+	}
+
+	public int getPrewarmMaxEntries() {
+		return prewarmMaxEntries;
+	}
+
+	@Setter
+	public CacheConfig setPrewarmMaxEntries(int prewarmMaxEntries) {
+		this.prewarmMaxEntries = prewarmMaxEntries;
+		return this;
+	}
+
+	public String getPrewarmSnapshotPath() {
+		return prewarmSnapshotPath;
+	}
+
+	@Setter
+	public CacheConfig setPrewarmSnapshotPath(String prewarmSnapshotPath) {
+		this.prewarmSnapshotPath = prewarmSnapshotPath;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
@@ -24,6 +24,9 @@ public class ClusterOptions implements Option {
 	public static final int DEFAULT_VERTX_PORT = 4848;
 	public static final long DEFAULT_TOPOLOGY_LOCK_TIMEOUT = 0;
 	public static final long DEFAULT_TOPOLOGY_LOCK_DELAY = 20_000; // 20 seconds
+	public static final int DEFAULT_TOPOLOGY_LOCK_MAX_WAITING = 1000;
+	public static final boolean DEFAULT_COORDINATOR_LOAD_BALANCING = false;
+	public static final long DEFAULT_COORDINATOR_READ_YOUR_WRITES_WINDOW = 10_000; // 10 seconds
 
 	public static final String MESH_CLUSTER_NETWORK_HOST_ENV = "MESH_CLUSTER_NETWORK_HOST";
 	public static final String MESH_CLUSTER_ENABLED_ENV = "MESH_CLUSTER_ENABLED";
@@ -33,6 +36,9 @@ public class ClusterOptions implements Option {
 	public static final String MESH_CLUSTER_COORDINATOR_REGEX_ENV = "MESH_CLUSTER_COORDINATOR_REGEX";
 	public static final String MESH_CLUSTER_TOPOLOGY_LOCK_TIMEOUT_ENV = "MESH_CLUSTER_TOPOLOGY_LOCK_TIMEOUT";
 	public static final String MESH_CLUSTER_TOPOLOGY_LOCK_DELAY_ENV = "MESH_CLUSTER_TOPOLOGY_LOCK_DELAY";
+	public static final String MESH_CLUSTER_TOPOLOGY_LOCK_MAX_WAITING_ENV = "MESH_CLUSTER_TOPOLOGY_LOCK_MAX_WAITING";
+	public static final String MESH_CLUSTER_COORDINATOR_LOAD_BALANCING_ENV = "MESH_CLUSTER_COORDINATOR_LOAD_BALANCING";
+	public static final String MESH_CLUSTER_COORDINATOR_READ_YOUR_WRITES_WINDOW_ENV = "MESH_CLUSTER_COORDINATOR_READ_YOUR_WRITES_WINDOW";
 	public static final String MESH_CLUSTER_COORDINATOR_TOPOLOGY_ENV = "MESH_CLUSTER_COORDINATOR_TOPOLOGY";
 
 	@JsonProperty(required = false)
@@ -81,11 +87,29 @@ public class ClusterOptions implements Option {
 	@EnvironmentVariable(name = MESH_CLUSTER_TOPOLOGY_LOCK_DELAY_ENV, description = "Override the cluster topology lock delay in ms.")
 	private long topologyLockDelay = DEFAULT_TOPOLOGY_LOCK_DELAY;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Define the maximum amount of transactions which may wait for the release of the topology lock. Further transactions will fail immediately. Default: "
+		+ DEFAULT_TOPOLOGY_LOCK_MAX_WAITING + ". A value of 0 will not limit the amount of waiting transactions.")
+	@EnvironmentVariable(name = MESH_CLUSTER_TOPOLOGY_LOCK_MAX_WAITING_ENV, description = "Override the maximum amount of transactions waiting for the topology lock.")
+	private int topologyLockMaxWaiting = DEFAULT_TOPOLOGY_LOCK_MAX_WAITING;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The coordinator topology setting controls whether the coordinator should manage the cluster topology. By default no cluster topology management will be done.")
 	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_TOPOLOGY_ENV, description = "Override the cluster coordinator topology management mode.")
 	private CoordinationTopology coordinatorTopology = CoordinationTopology.UNMANAGED;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag to enable the load balancing of read requests by the coordinator. Read requests will be routed to the least loaded healthy instance when the coordinator mode is set to CUD. Default: "
+		+ DEFAULT_COORDINATOR_LOAD_BALANCING)
+	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_LOAD_BALANCING_ENV, description = "Override the cluster coordinator load balancing flag.")
+	private boolean coordinatorLoadBalancing = DEFAULT_COORDINATOR_LOAD_BALANCING;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in ms in which the read requests of a client will be routed to the elected master after the client sent a modifying request. This ensures that the client can read its own writes when load balancing is enabled. Default: "
+		+ DEFAULT_COORDINATOR_READ_YOUR_WRITES_WINDOW)
+	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_READ_YOUR_WRITES_WINDOW_ENV, description = "Override the cluster coordinator read your writes window in ms.")
+	private long coordinatorReadYourWritesWindow = DEFAULT_COORDINATOR_READ_YOUR_WRITES_WINDOW;
+
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -176,6 +200,36 @@ public class ClusterOptions implements Option {
 		return this;
 	}
 
+	public boolean isCoordinatorLoadBalancing() {
+		return coordinatorLoadBalancing;
+	}
+
+	@Setter
+	public ClusterOptions setCoordinatorLoadBalancing(boolean coordinatorLoadBalancing) {
+		this.coordinatorLoadBalancing = coordinatorLoadBalancing;
+		return this;
+	}
+
+	public long getCoordinatorReadYourWritesWindow() {
+		return coordinatorReadYourWritesWindow;
+	}
+
+	@Setter
+	public ClusterOptions setCoordinatorReadYourWritesWindow(long coordinatorReadYourWritesWindow) {
+		this.coordinatorReadYourWritesWindow = coordinatorReadYourWritesWindow;
+		return this;
+	}
+
+	public int getTopologyLockMaxWaiting() {
+		return topologyLockMaxWaiting;
+	}
+
+	@Setter
+	public ClusterOptions setTopologyLockMaxWaiting(int topologyLockMaxWaiting) {
+		this.topologyLockMaxWaiting = topologyLockMaxWaiting;
+		return this;
+	}
+
 	/**
 	 * Validate the options.
 	 * 
@@ -20,6 +20,11 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
 	public static final String MESH_IMAGE_CACHE_DIRECTORY_ENV = "MESH_IMAGE_CACHE_DIRECTORY";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
+	public static final String MESH_IMAGE_RESIZE_WORKER_POOL_SIZE_ENV = "MESH_IMAGE_RESIZE_WORKER_POOL_SIZE";
+	public static final String MESH_IMAGE_RESIZE_QUEUE_LIMIT_ENV = "MESH_IMAGE_RESIZE_QUEUE_LIMIT";
+	public static final String MESH_IMAGE_SUBSAMPLING_ENV = "MESH_IMAGE_SUBSAMPLING";
+	public static final String MESH_IMAGE_DECODE_MEMORY_BUDGET_ENV = "MESH_IMAGE_DECODE_MEMORY_BUDGET";
 
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
@@ -27,12 +32,23 @@ public class ImageManipulatorOptions implements Option {
 	public static final String DEFAULT_IMAGE_CACHE_DIRECTORY = "data" + File.separator + "binaryImageCache";
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 0;
+	public static final int DEFAULT_RESIZE_WORKER_POOL_SIZE = 5;
+	public static final int DEFAULT_RESIZE_QUEUE_LIMIT = 100;
+	public static final boolean DEFAULT_SUBSAMPLING = true;
+	public static final long DEFAULT_DECODE_MEMORY_BUDGET = 0;
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the path for image cache directory. Default: data/binaryImageCache")
 	@EnvironmentVariable(name = MESH_IMAGE_CACHE_DIRECTORY_ENV, description = "Override the path for image cache directory.")
 	private String imageCacheDirectory = DEFAULT_IMAGE_CACHE_DIRECTORY;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum size in bytes of the image cache directory. Once the limit has been exceeded, the least valuable image variants will be removed from the cache. A value of 0 disables the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache directory.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the maximum allowed image resize width. Resizing is a memory intensive operation and thus this limit can help avoid memory issues. Default: "
 		+ DEFAULT_MAX_WIDTH)
@@ -56,6 +72,29 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of threads which are used to resize images. Default: " + DEFAULT_RESIZE_WORKER_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_RESIZE_WORKER_POOL_SIZE_ENV, description = "Override the amount of image resize threads.")
+	private int resizeWorkerPoolSize = DEFAULT_RESIZE_WORKER_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum amount of distinct image resize operations which may be queued or running at the same time. Further resize requests will be rejected until pending operations have completed. Concurrent requests for the same image variant share a single operation. Default: "
+		+ DEFAULT_RESIZE_QUEUE_LIMIT)
+	@EnvironmentVariable(name = MESH_IMAGE_RESIZE_QUEUE_LIMIT_ENV, description = "Override the maximum amount of pending image resize operations.")
+	private int resizeQueueLimit = DEFAULT_RESIZE_QUEUE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If enabled, large source images will be decoded with a reduced resolution when the requested image is considerably smaller. This reduces the memory usage and the duration of resize operations. Default: "
+		+ DEFAULT_SUBSAMPLING)
+	@EnvironmentVariable(name = MESH_IMAGE_SUBSAMPLING_ENV, description = "Override the image subsampling flag.")
+	private boolean subsampling = DEFAULT_SUBSAMPLING;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the amount of memory in bytes which may be used by concurrent image decode operations. Decode operations will wait until enough of the budget is available. A value of 0 disables the limit. Default: "
+		+ DEFAULT_DECODE_MEMORY_BUDGET)
+	@EnvironmentVariable(name = MESH_IMAGE_DECODE_MEMORY_BUDGET_ENV, description = "Override the memory budget for image decode operations.")
+	private long decodeMemoryBudget = DEFAULT_DECODE_MEMORY_BUDGET;
+
 	public String getImageCacheDirectory() {
 		return imageCacheDirectory;
 	}
@@ -76,6 +115,16 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	@Setter
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
 	public Integer getMaxWidth() {
 		return maxWidth;
 	}
@@ -106,9 +155,61 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public int getResizeWorkerPoolSize() {
+		return resizeWorkerPoolSize;
+	}
+
+	@Setter
+	public ImageManipulatorOptions setResizeWorkerPoolSize(int resizeWorkerPoolSize) {
+		this.resizeWorkerPoolSize = resizeWorkerPoolSize;
+		return this;
+	}
+
+	public int getResizeQueueLimit() {
+		return resizeQueueLimit;
+	}
+
+	@Setter
+	public ImageManipulatorOptions setResizeQueueLimit(int resizeQueueLimit) {
+		this.resizeQueueLimit = resizeQueueLimit;
+		return this;
+	}
+
+	public boolean isSubsampling() {
+		return subsampling;
+	}
+
+	@Setter
+	public ImageManipulatorOptions setSubsampling(boolean subsampling) {
+		this.subsampling = subsampling;
+		return this;
+	}
+
+	public long getDecodeMemoryBudget() {
+		return decodeMemoryBudget;
+	}
+
+	@Setter
+	public ImageManipulatorOptions setDecodeMemoryBudget(long decodeMemoryBudget) {
+		this.decodeMemoryBudget = decodeMemoryBudget;
+		return this;
+	}
+
 	/**
 	 * Validate the options.
 	 */
 	public void validate(MeshOptions meshOptions) {
+		if (getImageCacheMaxSize() < 0) {
+			throw new IllegalArgumentException("imageCacheMaxSize must not be negative.");
+		}
+		if (getResizeWorkerPoolSize() <= 0) {
+			throw new IllegalArgumentException("resizeWorkerPoolSize must be positive.");
+		}
+		if (getResizeQueueLimit() <= 0) {
+			throw new IllegalArgumentException("resizeQueueLimit must be positive.");
+		}
+		if (getDecodeMemoryBudget() < 0) {
+			throw new IllegalArgumentException("decodeMemoryBudget must not be negative.");
+		}
 	}
 }
@@ -24,6 +24,13 @@ public class MeshOptions implements Option {
 	public static final String DEFAULT_DIRECTORY_NAME = "graphdb";
 	public static final int DEFAULT_MAX_DEPTH = 10;
 	public static final int DEFAULT_PLUGIN_TIMEOUT = 120;
+	public static final int DEFAULT_JOB_CONCURRENCY = 1;
+	public static final int DEFAULT_MIGRATION_MAX_BATCH_SIZE = 100;
+	public static final int DEFAULT_MIGRATION_CONCURRENCY = 1;
+	public static final int DEFAULT_CHANGELOG_BATCH_SIZE = 1000;
+	public static final int DEFAULT_CHANGELOG_CONCURRENCY = 1;
+	public static final String DEFAULT_EVENT_FEED_DIRECTORY = "data" + File.separator + "eventfeed";
+	public static final int DEFAULT_EVENT_FEED_MAX_ENTRIES = 0;
 
 	public static final String MESH_DEFAULT_LANG_ENV = "MESH_DEFAULT_LANG";
 	public static final String MESH_LANGUAGES_FILE_PATH_ENV = "MESH_LANGUAGES_FILE_PATH";
@@ -38,6 +45,13 @@ public class MeshOptions implements Option {
 	public static final String MESH_INITIAL_ADMIN_PASSWORD_ENV = "MESH_INITIAL_ADMIN_PASSWORD";
 	public static final String MESH_INITIAL_ADMIN_PASSWORD_FORCE_RESET_ENV = "MESH_INITIAL_ADMIN_PASSWORD_FORCE_RESET";
 	public static final String MESH_MAX_PURGE_BATCH_SIZE = "MESH_MAX_PURGE_BATCH_SIZE";
+	public static final String MESH_JOB_CONCURRENCY_ENV = "MESH_JOB_CONCURRENCY";
+	public static final String MESH_MIGRATION_MAX_BATCH_SIZE_ENV = "MESH_MIGRATION_MAX_BATCH_SIZE";
+	public static final String MESH_MIGRATION_CONCURRENCY_ENV = "MESH_MIGRATION_CONCURRENCY";
+	public static final String MESH_CHANGELOG_BATCH_SIZE_ENV = "MESH_CHANGELOG_BATCH_SIZE";
+	public static final String MESH_CHANGELOG_CONCURRENCY_ENV = "MESH_CHANGELOG_CONCURRENCY";
+	public static final String MESH_EVENT_FEED_DIRECTORY_ENV = "MESH_EVENT_FEED_DIRECTORY";
+	public static final String MESH_EVENT_FEED_MAX_ENTRIES_ENV = "MESH_EVENT_FEED_MAX_ENTRIES";
 
 	// TODO remove this setting. There should not be a default max depth. This is no longer needed once we remove the expand all parameter
 	private int defaultMaxDepth = DEFAULT_MAX_DEPTH;
@@ -140,6 +154,47 @@ public class MeshOptions implements Option {
 	@EnvironmentVariable(name = MESH_MAX_PURGE_BATCH_SIZE, description = "Override the maximum purge batch size.")
 	private int versionPurgeMaxBatchSize = 10;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of jobs which are processed concurrently. Jobs which belong to the same project are always processed one after another. Default: "
+		+ DEFAULT_JOB_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_JOB_CONCURRENCY_ENV, description = "Override the maximum amount of concurrently processed jobs.")
+	private int jobConcurrency = DEFAULT_JOB_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of nodes which are migrated to a new branch before the database transaction is committed. Default: "
+		+ DEFAULT_MIGRATION_MAX_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_MIGRATION_MAX_BATCH_SIZE_ENV, description = "Override the maximum migration batch size.")
+	private int migrationMaxBatchSize = DEFAULT_MIGRATION_MAX_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of batches which are migrated concurrently during a branch migration. Default: "
+		+ DEFAULT_MIGRATION_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_MIGRATION_CONCURRENCY_ENV, description = "Override the maximum amount of concurrently migrated batches.")
+	private int migrationConcurrency = DEFAULT_MIGRATION_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of elements which are updated by a partitioned changelog entry before the database transaction is committed. Default: "
+		+ DEFAULT_CHANGELOG_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_CHANGELOG_BATCH_SIZE_ENV, description = "Override the changelog batch size.")
+	private int changelogBatchSize = DEFAULT_CHANGELOG_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of batches which are processed concurrently by a partitioned changelog entry which supports concurrent processing. Default: "
+		+ DEFAULT_CHANGELOG_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_CHANGELOG_CONCURRENCY_ENV, description = "Override the maximum amount of concurrently processed changelog batches.")
+	private int changelogConcurrency = DEFAULT_CHANGELOG_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Path to the directory which contains the log of the event feed. Default: " + DEFAULT_EVENT_FEED_DIRECTORY)
+	@EnvironmentVariable(name = MESH_EVENT_FEED_DIRECTORY_ENV, description = "Override the event feed directory.")
+	private String eventFeedDirectory = DEFAULT_EVENT_FEED_DIRECTORY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of events which are kept in the event feed log. Clients can only resume the feed from events which are still in the log. A value of 0 disables the event feed. Default: "
+		+ DEFAULT_EVENT_FEED_MAX_ENTRIES)
+	@EnvironmentVariable(name = MESH_EVENT_FEED_MAX_ENTRIES_ENV, description = "Override the maximum amount of events in the event feed log.")
+	private int eventFeedMaxEntries = DEFAULT_EVENT_FEED_MAX_ENTRIES;
+
 	/* EXTRA Command Line Arguments */
 	@JsonIgnore
 	@EnvironmentVariable(name = MESH_CLUSTER_INIT_ENV, description = "Enable or disable the initial cluster database setup. This is useful for testing.")
@@ -485,6 +540,76 @@ public class MeshOptions implements Option {
 		return this;
 	}
 
+	public int getJobConcurrency() {
+		return jobConcurrency;
+	}
+
+	@Setter
+	public MeshOptions setJobConcurrency(int jobConcurrency) {
+		this.jobConcurrency = jobConcurrency;
+		return this;
+	}
+
+	public int getMigrationMaxBatchSize() {
+		return migrationMaxBatchSize;
+	}
+
+	@Setter
+	public MeshOptions setMigrationMaxBatchSize(int migrationMaxBatchSize) {
+		this.migrationMaxBatchSize = migrationMaxBatchSize;
+		return this;
+	}
+
+	public int getMigrationConcurrency() {
+		return migrationConcurrency;
+	}
+
+	@Setter
+	public MeshOptions setMigrationConcurrency(int migrationConcurrency) {
+		this.migrationConcurrency = migrationConcurrency;
+		return this;
+	}
+
+	public int getChangelogBatchSize() {
+		return changelogBatchSize;
+	}
+
+	@Setter
+	public MeshOptions setChangelogBatchSize(int changelogBatchSize) {
+		this.changelogBatchSize = changelogBatchSize;
+		return this;
+	}
+
+	public int getChangelogConcurrency() {
+		return changelogConcurrency;
+	}
+
+	@Setter
+	public MeshOptions setChangelogConcurrency(int changelogConcurrency) {
+		this.changelogConcurrency = changelogConcurrency;
+		return this;
+	}
+
+	public String getEventFeedDirectory() {
+		return eventFeedDirectory;
+	}
+
+	@Setter
+	public MeshOptions setEventFeedDirectory(String eventFeedDirectory) {
+		this.eventFeedDirectory = eventFeedDirectory;
+		return this;
+	}
+
+	public int getEventFeedMaxEntries() {
+		return eventFeedMaxEntries;
+	}
+
+	@Setter
+	public MeshOptions setEventFeedMaxEntries(int eventFeedMaxEntries) {
+		this.eventFeedMaxEntries = eventFeedMaxEntries;
+		return this;
+	}
+
 	/**
 	 * Validate this and the nested options.
 	 */
@@ -520,6 +645,24 @@ public class MeshOptions implements Option {
 		if (getVersionPurgeMaxBatchSize() <= 0) {
 			throw new IllegalArgumentException("versionPurgeMaxBatchSize must be positive.");
 		}
+		if (getJobConcurrency() <= 0) {
+			throw new IllegalArgumentException("jobConcurrency must be positive.");
+		}
+		if (getMigrationMaxBatchSize() <= 0) {
+			throw new IllegalArgumentException("migrationMaxBatchSize must be positive.");
+		}
+		if (getMigrationConcurrency() <= 0) {
+			throw new IllegalArgumentException("migrationConcurrency must be positive.");
+		}
+		if (getChangelogBatchSize() <= 0) {
+			throw new IllegalArgumentException("changelogBatchSize must be positive.");
+		}
+		if (getChangelogConcurrency() <= 0) {
+			throw new IllegalArgumentException("changelogConcurrency must be positive.");
+		}
+		if (getEventFeedMaxEntries() < 0) {
+			throw new IllegalArgumentException("eventFeedMaxEntries must not be negative.");
+		}
 		// TODO check for other invalid characters in node name
 	}
 
@@ -0,0 +1,36 @@
+package com.gentics.mesh.benchmark;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.gentics.mesh.Mesh;
+
+/**
+ * Runner for the benchmarks. The regular JMH command line options are supported. By default the results are written in JSON format to
+ * <code>target/jmh-result-{version}.json</code> so that the results of different releases can be compared.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+		if (!cmdOptions.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+		}
+		if (!cmdOptions.getResult().hasValue()) {
+			File resultFile = new File("target", "jmh-result-" + Mesh.getPlainVersion() + ".json");
+			resultFile.getParentFile().mkdirs();
+			builder.result(resultFile.getPath());
+		}
+		if (cmdOptions.getIncludes().isEmpty()) {
+			builder.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+		}
+		new Runner(builder.build()).run();
+	}
+
+}
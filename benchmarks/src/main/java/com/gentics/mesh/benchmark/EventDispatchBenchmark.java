@@ -0,0 +1,44 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.project.ProjectReference;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.util.UUIDUtil;
+
+/**
+ * Benchmark for the serialization and publishing of events via {@link EventQueueBatch#dispatch()}.
+ */
+@State(Scope.Benchmark)
+public class EventDispatchBenchmark extends AbstractMeshBenchmark {
+
+	@Param({ "1", "100" })
+	public int batchSize;
+
+	@Benchmark
+	public EventQueueBatch dispatch(MeshBenchmarkState state) {
+		EventQueueBatch batch = state.mesh().batchProvider().get();
+		for (int i = 0; i < batchSize; i++) {
+			NodeMeshEventModel event = new NodeMeshEventModel();
+			event.setEvent(NODE_UPDATED);
+			event.setUuid(UUIDUtil.randomUUID());
+			event.setBranchUuid(UUIDUtil.randomUUID());
+			event.setLanguageTag("en");
+			event.setType(DRAFT);
+			event.setSchema(new SchemaReferenceImpl().setName("content").setUuid(UUIDUtil.randomUUID()));
+			event.setProject(new ProjectReference().setName("dummy").setUuid(UUIDUtil.randomUUID()));
+			batch.add(event);
+		}
+		batch.dispatch();
+		return batch;
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.gentics.mesh.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.reflections.Reflections;
+
+import com.gentics.madl.annotations.GraphElement;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.graphdb.SimpleReflectionCache;
+import com.gentics.mesh.madl.frame.RegistryFrameFactory;
+import com.syncleus.ferma.framefactories.DefaultFrameFactory;
+import com.syncleus.ferma.framefactories.FrameFactory;
+
+/**
+ * Benchmarks for the creation of frames and the loading of the graph element types. Compares the reflection based implementations with the registry which
+ * is generated at build time. This benchmark does not need a running Gentics Mesh instance.
+ */
+@State(Scope.Benchmark)
+public class FrameFactoryBenchmark extends AbstractMeshBenchmark {
+
+	private final FrameFactory defaultFactory = new DefaultFrameFactory();
+
+	private final FrameFactory registryFactory = RegistryFrameFactory.INSTANCE;
+
+	@Benchmark
+	@OutputTimeUnit(NANOSECONDS)
+	public Object createFrameViaReflection() {
+		return defaultFactory.create(null, NodeImpl.class);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(NANOSECONDS)
+	public Object createFrameViaRegistry() {
+		return registryFactory.create(null, NodeImpl.class);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(NANOSECONDS)
+	public Object createContainerFrameViaReflection() {
+		return defaultFactory.create(null, NodeGraphFieldContainerImpl.class);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(NANOSECONDS)
+	public Object createContainerFrameViaRegistry() {
+		return registryFactory.create(null, NodeGraphFieldContainerImpl.class);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(MILLISECONDS)
+	public Set<Class<?>> loadTypesViaClasspathScan() {
+		return new Reflections("com.gentics.mesh.core.data").getTypesAnnotatedWith(GraphElement.class);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(MILLISECONDS)
+	public SimpleReflectionCache loadTypesViaRegistry() {
+		return new SimpleReflectionCache("com.gentics.mesh.core.data");
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+
+/**
+ * Benchmarks for the execution of GraphQL queries. The queries are executed via the REST API of the embedded server.
+ */
+@State(Scope.Benchmark)
+public class GraphQLBenchmark extends AbstractMeshBenchmark {
+
+	private static final String NODE_QUERY = "{ node(path: \"/News/2015/News_2015.en.html\") { uuid path fields { ... on content { slug title teaser } } } }";
+
+	private static final String NODES_QUERY = "{ nodes(perPage: 25) { elements { uuid path schema { name } children { elements { uuid } } } } }";
+
+	@Benchmark
+	public GraphQLResponse node(MeshBenchmarkState state) {
+		return state.client().graphqlQuery(PROJECT_NAME, NODE_QUERY).blockingGet();
+	}
+
+	@Benchmark
+	public GraphQLResponse nodes(MeshBenchmarkState state) {
+		return state.client().graphqlQuery(PROJECT_NAME, NODES_QUERY).blockingGet();
+	}
+
+}
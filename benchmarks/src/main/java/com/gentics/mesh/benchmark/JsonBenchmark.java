@@ -0,0 +1,53 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+
+/**
+ * Benchmarks for the serialization and deserialization of REST models via {@link JsonUtil}.
+ */
+@State(Scope.Benchmark)
+public class JsonBenchmark extends AbstractMeshBenchmark {
+
+	private NodeResponse node;
+
+	private String json;
+
+	private byte[] bytes;
+
+	@Setup(Level.Trial)
+	public void setup(MeshBenchmarkState state) {
+		String uuid = state.db().tx(() -> state.data().getContent("concorde").getUuid());
+		node = state.client().findNodeByUuid(PROJECT_NAME, uuid, new NodeParametersImpl().setLanguages("en", "de")).blockingGet();
+		json = node.toJson();
+		bytes = json.getBytes(UTF_8);
+	}
+
+	@Benchmark
+	public String toJson() {
+		return JsonUtil.toJson(node);
+	}
+
+	@Benchmark
+	public NodeResponse readValue() {
+		return JsonUtil.readValue(json, NodeResponse.class);
+	}
+
+	@Benchmark
+	public NodeResponse readValueFromStream() {
+		return JsonUtil.readValue(new ByteArrayInputStream(bytes), NodeResponse.class);
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.mock.Mocks.getMockedInternalActionContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.parameter.LinkType;
+
+/**
+ * Benchmark for the rendering of mesh links via {@link WebRootLinkReplacer#replace(InternalActionContext, String, com.gentics.mesh.core.rest.common.ContainerType, String, LinkType, String, java.util.List)}.
+ */
+@State(Scope.Thread)
+public class LinkReplacerBenchmark extends AbstractMeshBenchmark {
+
+	private Tx tx;
+
+	private InternalActionContext ac;
+
+	private WebRootLinkReplacer replacer;
+
+	private String branchUuid;
+
+	private String content;
+
+	@Setup(Level.Iteration)
+	public void setup(MeshBenchmarkState state) {
+		tx = state.db().tx();
+		replacer = state.mesh().webRootLinkReplacer();
+		ac = getMockedInternalActionContext("", state.data().user(), state.data().getProject());
+		branchUuid = state.data().getProject().getLatestBranch().getUuid();
+
+		StringBuilder builder = new StringBuilder();
+		for (String name : new String[] { "news overview", "concorde", "honda nr", "news_2015" }) {
+			builder.append("<p>Some text <a href=\"{{mesh.link('").append(state.data().getContent(name).getUuid()).append("', 'en')}}\">link</a></p>");
+		}
+		content = builder.toString();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		tx.close();
+	}
+
+	@Benchmark
+	public String cached() {
+		return replacer.replace(ac, branchUuid, DRAFT, content, LinkType.FULL, null, null);
+	}
+
+	@Benchmark
+	public String uncached(MeshBenchmarkState state) {
+		state.mesh().linkCache().clear();
+		return replacer.replace(ac, branchUuid, DRAFT, content, LinkType.FULL, null, null);
+	}
+
+}
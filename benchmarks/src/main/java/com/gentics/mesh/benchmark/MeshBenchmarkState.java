@@ -0,0 +1,62 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.dagger.MeshComponent;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.rest.client.MeshRestClient;
+import com.gentics.mesh.test.TestDataProvider;
+import com.gentics.mesh.test.context.MeshTestContext;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+/**
+ * Benchmark state which boots Gentics Mesh once per trial. The embedded in-memory database is seeded with the full test data set. The REST server is started
+ * so that endpoints can be benchmarked via the HTTP client.
+ */
+@State(Scope.Benchmark)
+@MeshTestSetting(elasticsearch = NONE, testSize = FULL, startServer = true, monitoring = false)
+public class MeshBenchmarkState {
+
+	private MeshTestContext context;
+
+	private MeshTestSetting settings;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		settings = MeshBenchmarkState.class.getAnnotation(MeshTestSetting.class);
+		context = new MeshTestContext();
+		context.setupOnce(settings);
+		context.setup(settings);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		context.tearDown(settings);
+		context.tearDownOnce(settings);
+		context.getMesh().shutdown();
+	}
+
+	public MeshComponent mesh() {
+		return context.getMeshComponent();
+	}
+
+	public Database db() {
+		return mesh().database();
+	}
+
+	public TestDataProvider data() {
+		return context.getData();
+	}
+
+	public MeshRestClient client() {
+		return context.getHttpClient();
+	}
+
+}
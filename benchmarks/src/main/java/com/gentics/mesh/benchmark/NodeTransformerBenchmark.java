@@ -0,0 +1,53 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.search.index.node.NodeContainerTransformer;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Benchmark for the transformation of node contents into search index documents via
+ * {@link NodeContainerTransformer#toDocument(NodeGraphFieldContainer, String, com.gentics.mesh.core.rest.common.ContainerType)}.
+ */
+@State(Scope.Thread)
+public class NodeTransformerBenchmark extends AbstractMeshBenchmark {
+
+	private Tx tx;
+
+	private NodeContainerTransformer transformer;
+
+	private NodeGraphFieldContainer container;
+
+	private String branchUuid;
+
+	@Setup(Level.Iteration)
+	public void setup(MeshBenchmarkState state) {
+		tx = state.db().tx();
+		transformer = new NodeContainerTransformer(state.mesh().options());
+		HibBranch branch = state.data().getProject().getLatestBranch();
+		branchUuid = branch.getUuid();
+		container = tx.contentDao().getGraphFieldContainer(state.data().getContent("concorde"), "en", branch, PUBLISHED);
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		tx.close();
+	}
+
+	@Benchmark
+	public JsonObject toDocument() {
+		return transformer.toDocument(container, branchUuid, PUBLISHED);
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.db.Tx;
+
+/**
+ * Benchmarks for {@link com.gentics.mesh.core.data.dao.UserDaoWrapper#hasPermissionForId(HibUser, Object, com.gentics.mesh.core.data.perm.InternalPermission)}
+ * with and without a populated permission cache.
+ */
+@State(Scope.Thread)
+public class PermissionBenchmark extends AbstractMeshBenchmark {
+
+	private Tx tx;
+
+	private HibUser user;
+
+	private Object elementId;
+
+	@Setup(Level.Iteration)
+	public void setup(MeshBenchmarkState state) {
+		tx = state.db().tx();
+		user = state.data().user();
+		elementId = state.data().getContent("concorde").getId();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		tx.close();
+	}
+
+	@Benchmark
+	public boolean cached() {
+		return tx.userDao().hasPermissionForId(user, elementId, READ_PERM);
+	}
+
+	@Benchmark
+	public boolean uncached(MeshBenchmarkState state) {
+		state.mesh().permissionCache().clear(false);
+		return tx.userDao().hasPermissionForId(user, elementId, READ_PERM);
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+
+import java.util.Stack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.impl.PathImpl;
+
+/**
+ * Benchmark for the resolving of webroot paths via {@link com.gentics.mesh.core.data.node.Node#resolvePath(String, com.gentics.mesh.core.rest.common.ContainerType, Path, Stack)}.
+ * The webroot path cache is not involved.
+ */
+@State(Scope.Thread)
+public class WebrootPathBenchmark extends AbstractMeshBenchmark {
+
+	private static final String PATH = "/News/2015/News_2015.en.html";
+
+	private Tx tx;
+
+	private HibNode baseNode;
+
+	private String branchUuid;
+
+	@Setup(Level.Iteration)
+	public void setup(MeshBenchmarkState state) {
+		tx = state.db().tx();
+		baseNode = state.data().getProject().getBaseNode();
+		branchUuid = state.data().getProject().getLatestBranch().getUuid();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		tx.close();
+	}
+
+	@Benchmark
+	public Path resolvePath() {
+		Path path = new PathImpl();
+		path.setTargetPath(PATH);
+		Stack<String> stack = new Stack<>();
+		String[] segments = PATH.substring(1).split("/");
+		for (int i = segments.length - 1; i >= 0; i--) {
+			stack.push(segments[i]);
+		}
+		return tx.nodeDao().resolvePath(baseNode, branchUuid, DRAFT, path, stack);
+	}
+
+}
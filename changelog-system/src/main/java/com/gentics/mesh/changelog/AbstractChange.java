@@ -1,10 +1,22 @@
 package com.gentics.mesh.changelog;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
@@ -26,6 +38,8 @@ public abstract class AbstractChange implements Change {
 
 	private Database db;
 
+	private MeshOptions options;
+
 	private long duration;
 
 	@Override
@@ -95,7 +109,7 @@ public abstract class AbstractChange implements Change {
 	public boolean isApplied() {
 		TransactionalGraph graph = db.rawTx();
 		setGraph(graph);
-		ChangelogRootWrapper changelogRoot = changelogRoot();
+		ChangelogRootWrapper changelogRoot = changelogRoot(graph);
 		boolean hasChange = changelogRoot.hasChange(getUuid());
 		graph.shutdown();
 		setGraph(null);
@@ -107,8 +121,8 @@ public abstract class AbstractChange implements Change {
 	 * 
 	 * @return
 	 */
-	private ChangelogRootWrapper changelogRoot() {
-		Vertex meshRoot = getMeshRootVertex();
+	private ChangelogRootWrapper changelogRoot(TransactionalGraph graph) {
+		Vertex meshRoot = MeshGraphHelper.getMeshRootVertex(graph);
 		if (meshRoot == null) {
 			throw new RuntimeException("Could not find mesh root node. The change can't be applied without the mesh root vertex.");
 		}
@@ -135,7 +149,7 @@ public abstract class AbstractChange implements Change {
 	public void markAsComplete() {
 		TransactionalGraph graph = db.rawTx();
 		setGraph(graph);
-		changelogRoot().add(this);
+		changelogRoot(graph).add(this);
 		setGraph(null);
 		graph.commit();
 		graph.shutdown();
@@ -209,6 +223,16 @@ public abstract class AbstractChange implements Change {
 		this.db = db;
 	}
 
+	@Override
+	public MeshOptions getOptions() {
+		return options;
+	}
+
+	@Override
+	public void setOptions(MeshOptions options) {
+		this.options = options;
+	}
+
 	/**
 	 * Iterates over some items, committing the transaction after some iterations.
 	 * @param iterable
@@ -237,6 +261,168 @@ public abstract class AbstractChange implements Change {
 		iterateWithCommit(iterable, 1000, consumer);
 	}
 
+	/**
+	 * Apply the action to all vertices of the given class in partitions.
+	 *
+	 * @param vertexClass
+	 * @param action
+	 * @see #iterateInPartitions(Function, Consumer)
+	 */
+	protected void iterateInPartitions(String vertexClass, Consumer<Vertex> action) {
+		iterateInPartitions(graph -> graph.getVertices("@class", vertexClass), action);
+	}
+
+	/**
+	 * Return whether the partitions of the change may be processed concurrently. Changes must only return true if their partition action exclusively
+	 * modifies the given vertex. Removing an edge also modifies the vertex on the other side of the edge and concurrently processed partitions would
+	 * conflict on vertices which are shared by many elements.
+	 *
+	 * @return
+	 */
+	protected boolean isConcurrent() {
+		return false;
+	}
+
+	/**
+	 * Apply the action to the selected vertices. The selected vertices are read page by page and each page of the configured changelog batch size is
+	 * processed as one partition. Partitions are committed in their own transaction and a failed partition will be retried up to the configured
+	 * transaction retry limit. The partitions are processed by the configured amount of threads if the change {@link #isConcurrent() is concurrent}
+	 * and one after another otherwise.
+	 *
+	 * The amount of elements of the completed partitions is stored as checkpoint in the changelog root. An interrupted change will thus skip these
+	 * elements once the changelog is applied again. Elements after the checkpoint may have already been processed before the interruption and the
+	 * action must thus be idempotent. The action must not add or remove selected vertices since this would change the order of the selection.
+	 *
+	 * @param selector
+	 *            Function which selects the vertices from the given graph
+	 * @param action
+	 */
+	protected void iterateInPartitions(Function<TransactionalGraph, Iterable<Vertex>> selector, Consumer<Vertex> action) {
+		int batchSize = options == null ? MeshOptions.DEFAULT_CHANGELOG_BATCH_SIZE : options.getChangelogBatchSize();
+		int concurrency = 1;
+		if (isConcurrent() && options != null) {
+			concurrency = options.getChangelogConcurrency();
+		}
+
+		String checkpoint = readInTx(graph -> changelogRoot(graph).getCheckpoint(getUuid()));
+		long offset = checkpoint == null ? 0 : Long.parseLong(checkpoint);
+		if (offset > 0) {
+			log.info("Continuing change {" + getName() + "} after checkpoint {" + offset + "}");
+		}
+
+		ChangeProgress progress = new ChangeProgress(getName());
+		// Limits the amount of partitions which are held in memory
+		Semaphore pending = new Semaphore(concurrency * 2);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Map<Integer, Long> completed = new HashMap<>();
+		int[] watermark = { 0 };
+
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		TransactionalGraph graph = db.rawTx();
+		try {
+			Iterator<Vertex> it = selector.apply(graph).iterator();
+			long position = 0;
+			while (position < offset && it.hasNext()) {
+				it.next();
+				position++;
+			}
+			for (int index = 0; it.hasNext() && failure.get() == null; index++) {
+				List<String> partition = new ArrayList<>(batchSize);
+				while (partition.size() < batchSize && it.hasNext()) {
+					partition.add(it.next().getId().toString());
+				}
+				position += partition.size();
+				int partitionIndex = index;
+				long end = position;
+				pending.acquire();
+				executor.execute(() -> {
+					try {
+						applyPartition(partition, action);
+						progress.add(partition.size());
+						synchronized (completed) {
+							completed.put(partitionIndex, end);
+							Long done = null;
+							while (completed.containsKey(watermark[0])) {
+								done = completed.remove(watermark[0]++);
+							}
+							if (done != null) {
+								storeCheckpoint(String.valueOf(done));
+							}
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						pending.release();
+					}
+				});
+			}
+			executor.shutdown();
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Change {" + getName() + "} was interrupted", e);
+		} finally {
+			executor.shutdownNow();
+			graph.shutdown();
+		}
+		if (failure.get() != null) {
+			throw new RuntimeException("Error while applying change {" + getName() + "}", failure.get());
+		}
+		log.info(progress.toString());
+	}
+
+	/**
+	 * Apply the action to the vertices of the partition within a single transaction.
+	 *
+	 * @param partition
+	 *            Ids of the vertices
+	 * @param action
+	 */
+	private void applyPartition(List<String> partition, Consumer<Vertex> action) {
+		GraphStorageOptions storageOptions = options == null ? null : options.getStorageOptions();
+		int retryLimit = storageOptions == null ? GraphStorageOptions.DEFAULT_TX_RETRY_LIMIT : storageOptions.getTxRetryLimit();
+		for (int retry = 0;; retry++) {
+			TransactionalGraph graph = db.rawTx();
+			try {
+				for (String id : partition) {
+					Vertex vertex = graph.getVertex(id);
+					if (vertex != null) {
+						action.accept(vertex);
+					}
+				}
+				graph.commit();
+				return;
+			} catch (RuntimeException e) {
+				graph.rollback();
+				if (retry >= retryLimit) {
+					throw e;
+				}
+				log.warn("Error while applying partition of change {" + getName() + "}. Retrying (" + (retry + 1) + "/" + retryLimit + ")", e);
+			} finally {
+				graph.shutdown();
+			}
+		}
+	}
+
+	private void storeCheckpoint(String checkpoint) {
+		TransactionalGraph graph = db.rawTx();
+		try {
+			changelogRoot(graph).setCheckpoint(getUuid(), checkpoint);
+			graph.commit();
+		} finally {
+			graph.shutdown();
+		}
+	}
+
+	private <T> T readInTx(Function<TransactionalGraph, T> function) {
+		TransactionalGraph graph = db.rawTx();
+		try {
+			return function.apply(graph);
+		} finally {
+			graph.shutdown();
+		}
+	}
+
 	/**
 	 * Replaces the first edge with <code>direction</code> and <code>label</code> from all vertices of type <code>vertexClass</code>
 	 * with a property with key <code>uuidPropertyKey</code> containing the uuid of the connected vertex.
@@ -247,7 +433,7 @@ public abstract class AbstractChange implements Change {
 	 * @param uuidPropertyKey
 	 */
 	protected void replaceSingleEdge(String vertexClass, Direction direction, String label, String uuidPropertyKey) {
-		iterateWithCommit(getGraph().getVertices("@class", vertexClass), vertex ->
+		iterateInPartitions(vertexClass, vertex ->
 			replaceSingleEdge(vertex, direction, label, uuidPropertyKey));
 	}
 
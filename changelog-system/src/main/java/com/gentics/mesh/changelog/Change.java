@@ -1,5 +1,6 @@
 package com.gentics.mesh.changelog;
 
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.tinkerpop.blueprints.TransactionalGraph;
 
@@ -102,4 +103,18 @@ public interface Change {
 	 */
 	Database getDb();
 
+	/**
+	 * Set the mesh options. The options control the batch size and concurrency of partitioned changes.
+	 * 
+	 * @param options
+	 */
+	void setOptions(MeshOptions options);
+
+	/**
+	 * Return the mesh options.
+	 * 
+	 * @return
+	 */
+	MeshOptions getOptions();
+
 }
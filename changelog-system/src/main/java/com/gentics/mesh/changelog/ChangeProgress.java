@@ -0,0 +1,106 @@
+package com.gentics.mesh.changelog;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Tracks the progress of a partitioned change and periodically logs the processing rate and the estimated remaining time.
+ */
+public class ChangeProgress {
+
+	private static final Logger log = LoggerFactory.getLogger(ChangeProgress.class);
+
+	private static final long LOG_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10);
+
+	private final String name;
+
+	private final long total;
+
+	private final long start = System.currentTimeMillis();
+
+	private final AtomicLong done = new AtomicLong();
+
+	private final AtomicLong lastLog = new AtomicLong(start);
+
+	/**
+	 * Create a new progress.
+	 *
+	 * @param name
+	 *            Name of the change
+	 * @param total
+	 *            Total amount of elements which will be processed or -1 if the amount is not known
+	 */
+	public ChangeProgress(String name, long total) {
+		this.name = name;
+		this.total = total;
+	}
+
+	/**
+	 * Create a new progress for an unknown amount of elements. No remaining time will be estimated.
+	 *
+	 * @param name
+	 *            Name of the change
+	 */
+	public ChangeProgress(String name) {
+		this(name, -1);
+	}
+
+	/**
+	 * Add the amount of processed elements. The progress will be logged if the last log output is older than the log interval.
+	 *
+	 * @param count
+	 */
+	public void add(long count) {
+		done.addAndGet(count);
+		long now = System.currentTimeMillis();
+		long last = lastLog.get();
+		if (now - last >= LOG_INTERVAL_MS && lastLog.compareAndSet(last, now)) {
+			log.info(toString());
+		}
+	}
+
+	/**
+	 * Return the amount of processed elements.
+	 *
+	 * @return
+	 */
+	public long getDone() {
+		return done.get();
+	}
+
+	/**
+	 * Return the amount of processed elements per second.
+	 *
+	 * @return
+	 */
+	public double getRate() {
+		long duration = Math.max(1, System.currentTimeMillis() - start);
+		return done.get() * 1000d / duration;
+	}
+
+	/**
+	 * Return the estimated remaining time in milliseconds.
+	 *
+	 * @return Remaining time or -1 if no estimate is possible
+	 */
+	public long getEta() {
+		double rate = getRate();
+		if (total < 0 || rate <= 0) {
+			return -1;
+		}
+		return (long) ((total - done.get()) / rate * 1000);
+	}
+
+	@Override
+	public String toString() {
+		long eta = getEta();
+		if (total < 0) {
+			return String.format("Change {%s}: processed {%d} elements ({%.1f} elements/s)", name, done.get(), getRate());
+		}
+		return String.format("Change {%s}: processed {%d} of {%d} elements ({%.1f} elements/s, ETA {%s})", name, done.get(), total, getRate(),
+			eta < 0 ? "unknown" : TimeUnit.MILLISECONDS.toSeconds(eta) + "s");
+	}
+}
@@ -13,6 +13,7 @@ public class ChangelogRootWrapper {
 
 	public static final String HAS_CHANGELOG_ROOT = "HAS_CHANGELOG_ROOT";
 	public static final String HAS_CHANGE = "HAS_CHANGE";
+	public static final String CHECKPOINT_PROPERTY_PREFIX = "checkpoint_";
 
 	private Vertex rootVertex;
 	private TransactionalGraph graph;
@@ -55,5 +56,28 @@ public class ChangelogRootWrapper {
 		ChangeWrapper graphChange = new ChangeWrapper(vertex);
 		graphChange.update(change);
 		rootVertex.addEdge(HAS_CHANGE, vertex);
+		rootVertex.removeProperty(CHECKPOINT_PROPERTY_PREFIX + change.getUuid());
+	}
+
+	/**
+	 * Return the checkpoint of the change. The checkpoint is the amount of elements which have been processed by a partitioned change.
+	 * 
+	 * @param uuid
+	 *            Uuid of the change
+	 * @return Checkpoint or null if no checkpoint has been stored
+	 */
+	public String getCheckpoint(String uuid) {
+		return rootVertex.getProperty(CHECKPOINT_PROPERTY_PREFIX + uuid);
+	}
+
+	/**
+	 * Store the checkpoint of the change.
+	 * 
+	 * @param uuid
+	 *            Uuid of the change
+	 * @param checkpoint
+	 */
+	public void setCheckpoint(String uuid, String checkpoint) {
+		rootVertex.setProperty(CHECKPOINT_PROPERTY_PREFIX + uuid, checkpoint);
 	}
 }
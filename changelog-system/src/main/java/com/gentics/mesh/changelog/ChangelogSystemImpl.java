@@ -42,18 +42,21 @@ public class ChangelogSystemImpl implements ChangelogSystem {
 
 	@Override
 	public boolean applyChanges(PostProcessFlags flags, List<Change> list) {
-		for (Change change : list) {
+		for (int i = 0; i < list.size(); i++) {
+			Change change = list.get(i);
 			// Execute each change in a new transaction
 			change.setDb(db);
+			change.setOptions(options);
 			try {
 				if (!change.isApplied()) {
-					log.info("Handling change {" + change.getUuid() + "}");
+					log.info("Handling change {" + change.getUuid() + "} (" + (i + 1) + "/" + list.size() + ")");
 					log.info("Name: " + change.getName());
 					log.info("Description: " + change.getDescription());
 
 					long start = System.currentTimeMillis();
 					change.apply();
 					change.setDuration(System.currentTimeMillis() - start);
+					log.info("Change {" + change.getUuid() + "/" + change.getName() + "} took {" + change.getDuration() + "} ms");
 					if (!change.validate()) {
 						throw new Exception("Validation for change {" + change.getUuid() + "/" + change.getName() + "} failed.");
 					}
@@ -79,6 +82,7 @@ public class ChangelogSystemImpl implements ChangelogSystem {
 			for (Change change : list) {
 				change.setGraph(graph);
 				change.setDb(db);
+				change.setOptions(options);
 				change.markAsComplete();
 				log.info("Marking change {" + change.getUuid() + "/" + change.getName() + "} as completed.");
 			}
@@ -123,6 +127,7 @@ public class ChangelogSystemImpl implements ChangelogSystem {
 			for (Change change : changes) {
 				change.setGraph(graph);
 				change.setDb(db);
+				change.setOptions(options);
 				if (!change.isApplied()) {
 					log.info("Change " + change.getName() + " has not yet been applied.");
 					return true;
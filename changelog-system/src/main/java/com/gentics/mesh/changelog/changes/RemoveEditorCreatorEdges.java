@@ -31,7 +31,7 @@ public class RemoveEditorCreatorEdges extends AbstractChange {
 
 	@Override
 	public void applyInTx() {
-		iterateWithCommit(getGraph().getVertices(), v -> {
+		iterateInPartitions(graph -> graph.getVertices(), v -> {
 			replaceUuidEdge(v, "HAS_CREATOR", CREATOR_UUID_PROPERTY_KEY);
 			replaceUuidEdge(v, "HAS_EDITOR", EDITOR_UUID_PROPERTY_KEY);
 		});
@@ -33,7 +33,7 @@ public class ReplaceParentEdges extends AbstractChange {
 
 	@Override
 	public void applyInTx() {
-		iterateWithCommit(getGraph().getVertices("@class", "NodeImpl"), vertex -> {
+		iterateInPartitions("NodeImpl", vertex -> {
 			Set<String> parents = new HashSet<>();
 			Set<String> branchParents = new HashSet<>();
 			for (Edge edge : vertex.getEdges(Direction.OUT, "HAS_PARENT_NODE")) {
@@ -50,7 +50,7 @@ public class ReplacePermissionEdges extends AbstractChange {
 	@Override
 	public void applyInTx() {
 		String[] labels = permLabels.keySet().toArray(new String[0]);
-		iterateWithCommit(getGraph().getVertices(), vertex -> {
+		iterateInPartitions(graph -> graph.getVertices(), vertex -> {
 			for (Edge permEdge : vertex.getEdges(Direction.IN, labels)) {
 				String roleUuid = permEdge.getVertex(Direction.OUT).getProperty("uuid");
 				String permissionPropertyKey = permLabels.get(permEdge.getLabel()).propertyKey();
@@ -28,7 +28,7 @@ public class ReplaceProjectEdges extends AbstractChange {
 
 	@Override
 	public void applyInTx() {
-		iterateWithCommit(getGraph().getVertices("@class", "NodeImpl"), vertex -> {
+		iterateInPartitions("NodeImpl", vertex -> {
 			vertex.getEdges(Direction.IN, "HAS_NODE").forEach(Edge::remove);
 			replaceSingleEdge(vertex, Direction.OUT, "ASSIGNED_TO_PROJECT", PROJECT_KEY_PROPERTY);
 		});
@@ -15,8 +15,25 @@ public interface Bulkable extends SearchRequest {
 	Single<List<String>> toBulkActions();
 
 	/**
-	 * Returns the length of the string of the encoded request.
+	 * Appends the actions of the request to the given bulk body. Each action is terminated by a newline. The appended content must match the result of
+	 * {@link #toBulkActions()}.
+	 * 
+	 * @param bulkBody
+	 */
+	void appendBulkActions(StringBuilder bulkBody);
+
+	/**
+	 * Returns the length of the string of the encoded request. The length is used to presize the bulk body and should thus be exact.
 	 * @return
 	 */
 	long bulkLength();
+
+	/**
+	 * Returns the amount of actions within the encoded request. Elasticsearch returns one response item per action.
+	 * 
+	 * @return
+	 */
+	default int bulkActionCount() {
+		return 1;
+	}
 }
@@ -70,6 +70,12 @@ public class CreateDocumentRequest implements Bulkable {
 			doc.encode()));
 	}
 
+	@Override
+	public void appendBulkActions(StringBuilder bulkBody) {
+		bulkBody.append(bulkPreamble).append('\n')
+			.append(doc.encode()).append('\n');
+	}
+
 	@Override
 	public Action onComplete() {
 		return onComplete;
@@ -65,6 +65,11 @@ public class DeleteDocumentRequest implements Bulkable {
 		return Single.just(Collections.singletonList(bulkString));
 	}
 
+	@Override
+	public void appendBulkActions(StringBuilder bulkBody) {
+		bulkBody.append(bulkString).append('\n');
+	}
+
 	@Override
 	public Action onComplete() {
 		return onComplete;
@@ -0,0 +1,117 @@
+package com.gentics.mesh.core.data.search.request;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.SearchProvider;
+
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Wrapper for bulkable document update requests in elasticsearch which modify the document source using a script.
+ */
+public class ScriptUpdateDocumentRequest implements Bulkable {
+
+	/**
+	 * Amount of retries when the document was modified concurrently.
+	 */
+	private static final int RETRY_ON_CONFLICT = 3;
+
+	private final String transformedIndex;
+	private final String id;
+	private final String bulkPreamble;
+	private final CachedJsonObjectProxy script;
+
+	/**
+	 * Create a new request.
+	 *
+	 * @param transformedIndex
+	 *            Full name of the index which contains the document
+	 * @param id
+	 *            Id of the document
+	 * @param script
+	 *            Script which will be applied to the document. The proxy can be shared between requests so that the script is only encoded once.
+	 * @param mode
+	 */
+	public ScriptUpdateDocumentRequest(String transformedIndex, String id, CachedJsonObjectProxy script, ComplianceMode mode) {
+		this.transformedIndex = transformedIndex;
+		this.id = id;
+		this.script = script;
+
+		JsonObject settings = new JsonObject()
+			.put("_index", transformedIndex)
+			.put("_id", id)
+			.put("retry_on_conflict", RETRY_ON_CONFLICT);
+
+		switch (mode) {
+		case ES_7:
+			break;
+		case ES_6:
+			settings.put("_type", SearchProvider.DEFAULT_TYPE);
+			break;
+		default:
+			throw new RuntimeException("Unknown compliance mode {" + mode + "}");
+		}
+
+		this.bulkPreamble = new JsonObject()
+			.put("update", settings).encode();
+	}
+
+	@Override
+	public int requestCount() {
+		return 1;
+	}
+
+	@Override
+	public Completable execute(SearchProvider searchProvider) {
+		return searchProvider.processBulk(Collections.singletonList(this));
+	}
+
+	@Override
+	public Single<List<String>> toBulkActions() {
+		return Single.just(Arrays.asList(
+			bulkPreamble,
+			"{\"script\":" + script.encode() + "}"));
+	}
+
+	@Override
+	public void appendBulkActions(StringBuilder bulkBody) {
+		bulkBody.append(bulkPreamble).append('\n')
+			.append("{\"script\":").append(script.encode()).append("}\n");
+	}
+
+	public String getTransformedIndex() {
+		return transformedIndex;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Return the script which will be applied to the document.
+	 *
+	 * @return
+	 */
+	public JsonObject getScript() {
+		return script.getProxyTarget();
+	}
+
+	@Override
+	public long bulkLength() {
+		// +13 for 2 newlines and {"script":}
+		return bulkPreamble.length() + script.encode().length() + 13;
+	}
+
+	@Override
+	public String toString() {
+		return "ScriptUpdateDocumentRequest{" +
+			"transformedIndex='" + transformedIndex + '\'' +
+			", id='" + id + '\'' +
+			'}';
+	}
+}
@@ -31,5 +31,9 @@ public class CachingMetric implements Metric {
 		MISS,
 		CLEAR_SINGLE,
 		CLEAR_ALL,
+		CLEAR_SCOPE,
+		EVICTION,
+		SIZE,
+		BYTES_SAVED,
 	}
 }
@@ -21,6 +21,12 @@ public enum SimpleMetric implements Metric {
 
 	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration."),
 
+	JOB_QUEUED("job_queued", "Amount of queued jobs which wait for processing."),
+
+	JOB_RUNNING("job_running", "Amount of jobs which are currently being processed."),
+
+	JOB_PROCESSED("job_processed", "Amount of jobs which have been processed."),
+
 	WRITE_LOCK_WAITING_TIME("write_lock_waiting_time", "Tracks the time which is spent waiting on the write lock."),
 
 	WRITE_LOCK_TIMEOUT_COUNT("write_lock_timeout", "Amount of timeouts of acquiring the write lock."),
@@ -29,7 +35,19 @@ public enum SimpleMetric implements Metric {
 
 	TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock."),
 
-	GRAPHQL_TIME("graphql_time", "Timer which tracks duration of graphql requests.");
+	TOPOLOGY_LOCK_REJECTED("topology_lock_rejected", "Amount of write operations which were rejected because too many operations were waiting for the topology lock."),
+
+	GRAPHQL_TIME("graphql_time", "Timer which tracks duration of graphql requests."),
+
+	IMAGE_RESIZE_PENDING("image_resize_pending", "Amount of distinct image resize operations which are queued or running."),
+
+	IMAGE_RESIZE_DEDUPLICATED("image_resize_deduplicated", "Amount of image resize requests which joined an already pending resize operation."),
+
+	IMAGE_RESIZE_REJECTED("image_resize_rejected", "Amount of image resize requests which were rejected because the resize queue was full."),
+
+	SEARCH_BULK_ITEM_RETRY("search_bulk_item_retry", "Amount of failed Elasticsearch bulk items which have been retried."),
+
+	SEARCH_BULK_ITEM_DEAD_LETTER("search_bulk_item_dead_letter", "Amount of Elasticsearch bulk items which failed permanently.");
 
 	private String key;
 
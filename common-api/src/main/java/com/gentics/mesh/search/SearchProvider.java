@@ -69,6 +69,20 @@ public interface SearchProvider {
 	 */
 	Completable updateDocument(String indexName, String uuid, JsonObject document, boolean ignoreMissingDocumentError);
 
+	/**
+	 * Update all documents which match the query by applying the given script. This can be used to update denormalized data within many documents without
+	 * regenerating the documents.
+	 * 
+	 * @param indexPattern
+	 *            Name pattern of the indices which contain the documents
+	 * @param query
+	 *            Query which selects the documents
+	 * @param script
+	 *            Painless script which updates the source of a document. The script may set <code>ctx.op</code> to <code>noop</code> to skip the document
+	 * @return Completable for the action
+	 */
+	Completable updateByQuery(String indexPattern, JsonObject query, JsonObject script);
+
 	/**
 	 * Delete the given document.
 	 * 
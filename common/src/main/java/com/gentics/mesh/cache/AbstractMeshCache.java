@@ -1,5 +1,6 @@
 package com.gentics.mesh.cache;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -57,4 +58,9 @@ public abstract class AbstractMeshCache<K, V> implements MeshCache<K, V> {
 		return cache.size();
 	}
 
+	@Override
+	public List<K> getHottestKeys(int limit) {
+		return cache.hottestKeys(limit);
+	}
+
 }
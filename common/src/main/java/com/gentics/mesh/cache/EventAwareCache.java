@@ -1,5 +1,7 @@
 package com.gentics.mesh.cache;
 
+import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import javax.annotation.Nonnull;
@@ -24,6 +26,31 @@ public interface EventAwareCache<K, V> {
 	 */
 	void invalidate(K key);
 
+	/**
+	 * Invalidate all cache entries which match the filter.
+	 * 
+	 * @param filter
+	 */
+	void invalidate(BiPredicate<K, V> filter);
+
+	/**
+	 * Invalidate all cache entries which were stored for one of the given scopes. The epochs of the scopes will be bumped and the stale entries will be
+	 * evicted once they are accessed.
+	 * 
+	 * @param scopes
+	 * @see CacheEpochs
+	 */
+	void invalidateScopes(String... scopes);
+
+	/**
+	 * Remove the scopes of deleted elements from the epochs. The entries which were stored for the scopes will be evicted from all caches which share the
+	 * epochs.
+	 * 
+	 * @param scopes
+	 * @see CacheEpochs#remove(String...)
+	 */
+	void removeScopes(String... scopes);
+
 	/**
 	 * Add the given entry to the cache.
 	 * 
@@ -32,6 +59,35 @@ public interface EventAwareCache<K, V> {
 	 */
 	void put(K key, V value);
 
+	/**
+	 * Add the given entry to the cache. The entry will only be valid as long as the epochs of the scopes are not bumped. The epochs are read when the
+	 * entry is stored. Values which are computed from data that may change concurrently should be stored via {@link #put(Object, Object, EpochStamp)}.
+	 * 
+	 * @param key
+	 * @param value
+	 * @param scopes
+	 * @see CacheEpochs
+	 */
+	void put(K key, V value, String... scopes);
+
+	/**
+	 * Add the given entry to the cache. The entry will only be valid as long as the epochs of the stamp are current.
+	 * 
+	 * @param key
+	 * @param value
+	 * @param stamp
+	 *            Stamp which was captured via {@link #stamp(String...)} before the value was computed
+	 */
+	void put(K key, V value, EpochStamp stamp);
+
+	/**
+	 * Capture the current epochs of the scopes.
+	 * 
+	 * @param scopes
+	 * @return
+	 */
+	EpochStamp stamp(String... scopes);
+
 	/**
 	 * Load the value from the cache.
 	 * 
@@ -66,4 +122,20 @@ public interface EventAwareCache<K, V> {
 	 */
 	long size();
 
+	/**
+	 * Return the total weight of the entries. For caches without a weigher this is the number of entries.
+	 *
+	 * @return
+	 */
+	long weightedSize();
+
+	/**
+	 * Return the keys of the most frequently used entries.
+	 * 
+	 * @param limit
+	 *            Maximum amount of keys
+	 * @return Keys ordered from hottest to coldest
+	 */
+	List<K> hottestKeys(int limit);
+
 }
@@ -0,0 +1,267 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_LATEST_BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for serialized REST responses.
+ *
+ * The responses are keyed by the etag of the element, the request parameters which shape the response and the roles of the requesting user. The etag of an
+ * element does not cover everything which is part of its response (e.g. the groups of a role or the links which are rendered within the fields of a node).
+ * The whole cache is thus cleared whenever an element or a relation between elements is changed. The cached responses are only used when the etag handling
+ * has not been disabled for the request. The cache is disabled by default.
+ */
+@Singleton
+public class ResponseCache extends AbstractMeshCache<String, Buffer> {
+
+	private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+	public static final String CACHE_NAME = "response";
+
+	/**
+	 * Events which may change any of the cached responses. Creating an element only changes the responses of other elements when a relation is added, which
+	 * will be announced by a dedicated event.
+	 */
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		CLEAR_PERMISSION_STORE,
+		USER_UPDATED,
+		USER_DELETED,
+		GROUP_CREATED,
+		GROUP_UPDATED,
+		GROUP_DELETED,
+		GROUP_USER_ASSIGNED,
+		GROUP_USER_UNASSIGNED,
+		GROUP_ROLE_ASSIGNED,
+		GROUP_ROLE_UNASSIGNED,
+		ROLE_UPDATED,
+		ROLE_DELETED,
+		ROLE_PERMISSIONS_CHANGED,
+		TAG_UPDATED,
+		TAG_DELETED,
+		TAG_FAMILY_UPDATED,
+		TAG_FAMILY_DELETED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		PROJECT_SCHEMA_ASSIGNED,
+		PROJECT_SCHEMA_UNASSIGNED,
+		PROJECT_MICROSCHEMA_ASSIGNED,
+		PROJECT_MICROSCHEMA_UNASSIGNED,
+		PROJECT_LATEST_BRANCH_UPDATED,
+		NODE_CREATED,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_TAGGED,
+		NODE_UNTAGGED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		NODE_REFERENCE_UPDATED,
+		SCHEMA_UPDATED,
+		SCHEMA_DELETED,
+		SCHEMA_BRANCH_ASSIGN,
+		SCHEMA_BRANCH_UNASSIGN,
+		SCHEMA_MIGRATION_FINISHED,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_DELETED,
+		MICROSCHEMA_BRANCH_ASSIGN,
+		MICROSCHEMA_BRANCH_UNASSIGN,
+		MICROSCHEMA_MIGRATION_FINISHED,
+		BRANCH_CREATED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		BRANCH_TAGGED,
+		BRANCH_UNTAGGED,
+		CLUSTER_NODE_JOINED,
+		CLUSTER_DATABASE_CHANGE_STATUS };
+
+	/**
+	 * Generation of the cache which is incremented before the cache is cleared. Responses which were rendered while the cache was cleared are not stored.
+	 */
+	private final AtomicLong generation;
+
+	private final Counter bytesSavedCounter;
+
+	@Inject
+	public ResponseCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, MetricsService metrics) {
+		this(factory, registry, options, metrics, new AtomicLong());
+	}
+
+	private ResponseCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, MetricsService metrics, AtomicLong generation) {
+		super(createCache(factory, options.getCacheConfig(), generation), registry, options.getCacheConfig().getResponseCacheSize());
+		this.generation = generation;
+		if (metrics.isEnabled()) {
+			metrics.getMetricRegistry().gauge(new CachingMetric(CachingMetric.Event.SIZE, CACHE_NAME).key(), this, ResponseCache::size);
+			bytesSavedCounter = metrics.counter(new CachingMetric(CachingMetric.Event.BYTES_SAVED, CACHE_NAME));
+		} else {
+			bytesSavedCounter = null;
+		}
+	}
+
+	private static EventAwareCache<String, Buffer> createCache(EventAwareCacheFactory factory, CacheConfig config, AtomicLong generation) {
+		return factory.<String, Buffer>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing response cache due to received event from {" + event.address() + "}");
+				}
+				generation.incrementAndGet();
+				cache.invalidate();
+			})
+			.name(CACHE_NAME)
+			.maxSize(config.getResponseCacheSize())
+			.weigher((String key, Buffer body) -> key.length() + body.length())
+			.build();
+	}
+
+	/**
+	 * Create the cache key for the response of the current request.
+	 *
+	 * @param ac
+	 * @param etag
+	 *            Etag of the element which will be returned
+	 * @param discriminators
+	 *            Additional values which affect the response but are not part of the etag or the query parameters
+	 * @return Created key or null if the cache is disabled
+	 */
+	public String createKey(InternalActionContext ac, String etag, String... discriminators) {
+		if (isDisabled()) {
+			return null;
+		}
+		HibUser user = ac.getUser();
+		StringBuilder key = new StringBuilder(128)
+			.append(etag).append('|')
+			.append(user == null ? "" : user.getRolesHash()).append('|')
+			.append(ac.getApiVersion()).append('|');
+		for (String discriminator : discriminators) {
+			key.append(discriminator).append('|');
+		}
+		String query = ac.query();
+		if (query != null) {
+			key.append(query);
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Return the cached response for the given key. Otherwise the response model will be created, serialized and added to the cache.
+	 *
+	 * @param key
+	 *            Key of the response. No caching will be done when the key is null.
+	 * @param modelSupplier
+	 *            Supplier for the response model
+	 * @return Serialized response
+	 */
+	public Buffer get(String key, Supplier<? extends RestModel> modelSupplier) {
+		if (key == null || isDisabled()) {
+			return Buffer.buffer(modelSupplier.get().toJson());
+		}
+		Buffer body = cache.get(key);
+		if (body != null) {
+			if (bytesSavedCounter != null) {
+				bytesSavedCounter.increment(body.length());
+			}
+			return body;
+		}
+		long currentGeneration = generation.get();
+		body = Buffer.buffer(modelSupplier.get().toJson());
+		if (generation.get() == currentGeneration) {
+			cache.put(key, body);
+			// The cache may have been cleared while the response was stored
+			if (generation.get() != currentGeneration) {
+				cache.invalidate(key);
+			}
+		}
+		return body;
+	}
+
+	@Override
+	public void clear() {
+		generation.incrementAndGet();
+		super.clear();
+	}
+
+	/**
+	 * Return the total size in bytes of all cached responses.
+	 *
+	 * @return
+	 */
+	@Override
+	public long size() {
+		return cache.weightedSize();
+	}
+}
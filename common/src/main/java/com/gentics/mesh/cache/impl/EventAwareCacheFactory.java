@@ -3,6 +3,7 @@ package com.gentics.mesh.cache.impl;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.cache.CacheEpochs;
 import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.MetricsService;
@@ -18,12 +19,14 @@ public class EventAwareCacheFactory {
 	private final Vertx vertx;
 	private final MeshOptions meshOptions;
 	private final MetricsService metricsService;
+	private final CacheEpochs epochs;
 
 	@Inject
-	public EventAwareCacheFactory(Vertx vertx, MeshOptions meshOptions, MetricsService metricsService) {
+	public EventAwareCacheFactory(Vertx vertx, MeshOptions meshOptions, MetricsService metricsService, CacheEpochs epochs) {
 		this.vertx = vertx;
 		this.meshOptions = meshOptions;
 		this.metricsService = metricsService;
+		this.epochs = epochs;
 	}
 
 	/**
@@ -37,6 +40,7 @@ public class EventAwareCacheFactory {
 		return new EventAwareCacheImpl.Builder<K, V>()
 			.vertx(vertx)
 			.meshOptions(meshOptions)
-			.setMetricsService(metricsService);
+			.setMetricsService(metricsService)
+			.epochs(epochs);
 	}
 }
@@ -2,12 +2,19 @@ package com.gentics.mesh.cache.impl;
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
+import com.gentics.mesh.cache.CacheEpochs;
+import com.gentics.mesh.cache.EpochStamp;
 import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -15,10 +22,13 @@ import com.gentics.mesh.metric.CachingMetric;
 import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 import io.micrometer.core.instrument.Counter;
 import io.reactivex.Observable;
 import io.reactivex.functions.Predicate;
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
@@ -34,12 +44,14 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 	private static final Logger log = LoggerFactory.getLogger(EventAwareCacheImpl.class);
 
-	private final Cache<K, V> cache;
+	private final Cache<K, Entry<V>> cache;
 
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
+	private final CacheEpochs epochs;
+
 	private final Predicate<Message<JsonObject>> filter;
 
 	private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext;
@@ -48,25 +60,38 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 	private final Counter invalidateKeyCounter;
 	private final Counter invalidateAllCounter;
+	private final Counter invalidateScopeCounter;
 	private final Counter missCounter;
 	private final Counter hitCounter;
 
-	public EventAwareCacheImpl(String name, long maxSize, Duration expireAfter, Vertx vertx, MeshOptions options, MetricsService metricsService,
+	public EventAwareCacheImpl(String name, long maxSize, Weigher<? super K, ? super V> weigher, Duration expireAfter, Vertx vertx, MeshOptions options,
+		MetricsService metricsService, CacheEpochs epochs,
 		Predicate<Message<JsonObject>> filter,
 		BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext,
 		MeshEvent... events) {
 		this.vertx = vertx;
 		this.options = options;
-		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(maxSize);
+		this.epochs = epochs;
+		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
 		if (expireAfter != null) {
 			cacheBuilder = cacheBuilder.expireAfterWrite(expireAfter.getSeconds(), TimeUnit.SECONDS);
 		}
-		this.cache = cacheBuilder.build();
+		if (weigher == null) {
+			this.cache = cacheBuilder.maximumSize(maxSize).build();
+		} else {
+			this.cache = cacheBuilder.maximumWeight(maxSize)
+				.weigher((K key, Entry<V> entry) -> weigher.weigh(key, entry.value))
+				.build();
+		}
 		this.filter = filter;
 		this.onNext = onNext;
 		registerEventHandlers(events);
+		if (epochs != null) {
+			epochs.addRemovalListener(this::evictScope);
+		}
 		invalidateKeyCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.CLEAR_SINGLE, name));
 		invalidateAllCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.CLEAR_ALL, name));
+		invalidateScopeCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.CLEAR_SCOPE, name));
 		missCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.MISS, name));
 		hitCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.HIT, name));
 	}
@@ -110,6 +135,23 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		return cache.estimatedSize();
 	}
 
+	@Override
+	public long weightedSize() {
+		cache.cleanUp();
+		Optional<Eviction<K, Entry<V>>> eviction = cache.policy().eviction();
+		if (eviction.isPresent() && eviction.get().isWeighted()) {
+			return eviction.get().weightedSize().orElse(0);
+		}
+		return cache.estimatedSize();
+	}
+
+	@Override
+	public List<K> hottestKeys(int limit) {
+		return cache.policy().eviction()
+			.map(eviction -> new ArrayList<>(eviction.hottest(limit).keySet()))
+			.orElseGet(ArrayList::new);
+	}
+
 	@Override
 	public void invalidate() {
 		if (log.isTraceEnabled()) {
@@ -132,12 +174,118 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		cache.invalidate(key);
 	}
 
+	@Override
+	public void invalidate(BiPredicate<K, V> filter) {
+		int count = 0;
+		for (Map.Entry<K, Entry<V>> entry : cache.asMap().entrySet()) {
+			if (filter.test(entry.getKey(), entry.getValue().value)) {
+				cache.invalidate(entry.getKey());
+				count++;
+			}
+		}
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidated {" + count + "} entries");
+		}
+		if (options.getMonitoringOptions().isEnabled()) {
+			invalidateKeyCounter.increment(count);
+		}
+	}
+
+	@Override
+	public void invalidateScopes(String... scopes) {
+		if (scopes.length == 0) {
+			return;
+		}
+		if (epochs == null) {
+			// Without epochs the scoped entries can't be distinguished
+			invalidate();
+			return;
+		}
+		if (log.isTraceEnabled()) {
+			log.trace("Invalidating entries of scopes {" + String.join(", ", scopes) + "}");
+		}
+		if (options.getMonitoringOptions().isEnabled()) {
+			invalidateScopeCounter.increment();
+		}
+		updateEpochs(() -> epochs.bump(scopes), scopes);
+	}
+
+	@Override
+	public void removeScopes(String... scopes) {
+		if (scopes.length == 0) {
+			return;
+		}
+		if (epochs == null) {
+			invalidate();
+			return;
+		}
+		if (log.isTraceEnabled()) {
+			log.trace("Removing scopes {" + String.join(", ", scopes) + "}");
+		}
+		updateEpochs(() -> epochs.remove(scopes), scopes);
+	}
+
+	/**
+	 * Update the epochs of the scopes. Updating the distributed epochs requires blocking calls to the cluster and is thus deferred to a worker thread when
+	 * invoked on the event loop.
+	 * 
+	 * @param update
+	 * @param scopes
+	 */
+	private void updateEpochs(Runnable update, String... scopes) {
+		if (epochs.isDistributed() && Context.isOnEventLoopThread()) {
+			vertx.<Void>executeBlocking(bh -> {
+				update.run();
+				bh.complete();
+			}, false, rh -> {
+				if (rh.failed()) {
+					log.error("Error while updating the epochs of scopes {" + String.join(", ", scopes) + "}. Invalidating the whole cache.", rh.cause());
+					invalidate();
+				}
+			});
+		} else {
+			update.run();
+		}
+	}
+
+	/**
+	 * Evict the entries which were stored for the removed scope. Otherwise entries which were stored before the scope was bumped for the first time would
+	 * become valid again.
+	 * 
+	 * @param scope
+	 */
+	private void evictScope(String scope) {
+		cache.asMap().values().removeIf(entry -> entry.stamp != null && entry.stamp.contains(scope));
+	}
+
 	@Override
 	public void put(K key, V value) {
 		if (disabled) {
 			return;
 		}
-		cache.put(key, value);
+		cache.put(key, new Entry<>(value, null));
+	}
+
+	@Override
+	public void put(K key, V value, String... scopes) {
+		put(key, value, stamp(scopes));
+	}
+
+	@Override
+	public void put(K key, V value, EpochStamp stamp) {
+		if (disabled) {
+			return;
+		}
+		if (epochs == null || stamp.isEmpty()) {
+			put(key, value);
+			return;
+		}
+		cache.put(key, new Entry<>(value, stamp));
+	}
+
+	@Override
+	public EpochStamp stamp(String... scopes) {
+		return EpochStamp.capture(epochs, scopes);
 	}
 
 	@Override
@@ -145,17 +293,19 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		if (disabled) {
 			return null;
 		}
+		Entry<V> entry = cache.getIfPresent(key);
+		if (entry != null && !isCurrent(entry)) {
+			cache.asMap().remove(key, entry);
+			entry = null;
+		}
 		if (options.getMonitoringOptions().isEnabled()) {
-			V value = cache.getIfPresent(key);
-			if (value == null) {
+			if (entry == null) {
 				missCounter.increment();
 			} else {
 				hitCounter.increment();
 			}
-			return value;
-		} else {
-			return cache.getIfPresent(key);
 		}
+		return entry == null ? null : entry.value;
 	}
 
 	@Override
@@ -163,20 +313,49 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		if (disabled) {
 			return mappingFunction.apply(key);
 		}
+		AtomicBoolean wasCached = new AtomicBoolean(true);
+		Function<K, Entry<V>> loader = k -> {
+			wasCached.set(false);
+			V value = mappingFunction.apply(k);
+			return value == null ? null : new Entry<>(value, null);
+		};
+		Entry<V> entry = cache.get(key, loader);
+		if (entry != null && !isCurrent(entry)) {
+			cache.asMap().remove(key, entry);
+			entry = cache.get(key, loader);
+		}
 		if (options.getMonitoringOptions().isEnabled()) {
-			AtomicBoolean wasCached = new AtomicBoolean(true);
-			V value = cache.get(key, k -> {
-				wasCached.set(false);
-				return mappingFunction.apply(k);
-			});
 			if (wasCached.get()) {
 				hitCounter.increment();
 			} else {
 				missCounter.increment();
 			}
-			return value;
-		} else {
-			return cache.get(key, mappingFunction);
+		}
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * Check whether the epochs of the scopes of the entry have not been bumped since the entry was stored.
+	 * 
+	 * @param entry
+	 * @return
+	 */
+	private boolean isCurrent(Entry<V> entry) {
+		return entry.stamp == null || entry.stamp.isCurrent(epochs);
+	}
+
+	/**
+	 * Cached value and the epochs of the scopes for which the value was stored.
+	 * 
+	 * @param <V>
+	 */
+	private static class Entry<V> {
+		private final V value;
+		private final EpochStamp stamp;
+
+		Entry(V value, EpochStamp stamp) {
+			this.value = value;
+			this.stamp = stamp;
 		}
 	}
 
@@ -190,6 +369,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		private boolean disabled = false;
 
 		private long maxSize = 1000;
+		private Weigher<? super K, ? super V> weigher = null;
 		private Predicate<Message<JsonObject>> filter = null;
 		private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext = null;
 		private MeshEvent[] events = null;
@@ -198,6 +378,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		private String name;
 		private MeshOptions options;
 		private MetricsService metricsService;
+		private CacheEpochs epochs;
 
 		/**
 		 * Build the cache instance.
@@ -208,8 +389,8 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			Objects.requireNonNull(events, "No events for the cache have been set");
 			Objects.requireNonNull(vertx, "No Vert.x instance has been set");
 			Objects.requireNonNull(name, "No name has been set");
-			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext,
-				events);
+			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, weigher, expireAfter, vertx, options, metricsService, epochs, filter,
+				onNext, events);
 			if (disabled) {
 				c.disable();
 			}
@@ -291,6 +472,17 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			return this;
 		}
 
+		/**
+		 * Set the epochs which will be used to validate the entries which were stored for a scope.
+		 * 
+		 * @param epochs
+		 * @return Fluent API
+		 */
+		public Builder<K, V> epochs(CacheEpochs epochs) {
+			this.epochs = epochs;
+			return this;
+		}
+
 		/**
 		 * Set the maximum size for the cache.
 		 * 
@@ -302,6 +494,17 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			return this;
 		}
 
+		/**
+		 * Set the weigher for the entries. The maximum size will then limit the total weight of the entries instead of their number.
+		 * 
+		 * @param weigher
+		 * @return Fluent API
+		 */
+		public Builder<K, V> weigher(Weigher<? super K, ? super V> weigher) {
+			this.weigher = weigher;
+			return this;
+		}
+
 		/**
 		 * Define when the cache should automatically expire.
 		 * 
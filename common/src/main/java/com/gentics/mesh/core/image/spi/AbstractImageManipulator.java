@@ -11,6 +11,7 @@ import com.gentics.mesh.core.image.CacheFileInfo;
 import com.gentics.mesh.core.image.ImageInfo;
 import com.gentics.mesh.core.image.ImageManipulator;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 
 import io.reactivex.Maybe;
@@ -31,9 +32,16 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	protected Vertx vertx;
 
-	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
+	protected final ImageVariantCache variantCache;
+
+	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
 		this.vertx = vertx;
 		this.options = options;
+		this.variantCache = new ImageVariantCache(vertx, options, metrics);
+		variantCache.scan(vertx).subscribe(variantCache::markScanned, err -> {
+			log.error("Error while scanning the image cache directory {" + options.getImageCacheDirectory()
+				+ "}. Cache misses will be checked against the filesystem.", err);
+		});
 	}
 
 	@Override
@@ -49,7 +57,21 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 		String baseFolder = Paths.get(options.getImageCacheDirectory(), buffer.toString()).toString();
 		String baseName = "image-" + parameters.getCacheKey();
+		String basePath = Paths.get(baseFolder, baseName).toString();
+
+		// Indexed variants can be served without touching the filesystem
+		String cachedPath = variantCache.get(basePath);
+		if (cachedPath != null) {
+			return Single.just(new CacheFileInfo(cachedPath, true));
+		}
+		if (variantCache.isScanned()) {
+			if (log.isDebugEnabled()) {
+				log.debug("No cache file found for base path {" + basePath + "}");
+			}
+			return fs.rxMkdirs(baseFolder).toSingleDefault(new CacheFileInfo(basePath, false));
+		}
 
+		// The index is still being built. Check the filesystem instead.
 		return fs.rxMkdirs(baseFolder)
 		// Vert.x uses Files.createDirectories internally, which will not fail when the folder already exists.
 		// See https://github.com/eclipse-vertx/vert.x/issues/3029
@@ -57,11 +79,10 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		.map(foundFiles -> {
 			int numFiles = foundFiles.size();
 			if (numFiles == 0) {
-				String retPath = Paths.get(baseFolder, baseName).toString();
 				if (log.isDebugEnabled()) {
-					log.debug("No cache file found for base path {" + retPath + "}");
+					log.debug("No cache file found for base path {" + basePath + "}");
 				}
-				return new CacheFileInfo(retPath, false);
+				return new CacheFileInfo(basePath, false);
 			}
 
 			if (numFiles > 1) {
@@ -81,10 +102,38 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 			if (log.isDebugEnabled()) {
 				log.debug("Using cache file {" + foundFiles.size() + "}");
 			}
+			variantCache.put(basePath, foundFiles.get(0));
 			return new CacheFileInfo(foundFiles.get(0), true);
 		});
 	}
 
+	@Override
+	public void clearCacheIndex() {
+		variantCache.clear();
+	}
+
+	@Override
+	public void invalidateCacheFile(String cacheFilePath) {
+		variantCache.invalidate(cacheFilePath);
+	}
+
+	@Override
+	public long getCacheFileSize(String cacheFilePath) {
+		return variantCache.getSize(cacheFilePath);
+	}
+
+	/**
+	 * Add the written cache file of an image variant to the index of the image cache.
+	 *
+	 * @param cacheFileInfo
+	 *            Information about the cache file which was returned by {@link #getCacheFilePath(String, ImageManipulationParameters)}
+	 * @param cacheFilePath
+	 *            Path to the written cache file
+	 */
+	protected void registerCacheFile(CacheFileInfo cacheFileInfo, String cacheFilePath) {
+		variantCache.put(cacheFileInfo.path, cacheFilePath);
+	}
+
 	@Override
 	public Single<ImageInfo> readImageInfo(String path) {
 		Maybe<ImageInfo> result = vertx.rxExecuteBlocking(bh -> {
@@ -0,0 +1,333 @@
+package com.gentics.mesh.core.image.spi;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+
+/**
+ * In-memory index of the image variants which are stored in the image cache directory.
+ *
+ * The index is keyed by the base path of the variant (cache file path without file extension). It is populated by a background scan of the cache directory
+ * and by every newly written variant. If a maximum cache size has been configured, the least valuable variants will be evicted once the total size of the
+ * indexed variants exceeds the limit.
+ *
+ * The files of evicted variants are not deleted right away. The size-based policy may reject a variant directly after it has been written, and requests
+ * which already received the path of an evicted variant still need to open the file. The file is thus deleted after a delay, unless the variant has been
+ * indexed again in the meantime. Requests which can't find an indexed file will regenerate the variant.
+ */
+public class ImageVariantCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantCache.class);
+
+	public static final String CACHE_NAME = "image_variant";
+
+	private static final Pattern VARIANT_FILE_PATTERN = Pattern.compile("image-.+");
+
+	/**
+	 * Default delay in milliseconds after which the file of an evicted variant will be deleted.
+	 */
+	public static final long DEFAULT_DELETE_DELAY = 60_000;
+
+	private final Vertx vertx;
+
+	private final ImageManipulatorOptions options;
+
+	private final long deleteDelay;
+
+	private final Cache<String, Variant> index;
+
+	/**
+	 * Total size of the indexed variants in bytes. This is also exposed as gauge.
+	 */
+	private final AtomicLong totalSize;
+
+	private final Counter hitCounter;
+
+	private final Counter missCounter;
+
+	private final Counter evictionCounter;
+
+	private volatile boolean scanned = false;
+
+	public ImageVariantCache(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		this(vertx, options, metrics, DEFAULT_DELETE_DELAY);
+	}
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param vertx
+	 * @param options
+	 * @param metrics
+	 * @param deleteDelay
+	 *            Delay in milliseconds after which the file of an evicted variant will be deleted
+	 */
+	public ImageVariantCache(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics, long deleteDelay) {
+		this.vertx = vertx;
+		this.options = options;
+		this.deleteDelay = Math.max(1, deleteDelay);
+		Caffeine<String, Variant> builder = Caffeine.newBuilder()
+			// The maintenance is cheap since the files are deleted later on
+			.executor(Runnable::run)
+			.removalListener((String key, Variant variant, RemovalCause cause) -> onRemoval(variant, cause));
+		long maxSize = options.getImageCacheMaxSize();
+		if (maxSize > 0) {
+			builder = builder.maximumWeight(maxSize).weigher((key, variant) -> (int) Math.min(variant.size, Integer.MAX_VALUE));
+		}
+		this.index = builder.build();
+
+		if (metrics.isEnabled()) {
+			totalSize = metrics.longGauge(new CachingMetric(CachingMetric.Event.SIZE, CACHE_NAME));
+			hitCounter = metrics.counter(new CachingMetric(CachingMetric.Event.HIT, CACHE_NAME));
+			missCounter = metrics.counter(new CachingMetric(CachingMetric.Event.MISS, CACHE_NAME));
+			evictionCounter = metrics.counter(new CachingMetric(CachingMetric.Event.EVICTION, CACHE_NAME));
+		} else {
+			totalSize = new AtomicLong();
+			hitCounter = null;
+			missCounter = null;
+			evictionCounter = null;
+		}
+	}
+
+	/**
+	 * Scan the image cache directory in the background and add all found variants to the index. Older variants will be added first so that they are the
+	 * first candidates for eviction.
+	 *
+	 * @param vertx
+	 * @return
+	 */
+	public Completable scan(Vertx vertx) {
+		return vertx.rxExecuteBlocking(bh -> {
+			Path cacheDir = Paths.get(options.getImageCacheDirectory());
+			if (!Files.isDirectory(cacheDir)) {
+				bh.complete();
+				return;
+			}
+			long start = System.currentTimeMillis();
+			List<Path> files = new ArrayList<>();
+			List<BasicFileAttributes> attributes = new ArrayList<>();
+			try (Stream<Path> stream = Files.walk(cacheDir)) {
+				stream.filter(path -> VARIANT_FILE_PATTERN.matcher(path.getFileName().toString()).matches()).forEach(path -> {
+					try {
+						BasicFileAttributes attr = Files.readAttributes(path, BasicFileAttributes.class);
+						if (attr.isRegularFile()) {
+							files.add(path);
+							attributes.add(attr);
+						}
+					} catch (IOException e) {
+						log.warn("Could not read attributes of image cache file {" + path + "}", e);
+					}
+				});
+			} catch (Exception e) {
+				bh.fail(e);
+				return;
+			}
+
+			List<Integer> order = new ArrayList<>(files.size());
+			for (int i = 0; i < files.size(); i++) {
+				order.add(i);
+			}
+			order.sort(Comparator.comparing(i -> attributes.get(i).lastModifiedTime()));
+			for (int i : order) {
+				String filePath = files.get(i).toString();
+				Variant variant = new Variant(toBasePath(filePath), filePath, attributes.get(i).size());
+				// Concurrently written variants take precedence over the scanned ones
+				if (index.asMap().putIfAbsent(toBasePath(filePath), variant) == null) {
+					totalSize.addAndGet(variant.size);
+				}
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Indexed {" + files.size() + "} image variants within {" + (System.currentTimeMillis() - start) + "} ms");
+			}
+			bh.complete();
+		}, false).ignoreElement();
+	}
+
+	/**
+	 * Mark the initial scan of the cache directory as completed. Afterwards the index is considered to be complete and misses will not be checked against
+	 * the filesystem anymore.
+	 */
+	public void markScanned() {
+		scanned = true;
+	}
+
+	/**
+	 * Check whether the initial scan of the cache directory has been completed.
+	 *
+	 * @return
+	 */
+	public boolean isScanned() {
+		return scanned;
+	}
+
+	/**
+	 * Return the path to the cache file of the variant with the given base path.
+	 *
+	 * @param basePath
+	 *            Path of the variant without file extension
+	 * @return Path to the cache file or null if the variant is not indexed
+	 */
+	public String get(String basePath) {
+		Variant variant = index.getIfPresent(basePath);
+		if (variant == null) {
+			if (missCounter != null) {
+				missCounter.increment();
+			}
+			return null;
+		}
+		if (hitCounter != null) {
+			hitCounter.increment();
+		}
+		return variant.path;
+	}
+
+	/**
+	 * Return the size of the indexed cache file. Hits and misses are not recorded since the variant has already been looked up.
+	 *
+	 * @param filePath
+	 *            Path to the cache file
+	 * @return Size in bytes or -1 if the cache file is not indexed
+	 */
+	public long getSize(String filePath) {
+		Variant variant = index.getIfPresent(toBasePath(filePath));
+		if (variant == null || !variant.path.equals(filePath)) {
+			return -1;
+		}
+		return variant.size;
+	}
+
+	/**
+	 * Add the written cache file of a variant to the index. This may cause other variants to be evicted.
+	 *
+	 * @param basePath
+	 *            Path of the variant without file extension
+	 * @param filePath
+	 *            Path to the written cache file
+	 */
+	public void put(String basePath, String filePath) {
+		Variant variant = new Variant(basePath, filePath, new File(filePath).length());
+		totalSize.addAndGet(variant.size);
+		index.put(basePath, variant);
+	}
+
+	/**
+	 * Remove the variant with the given cache file from the index. This needs to be invoked when the cache file of an indexed variant could not be found.
+	 *
+	 * @param filePath
+	 *            Path to the cache file
+	 */
+	public void invalidate(String filePath) {
+		index.asMap().computeIfPresent(toBasePath(filePath), (key, variant) -> variant.path.equals(filePath) ? null : variant);
+	}
+
+	/**
+	 * Remove all variants from the index. The cache files will not be deleted.
+	 */
+	public void clear() {
+		index.invalidateAll();
+	}
+
+	/**
+	 * Return the total size in bytes of all indexed variants.
+	 *
+	 * @return
+	 */
+	public long size() {
+		return totalSize.get();
+	}
+
+	private void onRemoval(Variant variant, RemovalCause cause) {
+		if (variant == null) {
+			return;
+		}
+		totalSize.addAndGet(-variant.size);
+		if (!cause.wasEvicted()) {
+			return;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Evicting image variant {" + variant.path + "}");
+		}
+		if (evictionCounter != null) {
+			evictionCounter.increment();
+		}
+		vertx.setTimer(deleteDelay, id -> {
+			vertx.rxExecuteBlocking(bh -> {
+				delete(variant);
+				bh.complete();
+			}, false).subscribe(ignore -> {}, err -> log.error("Could not delete evicted image cache file {" + variant.path + "}", err));
+		});
+	}
+
+	/**
+	 * Delete the cache file of the evicted variant unless the variant has been indexed again.
+	 *
+	 * @param variant
+	 */
+	private void delete(Variant variant) {
+		Variant current = index.getIfPresent(variant.basePath);
+		if (current != null && current.path.equals(variant.path)) {
+			if (log.isDebugEnabled()) {
+				log.debug("Image variant {" + variant.path + "} was indexed again. The file will not be deleted.");
+			}
+			return;
+		}
+		try {
+			Files.deleteIfExists(Paths.get(variant.path));
+		} catch (IOException e) {
+			log.error("Could not delete evicted image cache file {" + variant.path + "}", e);
+		}
+	}
+
+	/**
+	 * Strip the file extension from the given cache file path. Cache files are always written with an extension. The cache key itself may contain dots
+	 * (e.g. for focal points) and thus only the last segment is removed.
+	 *
+	 * @param filePath
+	 * @return
+	 */
+	private static String toBasePath(String filePath) {
+		int nameStart = filePath.lastIndexOf(File.separatorChar) + 1;
+		int extensionStart = filePath.lastIndexOf('.');
+		return extensionStart < nameStart ? filePath : filePath.substring(0, extensionStart);
+	}
+
+	/**
+	 * Indexed image variant.
+	 */
+	private static class Variant {
+
+		private final String basePath;
+
+		private final String path;
+
+		private final long size;
+
+		Variant(String basePath, String path, long size) {
+			this.basePath = basePath;
+			this.path = path;
+			this.size = size;
+		}
+	}
+}
@@ -6,7 +6,9 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -14,6 +16,7 @@ import javax.inject.Singleton;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gentics.mesh.cache.WebrootLinkCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.branch.HibBranch;
@@ -46,10 +49,13 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 
 	private final MeshOptions options;
 
+	private final WebrootLinkCache linkCache;
+
 	@Inject
-	public WebRootLinkReplacerImpl(BootstrapInitializer boot, MeshOptions options) {
+	public WebRootLinkReplacerImpl(BootstrapInitializer boot, MeshOptions options, WebrootLinkCache linkCache) {
 		this.boot = boot;
 		this.options = options;
+		this.linkCache = linkCache;
 	}
 
 	@Override
@@ -59,66 +65,112 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 			return content;
 		}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
-		int lastPos = 0;
 		int length = content.length();
+		int lastPos = 0;
+		StringBuilder renderedContent = null;
+		// Links which occur multiple times within the content are only resolved once
+		Map<String, String> resolvedLinks = null;
 
-		// 1. Tokenize the content
 		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
+			int pos = content.indexOf(START_TAG, lastPos);
 			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
 			int endPos = content.indexOf(END_TAG, pos);
 			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
-
-			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
+			if (renderedContent == null) {
+				renderedContent = new StringBuilder(length);
+				resolvedLinks = new HashMap<>();
 			}
 
-			// 2. Parse the link and invoke resolving
+			// Add the intermediate string segment
+			renderedContent.append(content, lastPos, pos);
+
+			// Parse the link and invoke resolving
 			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
-			if (linkArguments.length == 3) {
-				// Branch in link argument always comes last (third argument)
-				branch = linkArguments[2].trim();
-			}
-			if (linkArguments.length >= 2) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
-			} else if (languageTags != null) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName,
-					languageTags.toArray(new String[languageTags.size()])));
-			} else {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName));
+			String resolvedLink = resolvedLinks.get(link);
+			if (resolvedLink == null) {
+				resolvedLink = resolveLink(ac, branch, edgeType, link, type, projectName, languageTags);
+				resolvedLinks.put(link, resolvedLink);
 			}
+			renderedContent.append(resolvedLink);
 
 			lastPos = endPos + END_TAG.length();
 		}
 
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
-
+		// Content without links can be returned as-is
+		if (renderedContent == null) {
+			return content;
+		}
+		// Add the last string segment
+		renderedContent.append(content, lastPos, length);
 		return renderedContent.toString();
 	}
 
+	/**
+	 * Resolve the link using the arguments of the link placeholder.
+	 *
+	 * @param ac
+	 * @param branch
+	 *            Branch which is used when the link does not specify a branch
+	 * @param edgeType
+	 * @param link
+	 *            Arguments of the link placeholder
+	 * @param type
+	 * @param projectName
+	 * @param languageTags
+	 * @return
+	 */
+	private String resolveLink(InternalActionContext ac, String branch, ContainerType edgeType, String link, LinkType type, String projectName,
+		List<String> languageTags) {
+		List<String> linkArguments = parseLinkArguments(link);
+		if (linkArguments.size() == 3) {
+			// Branch in link argument always comes last (third argument)
+			branch = linkArguments.get(2).trim();
+		}
+		if (linkArguments.size() >= 2) {
+			return resolve(ac, branch, edgeType, linkArguments.get(0), type, projectName, linkArguments.get(1).trim());
+		} else if (languageTags != null) {
+			return resolve(ac, branch, edgeType, linkArguments.get(0), type, projectName,
+				languageTags.toArray(new String[languageTags.size()]));
+		} else {
+			return resolve(ac, branch, edgeType, linkArguments.get(0), type, projectName);
+		}
+	}
+
+	/**
+	 * Split the arguments of the link placeholder. Quotes are stripped away since we only care about the argument values. Double quotes may be escaped.
+	 * Empty trailing arguments are omitted.
+	 *
+	 * @param link
+	 * @return
+	 */
+	private static List<String> parseLinkArguments(String link) {
+		List<String> arguments = new ArrayList<>(3);
+		StringBuilder argument = new StringBuilder(link.length());
+		int length = link.length();
+		for (int i = 0; i < length; i++) {
+			char c = link.charAt(i);
+			if (c == '\\' && i + 1 < length && link.charAt(i + 1) == '"') {
+				i++;
+			} else if (c == '\'' || c == '"') {
+				continue;
+			} else if (c == ',') {
+				arguments.add(argument.toString());
+				argument.setLength(0);
+			} else {
+				argument.append(c);
+			}
+		}
+		arguments.add(argument.toString());
+		while (arguments.size() > 1 && arguments.get(arguments.size() - 1).isEmpty()) {
+			arguments.remove(arguments.size() - 1);
+		}
+		return arguments;
+	}
+
 	@Override
 	public String resolve(InternalActionContext ac, String branch, ContainerType edgeType, String uuid, LinkType type, String projectName,
 		String... languageTags) {
@@ -130,7 +182,51 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 		boolean forceAbsolute,
 		String... languageTags) {
 		// Get rid of additional whitespaces
-		uuid = uuid.trim();
+		String nodeUuid = uuid.trim();
+		if (linkCache.isDisabled()) {
+			return resolveUncached(ac, branch, edgeType, nodeUuid, type, projectName, forceAbsolute, languageTags);
+		}
+		String key = createCacheKey(ac, branch, edgeType, nodeUuid, type, projectName, forceAbsolute, languageTags);
+		return linkCache.get(key, k -> resolveUncached(ac, branch, edgeType, nodeUuid, type, projectName, forceAbsolute, languageTags));
+	}
+
+	/**
+	 * Create the key for the link cache. The key contains all values which affect the rendered link.
+	 */
+	private String createCacheKey(InternalActionContext ac, String branch, ContainerType edgeType, String uuid, LinkType type, String projectName,
+		boolean forceAbsolute, String... languageTags) {
+		StringBuilder key = new StringBuilder(128)
+			.append(uuid).append('|')
+			.append(branch).append('|')
+			.append(edgeType == null ? "" : edgeType.getCode()).append('|')
+			.append(type.name()).append('|')
+			.append(forceAbsolute).append('|')
+			.append(projectName).append('|');
+		if (languageTags != null) {
+			for (String languageTag : languageTags) {
+				key.append(languageTag).append(',');
+			}
+		}
+		key.append('|');
+		switch (type) {
+		case SHORT:
+			// Short links are relative if the target is located in the branch of the request
+			Tx tx = Tx.get();
+			if (tx.getProject(ac) != null) {
+				key.append(tx.getBranch(ac).getUuid());
+			}
+			break;
+		case FULL:
+			key.append(ac.getApiVersion());
+			break;
+		default:
+			break;
+		}
+		return key.toString();
+	}
+
+	private String resolveUncached(InternalActionContext ac, String branch, ContainerType edgeType, String uuid, LinkType type, String projectName,
+		boolean forceAbsolute, String... languageTags) {
 		Node node = boot.meshRoot().findNodeByUuid(uuid);
 
 		// check for null
@@ -4,6 +4,7 @@ import static com.gentics.mesh.core.action.DAOActionContext.context;
 import static com.gentics.mesh.core.data.perm.InternalPermission.DELETE_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.core.rest.event.EventCauseAction.DELETE;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
@@ -19,6 +20,7 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.cache.ResponseCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
@@ -64,14 +66,17 @@ public class HandlerUtilities {
 
 	private final PageTransformer pageTransformer;
 
+	private final ResponseCache responseCache;
+
 	@Inject
 	public HandlerUtilities(Database database, MeshOptions meshOptions, Provider<EventQueueBatch> queueProvider,
-		Provider<BulkActionContext> bulkProvider, WriteLock writeLock, PageTransformer pageTransformer) {
+		Provider<BulkActionContext> bulkProvider, WriteLock writeLock, PageTransformer pageTransformer, ResponseCache responseCache) {
 		this.database = database;
 		this.queueProvider = queueProvider;
 		this.bulkProvider = bulkProvider;
 		this.writeLock = writeLock;
 		this.pageTransformer = pageTransformer;
+		this.responseCache = responseCache;
 	}
 
 	/**
@@ -258,15 +263,17 @@ public class HandlerUtilities {
 			T element = actions.loadByUuid(context(tx, ac, parent), uuid, perm, true);
 
 			// Handle etag
+			String responseKey = null;
 			if (ac.getGenericParameters().getETag()) {
 				String etag = actions.getETag(tx, ac, element);
 				ac.setEtag(etag, true);
 				if (ac.matches(etag, true)) {
 					throw new NotModifiedException();
 				}
+				responseKey = responseCache.createKey(ac, etag, uuid);
 			}
-			return actions.transformToRestSync(tx, element, ac, 0);
-		}, model -> ac.send(model, OK));
+			return responseCache.get(responseKey, () -> actions.transformToRestSync(tx, element, ac, 0));
+		}, body -> ac.send(body, OK, APPLICATION_JSON_UTF8));
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package com.gentics.mesh.router;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -72,6 +74,10 @@ public class APIRouterImpl implements APIRouter {
 			// handler will never pass through to the subsequent route handlers.
 			if ("websocket".equalsIgnoreCase(rh.request().getHeader("Upgrade"))) {
 				rh.next();
+			} else if (isNdjson(rh.request().getHeader("Content-Type"))) {
+				// NDJSON bodies are streamed by the handler of the route. The request is paused until the handler has been reached.
+				rh.request().pause();
+				rh.next();
 			} else {
 				storage.getBodyHandler().handle(rh);
 			}
@@ -81,6 +87,10 @@ public class APIRouterImpl implements APIRouter {
 
 	}
 
+	private static boolean isNdjson(String contentType) {
+		return contentType != null && contentType.toLowerCase().startsWith(APPLICATION_NDJSON);
+	}
+
 	@Override
 	public PluginRouter pluginRouter() {
 		return pluginRouter;
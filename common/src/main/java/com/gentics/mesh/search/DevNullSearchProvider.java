@@ -56,6 +56,11 @@ public class DevNullSearchProvider implements SearchProvider {
 		return Completable.complete();
 	}
 
+	@Override
+	public Completable updateByQuery(String indexPattern, JsonObject query, JsonObject script) {
+		return Completable.complete();
+	}
+
 	/**
 	 * No-operation setter.
 	 * 
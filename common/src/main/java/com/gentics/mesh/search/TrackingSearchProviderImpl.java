@@ -93,6 +93,13 @@ public class TrackingSearchProviderImpl implements TrackingSearchProvider {
 		});
 	}
 
+	@Override
+	public Completable updateByQuery(String indexPattern, JsonObject query, JsonObject script) {
+		return Completable.fromAction(() -> {
+			updateEvents.put(indexPattern + "-" + query.encode(), script);
+		});
+	}
+
 	/**
 	 * No-operation setter for the index mapping. The method will just complete.
 	 * 
@@ -0,0 +1,151 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.vertx.reactivex.core.Vertx;
+
+public class ImageVariantCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Vertx vertx;
+
+	private ImageManipulatorOptions options;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		options = new ImageManipulatorOptions().setImageCacheDirectory(folder.getRoot().getAbsolutePath());
+	}
+
+	@After
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Test
+	public void testEvictionDeletesFile() throws Exception {
+		options.setImageCacheMaxSize(100);
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, mock(MetricsService.class), 10);
+		List<File> files = putVariants(cache, "a", "b", "c");
+		assertTrue("The cache must not exceed the maximum size", cache.size() <= 100);
+
+		List<File> evicted = new ArrayList<>();
+		for (File file : files) {
+			if (cache.get(basePath(file)) == null) {
+				evicted.add(file);
+			} else {
+				assertTrue("The file of an indexed variant must not be deleted", file.exists());
+			}
+		}
+		assertEquals("Only one variant fits into the cache", 2, evicted.size());
+
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (evicted.stream().anyMatch(File::exists) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		for (File file : evicted) {
+			assertFalse("The file of the evicted variant should have been deleted", file.exists());
+		}
+	}
+
+	@Test
+	public void testEvictedFileIsKeptDuringDelay() throws Exception {
+		options.setImageCacheMaxSize(100);
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, mock(MetricsService.class), 60_000);
+		List<File> files = putVariants(cache, "a", "b", "c");
+		assertTrue(cache.size() <= 100);
+
+		Thread.sleep(100);
+		for (File file : files) {
+			assertTrue("Evicted files must still be available for requests which are being served", file.exists());
+		}
+	}
+
+	@Test
+	public void testInvalidate() throws Exception {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, mock(MetricsService.class), 10);
+		File file = putVariants(cache, "a").get(0);
+		assertEquals(file.getPath(), cache.get(basePath(file)));
+		assertEquals(60, cache.size());
+
+		// A different file of the same variant must not remove the entry
+		cache.invalidate(basePath(file) + ".png");
+		assertEquals(file.getPath(), cache.get(basePath(file)));
+
+		cache.invalidate(file.getPath());
+		assertNull(cache.get(basePath(file)));
+		assertEquals(0, cache.size());
+		Thread.sleep(100);
+		assertTrue("Invalidated variants must not be deleted", file.exists());
+	}
+
+	@Test
+	public void testGetSize() throws Exception {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, mock(MetricsService.class), 10);
+		File file = putVariants(cache, "a").get(0);
+		assertEquals("The size should be taken from the index", 60, cache.getSize(file.getPath()));
+		assertEquals("A different file of the same variant is not indexed", -1, cache.getSize(basePath(file) + ".png"));
+
+		cache.invalidate(file.getPath());
+		assertEquals(-1, cache.getSize(file.getPath()));
+	}
+
+	@Test
+	public void testScan() throws Exception {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, mock(MetricsService.class), 10);
+		List<File> files = Arrays.asList(writeVariant("a"), writeVariant("b"));
+		cache.scan(vertx).blockingAwait();
+		cache.markScanned();
+
+		assertTrue(cache.isScanned());
+		assertEquals(120, cache.size());
+		for (File file : files) {
+			assertEquals(file.getPath(), cache.get(basePath(file)));
+		}
+	}
+
+	private List<File> putVariants(ImageVariantCache cache, String... names) throws IOException {
+		List<File> files = new ArrayList<>();
+		for (String name : names) {
+			File file = writeVariant(name);
+			cache.put(basePath(file), file.getPath());
+			files.add(file);
+		}
+		return files;
+	}
+
+	private File writeVariant(String name) throws IOException {
+		File dir = new File(folder.getRoot(), "abcdefgh");
+		dir.mkdirs();
+		File file = new File(dir, "image-" + name + ".jpg");
+		Files.write(file.toPath(), new byte[60]);
+		return file;
+	}
+
+	private String basePath(File file) {
+		String path = file.getPath();
+		return path.substring(0, path.lastIndexOf('.'));
+	}
+}
@@ -0,0 +1,207 @@
+package com.gentics.mesh.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IAtomicLong;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+
+import dagger.Lazy;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * In clustered mode the epochs are stored in a distributed map. New epochs are taken from a cluster wide sequence so that an epoch is never reused. The epochs
+ * are mirrored into a local map which is updated via an entry listener, so that reading an epoch never requires a roundtrip to the cluster. Removed scopes are
+ * also mirrored via the listener, which will then notify the removal listeners of every instance.
+ *
+ * @see CacheEpochs
+ */
+@Singleton
+public class CacheEpochsImpl implements CacheEpochs {
+
+	private static final Logger log = LoggerFactory.getLogger(CacheEpochsImpl.class);
+
+	public static final String EPOCHS_MAP_NAME = "mesh.cache.epochs";
+
+	public static final String SEQUENCE_NAME = "mesh.cache.epochs.sequence";
+
+	private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+
+	private final AtomicLong localSequence = new AtomicLong();
+
+	private final List<Consumer<String>> removalListeners = new CopyOnWriteArrayList<>();
+
+	private final Lazy<HazelcastInstance> hazelcast;
+
+	private final boolean isClustered;
+
+	private volatile IMap<String, Long> clusterEpochs;
+
+	private volatile IAtomicLong clusterSequence;
+
+	@Inject
+	public CacheEpochsImpl(MeshOptions options, Lazy<HazelcastInstance> hazelcast) {
+		this.hazelcast = hazelcast;
+		this.isClustered = options.getClusterOptions().isEnabled();
+	}
+
+	@Override
+	public long current(String scope) {
+		initCluster();
+		Long epoch = epochs.get(scope);
+		return epoch == null ? 0 : epoch;
+	}
+
+	@Override
+	public void bump(String... scopes) {
+		if (scopes.length == 0) {
+			return;
+		}
+		initCluster();
+		IAtomicLong sequence = clusterSequence;
+		long epoch = sequence != null ? sequence.incrementAndGet() : localSequence.incrementAndGet();
+		Map<String, Long> bumped = new HashMap<>();
+		for (String scope : scopes) {
+			epochs.merge(scope, epoch, Math::max);
+			bumped.put(scope, epoch);
+		}
+		if (log.isTraceEnabled()) {
+			log.trace("Bumped epoch of scopes " + bumped.keySet() + " to {" + epoch + "}");
+		}
+		IMap<String, Long> map = clusterEpochs;
+		if (map != null) {
+			map.putAll(bumped);
+		}
+	}
+
+	@Override
+	public void remove(String... scopes) {
+		if (scopes.length == 0) {
+			return;
+		}
+		initCluster();
+		IMap<String, Long> map = clusterEpochs;
+		if (map == null) {
+			for (String scope : scopes) {
+				removeLocal(scope);
+			}
+			return;
+		}
+		// The removal is only propagated for scopes which are known to the cluster. Bumping the scopes first makes sure that all instances evict the
+		// entries of the scopes, even if the scopes were never bumped before.
+		bump(scopes);
+		for (String scope : scopes) {
+			map.delete(scope);
+		}
+	}
+
+	@Override
+	public void addRemovalListener(Consumer<String> listener) {
+		removalListeners.add(listener);
+	}
+
+	@Override
+	public boolean isDistributed() {
+		return isClustered;
+	}
+
+	@Override
+	public void sync() {
+		initCluster();
+		IMap<String, Long> map = clusterEpochs;
+		if (map != null) {
+			log.debug("Synchronizing cache epochs with the cluster");
+			Map<String, Long> clusterState = new HashMap<>(map);
+			clusterState.forEach((scope, epoch) -> epochs.merge(scope, epoch, Math::max));
+			// Scopes which were removed while the instance was disconnected
+			for (String scope : epochs.keySet()) {
+				if (!clusterState.containsKey(scope)) {
+					removeLocal(scope);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the epoch of the scope and notify the removal listeners.
+	 *
+	 * @param scope
+	 */
+	private void removeLocal(String scope) {
+		epochs.remove(scope);
+		if (log.isTraceEnabled()) {
+			log.trace("Removed scope {" + scope + "}");
+		}
+		for (Consumer<String> listener : removalListeners) {
+			listener.accept(scope);
+		}
+	}
+
+	/**
+	 * Connect to the distributed epochs once the hazelcast instance is available.
+	 */
+	private void initCluster() {
+		if (!isClustered || clusterEpochs != null) {
+			return;
+		}
+		synchronized (this) {
+			if (clusterEpochs != null) {
+				return;
+			}
+			HazelcastInstance hz;
+			try {
+				hz = hazelcast.get();
+			} catch (RuntimeException e) {
+				// The cluster has not yet been started
+				return;
+			}
+			if (hz == null) {
+				return;
+			}
+			IMap<String, Long> map = hz.getMap(EPOCHS_MAP_NAME);
+			map.addEntryListener(new EpochListener(), true);
+			// The locally bumped epochs were never shared and are thus replaced by the epochs of the cluster
+			epochs.clear();
+			epochs.putAll(map);
+			clusterSequence = hz.getAtomicLong(SEQUENCE_NAME);
+			clusterEpochs = map;
+		}
+	}
+
+	/**
+	 * Listener which mirrors the epochs which were bumped or removed by the cluster instances.
+	 */
+	private class EpochListener implements EntryAddedListener<String, Long>, EntryUpdatedListener<String, Long>, EntryRemovedListener<String, Long> {
+
+		@Override
+		public void entryAdded(EntryEvent<String, Long> event) {
+			epochs.merge(event.getKey(), event.getValue(), Math::max);
+		}
+
+		@Override
+		public void entryUpdated(EntryEvent<String, Long> event) {
+			epochs.merge(event.getKey(), event.getValue(), Math::max);
+		}
+
+		@Override
+		public void entryRemoved(EntryEvent<String, Long> event) {
+			removeLocal(event.getKey());
+		}
+	}
+
+}
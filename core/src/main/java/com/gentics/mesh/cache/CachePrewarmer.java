@@ -0,0 +1,225 @@
+package com.gentics.mesh.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.impl.BranchImpl;
+import com.gentics.mesh.core.data.impl.ProjectImpl;
+import com.gentics.mesh.core.data.impl.UserImpl;
+import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.service.WebRootService;
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * The prewarmer stores the keys of the hottest permission and webroot path cache entries in a snapshot during shutdown. During the next startup the caches
+ * will be populated again by resolving the keys of the snapshot. The branch cache will be populated with all branches. The prewarming is limited by the
+ * configured time budget.
+ */
+@Singleton
+public class CachePrewarmer {
+
+	private static final Logger log = LoggerFactory.getLogger(CachePrewarmer.class);
+
+	private static final String PERMISSIONS_KEY = "permissions";
+
+	private static final String WEBROOT_PATHS_KEY = "webrootPaths";
+
+	private final MeshOptions options;
+
+	private final Database db;
+
+	private final PermissionCache permissionCache;
+
+	private final WebrootPathCache pathCache;
+
+	private final WebRootService webRootService;
+
+	@Inject
+	public CachePrewarmer(MeshOptions options, Database db, PermissionCache permissionCache, WebrootPathCache pathCache, WebRootService webRootService) {
+		this.options = options;
+		this.db = db;
+		this.permissionCache = permissionCache;
+		this.pathCache = pathCache;
+		this.webRootService = webRootService;
+	}
+
+	/**
+	 * Store the keys of the hottest cache entries in the snapshot file.
+	 */
+	public void saveSnapshot() {
+		CacheConfig config = options.getCacheConfig();
+		if (!config.isPrewarmEnabled()) {
+			return;
+		}
+		int limit = config.getPrewarmMaxEntries();
+		List<String> permissions = permissionCache.getHottestKeys(limit);
+		List<String> paths = pathCache.getHottestKeys(limit);
+		JsonObject snapshot = new JsonObject()
+			.put(PERMISSIONS_KEY, new JsonArray(new ArrayList<>(permissions)))
+			.put(WEBROOT_PATHS_KEY, new JsonArray(new ArrayList<>(paths)));
+
+		File file = new File(config.getPrewarmSnapshotPath());
+		try {
+			File parent = file.getParentFile();
+			if (parent != null) {
+				parent.mkdirs();
+			}
+			Files.write(file.toPath(), snapshot.encode().getBytes(UTF_8));
+			log.info("Stored {" + permissions.size() + "} permissions and {" + paths.size() + "} webroot paths in cache snapshot {" + file + "}");
+		} catch (IOException e) {
+			log.error("Could not store the cache snapshot {" + file + "}", e);
+		}
+	}
+
+	/**
+	 * Populate the caches. The method blocks until the caches have been populated or the time budget has been exceeded.
+	 */
+	public void prewarm() {
+		CacheConfig config = options.getCacheConfig();
+		if (!config.isPrewarmEnabled()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		long deadline = start + config.getPrewarmTimeout();
+		log.info("Prewarming caches with a time budget of {" + config.getPrewarmTimeout() + "} ms");
+
+		JsonObject snapshot = loadSnapshot(new File(config.getPrewarmSnapshotPath()));
+		int branches = prewarmBranches(deadline);
+		int paths = prewarmPaths(snapshot.getJsonArray(WEBROOT_PATHS_KEY, new JsonArray()), deadline);
+		int permissions = prewarmPermissions(snapshot.getJsonArray(PERMISSIONS_KEY, new JsonArray()), deadline);
+
+		long duration = System.currentTimeMillis() - start;
+		if (System.currentTimeMillis() > deadline) {
+			log.warn("Prewarming exceeded the time budget of {" + config.getPrewarmTimeout() + "} ms. The remaining entries were skipped.");
+		}
+		log.info("Prewarmed {" + branches + "} branches, {" + paths + "} webroot paths and {" + permissions + "} permissions in {" + duration + "} ms");
+	}
+
+	private JsonObject loadSnapshot(File file) {
+		if (!file.exists()) {
+			log.info("No cache snapshot found at {" + file + "}");
+			return new JsonObject();
+		}
+		try {
+			return new JsonObject(new String(Files.readAllBytes(file.toPath()), UTF_8));
+		} catch (Exception e) {
+			log.warn("Could not load the cache snapshot {" + file + "}", e);
+			return new JsonObject();
+		}
+	}
+
+	/**
+	 * Populate the branch cache with the names and uuids of all branches.
+	 */
+	private int prewarmBranches(long deadline) {
+		return db.tx(tx -> {
+			int count = 0;
+			for (HibProject project : tx.projectDao().findAll()) {
+				for (HibBranch branch : tx.branchDao().findAll(project)) {
+					if (System.currentTimeMillis() > deadline) {
+						return count;
+					}
+					project.findBranch(branch.getUuid());
+					project.findBranch(branch.getName());
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * Resolve the webroot paths of the snapshot. The keys have the format <code>projectId-branchId-type-path</code>.
+	 */
+	private int prewarmPaths(JsonArray keys, long deadline) {
+		if (pathCache.isDisabled()) {
+			return 0;
+		}
+		return db.tx(tx -> {
+			int count = 0;
+			for (Object key : keys) {
+				if (System.currentTimeMillis() > deadline) {
+					break;
+				}
+				String[] parts = String.valueOf(key).split("-", 4);
+				if (parts.length != 4) {
+					continue;
+				}
+				try {
+					HibProject project = tx.getGraph().getFramedVertexExplicit(ProjectImpl.class, parts[0]);
+					HibBranch branch = tx.getGraph().getFramedVertexExplicit(BranchImpl.class, parts[1]);
+					ContainerType type = ContainerType.get(parts[2]);
+					if (project == null || branch == null || type == null) {
+						continue;
+					}
+					NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+					ac.setProject(project);
+					ac.setBranch(branch);
+					webRootService.findByProjectPath(ac, parts[3], type);
+					count++;
+				} catch (Exception e) {
+					log.debug("Could not prewarm webroot path {" + key + "}", e);
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * Check the granting permissions of the snapshot. The keys have the format <code>userId-permission-elementId</code>.
+	 */
+	private int prewarmPermissions(JsonArray keys, long deadline) {
+		if (permissionCache.isDisabled()) {
+			return 0;
+		}
+		InternalPermission[] permissions = InternalPermission.values();
+		return db.tx(tx -> {
+			int count = 0;
+			for (Object key : keys) {
+				if (System.currentTimeMillis() > deadline) {
+					break;
+				}
+				String[] parts = String.valueOf(key).split("-");
+				if (parts.length != 3) {
+					continue;
+				}
+				try {
+					int ordinal = Integer.parseInt(parts[1]);
+					if (ordinal < 0 || ordinal >= permissions.length || tx.getGraph().getVertex(parts[2]) == null) {
+						continue;
+					}
+					HibUser user = tx.getGraph().getFramedVertexExplicit(UserImpl.class, parts[0]);
+					if (user == null) {
+						continue;
+					}
+					tx.userDao().hasPermissionForId(user, parts[2], permissions[ordinal]);
+					count++;
+				} catch (Exception e) {
+					log.debug("Could not prewarm permission {" + key + "}", e);
+				}
+			}
+			return count;
+		});
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for the structure of navigations.
+ *
+ * The structure of a navigation only changes when nodes get created, moved or deleted. Publishing, updating and permission changes don't affect the
+ * cached tree since the content and the permissions are applied when the navigation response is built. Events which refer to a node will only invalidate
+ * the trees which may be affected by the change.
+ */
+@Singleton
+public class NavigationCacheImpl extends AbstractMeshCache<String, NavigationTree> implements NavigationCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NavigationCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_DELETED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		BRANCH_DELETED,
+		PROJECT_DELETED,
+		SCHEMA_UPDATED,
+		CLUSTER_NODE_JOINED,
+		CLUSTER_DATABASE_CHANGE_STATUS,
+		SCHEMA_MIGRATION_FINISHED };
+
+	@Inject
+	public NavigationCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getNavigationCacheSize());
+	}
+
+	private static EventAwareCache<String, NavigationTree> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, NavigationTree>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Updating navigation cache due to received event from {" + event.address() + "}");
+				}
+				MeshEvent meshEvent = MeshEvent.fromAddress(event.address()).orElse(null);
+				JsonObject body = event.body();
+				String uuid = body == null ? null : body.getString("uuid");
+				if (meshEvent == null || uuid == null) {
+					cache.invalidate();
+					return;
+				}
+				String branchUuid = body.getString("branchUuid");
+				switch (meshEvent) {
+				case NODE_CONTENT_CREATED:
+					// New contents of nodes which are already part of a navigation don't change its structure. Otherwise a new node may have been
+					// created within the navigation.
+					cache.invalidate((key, tree) -> matchesBranch(tree, branchUuid) && !tree.contains(uuid));
+					break;
+				case NODE_MOVED:
+					JsonObject target = body.getJsonObject("target");
+					String targetUuid = target == null ? null : target.getString("uuid");
+					cache.invalidate((key, tree) -> matchesBranch(tree, branchUuid) && (tree.contains(uuid) || tree.contains(targetUuid)));
+					break;
+				case NODE_DELETED:
+				case NODE_CONTENT_DELETED:
+					cache.invalidate((key, tree) -> matchesBranch(tree, branchUuid) && tree.contains(uuid));
+					break;
+				default:
+					cache.invalidate();
+				}
+			})
+			.name("navigation")
+			.maxSize(config.getNavigationCacheSize())
+			.build();
+	}
+
+	private static boolean matchesBranch(NavigationTree tree, String branchUuid) {
+		return branchUuid == null || branchUuid.equals(tree.getBranchUuid());
+	}
+
+	@Override
+	public NavigationTree getTree(String rootUuid, String branchUuid, int maxDepth, Supplier<NavigationTree> loader) {
+		if (isDisabled()) {
+			return loader.get();
+		}
+		return cache.get(createCacheKey(rootUuid, branchUuid, maxDepth), k -> loader.get());
+	}
+
+	/**
+	 * Create the cache key.
+	 *
+	 * @param rootUuid
+	 * @param branchUuid
+	 * @param maxDepth
+	 * @return
+	 */
+	private String createCacheKey(String rootUuid, String branchUuid, int maxDepth) {
+		return rootUuid + "-" + branchUuid + "-" + maxDepth;
+	}
+
+}
@@ -1,8 +1,8 @@
 package com.gentics.mesh.cache;
 
+import static com.gentics.mesh.cache.CacheEpochs.roleScope;
+import static com.gentics.mesh.cache.CacheEpochs.userScope;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
-import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
-import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 
 import java.time.temporal.ChronoUnit;
 
@@ -20,6 +20,9 @@ import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ * 
+ * The entries are stored for the scope of the user and the scope of the granting role. Changes to users and roles thus only invalidate the affected entries
+ * via the cluster wide {@link CacheEpochs} instead of clearing the whole cache in all instances.
  */
 @Singleton
 public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> implements PermissionCache {
@@ -34,8 +37,6 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 
 	private static final MeshEvent EVENTS[] = {
 		CLEAR_PERMISSION_STORE,
-		CLUSTER_NODE_JOINED,
-		CLUSTER_DATABASE_CHANGE_STATUS,
 	};
 
 	@Inject
@@ -125,6 +126,45 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 	 *            Id of the element to which a permission is granted
 	 */
 	public void store(Object userId, InternalPermission permission, Object elementId) {
-		cache.put(createCacheKey(userId, permission, elementId), true);
+		cache.put(createCacheKey(userId, permission, elementId), true, userScope(userId));
+	}
+
+	@Override
+	public EpochStamp stampUser(Object userId) {
+		return cache.stamp(userScope(userId));
+	}
+
+	@Override
+	public EpochStamp stampRole(String roleUuid) {
+		return cache.stamp(roleScope(roleUuid));
+	}
+
+	@Override
+	public void store(Object userId, InternalPermission permission, Object elementId, EpochStamp stamp) {
+		cache.put(createCacheKey(userId, permission, elementId), true, stamp);
+	}
+
+	@Override
+	public void invalidateUsers(Object... userIds) {
+		String[] scopes = new String[userIds.length];
+		for (int i = 0; i < userIds.length; i++) {
+			scopes[i] = userScope(userIds[i]);
+		}
+		cache.invalidateScopes(scopes);
+	}
+
+	@Override
+	public void invalidateRole(String roleUuid) {
+		cache.invalidateScopes(roleScope(roleUuid));
+	}
+
+	@Override
+	public void removeUser(Object userId) {
+		cache.removeScopes(userScope(userId));
+	}
+
+	@Override
+	public void removeRole(String roleUuid) {
+		cache.removeScopes(roleScope(roleUuid));
 	}
 }
@@ -0,0 +1,83 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_LATEST_BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * @see WebrootLinkCache
+ */
+@Singleton
+public class WebrootLinkCacheImpl extends AbstractMeshCache<String, String> implements WebrootLinkCache {
+
+	private static final Logger log = LoggerFactory.getLogger(WebrootLinkCacheImpl.class);
+
+	/**
+	 * A link depends on the path segments of all parent nodes, the branch settings and the project name. Thus any of these changes clears the whole cache.
+	 */
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_CREATED,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		BRANCH_CREATED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		PROJECT_LATEST_BRANCH_UPDATED,
+		CLUSTER_NODE_JOINED,
+		CLUSTER_DATABASE_CHANGE_STATUS,
+		SCHEMA_MIGRATION_FINISHED };
+
+	@Inject
+	public WebrootLinkCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getLinkCacheSize());
+	}
+
+	private static EventAwareCache<String, String> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, String>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing link cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("link")
+			.maxSize(config.getLinkCacheSize())
+			.build();
+	}
+
+}
@@ -1,8 +1,9 @@
 package com.gentics.mesh.cache;
 
+import static com.gentics.mesh.cache.CacheEpochs.branchScope;
+import static com.gentics.mesh.cache.CacheEpochs.projectScope;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
-import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
-import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
@@ -10,6 +11,7 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
 
 import javax.inject.Inject;
@@ -24,11 +26,17 @@ import com.gentics.mesh.etc.config.CacheConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.path.Path;
 
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU webroot path cache which is used to quickly lookup cached paths.
+ * 
+ * The entries are stored for the scope of the project and the branch. Node events only bump the epoch of the affected branch (or project) via the cluster
+ * wide {@link CacheEpochs}. The epoch is only bumped by the instance from which the event originates. The scopes of deleted branches and projects are
+ * removed from the epochs.
  */
 @Singleton
 public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implements WebrootPathCache {
@@ -44,23 +52,46 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		NODE_MOVED,
 		NODE_CONTENT_CREATED,
 		NODE_CONTENT_DELETED,
-		CLUSTER_NODE_JOINED,
-		CLUSTER_DATABASE_CHANGE_STATUS,
-		SCHEMA_MIGRATION_FINISHED };
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_DELETED,
+		PROJECT_DELETED };
 
 	@Inject
 	public WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getPathCacheSize());
+		super(createCache(factory, options), registry, options.getCacheConfig().getPathCacheSize());
 	}
 
-	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, MeshOptions options) {
+		CacheConfig config = options.getCacheConfig();
 		return factory.<String, Path>builder()
 			.events(EVENTS)
 			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing path store due to received event from {" + event.address() + "}");
+				String removedScope = getRemovedScope(event);
+				if (removedScope != null) {
+					// The other instances evict the entries of the scope once the removal was propagated via the cluster
+					if (isOrigin(event, options)) {
+						if (log.isDebugEnabled()) {
+							log.debug("Removing scope {" + removedScope + "} due to received event from {" + event.address() + "}");
+						}
+						cache.removeScopes(removedScope);
+					}
+					return;
+				}
+				String scope = getScope(event);
+				if (scope == null) {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing path store due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
+					return;
+				}
+				// The other instances receive the bumped epoch via the cluster
+				if (isOrigin(event, options)) {
+					if (log.isDebugEnabled()) {
+						log.debug("Invalidating paths of scope {" + scope + "} due to received event from {" + event.address() + "}");
+					}
+					cache.invalidateScopes(scope);
 				}
-				cache.invalidate();
 			})
 			.name("webroot")
 			.maxSize(config.getPathCacheSize())
@@ -86,10 +117,77 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 
 	@Override
 	public void store(HibProject project, HibBranch branch, ContainerType type, String path, Path resolvedPath) {
+		store(project, branch, type, path, resolvedPath, stamp(project, branch));
+	}
+
+	@Override
+	public void store(HibProject project, HibBranch branch, ContainerType type, String path, Path resolvedPath, EpochStamp stamp) {
 		if (isDisabled()) {
 			return;
 		}
-		cache.put(createCacheKey(project, branch, type, path), resolvedPath);
+		cache.put(createCacheKey(project, branch, type, path), resolvedPath, stamp);
+	}
+
+	@Override
+	public EpochStamp stamp(HibProject project, HibBranch branch) {
+		return cache.stamp(projectScope(project.getUuid()), branchScope(branch.getUuid()));
+	}
+
+	/**
+	 * Check whether the event originates from this instance.
+	 * 
+	 * @param event
+	 * @param options
+	 * @return
+	 */
+	private static boolean isOrigin(Message<JsonObject> event, MeshOptions options) {
+		String origin = event.body().getString("origin");
+		return origin == null || origin.equals(options.getNodeName());
+	}
+
+	/**
+	 * Return the scope of the deleted branch or project.
+	 * 
+	 * @param event
+	 * @return Scope or null if the event is not a delete event
+	 */
+	private static String getRemovedScope(Message<JsonObject> event) {
+		JsonObject body = event.body();
+		if (body == null || body.getString("uuid") == null) {
+			return null;
+		}
+		if (BRANCH_DELETED.address.equals(event.address())) {
+			return branchScope(body.getString("uuid"));
+		} else if (PROJECT_DELETED.address.equals(event.address())) {
+			return projectScope(body.getString("uuid"));
+		}
+		return null;
+	}
+
+	/**
+	 * Return the scope which is affected by the event.
+	 * 
+	 * @param event
+	 * @return Scope of the branch or project, or null if the event does not reference a project
+	 */
+	private static String getScope(Message<JsonObject> event) {
+		JsonObject body = event.body();
+		if (body == null) {
+			return null;
+		}
+		String branchUuid = body.getString("branchUuid");
+		Object branch = body.getValue("branch");
+		if (branchUuid == null && branch instanceof JsonObject) {
+			branchUuid = ((JsonObject) branch).getString("uuid");
+		}
+		if (branchUuid != null) {
+			return branchScope(branchUuid);
+		}
+		Object project = body.getValue("project");
+		if (project instanceof JsonObject && ((JsonObject) project).getString("uuid") != null) {
+			return projectScope(((JsonObject) project).getString("uuid"));
+		}
+		return null;
 	}
 
 	/**
@@ -83,6 +83,7 @@ import com.gentics.mesh.core.data.service.ServerSchemaStorageImpl;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
+import com.gentics.mesh.core.endpoint.eventbus.EventFeed;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
 import com.gentics.mesh.core.rest.schema.HtmlFieldSchema;
 import com.gentics.mesh.core.rest.schema.SchemaVersionModel;
@@ -168,6 +169,9 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Inject
 	public Lazy<CoreVerticleLoader> loader;
 
+	@Inject
+	public Lazy<EventFeed> eventFeed;
+
 	@Inject
 	public HighLevelChangelogSystem highlevelChangelogSystem;
 
@@ -687,6 +691,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Override
 	public void registerEventHandlers() {
 		routerStorageRegistry.registerEventbus();
+		eventFeed.get().start();
 	}
 
 	@Override
@@ -143,6 +143,8 @@ public class MeshImpl implements Mesh {
 		meshInternal = builder.configuration(options).mesh(this).build();
 		setMeshInternal(meshInternal);
 		meshInternal.boot().init(this, forceIndexSync, options, verticleLoader);
+		// The instance will only report readiness once the caches have been prewarmed
+		meshInternal.cachePrewarmer().prewarm();
 		if (options.isUpdateCheckEnabled()) {
 			try {
 				invokeUpdateCheck();
@@ -381,6 +383,13 @@ public class MeshImpl implements Mesh {
 			log.error("One of the plugins could not be undeployed in the allotted time.", t);
 		}
 
+		// cache snapshot
+		try {
+			meshInternal.cachePrewarmer().saveSnapshot();
+		} catch (Throwable t) {
+			log.error("Error while storing the cache snapshot", t);
+		}
+
 		// search
 		try {
 			log.info("Stopping search provider");
@@ -389,6 +398,14 @@ public class MeshImpl implements Mesh {
 			log.error("The search provider did encounter an error while stopping", t);
 		}
 
+		// event feed
+		try {
+			log.info("Closing event feed");
+			meshInternal.eventFeed().close();
+		} catch (Throwable t) {
+			log.error("Error while closing the event feed", t);
+		}
+
 		// vert.x
 		try {
 			io.vertx.reactivex.core.Vertx rxVertx = getRxVertx();
@@ -20,6 +20,8 @@ public class BranchMigrationContextImpl implements BranchMigrationContext {
 
 	private HibBranch oldBranch;
 
+	private String checkpoint;
+
 	public BranchMigrationContextImpl() {
 	}
 
@@ -59,6 +61,15 @@ public class BranchMigrationContextImpl implements BranchMigrationContext {
 		this.oldBranch = oldBranch;
 	}
 
+	@Override
+	public String getCheckpoint() {
+		return checkpoint;
+	}
+
+	public void setCheckpoint(String checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
 	@Override
 	public void validate() {
 		Objects.requireNonNull(oldBranch, "The old branch reference is missing in the context.");
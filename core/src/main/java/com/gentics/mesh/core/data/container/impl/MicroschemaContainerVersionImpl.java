@@ -1,6 +1,9 @@
 package com.gentics.mesh.core.data.container.impl;
 
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FROM_VERSION;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ITEM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_MICROSCHEMA_VERSION;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_VERSION;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.MICROSCHEMA_VERSION_KEY_PROPERTY;
@@ -8,6 +11,12 @@ import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 import static com.gentics.mesh.util.StreamUtil.uniqueBy;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import com.gentics.madl.index.IndexHandler;
@@ -21,9 +30,12 @@ import com.gentics.mesh.core.data.impl.BranchImpl;
 import com.gentics.mesh.core.data.job.HibJob;
 import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.node.Micronode;
+import com.gentics.mesh.core.data.node.field.impl.MicronodeGraphFieldImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.MicronodeGraphFieldListImpl;
 import com.gentics.mesh.core.data.node.impl.MicronodeImpl;
 import com.gentics.mesh.core.data.schema.HibMicroschema;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
+import com.gentics.mesh.core.data.schema.MicronodeContainerReference;
 import com.gentics.mesh.core.data.schema.Microschema;
 import com.gentics.mesh.core.data.schema.MicroschemaVersion;
 import com.gentics.mesh.core.data.schema.SchemaChange;
@@ -76,6 +88,37 @@ public class MicroschemaContainerVersionImpl extends
 			.filter(container -> container.isDraft(branchUuid)));
 	}
 
+	@Override
+	public List<MicronodeContainerReference> getDraftFieldContainerReferences(String branchUuid) {
+		Map<Object, MicronodeContainerReference> references = new LinkedHashMap<>();
+		Map<Object, Boolean> drafts = new HashMap<>();
+		Predicate<NodeGraphFieldContainerImpl> isDraft = container -> drafts.computeIfAbsent(container.getId(), id -> container.isDraft(branchUuid));
+
+		getMicronodeStream().forEach(micronode -> {
+			// Micronode fields reference the micronode via the field edge
+			for (MicronodeGraphFieldImpl field : micronode.inE(HAS_FIELD).has(MicronodeGraphFieldImpl.class).frameExplicit(
+				MicronodeGraphFieldImpl.class)) {
+				NodeGraphFieldContainerImpl container = field.outV().has(NodeGraphFieldContainerImpl.class).nextOrDefaultExplicit(
+					NodeGraphFieldContainerImpl.class, null);
+				if (container != null && isDraft.test(container)) {
+					references.computeIfAbsent(container.getId(), MicronodeContainerReference::new).getFieldKeys().add(field.getFieldKey());
+				}
+			}
+
+			// Micronode lists reference the micronode via the item edge
+			for (MicronodeGraphFieldListImpl list : micronode.in(HAS_ITEM).has(MicronodeGraphFieldListImpl.class).frameExplicit(
+				MicronodeGraphFieldListImpl.class)) {
+				for (NodeGraphFieldContainerImpl container : list.in(HAS_LIST).has(NodeGraphFieldContainerImpl.class).frameExplicit(
+					NodeGraphFieldContainerImpl.class)) {
+					if (isDraft.test(container)) {
+						references.computeIfAbsent(container.getId(), MicronodeContainerReference::new).getListFieldKeys().add(list.getFieldKey());
+					}
+				}
+			}
+		});
+		return new ArrayList<>(references.values());
+	}
+
 	@Override
 	public Result<? extends Micronode> findMicronodes() {
 		return new TraversalResult<>(getMicronodeStream());
@@ -15,9 +15,11 @@ import com.gentics.mesh.core.data.container.impl.MicroschemaContainerVersionImpl
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.generic.AbstractGenericFieldContainerVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.job.impl.BackupJobImpl;
 import com.gentics.mesh.core.data.job.impl.BranchMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.JobRootImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
+import com.gentics.mesh.core.data.job.impl.NodeImportJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.VersionPurgeJobImpl;
 import com.gentics.mesh.core.data.node.field.impl.BinaryGraphFieldImpl;
@@ -142,6 +144,8 @@ public final class DatabaseHelper {
 		// Jobs
 		NodeMigrationJobImpl.init(type, index);
 		VersionPurgeJobImpl.init(type, index);
+		NodeImportJobImpl.init(type, index);
+		BackupJobImpl.init(type, index);
 		MicronodeMigrationJobImpl.init(type, index);
 		BranchMigrationJobImpl.init(type, index);
 
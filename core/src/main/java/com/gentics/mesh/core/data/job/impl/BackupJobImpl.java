@@ -0,0 +1,133 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.GRAPH_BACKUP_START;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.graphdb.spi.Database;
+
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Graph entity for incremental graph backup jobs. The job writes the changes since the last incremental backup into the incremental backup directory. The
+ * completion count of the job reflects the amount of bytes which have been written so far.
+ */
+public class BackupJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(BackupJobImpl.class);
+
+	private static final String BACKUP_FILE_PROPERTY = "backupFile";
+
+	private static final String BACKUP_SIZE_PROPERTY = "backupSize";
+
+	private static final String THROUGHPUT_PROPERTY = "throughput";
+
+	/**
+	 * Initialize the vertex type and index.
+	 *
+	 * @param type
+	 * @param index
+	 */
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(BackupJobImpl.class, MeshVertexImpl.class);
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		Map<String, String> props = response.getProperties();
+		String backupFile = getProperty(BACKUP_FILE_PROPERTY);
+		if (backupFile != null) {
+			props.put(BACKUP_FILE_PROPERTY, backupFile);
+		}
+		Long backupSize = getProperty(BACKUP_SIZE_PROPERTY);
+		if (backupSize != null) {
+			props.put(BACKUP_SIZE_PROPERTY, String.valueOf(backupSize));
+		}
+		Long throughput = getProperty(THROUGHPUT_PROPERTY);
+		if (throughput != null) {
+			props.put(THROUGHPUT_PROPERTY, String.valueOf(throughput));
+		}
+		return response;
+	}
+
+	@Override
+	protected Completable processTask() {
+		Vertx vertx = mesh().vertx();
+		File directory = new File(mesh().options().getStorageOptions().getBackupDirectory(), Database.INCREMENTAL_BACKUP_DIRECTORY);
+
+		return Completable.fromAction(() -> {
+			db().tx(() -> {
+				setStatus(RUNNING);
+			});
+			vertx.eventBus().publish(GRAPH_BACKUP_START.address, null);
+
+			// Report the amount of written bytes while the backup is running
+			long initialSize = sizeOf(directory);
+			long start = System.currentTimeMillis();
+			Disposable progress = Observable.interval(1, 1, TimeUnit.SECONDS).subscribe(i -> {
+				long written = sizeOf(directory) - initialSize;
+				db().tx(() -> {
+					setCompletionCount(written);
+				});
+			});
+
+			String backupFile;
+			try {
+				backupFile = db().incrementalBackupGraph(directory.getAbsolutePath());
+			} finally {
+				progress.dispose();
+				vertx.eventBus().publish(GRAPH_BACKUP_FINISHED.address, null);
+			}
+
+			long duration = Math.max(1, System.currentTimeMillis() - start);
+			long size = new File(backupFile).length();
+			long throughput = size * 1000 / duration;
+			db().tx(() -> {
+				setProperty(BACKUP_FILE_PROPERTY, backupFile);
+				setProperty(BACKUP_SIZE_PROPERTY, size);
+				setProperty(THROUGHPUT_PROPERTY, throughput);
+				setCompletionCount(size);
+				setStopTimestamp();
+				setStatus(COMPLETED);
+				log.info("Backup job {" + getUuid() + "} wrote {" + size + "} bytes to {" + backupFile + "} in {" + duration + "} ms ({" + throughput
+					+ "} bytes/s).");
+			});
+		}).doOnError(error -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(FAILED);
+				setError(error);
+				log.error("Backup job {" + getUuid() + "} failed.", error);
+			});
+		});
+	}
+
+	private static long sizeOf(File directory) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return 0;
+		}
+		long size = 0;
+		for (File file : files) {
+			size += file.length();
+		}
+		return size;
+	}
+}
@@ -101,6 +101,14 @@ public class BranchMigrationJobImpl extends JobImpl {
 				cause.setUuid(getUuid());
 				context.setCause(cause);
 
+				// Resume the migration of a previous run
+				String checkpoint = getCheckpoint();
+				if (checkpoint != null) {
+					log.info("Resuming branch migration for job {" + getUuid() + "} after node {" + checkpoint + "}");
+					context.setCheckpoint(checkpoint);
+					status.setCompletionCount(getCompletionCount());
+				}
+
 				context.getStatus().commit();
 				return context;
 			});
@@ -135,6 +135,16 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse> implem
 		property(WARNING_PROPERTY_KEY, json);
 	}
 
+	@Override
+	public String getCheckpoint() {
+		return property(CHECKPOINT_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setCheckpoint(String checkpoint) {
+		property(CHECKPOINT_PROPERTY_KEY, checkpoint);
+	}
+
 	@Override
 	public String getSubETag(InternalActionContext ac) {
 		return getErrorMessage() + getErrorDetail();
@@ -196,6 +206,15 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse> implem
 		setSingleLinkOutTo(toGraph(branch), HAS_BRANCH);
 	}
 
+	@Override
+	public String getLaneKey() {
+		HibBranch branch = getBranch();
+		if (branch == null) {
+			return GLOBAL_LANE_KEY;
+		}
+		return branch.getProject().getUuid();
+	}
+
 	@Override
 	public HibSchemaVersion getFromSchemaVersion() {
 		return out(HAS_FROM_VERSION).has(SchemaContainerVersionImpl.class).nextOrDefaultExplicit(SchemaContainerVersionImpl.class, null);
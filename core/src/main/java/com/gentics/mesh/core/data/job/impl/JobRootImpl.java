@@ -194,6 +194,37 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return enqueueVersionPurge(user, project, null);
 	}
 
+	@Override
+	public Job enqueueNodeImport(HibUser user, HibProject project, String path, int batchSize) {
+		NodeImportJobImpl job = getGraph().addFramedVertex(NodeImportJobImpl.class);
+		job.setCreationTimestamp();
+		job.setType(JobType.nodeimport);
+		job.setStatus(QUEUED);
+		job.setProject(project);
+		// The nodes will be created using the permissions of the requesting user
+		job.setUserUuid(user.getUuid());
+		job.setPath(path);
+		job.setBatchSize(batchSize);
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued node import job {" + job.getUuid() + "} for project {" + project.getName() + "}");
+		}
+		return job;
+	}
+
+	@Override
+	public Job enqueueBackup(HibUser user) {
+		BackupJobImpl job = getGraph().addFramedVertex(BackupJobImpl.class);
+		job.setCreationTimestamp();
+		job.setType(JobType.backup);
+		job.setStatus(QUEUED);
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued backup job {" + job.getUuid() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
@@ -235,14 +266,8 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 	@Override
 	public Completable process() {
 		List<Completable> actions = new ArrayList<>();
-		Iterable<? extends Job> it = findAll();
-		for (Job job : it) {
+		for (Job job : findProcessable()) {
 			try {
-				// Don't execute failed or completed jobs again
-				JobStatus jobStatus = job.getStatus();
-				if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == UNKNOWN)) {
-					continue;
-				}
 				actions.add(job.process());
 			} catch (Exception e) {
 				job.markAsFailed(e);
@@ -252,6 +277,20 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return Completable.concat(actions);
 	}
 
+	@Override
+	public List<? extends Job> findProcessable() {
+		List<Job> jobs = new ArrayList<>();
+		for (Job job : findAll()) {
+			// Don't execute failed or completed jobs again
+			JobStatus jobStatus = job.getStatus();
+			if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == UNKNOWN)) {
+				continue;
+			}
+			jobs.add(job);
+		}
+		return jobs;
+	}
+
 	@Override
 	public void purgeFailed() {
 		log.info("Purging failed jobs..");
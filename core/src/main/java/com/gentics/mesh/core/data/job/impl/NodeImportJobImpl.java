@@ -0,0 +1,168 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_PROJECT;
+import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_IMPORT_FINISHED;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.impl.ProjectImpl;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.project.maintenance.ProjectImportHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.job.ProjectImportEventModel;
+import com.gentics.mesh.core.rest.job.JobStatus;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Graph entity for node import jobs.
+ */
+public class NodeImportJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeImportJobImpl.class);
+
+	private static final String PATH_PROPERTY = "path";
+
+	private static final String BATCH_SIZE_PROPERTY = "batchSize";
+
+	private static final String USER_UUID_PROPERTY = "userUuid";
+
+	/**
+	 * Initialize the vertex type and index.
+	 * 
+	 * @param type
+	 * @param index
+	 */
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(NodeImportJobImpl.class, MeshVertexImpl.class);
+	}
+
+	public Project getProject() {
+		return out(HAS_PROJECT, ProjectImpl.class).nextOrNull();
+	}
+
+	/**
+	 * Set the project into which the nodes will be imported.
+	 * 
+	 * @param project
+	 */
+	public void setProject(HibProject project) {
+		setSingleLinkOutTo(toGraph(project), HAS_PROJECT);
+	}
+
+	@Override
+	public String getLaneKey() {
+		Project project = getProject();
+		if (project == null) {
+			return GLOBAL_LANE_KEY;
+		}
+		return project.getUuid();
+	}
+
+	/**
+	 * Return the path of the export file.
+	 * 
+	 * @return
+	 */
+	public String getPath() {
+		return getProperty(PATH_PROPERTY);
+	}
+
+	/**
+	 * Set the path of the export file.
+	 * 
+	 * @param path
+	 */
+	public void setPath(String path) {
+		setProperty(PATH_PROPERTY, path);
+	}
+
+	/**
+	 * Return the amount of operations which will be applied within a single transaction.
+	 * 
+	 * @return
+	 */
+	public int getBatchSize() {
+		Integer batchSize = getProperty(BATCH_SIZE_PROPERTY);
+		return batchSize == null ? ProjectImportHandler.DEFAULT_BATCH_SIZE : batchSize;
+	}
+
+	/**
+	 * Set the amount of operations which will be applied within a single transaction.
+	 * 
+	 * @param batchSize
+	 */
+	public void setBatchSize(int batchSize) {
+		setProperty(BATCH_SIZE_PROPERTY, batchSize);
+	}
+
+	/**
+	 * Return the uuid of the user which requested the import.
+	 * 
+	 * @return
+	 */
+	public String getUserUuid() {
+		return getProperty(USER_UUID_PROPERTY);
+	}
+
+	/**
+	 * Set the uuid of the user which requested the import. The user is only referenced by uuid to avoid contention on the user vertex.
+	 * 
+	 * @param userUuid
+	 */
+	public void setUserUuid(String userUuid) {
+		setProperty(USER_UUID_PROPERTY, userUuid);
+	}
+
+	@Override
+	protected Completable processTask() {
+		ProjectImportHandler handler = mesh().projectImportHandler();
+		Project project = db().tx(() -> getProject());
+		String path = db().tx(() -> getPath());
+		int batchSize = db().tx(() -> getBatchSize());
+		String userUuid = db().tx(() -> getUserUuid());
+		return handler.importNodes(project, userUuid, path, batchSize, count -> {
+			db().tx(() -> {
+				setCompletionCount(count);
+			});
+		}).doOnSuccess(warnings -> {
+			db().tx(() -> {
+				setWarnings(warnings);
+				setStopTimestamp();
+				setStatus(COMPLETED);
+			});
+			db().tx(() -> {
+				log.info("Node import job {" + getUuid() + "} for project {" + project.getName() + "} completed.");
+				createBatch().add(createEvent(PROJECT_IMPORT_FINISHED, COMPLETED, project.getName(), project.getUuid()))
+					.dispatch();
+			});
+		}).doOnError(error -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(FAILED);
+				setError(error);
+			});
+			db().tx(() -> {
+				log.info("Node import job {" + getUuid() + "} for project {" + project.getName() + "} failed.", error);
+				createBatch().add(createEvent(PROJECT_IMPORT_FINISHED, FAILED, project.getName(), project.getUuid()))
+					.dispatch();
+			});
+		}).ignoreElement();
+	}
+
+	private ProjectImportEventModel createEvent(MeshEvent event, JobStatus status, String name, String uuid) {
+		ProjectImportEventModel model = new ProjectImportEventModel();
+		model.setName(name);
+		model.setUuid(uuid);
+		model.setEvent(event);
+		model.setStatus(status);
+		return model;
+	}
+}
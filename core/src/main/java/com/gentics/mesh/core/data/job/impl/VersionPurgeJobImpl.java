@@ -57,6 +57,15 @@ public class VersionPurgeJobImpl extends JobImpl {
 		setSingleLinkOutTo(toGraph(project), HAS_PROJECT);
 	}
 
+	@Override
+	public String getLaneKey() {
+		Project project = getProject();
+		if (project == null) {
+			return GLOBAL_LANE_KEY;
+		}
+		return project.getUuid();
+	}
+
 	/**
 	 * Return the max age setting for the purge operation.
 	 * 
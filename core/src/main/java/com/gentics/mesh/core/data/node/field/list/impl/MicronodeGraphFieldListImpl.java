@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data.node.field.list.impl;
 
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ITEM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
@@ -125,6 +126,11 @@ public class MicronodeGraphFieldListImpl extends AbstractReferencingGraphFieldLi
 		return micronode;
 	}
 
+	@Override
+	public void addMicronode(Micronode micronode) {
+		addItem(String.valueOf(getSize() + 1), micronode);
+	}
+
 	@Override
 	public Single<Boolean> update(InternalActionContext ac, MicronodeFieldList list) {
 		// Transform the list of micronodes into a hashmap. This way we can lookup micronode fields faster
@@ -196,9 +202,11 @@ public class MicronodeGraphFieldListImpl extends AbstractReferencingGraphFieldLi
 					existing.remove(micronode.getUuid());
 					addItem(String.valueOf(counter++), micronode);
 				}
-				// Delete remaining items in order to prevent dangling micronodes
+				// Delete remaining items in order to prevent dangling micronodes. Micronodes which are still shared with other lists are kept.
 				existing.values().stream().forEach(micronode -> {
-					micronode.delete();
+					if (!micronode.in(HAS_ITEM).hasNext()) {
+						micronode.delete();
+					}
 				});
 				subscriber.onNext(true);
 				subscriber.onComplete();
@@ -211,7 +219,10 @@ public class MicronodeGraphFieldListImpl extends AbstractReferencingGraphFieldLi
 	@Override
 	public void delete(BulkActionContext bac) {
 		getList().stream().map(MicronodeGraphField::getMicronode).forEach(micronode -> {
-			micronode.delete(bac);
+			// Micronodes which are shared with other lists must be kept
+			if (micronode.in(HAS_ITEM).count() <= 1) {
+				micronode.delete(bac);
+			}
 		});
 		getElement().remove();
 	}
@@ -28,6 +28,7 @@ import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
 import static com.gentics.mesh.madl.field.FieldType.STRING;
 import static com.gentics.mesh.madl.field.FieldType.STRING_SET;
+import static com.gentics.mesh.madl.index.IndexType.NOTUNIQUE;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static com.gentics.mesh.madl.type.VertexTypeDefinition.vertexType;
 import static com.gentics.mesh.util.StreamUtil.toStream;
@@ -45,6 +46,7 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -57,6 +59,7 @@ import org.apache.commons.lang3.NotImplementedException;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.cache.NavigationTree;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.BranchParentEntry;
@@ -194,6 +197,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			.withField("uuid", STRING)
 			.withField(PROJECT_KEY_PROPERTY, STRING));
 
+		// Used to iterate over the nodes of a project in the order of their uuids. The range scan requires a SB-tree index.
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withType(NOTUNIQUE)
+			.withPostfix("project_uuid")
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING));
+
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("schema")
 			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING));
@@ -1030,16 +1040,19 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (!getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
 			throw error(BAD_REQUEST, "navigation_error_no_container");
 		}
-		String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), 0, tx.getBranch(ac, getProject()).getUuid(), forVersion(ac
-			.getVersioningParameters().getVersion()));
+		String branchUuid = tx.getBranch(ac, getProject()).getUuid();
+		ContainerType type = forVersion(ac.getVersioningParameters().getVersion());
+		int maxDepth = parameters.getMaxDepth();
+		NavigationTree tree = mesh().navigationCache().getTree(getUuid(), branchUuid, maxDepth, () -> loadNavigationTree(branchUuid, maxDepth));
+
+		String etagKey = buildNavigationEtagKey(ac, this, tree.getRoot(), maxDepth, 0, type);
 		String etag = ETag.hash(etagKey);
 		ac.setEtag(etag, true);
 		if (ac.matches(etag, true)) {
 			throw new NotModifiedException();
 		} else {
 			NavigationResponse response = new NavigationResponse();
-			return buildNavigationResponse(ac, this, parameters.getMaxDepth(), 0, response, response, tx.getBranch(ac, getProject()).getUuid(),
-				forVersion(ac.getVersioningParameters().getVersion()));
+			return buildNavigationResponse(ac, this, tree.getRoot(), maxDepth, 0, response, response, type);
 		}
 	}
 
@@ -1057,38 +1070,114 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		return response;
 	}
 
+	/**
+	 * Load the structure of the navigation. The tree contains all children up to the maximum depth regardless of the permissions.
+	 *
+	 * @param branchUuid
+	 *            Branch uuid used to extract selected tree structure
+	 * @param maxDepth
+	 *            Maximum depth of navigation
+	 * @return
+	 */
+	private NavigationTree loadNavigationTree(String branchUuid, int maxDepth) {
+		Set<String> nodeUuids = new HashSet<>();
+		NavigationTree.Element root = loadNavigationElement(this, true, maxDepth, 0, branchUuid, nodeUuids);
+		return new NavigationTree(branchUuid, root, nodeUuids);
+	}
+
+	/**
+	 * Recursively load the navigation tree element for the node.
+	 *
+	 * @param node
+	 *            Current node
+	 * @param container
+	 *            Whether the node is a container
+	 * @param maxDepth
+	 *            Maximum depth of navigation
+	 * @param level
+	 *            Current level of recursion
+	 * @param branchUuid
+	 *            Branch uuid used to extract selected tree structure
+	 * @param nodeUuids
+	 *            Set which collects the uuids of all loaded nodes
+	 * @return
+	 */
+	private NavigationTree.Element loadNavigationElement(Node node, boolean container, int maxDepth, int level, String branchUuid,
+		Set<String> nodeUuids) {
+		nodeUuids.add(node.getUuid());
+		List<NavigationTree.Element> children = new ArrayList<>();
+		if (level < maxDepth) {
+			for (Node child : node.getChildren(branchUuid)) {
+				// Children which are no containers will be placed on the level of the parent
+				boolean childContainer = child.getSchemaContainer().getLatestVersion().getSchema().getContainer();
+				children.add(loadNavigationElement(child, childContainer, maxDepth, childContainer ? level + 1 : level, branchUuid, nodeUuids));
+			}
+		}
+		return new NavigationTree.Element(node.getId(), node.getUuid(), container, children);
+	}
+
+	/**
+	 * Return the children of the navigation tree element which are visible to the user, together with their nodes. Children whose nodes have been deleted
+	 * since the tree was cached are skipped. The tree itself will be invalidated once the delete event has been received.
+	 *
+	 * @param ac
+	 * @param element
+	 * @param type
+	 * @return
+	 */
+	private Map<NavigationTree.Element, NodeImpl> getVisibleChildren(InternalActionContext ac, NavigationTree.Element element, ContainerType type) {
+		InternalPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+		UserDaoWrapper userDao = Tx.get().userDao();
+		HibUser user = ac.getUser();
+		Map<NavigationTree.Element, NodeImpl> children = new LinkedHashMap<>();
+		for (NavigationTree.Element child : element.getChildren()) {
+			NodeImpl childNode = getGraph().getFramedVertexExplicit(NodeImpl.class, child.getId());
+			if (childNode == null) {
+				if (log.isDebugEnabled()) {
+					log.debug("Node {" + child.getUuid() + "} of the cached navigation was not found. It has probably been deleted.");
+				}
+				continue;
+			}
+			if (userDao.hasPermissionForId(user, child.getId(), perm)) {
+				children.put(child, childNode);
+			}
+		}
+		return children;
+	}
+
 	/**
 	 * Generate the etag key for the requested navigation.
 	 *
 	 * @param ac
 	 * @param node
 	 *            Current node to start building the navigation
+	 * @param element
+	 *            Navigation tree element of the current node
 	 * @param maxDepth
 	 *            Maximum depth of navigation
 	 * @param level
 	 *            Current level of recursion
-	 * @param branchUuid
-	 *            Branch uuid used to extract selected tree structure
 	 * @param type
 	 * @return
 	 */
-	private String buildNavigationEtagKey(InternalActionContext ac, NodeImpl node, int maxDepth, int level, String branchUuid, ContainerType type) {
+	private String buildNavigationEtagKey(InternalActionContext ac, NodeImpl node, NavigationTree.Element element, int maxDepth, int level,
+		ContainerType type) {
 		NavigationParametersImpl parameters = new NavigationParametersImpl(ac);
 		StringBuilder builder = new StringBuilder();
 		builder.append(node.getETag(ac));
 
-		List<Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type).collect(Collectors.toList());
+		Map<NavigationTree.Element, NodeImpl> children = getVisibleChildren(ac, element, type);
 
 		// Abort recursion when we reach the max level or when no more children
 		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
+		if (level == maxDepth || children.isEmpty()) {
 			return builder.toString();
 		}
-		for (Node child : nodes) {
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				builder.append(buildNavigationEtagKey(ac, (NodeImpl) child, maxDepth, level + 1, branchUuid, type));
+		for (Map.Entry<NavigationTree.Element, NodeImpl> child : children.entrySet()) {
+			if (child.getKey().isContainer()) {
+				builder.append(buildNavigationEtagKey(ac, child.getValue(), child.getKey(), maxDepth, level + 1, type));
 			} else if (parameters.isIncludeAll()) {
-				builder.append(buildNavigationEtagKey(ac, (NodeImpl) child, maxDepth, level, branchUuid, type));
+				builder.append(buildNavigationEtagKey(ac, child.getValue(), child.getKey(), maxDepth, level, type));
 			}
 		}
 		return builder.toString();
@@ -1101,6 +1190,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 *            Action context
 	 * @param node
 	 *            Current node that should be handled in combination with the given navigation element
+	 * @param element
+	 *            Navigation tree element of the current node
 	 * @param maxDepth
 	 *            Maximum depth for the navigation
 	 * @param level
@@ -1109,15 +1200,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 *            Current navigation response
 	 * @param currentElement
 	 *            Current navigation element for the given level
-	 * @param branchUuid
-	 *            Branch uuid to be used for loading children of nodes
 	 * @param type
 	 *            container type to be used for transformation
 	 * @return
 	 */
-	private NavigationResponse buildNavigationResponse(InternalActionContext ac, NodeImpl node, int maxDepth, int level,
-		NavigationResponse navigation, NavigationElement currentElement, String branchUuid, ContainerType type) {
-		List<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type).collect(Collectors.toList());
+	private NavigationResponse buildNavigationResponse(InternalActionContext ac, NodeImpl node, NavigationTree.Element element, int maxDepth,
+		int level, NavigationResponse navigation, NavigationElement currentElement, ContainerType type) {
+		Map<NavigationTree.Element, NodeImpl> children = getVisibleChildren(ac, element, type);
 		List<NavigationResponse> responses = new ArrayList<>();
 
 		NodeResponse response = node.transformToRestSync(ac, 0);
@@ -1127,22 +1216,21 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Abort recursion when we reach the max level or when no more children
 		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
+		if (level == maxDepth || children.isEmpty()) {
 			return responses.get(responses.size() - 1);
 		}
 		NavigationParameters parameters = new NavigationParametersImpl(ac);
 		// Add children
-		for (Node child : nodes) {
-			// TODO assure that the schema version is correct?
+		for (Map.Entry<NavigationTree.Element, NodeImpl> child : children.entrySet()) {
 			// TODO also allow navigations over containers
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
+			if (child.getKey().isContainer()) {
 				NavigationElement childElement = new NavigationElement();
 				// We found at least one child so lets create the array
 				if (currentElement.getChildren() == null) {
 					currentElement.setChildren(new ArrayList<>());
 				}
 				currentElement.getChildren().add(childElement);
-				responses.add(buildNavigationResponse(ac, (NodeImpl) child, maxDepth, level + 1, navigation, childElement, branchUuid, type));
+				responses.add(buildNavigationResponse(ac, child.getValue(), child.getKey(), maxDepth, level + 1, navigation, childElement, type));
 			} else if (parameters.isIncludeAll()) {
 				// We found at least one child so lets create the array
 				if (currentElement.getChildren() == null) {
@@ -1150,7 +1238,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				}
 				NavigationElement childElement = new NavigationElement();
 				currentElement.getChildren().add(childElement);
-				responses.add(buildNavigationResponse(ac, (NodeImpl) child, maxDepth, level, navigation, childElement, branchUuid, type));
+				responses.add(buildNavigationResponse(ac, child.getValue(), child.getKey(), maxDepth, level, navigation, childElement, type));
 			}
 		}
 		return responses.get(responses.size() - 1);
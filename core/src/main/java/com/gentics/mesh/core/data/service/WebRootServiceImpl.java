@@ -8,6 +8,7 @@ import java.util.Stack;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.cache.EpochStamp;
 import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
@@ -61,6 +62,8 @@ public class WebRootServiceImpl implements WebRootService {
 		if (cachedPath != null) {
 			return cachedPath;
 		}
+		// Capture the epochs before resolving so that concurrent changes invalidate the stored path
+		EpochStamp stamp = pathStore.stamp(project, branch);
 
 		// First try to locate the content via the url path index (niceurl)
 
@@ -70,7 +73,7 @@ public class WebRootServiceImpl implements WebRootService {
 			nodePath.setTargetPath(path);
 			nodePath.setInitialStack(new Stack<>());
 			nodePath.setPrefixMismatch(true);
-			pathStore.store(project, branch, type, path, nodePath);
+			pathStore.store(project, branch, type, path, nodePath, stamp);
 			return nodePath;
 		}
 
@@ -78,7 +81,7 @@ public class WebRootServiceImpl implements WebRootService {
 		NodeGraphFieldContainer containerByWebUrlPath = findByUrlFieldPath(branch.getUuid(), strippedPath, type);
 		if (containerByWebUrlPath != null) {
 			Path resolvedPath = containerByWebUrlPath.getPath(ac);
-			pathStore.store(project, branch, type, path, resolvedPath);
+			pathStore.store(project, branch, type, path, resolvedPath, stamp);
 			return resolvedPath;
 		}
 
@@ -96,7 +99,7 @@ public class WebRootServiceImpl implements WebRootService {
 			nodePath.addSegment(new PathSegmentImpl(container, null, null, "/"));
 			stack.push("/");
 			nodePath.setInitialStack(stack);
-			pathStore.store(project, branch, type, path, nodePath);
+			pathStore.store(project, branch, type, path, nodePath, stamp);
 			return nodePath;
 		}
 
@@ -115,7 +118,7 @@ public class WebRootServiceImpl implements WebRootService {
 
 		// Traverse the graph and buildup the result path while doing so
 		Path resolvedPath = nodeDao.resolvePath(baseNode, tx.getBranch(ac).getUuid(), type, nodePath, stack);
-		pathStore.store(project, branch, type, path, nodePath);
+		pathStore.store(project, branch, type, path, nodePath, stamp);
 		return resolvedPath;
 	}
 
@@ -284,7 +284,8 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		endpoint.setMutating(false);
 		endpoint.addQueryParameters(BackupParametersImpl.class);
 		endpoint.description(
-			"Invoke a graph database backup and dump the data to the configured backup location. Note that this operation will block all current operation.");
+			"Invoke a graph database backup and dump the data to the configured backup location. Note that this operation will block all current operation. "
+				+ "Incremental backups will be run as a job which does not block write operations.");
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Incremental backup was invoked.");
 		endpoint.events(GRAPH_BACKUP_START, GRAPH_BACKUP_FINISHED);
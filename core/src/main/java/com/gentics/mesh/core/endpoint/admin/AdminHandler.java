@@ -35,6 +35,7 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
 import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigRequest;
 import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorConfig;
@@ -140,6 +141,18 @@ public class AdminHandler extends AbstractHandler {
 					throw error(INTERNAL_SERVER_ERROR, "backup_consistency_check_failed", String.valueOf(count));
 				}
 			}
+			if (params.isIncremental()) {
+				// The incremental backup does not block write operations and is thus run in the background
+				if (options.getStorageOptions().getDirectory() == null) {
+					throw error(SERVICE_UNAVAILABLE, "backup_error_not_supported_in_memory_mode");
+				}
+				HibUser user = ac.getUser();
+				db.tx(() -> {
+					boot.jobRoot().enqueueBackup(user);
+				});
+				MeshEvent.triggerJobWorker(boot.mesh());
+				return message(ac, "backup_enqueued");
+			}
 			backup();
 			return message(ac, "backup_finished");
 		}, model -> ac.send(model, OK));
@@ -205,15 +218,25 @@ public class AdminHandler extends AbstractHandler {
 		// Find the file which was last modified
 		File latestFile = Arrays.asList(backupDir.listFiles()).stream().filter(file -> file.getName().endsWith(".zip"))
 			.sorted(comparing(File::lastModified)).reduce((first, second) -> second).orElseGet(() -> null);
+		// The incremental backups will be restored if the latest incremental backup is more recent than the latest full backup
+		File incrementalDir = new File(backupDir, Database.INCREMENTAL_BACKUP_DIRECTORY);
+		File[] incrementalFiles = incrementalDir.listFiles();
+		if (incrementalFiles != null && incrementalFiles.length > 0) {
+			long lastIncremental = Arrays.stream(incrementalFiles).mapToLong(File::lastModified).max().getAsLong();
+			if (latestFile == null || lastIncremental > latestFile.lastModified()) {
+				latestFile = incrementalDir;
+			}
+		}
 		if (latestFile == null) {
 			throw error(INTERNAL_SERVER_ERROR, "error_backup", backupDir.getAbsolutePath());
 		}
+		String restoreFile = latestFile.getAbsolutePath();
 		MeshStatus oldStatus = mesh.getStatus();
 		Completable.fromAction(() -> {
 			mesh.setStatus(MeshStatus.RESTORE);
 			vertx.eventBus().publish(GRAPH_RESTORE_START.address, null);
 			db.stop();
-			db.restoreGraph(latestFile.getAbsolutePath());
+			db.restoreGraph(restoreFile);
 			// TODO add changelog execution
 			db.setupConnectionPool();
 			boot.globalCacheClear();
@@ -0,0 +1,156 @@
+package com.gentics.mesh.core.endpoint.eventbus;
+
+import static com.gentics.mesh.core.rest.MeshEvent.EVENT_FEED;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * The event feed records all public events in a local {@link EventFeedLog} and republishes them with a sequence number and a resume token on the
+ * {@link MeshEvent#EVENT_FEED} address. Clients which reconnect can pass the token of the last received feed message in order to receive the events which
+ * they missed.
+ *
+ * The feed is local to the instance. Tokens of a different instance will not be accepted. Events which arrive while too many events are waiting to be
+ * appended will be dropped from the feed.
+ */
+@Singleton
+public class EventFeed {
+
+	private static final Logger log = LoggerFactory.getLogger(EventFeed.class);
+
+	/**
+	 * Maximum amount of events which wait to be appended to the log. Further events will be dropped.
+	 */
+	static final int MAX_PENDING_EVENTS = 10_000;
+
+	private final Vertx vertx;
+
+	private final MeshOptions options;
+
+	private final List<MessageConsumer<Object>> consumers = new ArrayList<>();
+
+	private EventFeedLog feedLog;
+
+	private ExecutorService executor;
+
+	private final AtomicLong droppedEvents = new AtomicLong();
+
+	@Inject
+	public EventFeed(Vertx vertx, MeshOptions options) {
+		this.vertx = vertx;
+		this.options = options;
+	}
+
+	/**
+	 * Open the log and start recording the events. The feed will not be started if the retained amount of entries is set to 0.
+	 */
+	public synchronized void start() {
+		if (feedLog != null || options.getEventFeedMaxEntries() == 0) {
+			return;
+		}
+		try {
+			feedLog = new EventFeedLog(new File(options.getEventFeedDirectory()), options.getEventFeedMaxEntries());
+		} catch (IOException e) {
+			log.error("Could not open the event feed. The feed will be disabled.", e);
+			return;
+		}
+		// Entries are appended by a single thread in order to keep the order of the sequence numbers and the published feed messages consistent
+		// The queue is bounded so that bursts of events (e.g. during a migration) can't exhaust the heap when the log can't keep up
+		executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(MAX_PENDING_EVENTS),
+			r -> new Thread(r, "mesh-event-feed"), (task, pool) -> onDrop());
+		for (MeshEvent event : MeshEvent.publicEvents()) {
+			if (event == EVENT_FEED) {
+				continue;
+			}
+			String address = event.address;
+			MessageConsumer<Object> consumer = vertx.eventBus().consumer(address, message -> {
+				Object body = message.body();
+				executor.execute(() -> append(address, body));
+			});
+			consumers.add(consumer);
+		}
+	}
+
+	/**
+	 * Handle an event which could not be queued. The warning is only logged for the first dropped event and then for every further thousandth event.
+	 */
+	private void onDrop() {
+		long dropped = droppedEvents.incrementAndGet();
+		if (dropped % 1000 == 1) {
+			log.warn("The event feed can't keep up with the events. {" + dropped + "} events have been dropped from the feed so far.");
+		}
+	}
+
+	private void append(String address, Object body) {
+		try {
+			JsonObject entry = feedLog.append(address, body);
+			vertx.eventBus().publish(EVENT_FEED.address, entry);
+		} catch (Exception e) {
+			log.error("Could not append event {" + address + "} to the event feed", e);
+		}
+	}
+
+	/**
+	 * Check whether the feed has been started.
+	 *
+	 * @return
+	 */
+	public synchronized boolean isEnabled() {
+		return feedLog != null;
+	}
+
+	/**
+	 * Return the log of the feed.
+	 *
+	 * @return Log or null if the feed has not been started
+	 */
+	public synchronized EventFeedLog getLog() {
+		return feedLog;
+	}
+
+	/**
+	 * Stop recording events and close the log.
+	 */
+	public synchronized void close() {
+		for (MessageConsumer<Object> consumer : consumers) {
+			consumer.unregister();
+		}
+		consumers.clear();
+		if (executor != null) {
+			executor.shutdown();
+			try {
+				executor.awaitTermination(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			executor = null;
+		}
+		if (feedLog != null) {
+			try {
+				feedLog.close();
+			} catch (IOException e) {
+				log.error("Could not close the event feed", e);
+			}
+			feedLog = null;
+		}
+	}
+}
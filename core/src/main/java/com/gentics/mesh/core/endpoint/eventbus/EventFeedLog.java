@@ -0,0 +1,332 @@
+package com.gentics.mesh.core.endpoint.eventbus;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.apache.commons.io.input.BoundedInputStream;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Append-only log of the event feed. The entries are written as JSON lines into segment files. Each segment is named by the sequence number of its first
+ * entry. The oldest segments will be deleted once the log contains more than the configured amount of entries.
+ *
+ * Resume tokens have the format <code>feedId:seq</code>. The feed id is generated when the log is created and ensures that tokens of a different log (e.g.
+ * of a different instance or of a deleted log) will not be accepted.
+ */
+public class EventFeedLog implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(EventFeedLog.class);
+
+	private static final String SEGMENT_SUFFIX = ".jsonl";
+
+	private static final String FEED_ID_FILE = "feed.id";
+
+	private static final int SEGMENT_COUNT = 10;
+
+	private final File directory;
+
+	private final int segmentSize;
+
+	private final String feedId;
+
+	private long lastSeq;
+
+	private File currentSegment;
+
+	private int currentSegmentEntries;
+
+	private Writer writer;
+
+	/**
+	 * Open the log in the given directory. Existing segments will be used to recover the last sequence number.
+	 *
+	 * @param directory
+	 * @param maxEntries
+	 *            Amount of entries which will be retained
+	 * @throws IOException
+	 */
+	public EventFeedLog(File directory, int maxEntries) throws IOException {
+		this.directory = directory;
+		this.segmentSize = Math.max(1, (maxEntries + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+		if (!directory.exists() && !directory.mkdirs()) {
+			throw new IOException("Could not create event feed directory {" + directory.getAbsolutePath() + "}");
+		}
+		this.feedId = loadFeedId();
+
+		List<File> segments = segments();
+		if (!segments.isEmpty()) {
+			currentSegment = segments.get(segments.size() - 1);
+			truncatePartialLine(currentSegment);
+			lastSeq = firstSeqOf(currentSegment) - 1;
+			try (BufferedReader reader = Files.newBufferedReader(currentSegment.toPath(), UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					JsonObject entry = parse(line);
+					if (entry != null) {
+						lastSeq = entry.getLong("seq");
+						currentSegmentEntries++;
+					}
+				}
+			}
+			writer = open(currentSegment);
+		}
+		log.info("Opened event feed {" + feedId + "} in {" + directory.getAbsolutePath() + "} at sequence {" + lastSeq + "}");
+	}
+
+	/**
+	 * Append a new entry to the log.
+	 *
+	 * @param address
+	 *            Address of the event
+	 * @param body
+	 *            Body of the event
+	 * @return The written entry
+	 * @throws IOException
+	 */
+	public synchronized JsonObject append(String address, Object body) throws IOException {
+		long seq = lastSeq + 1;
+		JsonObject entry = new JsonObject()
+			.put("seq", seq)
+			.put("timestamp", System.currentTimeMillis())
+			.put("address", address)
+			.put("body", body);
+
+		if (writer == null || currentSegmentEntries >= segmentSize) {
+			rollSegment(seq);
+		}
+		writer.write(entry.encode());
+		writer.write('\n');
+		writer.flush();
+		currentSegmentEntries++;
+		lastSeq = seq;
+		return entry.put("token", token(seq));
+	}
+
+	/**
+	 * Read the entries which were appended after the given sequence number.
+	 *
+	 * @param afterSeq
+	 * @param filter
+	 *            Filter for the entries
+	 * @return Matching entries in order of their sequence numbers
+	 * @throws IOException
+	 */
+	public List<JsonObject> read(long afterSeq, Predicate<JsonObject> filter) throws IOException {
+		// Only the list of segments and the written length of the current segment are determined while holding the lock. The segments are scanned
+		// afterwards so that appending entries is not blocked by reading clients.
+		List<File> segments;
+		File current;
+		long currentLength;
+		synchronized (this) {
+			segments = segments();
+			current = currentSegment;
+			currentLength = current == null ? 0 : current.length();
+		}
+		List<JsonObject> entries = new ArrayList<>();
+		for (int i = 0; i < segments.size(); i++) {
+			File segment = segments.get(i);
+			// Skip segments which only contain older entries
+			if (i + 1 < segments.size() && firstSeqOf(segments.get(i + 1)) <= afterSeq + 1) {
+				continue;
+			}
+			InputStream in;
+			try {
+				in = Files.newInputStream(segment.toPath());
+			} catch (NoSuchFileException e) {
+				// The segment has been deleted in the meantime. Its entries are no longer retained.
+				continue;
+			}
+			if (segment.equals(current)) {
+				// Entries which are appended while reading are ignored
+				in = new BoundedInputStream(in, currentLength);
+			}
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					JsonObject entry = parse(line);
+					if (entry != null && entry.getLong("seq") > afterSeq && filter.test(entry)) {
+						entries.add(entry.put("token", token(entry.getLong("seq"))));
+					}
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Parse the sequence number of the token.
+	 *
+	 * @param token
+	 * @return Sequence number or -1 if the token is invalid, was created by a different feed or if the entries after the token are no longer retained
+	 */
+	public synchronized long parseToken(String token) {
+		if (token == null) {
+			return -1;
+		}
+		int idx = token.lastIndexOf(':');
+		if (idx <= 0 || !feedId.equals(token.substring(0, idx))) {
+			return -1;
+		}
+		long seq;
+		try {
+			seq = Long.parseLong(token.substring(idx + 1));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+		if (seq < 0 || seq > lastSeq || seq + 1 < getFirstSeq()) {
+			return -1;
+		}
+		return seq;
+	}
+
+	/**
+	 * Return the token for the given sequence number.
+	 *
+	 * @param seq
+	 * @return
+	 */
+	public String token(long seq) {
+		return feedId + ":" + seq;
+	}
+
+	/**
+	 * Return the token which points to the latest entry.
+	 *
+	 * @return
+	 */
+	public synchronized String latestToken() {
+		return token(lastSeq);
+	}
+
+	/**
+	 * Return the sequence number of the oldest retained entry.
+	 *
+	 * @return
+	 */
+	public synchronized long getFirstSeq() {
+		List<File> segments = segments();
+		return segments.isEmpty() ? lastSeq + 1 : firstSeqOf(segments.get(0));
+	}
+
+	public synchronized long getLastSeq() {
+		return lastSeq;
+	}
+
+	public String getFeedId() {
+		return feedId;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (writer != null) {
+			writer.close();
+			writer = null;
+		}
+	}
+
+	private void rollSegment(long firstSeq) throws IOException {
+		if (writer != null) {
+			writer.close();
+		}
+		currentSegment = new File(directory, String.format("%020d", firstSeq) + SEGMENT_SUFFIX);
+		currentSegmentEntries = 0;
+		writer = open(currentSegment);
+
+		// Delete the oldest segments. The current segment is not yet full and thus does not count.
+		List<File> segments = segments();
+		for (int i = 0; i < segments.size() - SEGMENT_COUNT - 1; i++) {
+			File segment = segments.get(i);
+			if (!segment.delete()) {
+				log.warn("Could not delete event feed segment {" + segment.getAbsolutePath() + "}");
+			}
+		}
+	}
+
+	private List<File> segments() {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+		if (files == null) {
+			return new ArrayList<>();
+		}
+		List<File> segments = new ArrayList<>(Arrays.asList(files));
+		segments.sort(Comparator.comparing(File::getName));
+		return segments;
+	}
+
+	private String loadFeedId() throws IOException {
+		File idFile = new File(directory, FEED_ID_FILE);
+		if (idFile.exists()) {
+			return new String(Files.readAllBytes(idFile.toPath()), UTF_8).trim();
+		}
+		String id = UUID.randomUUID().toString().replace("-", "");
+		Files.write(idFile.toPath(), id.getBytes(UTF_8));
+		return id;
+	}
+
+	/**
+	 * Remove the incomplete last line which may have been left by a crashed instance. Otherwise the next entry would be appended to that line.
+	 *
+	 * @param segment
+	 * @throws IOException
+	 */
+	private static void truncatePartialLine(File segment) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+			long length = file.length();
+			long end = length;
+			while (end > 0) {
+				file.seek(end - 1);
+				if (file.read() == '\n') {
+					break;
+				}
+				end--;
+			}
+			if (end < length) {
+				log.warn("Removing incomplete entry at the end of event feed segment {" + segment.getAbsolutePath() + "}");
+				file.setLength(end);
+			}
+		}
+	}
+
+	private static Writer open(File segment) throws IOException {
+		return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(segment, true), UTF_8));
+	}
+
+	private static long firstSeqOf(File segment) {
+		String name = segment.getName();
+		return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	private static JsonObject parse(String line) {
+		if (line.isEmpty()) {
+			return null;
+		}
+		try {
+			return new JsonObject(line);
+		} catch (DecodeException e) {
+			// A partially written line of a crashed instance
+			log.warn("Skipping invalid event feed entry {" + line + "}");
+			return null;
+		}
+	}
+}
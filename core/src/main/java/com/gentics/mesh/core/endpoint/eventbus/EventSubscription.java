@@ -0,0 +1,127 @@
+package com.gentics.mesh.core.endpoint.eventbus;
+
+import static com.gentics.mesh.core.rest.MeshEvent.EVENT_FEED;
+
+import java.util.List;
+
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Subscription of a websocket to an eventbus address. The subscription holds the filter of the client and the state which is needed to keep the order of
+ * the events which are filtered asynchronously.
+ */
+public class EventSubscription {
+
+	private final String address;
+
+	private final EventSubscriptionFilter filter;
+
+	/**
+	 * Completes once all previously received events of the subscription have been handled.
+	 */
+	private Future<Void> tail = Future.succeededFuture();
+
+	/**
+	 * Sequence number of the last feed entry which was sent to the client.
+	 */
+	private long lastSeq = -1;
+
+	public EventSubscription(String address, EventSubscriptionFilter filter) {
+		this.address = address;
+		this.filter = filter;
+	}
+
+	public String getAddress() {
+		return address;
+	}
+
+	public EventSubscriptionFilter getFilter() {
+		return filter;
+	}
+
+	public Future<Void> getTail() {
+		return tail;
+	}
+
+	public void setTail(Future<Void> tail) {
+		this.tail = tail;
+	}
+
+	public long getLastSeq() {
+		return lastSeq;
+	}
+
+	public void setLastSeq(long lastSeq) {
+		this.lastSeq = lastSeq;
+	}
+
+	/**
+	 * Check whether the subtree criterion of the filter needs to be evaluated for the event. This is the case if the event does not belong to the root node
+	 * of the subtree itself.
+	 *
+	 * @param body
+	 * @return
+	 */
+	public boolean needsSubtreeCheck(Object body) {
+		if (filter == null || filter.getNodeUuid() == null || !(body instanceof JsonObject)) {
+			return false;
+		}
+		return !filter.getNodeUuid().equals(((JsonObject) body).getValue("uuid"));
+	}
+
+	/**
+	 * Check whether the event matches all criteria of the filter with the exception of the subtree criterion which requires a graph lookup.
+	 *
+	 * @param address
+	 *            Address of the event
+	 * @param body
+	 *            Body of the event
+	 * @return
+	 */
+	public boolean matches(String address, Object body) {
+		if (filter == null) {
+			return true;
+		}
+		// The addresses are only filtered for the event feed. Other subscriptions are already bound to a single address.
+		List<String> events = filter.getEvents();
+		if (EVENT_FEED.address.equals(this.address) && events != null && !events.isEmpty() && !events.contains(address)) {
+			return false;
+		}
+		if (filter.getProject() == null && filter.getBranchUuid() == null && filter.getSchemas() == null && filter.getNodeUuid() == null) {
+			return true;
+		}
+		if (!(body instanceof JsonObject)) {
+			return false;
+		}
+		JsonObject json = (JsonObject) body;
+
+		if (filter.getProject() != null) {
+			JsonObject project = object(json, "project");
+			if (project == null
+				|| !(filter.getProject().equals(project.getValue("name")) || filter.getProject().equals(project.getValue("uuid")))) {
+				return false;
+			}
+		}
+		if (filter.getBranchUuid() != null && !filter.getBranchUuid().equals(json.getValue("branchUuid"))) {
+			return false;
+		}
+		if (filter.getSchemas() != null) {
+			JsonObject schema = object(json, "schema");
+			if (schema == null || !filter.getSchemas().contains(schema.getValue("name"))) {
+				return false;
+			}
+		}
+		if (filter.getNodeUuid() != null && !(json.getValue("uuid") instanceof String)) {
+			return false;
+		}
+		return true;
+	}
+
+	private static JsonObject object(JsonObject json, String key) {
+		Object value = json.getValue(key);
+		return value instanceof JsonObject ? (JsonObject) value : null;
+	}
+}
@@ -0,0 +1,299 @@
+package com.gentics.mesh.core.endpoint.eventbus;
+
+import static com.gentics.mesh.core.rest.MeshEvent.EVENT_FEED;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.handler.sockjs.BridgeEvent;
+import io.vertx.ext.web.handler.sockjs.SockJSSocket;
+
+/**
+ * Handler for the events of the eventbus bridge. The handler only grants access to authenticated users and applies the subscription filters of the
+ * clients.
+ *
+ * Clients can pass the following headers when registering an address:
+ * <ul>
+ * <li><code>filter</code> - JSON of a {@link EventSubscriptionFilter}. Only matching events will be sent to the client.</li>
+ * <li><code>resumeToken</code> - Token of the last received {@link com.gentics.mesh.core.rest.MeshEvent#EVENT_FEED} message. The feed entries after the
+ * token will be sent before the live entries. A message with the <code>expired</code> flag and the latest token will be sent if the entries after the token
+ * are no longer available.</li>
+ * </ul>
+ */
+public class EventbusBridgeHandler implements Handler<BridgeEvent> {
+
+	private static final Logger log = LoggerFactory.getLogger(EventbusBridgeHandler.class);
+
+	public static final String FILTER_HEADER = "filter";
+
+	public static final String RESUME_TOKEN_HEADER = "resumeToken";
+
+	private final Vertx vertx;
+
+	private final Database db;
+
+	private final EventFeed eventFeed;
+
+	private final Map<SockJSSocket, Map<String, EventSubscription>> subscriptions = new ConcurrentHashMap<>();
+
+	public EventbusBridgeHandler(Vertx vertx, Database db, EventFeed eventFeed) {
+		this.vertx = vertx;
+		this.db = db;
+		this.eventFeed = eventFeed;
+	}
+
+	@Override
+	public void handle(BridgeEvent event) {
+		SockJSSocket socket = event.socket();
+		switch (event.type()) {
+		case SOCKET_CREATED:
+			// TODO maybe it would be useful to send a reply to the user.
+			// This way the user knows when mesh is ready to relay events.
+			// Use REGISTER for those cases.
+			log.debug("A websocket was created");
+			break;
+		case SOCKET_CLOSED:
+			subscriptions.remove(socket);
+			break;
+		default:
+			break;
+		}
+
+		// Only grant access to authenticated users
+		User user = socket.webUser();
+		boolean isAuthenticated = user != null;
+		if (log.isDebugEnabled()) {
+			log.debug("Eventbridge event {" + event.type() + "}. User was authenticated: " + isAuthenticated);
+		}
+		if (!isAuthenticated) {
+			event.complete(false);
+			return;
+		}
+
+		switch (event.type()) {
+		case REGISTER:
+			register(event);
+			break;
+		case UNREGISTER:
+			Map<String, EventSubscription> socketSubscriptions = subscriptions.get(socket);
+			if (socketSubscriptions != null) {
+				socketSubscriptions.remove(event.getRawMessage().getString("address"));
+			}
+			event.complete(true);
+			break;
+		case RECEIVE:
+			receive(event);
+			break;
+		default:
+			event.complete(true);
+		}
+	}
+
+	private void register(BridgeEvent event) {
+		JsonObject message = event.getRawMessage();
+		String address = message.getString("address");
+		JsonObject headers = message.getValue("headers") instanceof JsonObject ? message.getJsonObject("headers") : null;
+		EventSubscriptionFilter filter = null;
+		String resumeToken = null;
+		if (headers != null) {
+			Object filterHeader = headers.getValue(FILTER_HEADER);
+			if (filterHeader != null) {
+				String filterJson = filterHeader instanceof JsonObject ? ((JsonObject) filterHeader).encode() : filterHeader.toString();
+				try {
+					filter = JsonUtil.readValue(filterJson, EventSubscriptionFilter.class);
+				} catch (RuntimeException e) {
+					log.warn("Rejecting registration for {" + address + "} since the filter {" + filterJson + "} is invalid", e);
+					event.complete(false);
+					return;
+				}
+			}
+			Object tokenHeader = headers.getValue(RESUME_TOKEN_HEADER);
+			resumeToken = tokenHeader == null ? null : tokenHeader.toString();
+		}
+
+		SockJSSocket socket = event.socket();
+		EventSubscription subscription = new EventSubscription(address, filter);
+		subscriptions.computeIfAbsent(socket, s -> new ConcurrentHashMap<>()).put(address, subscription);
+		event.complete(true);
+
+		if (resumeToken != null && EVENT_FEED.address.equals(address) && eventFeed != null && eventFeed.isEnabled()) {
+			replay(socket, subscription, resumeToken);
+		}
+	}
+
+	/**
+	 * Send the feed entries after the token to the socket. The live feed entries which are received while the replay is running will be delayed until the
+	 * replay has finished and skipped if they were already replayed.
+	 */
+	private void replay(SockJSSocket socket, EventSubscription subscription, String resumeToken) {
+		EventFeedLog feedLog = eventFeed.getLog();
+		subscription.setTail(subscription.getTail().compose(v -> {
+			Promise<Void> promise = Promise.promise();
+			vertx.<List<JsonObject>>executeBlocking(bh -> {
+				long seq = feedLog.parseToken(resumeToken);
+				if (seq < 0) {
+					bh.complete(null);
+					return;
+				}
+				try {
+					bh.complete(feedLog.read(seq, entry -> matchesSync(subscription, entry.getString("address"), entry.getValue("body"))));
+				} catch (Exception e) {
+					bh.fail(e);
+				}
+			}, false, rh -> {
+				if (rh.failed()) {
+					log.error("Could not replay the event feed after token {" + resumeToken + "}", rh.cause());
+				} else if (rh.result() == null) {
+					log.debug("The entries after the resume token {" + resumeToken + "} are no longer available");
+					write(socket, new JsonObject().put("expired", true).put("token", feedLog.latestToken()));
+				} else {
+					for (JsonObject entry : rh.result()) {
+						write(socket, entry);
+						subscription.setLastSeq(entry.getLong("seq"));
+					}
+				}
+				promise.complete();
+			});
+			return promise.future();
+		}));
+	}
+
+	private void receive(BridgeEvent event) {
+		JsonObject message = event.getRawMessage();
+		String address = message.getString("address");
+		Map<String, EventSubscription> socketSubscriptions = subscriptions.get(event.socket());
+		EventSubscription subscription = socketSubscriptions == null ? null : socketSubscriptions.get(address);
+		if (subscription == null) {
+			event.complete(true);
+			return;
+		}
+
+		boolean feed = EVENT_FEED.address.equals(address);
+		String eventAddress = address;
+		Object eventBody = message.getValue("body");
+		long seq = -1;
+		if (feed) {
+			// Feed entries of other instances are published via the clustered eventbus, but the tokens are only valid for the local feed
+			JsonObject entry = eventBody instanceof JsonObject ? (JsonObject) eventBody : null;
+			if (entry == null || eventFeed == null || !eventFeed.isEnabled()
+				|| !entry.getString("token", "").startsWith(eventFeed.getLog().getFeedId() + ":")) {
+				event.complete(false);
+				return;
+			}
+			eventAddress = entry.getString("address");
+			eventBody = entry.getValue("body");
+			seq = entry.getLong("seq");
+		}
+
+		if (!subscription.matches(eventAddress, eventBody)) {
+			event.complete(false);
+			return;
+		}
+		boolean subtreeCheck = subscription.needsSubtreeCheck(eventBody);
+		if (!subtreeCheck && !feed && subscription.getTail().isComplete()) {
+			event.complete(true);
+			return;
+		}
+
+		// Events are completed in the order in which they were received
+		Object body = eventBody;
+		long entrySeq = seq;
+		subscription.setTail(subscription.getTail().compose(v -> {
+			if (feed && entrySeq <= subscription.getLastSeq()) {
+				event.complete(false);
+				return Future.succeededFuture();
+			}
+			if (!subtreeCheck) {
+				subscription.setLastSeq(entrySeq);
+				event.complete(true);
+				return Future.succeededFuture();
+			}
+			Promise<Void> promise = Promise.promise();
+			vertx.<Boolean>executeBlocking(bh -> {
+				bh.complete(isInSubtree(subscription.getFilter().getNodeUuid(), (JsonObject) body));
+			}, false, rh -> {
+				if (rh.failed()) {
+					log.error("Could not check the subtree of event {" + address + "}", rh.cause());
+				}
+				boolean matches = rh.succeeded() && rh.result();
+				if (matches && feed) {
+					subscription.setLastSeq(entrySeq);
+				}
+				event.complete(matches);
+				promise.complete();
+			});
+			return promise.future();
+		}));
+	}
+
+	/**
+	 * Check whether the event matches the subscription. This method will access the graph and must thus not be invoked from the event loop.
+	 */
+	private boolean matchesSync(EventSubscription subscription, String address, Object body) {
+		if (!subscription.matches(address, body)) {
+			return false;
+		}
+		return !subscription.needsSubtreeCheck(body) || isInSubtree(subscription.getFilter().getNodeUuid(), (JsonObject) body);
+	}
+
+	/**
+	 * Check whether the node of the event is located below the node with the given uuid.
+	 */
+	private boolean isInSubtree(String rootUuid, JsonObject body) {
+		Object projectValue = body.getValue("project");
+		String projectUuid = projectValue instanceof JsonObject ? ((JsonObject) projectValue).getString("uuid") : null;
+		String nodeUuid = body.getString("uuid");
+		if (projectUuid == null || nodeUuid == null) {
+			return false;
+		}
+		return db.tx(tx -> {
+			HibProject project = tx.projectDao().findByUuid(projectUuid);
+			if (project == null) {
+				return false;
+			}
+			NodeDaoWrapper nodeDao = tx.nodeDao();
+			// Deleted nodes can no longer be located
+			HibNode node = nodeDao.findByUuid(project, nodeUuid);
+			if (node == null) {
+				return false;
+			}
+			String branchUuid = body.getString("branchUuid");
+			if (branchUuid == null) {
+				branchUuid = project.getLatestBranch().getUuid();
+			}
+			HibNode parent = nodeDao.getParentNode(node, branchUuid);
+			while (parent != null) {
+				if (rootUuid.equals(parent.getUuid())) {
+					return true;
+				}
+				parent = nodeDao.getParentNode(parent, branchUuid);
+			}
+			return false;
+		});
+	}
+
+	private static void write(SockJSSocket socket, JsonObject body) {
+		JsonObject envelope = new JsonObject()
+			.put("type", "rec")
+			.put("address", EVENT_FEED.address)
+			.put("body", body);
+		socket.write(Buffer.buffer(envelope.encode()));
+	}
+}
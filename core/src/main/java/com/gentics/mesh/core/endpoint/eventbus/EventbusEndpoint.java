@@ -4,14 +4,11 @@ import javax.inject.Inject;
 
 import com.gentics.mesh.auth.MeshAuthChainImpl;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
 
 import io.vertx.core.Vertx;
-import io.vertx.core.logging.Logger;
-import io.vertx.core.logging.LoggerFactory;
-import io.vertx.ext.auth.User;
-import io.vertx.ext.bridge.BridgeEventType;
 import io.vertx.ext.bridge.PermittedOptions;
 import io.vertx.ext.web.handler.sockjs.BridgeOptions;
 import io.vertx.ext.web.handler.sockjs.SockJSHandler;
@@ -22,19 +19,25 @@ import io.vertx.ext.web.handler.sockjs.SockJSHandlerOptions;
  */
 public class EventbusEndpoint extends AbstractInternalEndpoint {
 
-	private static final Logger log = LoggerFactory.getLogger(EventbusEndpoint.class);
-
 	private final Vertx vertx;
 
+	private final Database db;
+
+	private final EventFeed eventFeed;
+
 	public EventbusEndpoint() {
 		super("eventbus", null);
 		this.vertx = null;
+		this.db = null;
+		this.eventFeed = null;
 	}
 
 	@Inject
-	public EventbusEndpoint(Vertx vertx, MeshAuthChainImpl chain) {
+	public EventbusEndpoint(Vertx vertx, MeshAuthChainImpl chain, Database db, EventFeed eventFeed) {
 		super("eventbus", chain);
 		this.vertx = vertx;
+		this.db = db;
+		this.eventFeed = eventFeed;
 	}
 
 	public String getDescription() {
@@ -61,21 +64,7 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 			bridgeOptions.addInboundPermitted(new PermittedOptions().setAddressRegex("custom.*"));
 			bridgeOptions.addOutboundPermitted(new PermittedOptions().setAddressRegex("custom.*"));
 
-			handler.bridge(bridgeOptions, event -> {
-				if (log.isDebugEnabled()) {
-					if (event.type() == BridgeEventType.SOCKET_CREATED) {
-						// TODO maybe it would be useful to send a reply to the user.
-						// This way the user knows when mesh is ready to relay events.
-						// Use REGISTER for those cases.
-						log.debug("A websocket was created");
-					}
-				}
-				// Only grant access to authenticated users
-				User user = event.socket().webUser();
-				boolean isAuthenticated = user != null;
-				log.debug("Eventbridge creation. User was authenticated: " + isAuthenticated);
-				event.complete(isAuthenticated);
-			});
+			handler.bridge(bridgeOptions, new EventbusBridgeHandler(vertx, db, eventFeed));
 		}
 
 		secureAll();
@@ -22,10 +22,14 @@ import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.ETag;
 import com.gentics.mesh.util.EncodeUtil;
 import com.gentics.mesh.util.MimeTypeUtils;
+import com.gentics.mesh.util.Tuple;
 
+import io.reactivex.Single;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.reactivex.core.Vertx;
 
@@ -35,6 +39,8 @@ import io.vertx.reactivex.core.Vertx;
 @Singleton
 public class BinaryFieldResponseHandler {
 
+	private static final Logger log = LoggerFactory.getLogger(BinaryFieldResponseHandler.class);
+
 	private final ImageManipulator imageManipulator;
 
 	private final BinaryStorage storage;
@@ -125,7 +131,6 @@ public class BinaryFieldResponseHandler {
 	}
 
 	private void resizeAndRespond(RoutingContext rc, BinaryGraphField binaryField, ImageManipulationParameters imageParams) {
-		HttpServerResponse response = rc.response();
 		// We can maybe enhance the parameters using stored parameters.
 		if (!imageParams.hasFocalPoint()) {
 			FocalPoint fp = binaryField.getImageFocalPoint();
@@ -143,21 +148,79 @@ public class BinaryFieldResponseHandler {
 			imageParams.setWidth(originalWidth);
 		}
 		String fileName = binaryField.getFileName();
-		imageManipulator.handleResize(binaryField.getBinary(), imageParams)
-			.flatMap(cachedFilePath -> rxVertx.fileSystem().rxProps(cachedFilePath)
-				.doOnSuccess(props -> {
-					response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(props.size()));
-					response.putHeader(HttpHeaders.CONTENT_TYPE, MimeTypeUtils.getMimeTypeForFilename(cachedFilePath).orElse(DEFAULT_BINARY_MIME_TYPE));
-					response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
-					response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "binary");
-					// Set to IDENTITY to avoid gzip compression
-					response.putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
-
-					addContentDispositionHeader(response, fileName, "inline");
-
-					response.sendFile(cachedFilePath);
-				}))
-			.subscribe(ignore -> {}, rc::fail);
+		Single<String> resize = imageManipulator.handleResize(binaryField.getBinary(), imageParams);
+		resolveCacheFile(resize, true)
+			.subscribe(cacheFile -> sendCacheFile(rc, resize, fileName, cacheFile, true), rc::fail);
+	}
+
+	/**
+	 * Send the cache file of the resized image. The cache file of an indexed variant may have been evicted concurrently. The resize will be repeated once
+	 * in that case.
+	 *
+	 * @param rc
+	 * @param resize
+	 *            Resize operation which emits the path to the cache file
+	 * @param fileName
+	 *            Filename of the binary
+	 * @param cacheFile
+	 *            Path and size of the cache file
+	 * @param retry
+	 *            Whether the resize should be repeated if the cache file could not be sent
+	 */
+	private void sendCacheFile(RoutingContext rc, Single<String> resize, String fileName, Tuple<String, Long> cacheFile, boolean retry) {
+		HttpServerResponse response = rc.response();
+		String cachedFilePath = cacheFile.v1();
+		response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(cacheFile.v2()));
+		response.putHeader(HttpHeaders.CONTENT_TYPE, MimeTypeUtils.getMimeTypeForFilename(cachedFilePath).orElse(DEFAULT_BINARY_MIME_TYPE));
+		response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
+		response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "binary");
+		// Set to IDENTITY to avoid gzip compression
+		response.putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+
+		addContentDispositionHeader(response, fileName, "inline");
+
+		response.sendFile(cachedFilePath, rh -> {
+			if (rh.succeeded()) {
+				return;
+			}
+			if (retry && !response.headWritten()) {
+				log.warn("Could not send image cache file {" + cachedFilePath + "}. The image will be resized again.");
+				imageManipulator.invalidateCacheFile(cachedFilePath);
+				resolveCacheFile(resize, false)
+					.subscribe(retriedFile -> sendCacheFile(rc, resize, fileName, retriedFile, false), rc::fail);
+			} else {
+				rc.fail(rh.cause());
+			}
+		});
+	}
+
+	/**
+	 * Determine the size of the cache file of the resized image. The size of indexed variants is taken from the index of the image cache. The filesystem is
+	 * only checked if the variant is not indexed. The resize will be repeated once if the cache file could not be found.
+	 *
+	 * @param resize
+	 *            Resize operation which emits the path to the cache file
+	 * @param retry
+	 *            Whether the resize should be repeated if the cache file could not be found
+	 * @return Path and size of the cache file
+	 */
+	private Single<Tuple<String, Long>> resolveCacheFile(Single<String> resize, boolean retry) {
+		return resize.flatMap(cachedFilePath -> {
+			long size = imageManipulator.getCacheFileSize(cachedFilePath);
+			if (size >= 0) {
+				return Single.just(Tuple.tuple(cachedFilePath, size));
+			}
+			return rxVertx.fileSystem().rxProps(cachedFilePath)
+				.map(props -> Tuple.tuple(cachedFilePath, props.size()))
+				.onErrorResumeNext(err -> {
+					if (!retry) {
+						return Single.error(err);
+					}
+					log.warn("Could not find image cache file {" + cachedFilePath + "}. The image will be resized again.");
+					imageManipulator.invalidateCacheFile(cachedFilePath);
+					return resolveCacheFile(resize, false);
+				});
+		});
 	}
 
 	private void addContentDispositionHeader(HttpServerResponse response, String fileName, String type) {
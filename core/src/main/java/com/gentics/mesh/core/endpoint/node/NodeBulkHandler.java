@@ -0,0 +1,188 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.data.i18n.I18NUtil;
+import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.parsetools.RecordParser;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler for bulk node operations.
+ *
+ * The request body is a stream of NDJSON operations which is read while the operations are being processed. Each line contains a single
+ * {@link NodeOperation}.
+ *
+ * The operations will be applied in batches. Each batch is applied within a single transaction and the events of the batch are dispatched once the batch has
+ * been committed. The result of each operation is streamed back as NDJSON in the order of the operations.
+ */
+public class NodeBulkHandler extends AbstractHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeBulkHandler.class);
+
+	private final NodeOperationProcessor processor;
+
+	@Inject
+	public NodeBulkHandler(NodeOperationProcessor processor) {
+		this.processor = processor;
+	}
+
+	/**
+	 * Handle the bulk request. The request body must not have been consumed by a body handler. The request is expected to be paused and will be resumed once
+	 * the parser has been set up.
+	 *
+	 * @param rc
+	 */
+	public void handleBulk(RoutingContext rc) {
+		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+		int batchSize = ac.getBulkParameters().getBatchSize();
+		// Operations are always applied to the draft. Recursive publishing may commit intermediate safe points and is thus not supported.
+		ac.getVersioningParameters().setVersion("draft");
+		ac.getPublishParameters().setRecursive(false);
+
+		HttpServerResponse response = rc.response();
+		response.setChunked(true);
+		response.putHeader("Content-Type", APPLICATION_NDJSON);
+		response.setStatusCode(OK.code());
+
+		List<BulkOperation> pending = new ArrayList<>(batchSize);
+		int[] index = { 0 };
+		RecordParser parser = RecordParser.newDelimited("\n", rc.request());
+		parser.exceptionHandler(rc::fail);
+		parser.handler(line -> {
+			String json = line.toString();
+			if (isBlank(json)) {
+				return;
+			}
+			pending.add(new BulkOperation(rc, index[0]++, json));
+			if (pending.size() >= batchSize) {
+				parser.pause();
+				processBatch(rc, pending, parser::resume);
+			}
+		});
+		parser.endHandler(done -> processBatch(rc, pending, response::end));
+		rc.request().resume();
+	}
+
+	/**
+	 * Apply the pending operations in a worker thread and write the results to the response.
+	 *
+	 * @param rc
+	 * @param pending
+	 *            Operations which have been read. The list will be cleared.
+	 * @param next
+	 *            Action which will be invoked once the results have been written
+	 */
+	private void processBatch(RoutingContext rc, List<BulkOperation> pending, Runnable next) {
+		if (pending.isEmpty()) {
+			next.run();
+			return;
+		}
+		List<BulkOperation> operations = new ArrayList<>(pending);
+		pending.clear();
+		rc.vertx().<List<BulkOperation>>executeBlocking(bc -> {
+			processor.apply(operations, true);
+			bc.complete(operations);
+		}, false, rh -> {
+			HttpServerResponse response = rc.response();
+			if (rh.failed()) {
+				log.error("Error while applying bulk operations", rh.cause());
+				// The failure can only be returned as long as no results have been written
+				if (response.headWritten()) {
+					response.end();
+				} else {
+					rc.fail(rh.cause());
+				}
+				return;
+			}
+			Buffer buffer = Buffer.buffer();
+			for (BulkOperation operation : rh.result()) {
+				buffer.appendString(operation.result.encode()).appendString("\n");
+			}
+			response.write(buffer);
+			next.run();
+		});
+	}
+
+	/**
+	 * Operation of the bulk request. The result of the operation is streamed back to the client.
+	 */
+	private static class BulkOperation extends NodeOperation {
+
+		private final OperationActionContext ac;
+
+		private JsonObject result;
+
+		BulkOperation(RoutingContext rc, int index, String line) {
+			super(index, line);
+			this.ac = new OperationActionContext(rc, this);
+		}
+
+		@Override
+		public InternalActionContext getActionContext() {
+			return ac;
+		}
+
+		@Override
+		protected void succeed(String nodeUuid, HttpResponseStatus status) {
+			result = new JsonObject()
+				.put("index", getIndex())
+				.put("op", getOp())
+				.put("uuid", nodeUuid)
+				.put("status", status.code());
+		}
+
+		@Override
+		protected void fail(Throwable e) {
+			result = new JsonObject()
+				.put("index", getIndex())
+				.put("op", getOp())
+				.put("uuid", getUuid());
+			AbstractRestException restError = restError(e);
+			if (restError != null) {
+				result.put("status", restError.getStatus().code());
+				result.put("message", translate(restError));
+			} else {
+				log.error("Error while applying bulk operation {" + getIndex() + "}", e);
+				result.put("status", INTERNAL_SERVER_ERROR.code());
+				result.put("message", I18NUtil.get(ac, "error_internal"));
+			}
+		}
+	}
+
+	/**
+	 * Action context for a single operation. The node of the operation is returned as the request body.
+	 */
+	private static class OperationActionContext extends InternalRoutingActionContextImpl {
+
+		private final NodeOperation operation;
+
+		OperationActionContext(RoutingContext rc, NodeOperation operation) {
+			super(rc);
+			this.operation = operation;
+		}
+
+		@Override
+		public String getBodyAsString() {
+			return operation.getBody();
+		}
+	}
+}
@@ -4,6 +4,7 @@ import com.gentics.mesh.auth.MeshAuthChainImpl;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.parameter.impl.BulkParametersImpl;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
@@ -35,6 +36,7 @@ import static com.gentics.mesh.example.ExampleUuids.NODE_DELOREAN_UUID;
 import static com.gentics.mesh.example.ExampleUuids.TAG_RED_UUID;
 import static com.gentics.mesh.example.ExampleUuids.UUID_1;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
@@ -59,18 +61,21 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 
 	private BinaryDownloadHandler binaryDownloadHandler;
 
+	private NodeBulkHandler bulkHandler;
+
 	public NodeEndpoint() {
 		super("nodes", null, null);
 	}
 
 	@Inject
 	public NodeEndpoint(MeshAuthChainImpl chain, BootstrapInitializer boot, NodeCrudHandler crudHandler, BinaryUploadHandlerImpl binaryUploadHandler,
-		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler) {
+		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler, NodeBulkHandler bulkHandler) {
 		super("nodes", chain, boot);
 		this.crudHandler = crudHandler;
 		this.binaryUploadHandler = binaryUploadHandler;
 		this.binaryTransformHandler = binaryTransformHandler;
 		this.binaryDownloadHandler = binaryDownloadHandler;
+		this.bulkHandler = bulkHandler;
 	}
 
 	@Override
@@ -85,6 +90,8 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 			route("/:nodeUuid").handler(getCrudHandler().getUuidHandler("node_not_found_for_uuid"));
 		}
 
+		// The bulk handler needs to be added before the update handler since the path would otherwise be handled as node uuid.
+		addBulkHandler();
 		addCreateHandler();
 		addReadHandler();
 		addUpdateHandler();
@@ -347,6 +354,25 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 		});
 	}
 
+	private void addBulkHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/bulk");
+		endpoint.method(POST);
+		endpoint.description("Create, update and publish nodes in bulk. The request body must contain one operation per line (NDJSON). "
+			+ "Each operation is either a create, upsert or publish operation. The operations are applied in batches which are committed within a single "
+			+ "transaction. The result of each operation is streamed back as a single line.");
+		endpoint.consumes(APPLICATION_NDJSON);
+		endpoint.produces(APPLICATION_NDJSON);
+		endpoint.addQueryParameters(BulkParametersImpl.class);
+		endpoint.addQueryParameters(VersioningParametersImpl.class);
+		endpoint.exampleRequest(nodeExamples.getNodeBulkRequest());
+		endpoint.exampleResponse(OK, nodeExamples.getNodeBulkResponse(), "Results of the operations.");
+		endpoint.events(NODE_CREATED, NODE_CONTENT_CREATED, NODE_UPDATED, NODE_PUBLISHED);
+		endpoint.handler(rc -> {
+			bulkHandler.handleBulk(rc);
+		});
+	}
+
 	private void addReadHandler() {
 		InternalEndpointRoute readOne = createRoute();
 		readOne.path("/:nodeUuid");
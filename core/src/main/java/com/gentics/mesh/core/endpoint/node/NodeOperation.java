@@ -0,0 +1,183 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.util.MissingResourceException;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.i18n.I18NUtil;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Single operation of a NDJSON node operation stream. Each line contains one operation:
+ *
+ * <pre>
+ * {"op": "create", "uuid": "optional uuid", "node": { node create request }}
+ * {"op": "upsert", "uuid": "uuid", "node": { node create or update request }}
+ * {"op": "publish", "uuid": "uuid", "language": "optional language"}
+ * </pre>
+ *
+ * Implementations can support additional operations by overriding {@link #parseOperation(JsonObject)} and {@link #applyOperation(Tx, EventQueueBatch)}.
+ *
+ * @see NodeOperationProcessor
+ */
+public abstract class NodeOperation {
+
+	public static final String CREATE = "create";
+
+	public static final String UPSERT = "upsert";
+
+	public static final String PUBLISH = "publish";
+
+	private final long index;
+
+	private final String line;
+
+	private String op;
+
+	private String uuid;
+
+	private String language;
+
+	private String body;
+
+	protected NodeOperation(long index, String line) {
+		this.index = index;
+		this.line = line;
+	}
+
+	/**
+	 * Return the action context which is used to apply the operation. The context must return {@link #getBody()} as request body.
+	 *
+	 * @return
+	 */
+	public abstract InternalActionContext getActionContext();
+
+	/**
+	 * Parse and validate the line of the operation.
+	 */
+	public void parse() {
+		JsonObject json;
+		try {
+			json = new JsonObject(line);
+		} catch (Exception e) {
+			throw error(BAD_REQUEST, "error_parse_request_json_error");
+		}
+		op = json.getString("op");
+		uuid = json.getString("uuid");
+		language = json.getString("language");
+		if (uuid != null && !UUIDUtil.isUUID(uuid)) {
+			throw error(BAD_REQUEST, "error_illegal_uuid", uuid);
+		}
+		if (CREATE.equals(op) || UPSERT.equals(op)) {
+			JsonObject node = json.getJsonObject("node");
+			if (node == null) {
+				throw error(BAD_REQUEST, "error_parse_request_json_error");
+			}
+			body = node.encode();
+		} else if (!PUBLISH.equals(op)) {
+			parseOperation(json);
+		}
+		if (!CREATE.equals(op) && isEmpty(uuid)) {
+			throw error(BAD_REQUEST, "error_illegal_uuid", String.valueOf(uuid));
+		}
+	}
+
+	/**
+	 * Parse an operation which is not one of the node operations.
+	 *
+	 * @param json
+	 */
+	protected void parseOperation(JsonObject json) {
+		throw error(BAD_REQUEST, "error_parse_request_json_error");
+	}
+
+	/**
+	 * Apply an operation which is not one of the node operations.
+	 *
+	 * @param tx
+	 * @param batch
+	 */
+	protected void applyOperation(Tx tx, EventQueueBatch batch) {
+		throw new IllegalStateException("Unsupported operation {" + op + "}");
+	}
+
+	/**
+	 * Invoked once the operation has been applied. The transaction of the operation may still be rolled back and the operation be applied again.
+	 *
+	 * @param nodeUuid
+	 * @param status
+	 */
+	protected abstract void succeed(String nodeUuid, HttpResponseStatus status);
+
+	/**
+	 * Invoked when the operation could not be parsed or applied.
+	 *
+	 * @param e
+	 */
+	protected abstract void fail(Throwable e);
+
+	/**
+	 * Return the REST error which caused the failure.
+	 *
+	 * @param e
+	 * @return REST error or null if the failure was not caused by a REST error
+	 */
+	public static AbstractRestException restError(Throwable e) {
+		Throwable failure = e;
+		while (failure.getCause() != null && !(failure instanceof AbstractRestException)) {
+			failure = failure.getCause();
+		}
+		return failure instanceof AbstractRestException ? (AbstractRestException) failure : null;
+	}
+
+	/**
+	 * Translate the message of the REST error.
+	 *
+	 * @param restError
+	 * @return
+	 */
+	public String translate(AbstractRestException restError) {
+		if (restError.getI18nKey() == null) {
+			return restError.getMessage();
+		}
+		try {
+			return I18NUtil.get(getActionContext(), restError.getI18nKey(), restError.getI18nParameters());
+		} catch (MissingResourceException e) {
+			return restError.getMessage();
+		}
+	}
+
+	public long getIndex() {
+		return index;
+	}
+
+	public String getOp() {
+		return op;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public String getLanguage() {
+		return language;
+	}
+
+	/**
+	 * Return the encoded node request of create and upsert operations.
+	 *
+	 * @return
+	 */
+	public String getBody() {
+		return body;
+	}
+}
@@ -0,0 +1,159 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.core.action.DAOActionContext.context;
+import static com.gentics.mesh.core.data.perm.InternalPermission.PUBLISH_PERM;
+import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.action.NodeDAOActions;
+import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.graphdb.spi.Database;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Applies batches of {@link NodeOperation}s. Each batch is applied within a single transaction. The operations will be applied individually if the
+ * transaction fails in order to determine the operations which caused the failure.
+ */
+@Singleton
+public class NodeOperationProcessor {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeOperationProcessor.class);
+
+	private final Database db;
+
+	private final WriteLock writeLock;
+
+	private final NodeDAOActions nodeActions;
+
+	private final Provider<EventQueueBatch> queueProvider;
+
+	private final Provider<BulkActionContext> bulkProvider;
+
+	@Inject
+	public NodeOperationProcessor(Database db, WriteLock writeLock, NodeDAOActions nodeActions, Provider<EventQueueBatch> queueProvider,
+		Provider<BulkActionContext> bulkProvider) {
+		this.db = db;
+		this.writeLock = writeLock;
+		this.nodeActions = nodeActions;
+		this.queueProvider = queueProvider;
+		this.bulkProvider = bulkProvider;
+	}
+
+	/**
+	 * Parse and apply the operations. The result of each operation is reported to the operation itself.
+	 *
+	 * @param operations
+	 * @param dispatchEvents
+	 *            Whether the events of the operations should be dispatched once the transaction has been committed
+	 */
+	public void apply(List<? extends NodeOperation> operations, boolean dispatchEvents) {
+		List<NodeOperation> valid = new ArrayList<>(operations.size());
+		for (NodeOperation operation : operations) {
+			try {
+				operation.parse();
+				valid.add(operation);
+			} catch (Exception e) {
+				operation.fail(e);
+			}
+		}
+		if (valid.isEmpty()) {
+			return;
+		}
+
+		try (WriteLock lock = writeLock.lock(valid.get(0).getActionContext())) {
+			try {
+				applyInTx(valid, dispatchEvents);
+			} catch (Exception e) {
+				if (valid.size() == 1) {
+					valid.get(0).fail(e);
+					return;
+				}
+				if (log.isDebugEnabled()) {
+					log.debug("Transaction failed. Applying the {" + valid.size() + "} operations individually.", e);
+				}
+				for (NodeOperation operation : valid) {
+					try {
+						applyInTx(Collections.singletonList(operation), dispatchEvents);
+					} catch (Exception e1) {
+						operation.fail(e1);
+					}
+				}
+			}
+		} catch (Exception e) {
+			// The write lock could not be acquired
+			for (NodeOperation operation : valid) {
+				operation.fail(e);
+			}
+		}
+	}
+
+	private void applyInTx(List<NodeOperation> operations, boolean dispatchEvents) {
+		EventQueueBatch batch = db.tx(tx -> {
+			EventQueueBatch eventBatch = queueProvider.get();
+			for (NodeOperation operation : operations) {
+				apply(tx, operation, eventBatch);
+			}
+			if (!dispatchEvents) {
+				eventBatch.clear();
+			}
+			return eventBatch;
+		});
+		if (dispatchEvents) {
+			batch.dispatch();
+		}
+	}
+
+	private void apply(Tx tx, NodeOperation operation, EventQueueBatch batch) {
+		InternalActionContext ac = operation.getActionContext();
+		String uuid = operation.getUuid();
+		switch (operation.getOp()) {
+		case NodeOperation.CREATE:
+			HibNode created = nodeActions.create(tx, ac, batch, uuid);
+			operation.succeed(created.getUuid(), CREATED);
+			break;
+		case NodeOperation.UPSERT:
+			HibNode node = nodeActions.loadByUuid(context(tx, ac), uuid, UPDATE_PERM, false);
+			if (node == null) {
+				operation.succeed(nodeActions.create(tx, ac, batch, uuid).getUuid(), CREATED);
+			} else {
+				nodeActions.update(tx, node, ac, batch);
+				operation.succeed(uuid, OK);
+			}
+			break;
+		case NodeOperation.PUBLISH:
+			NodeDaoWrapper nodeDao = tx.nodeDao();
+			HibNode publishNode = nodeDao.loadObjectByUuid(tx.getProject(ac), ac, uuid, PUBLISH_PERM);
+			BulkActionContext bac = bulkProvider.get();
+			if (isEmpty(operation.getLanguage())) {
+				nodeDao.publish(publishNode, ac, bac);
+			} else {
+				nodeDao.publish(publishNode, ac, bac, operation.getLanguage());
+			}
+			// The events are collected in the batch and will be dispatched once the whole batch has been committed.
+			batch.addAll(bac.batch());
+			operation.succeed(uuid, OK);
+			break;
+		default:
+			operation.applyOperation(tx, batch);
+			operation.succeed(uuid, OK);
+		}
+	}
+}
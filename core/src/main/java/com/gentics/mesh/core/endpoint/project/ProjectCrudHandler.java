@@ -4,7 +4,9 @@ import static com.gentics.mesh.core.data.perm.InternalPermission.DELETE_PERM;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.rest.Messages.message;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import java.time.ZonedDateTime;
@@ -19,7 +21,9 @@ import com.gentics.mesh.core.data.dao.ProjectDaoWrapper;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
+import com.gentics.mesh.core.project.maintenance.ProjectImportHandler;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.project.ProjectImportRequest;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
@@ -86,4 +90,36 @@ public class ProjectCrudHandler extends AbstractCrudHandler<HibProject, ProjectR
 		}
 	}
 
+	/**
+	 * Handle the project import request.
+	 * 
+	 * @param ac
+	 * @param uuid
+	 */
+	public void handleImport(InternalActionContext ac, String uuid) {
+		validateParameter(uuid, "uuid");
+
+		ProjectImportRequest request = ac.fromJson(ProjectImportRequest.class);
+		if (isEmpty(request.getPath())) {
+			throw error(BAD_REQUEST, "error_json_field_missing", "path");
+		}
+		int batchSize = request.getBatchSize() == null ? ProjectImportHandler.DEFAULT_BATCH_SIZE : Math.max(1, request.getBatchSize());
+
+		try (WriteLock lock = writeLock.lock(ac)) {
+			utils.syncTx(ac, tx -> {
+				if (!ac.getUser().isAdmin()) {
+					throw error(FORBIDDEN, "error_admin_permission_required");
+				}
+				HibUser user = ac.getUser();
+				ProjectDaoWrapper projectDao = tx.projectDao();
+				HibProject project = projectDao.loadObjectByUuid(ac, uuid, DELETE_PERM);
+				db.tx(() -> {
+					boot.jobRoot().enqueueNodeImport(user, project, request.getPath(), batchSize);
+				});
+				MeshEvent.triggerJobWorker(boot.mesh());
+				return message(ac, "project_import_enqueued");
+			}, message -> ac.send(message, OK));
+		}
+	}
+
 }
@@ -2,6 +2,7 @@ package com.gentics.mesh.core.endpoint.project;
 
 import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_IMPORT_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_VERSION_PURGE_FINISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_VERSION_PURGE_START;
@@ -59,6 +60,9 @@ public class ProjectEndpoint extends AbstractInternalEndpoint {
 
 		// Version purge
 		addVersionPurgeHandler();
+
+		// Import
+		addImportHandler();
 	}
 
 	private void addUpdateHandler() {
@@ -163,4 +167,23 @@ public class ProjectEndpoint extends AbstractInternalEndpoint {
 			crudHandler.handlePurge(ac, uuid);
 		}, false);
 	}
+
+	private void addImportHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/:projectUuid/maintenance/import");
+		endpoint.addUriParameter("projectUuid", "Uuid of the project.", PROJECT_DEMO_UUID);
+		endpoint.method(POST);
+		endpoint.description(
+			"Invoke an import of the nodes from the given export file. The import job will switch the storage into mass insert mode. No events will be dispatched for the imported nodes. The search index will be synchronized once the import has finished.");
+		endpoint.consumes(APPLICATION_JSON);
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.exampleRequest(projectExamples.getProjectImportRequest());
+		endpoint.exampleResponse(OK, "Project import job added.");
+		endpoint.events(PROJECT_IMPORT_FINISHED);
+		endpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String uuid = ac.getParameter("projectUuid");
+			crudHandler.handleImport(ac, uuid);
+		}, false);
+	}
 }
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.endpoint.webroot;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static com.gentics.mesh.util.URIUtils.decodeSegment;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
@@ -14,6 +15,7 @@ import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.cache.ResponseCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
@@ -42,7 +44,6 @@ import com.gentics.mesh.etc.config.AuthenticationOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.http.MeshHeaders;
-import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.path.impl.PathSegmentImpl;
@@ -81,9 +82,12 @@ public class WebRootHandler {
 
 	private final HandlerUtilities utils;
 
+	private final ResponseCache responseCache;
+
 	@Inject
 	public WebRootHandler(Database database, WebRootServiceImpl webrootService, BinaryFieldResponseHandler binaryFieldResponseHandler,
-		NodeCrudHandler nodeCrudHandler, BootstrapInitializer boot, MeshOptions options, WriteLock writeLock, HandlerUtilities utils) {
+		NodeCrudHandler nodeCrudHandler, BootstrapInitializer boot, MeshOptions options, WriteLock writeLock, HandlerUtilities utils,
+		ResponseCache responseCache) {
 		this.db = database;
 		this.webrootService = webrootService;
 		this.binaryFieldResponseHandler = binaryFieldResponseHandler;
@@ -92,6 +96,7 @@ public class WebRootHandler {
 		this.options = options;
 		this.writeLock = writeLock;
 		this.utils = utils;
+		this.responseCache = responseCache;
 	}
 
 	/**
@@ -164,12 +169,15 @@ public class WebRootHandler {
 				languageTags.add(lastSegment.getLanguageTag());
 				languageTags.addAll(ac.getNodeParameters().getLanguageList(options));
 				ac.setWebrootResponseType("node");
-				return nodeDao.transformToRestSync(node, ac, 0, languageTags.toArray(new String[0]));
+				// The response depends on the language of the path segment which is not part of the etag
+				String responseKey = responseCache.createKey(ac, etag, path, lastSegment.getLanguageTag());
+				return responseCache.get(responseKey, () -> nodeDao.transformToRestSync(node, ac, 0, languageTags.toArray(new String[0])));
 			}
-		}, model -> {
-			if (model != null) {
-				ac.send(JsonUtil.toJson(model),
-					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
+		}, body -> {
+			if (body != null) {
+				ac.send(body,
+					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())),
+					APPLICATION_JSON_UTF8);
 			}
 		});
 
@@ -28,6 +28,7 @@ import com.gentics.mesh.core.endpoint.node.BinaryUploadHandlerImpl;
 import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.FieldMapImpl;
 import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -120,6 +121,43 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		newContainer.updateFieldsFromRest(ac, fields);
 	}
 
+	/**
+	 * Migrate the given container by applying the compiled migration plan. This will also set the new version to the container. Only the fields which are
+	 * affected by the changes of the plan will be read and written. All other fields are kept as they have been cloned into the container.
+	 *
+	 * @param ac
+	 *            context
+	 * @param newContainer
+	 *            cloned container which still contains the fields of the old version
+	 * @param plan
+	 *            compiled migration plan
+	 * @param newVersion
+	 *            new schema version
+	 * @param languageTags
+	 *            language tags which are used to read the source fields of the plan
+	 * @throws Exception
+	 */
+	protected void migrate(NodeMigrationActionContext ac, GraphFieldContainer newContainer, FieldMigrationPlan plan,
+		HibFieldSchemaVersionElement newVersion, List<String> languageTags) throws Exception {
+
+		// Read the source fields before the touched fields are removed
+		FieldContainer sourceContent = null;
+		if (plan.isContentDependent()) {
+			sourceContent = plan.readSourceFields(ac, newContainer, languageTags);
+		}
+
+		// Remove all touched fields (if necessary, they will be readded later)
+		Set<String> touchedFields = plan.getTouchedFields();
+		if (!touchedFields.isEmpty()) {
+			newContainer.getFields().stream().filter(f -> touchedFields.contains(f.getFieldKey())).forEach(f -> f.removeField(newContainer));
+		}
+		newContainer.setSchemaContainerVersion(newVersion);
+
+		FieldMap fields = new FieldMapImpl();
+		fields.putAll(plan.createFields(sourceContent));
+		newContainer.updateFieldsFromRest(ac, fields);
+	}
+
 	@ParametersAreNonnullByDefault
 	protected <T> List<Exception> migrateLoop(Iterable<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
 		TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
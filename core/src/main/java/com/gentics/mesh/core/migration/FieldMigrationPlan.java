@@ -0,0 +1,173 @@
+package com.gentics.mesh.core.migration;
+
+import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.GraphFieldContainer;
+import com.gentics.mesh.core.data.schema.FieldTypeChange;
+import com.gentics.mesh.core.data.schema.HibFieldSchemaVersionElement;
+import com.gentics.mesh.core.data.schema.HibSchemaChange;
+import com.gentics.mesh.core.data.schema.RemoveFieldChange;
+import com.gentics.mesh.core.data.schema.SchemaChange;
+import com.gentics.mesh.core.data.schema.SchemaFieldChange;
+import com.gentics.mesh.core.data.schema.UpdateFieldChange;
+import com.gentics.mesh.core.rest.common.FieldContainer;
+import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.FieldMapImpl;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
+import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeModel;
+
+/**
+ * A migration plan is compiled once from the chain of schema changes between two schema versions and is afterwards applied to every migrated container.
+ *
+ * The plan determines which graph fields need to be removed from the cloned container, which fields of the old container must be read in order to compute
+ * new field values and which field values can be computed without looking at the content at all (e.g. added or removed fields). All other fields have
+ * already been cloned by reference into the new container and will not be touched. The REST model of the container is never built, only the fields that
+ * are read by a field type change or a field rename will be transformed.
+ */
+public class FieldMigrationPlan {
+
+	private final FieldSchemaContainer oldSchema;
+
+	private final Set<String> touchedFields = new LinkedHashSet<>();
+
+	private final Set<String> sourceFields = new LinkedHashSet<>();
+
+	private final List<Function<FieldContainer, Map<String, Field>>> steps = new ArrayList<>();
+
+	private boolean contentDependent = false;
+
+	private FieldMigrationPlan(FieldSchemaContainer oldSchema) {
+		this.oldSchema = oldSchema;
+	}
+
+	/**
+	 * Compile the plan for a migration from the given version to its next version. This needs to be invoked within a transaction.
+	 *
+	 * @param fromVersion
+	 *            Version which contains the chain of changes to the next version
+	 * @return Compiled plan
+	 */
+	public static FieldMigrationPlan compile(HibFieldSchemaVersionElement<?, ?, ?, ?> fromVersion) {
+		FieldMigrationPlan plan = new FieldMigrationPlan(fromVersion.getSchema());
+		NodeResponse emptyContent = new NodeResponse();
+		emptyContent.setFields(new FieldMapImpl());
+
+		HibSchemaChange<?> change = fromVersion.getNextChange();
+		while (change != null) {
+			SchemaChange<?> graphChange = toGraph(change);
+			// if either the type changes or the field is removed, the field is "touched"
+			if (graphChange instanceof FieldTypeChange) {
+				FieldTypeChange typeChange = (FieldTypeChange) graphChange;
+				plan.touchedFields.add(typeChange.getFieldName());
+				plan.addContentStep(typeChange);
+			} else if (graphChange instanceof RemoveFieldChange) {
+				plan.touchedFields.add(((RemoveFieldChange) graphChange).getFieldName());
+			} else if (isRename(graphChange)) {
+				plan.addContentStep((UpdateFieldChange) graphChange);
+			} else {
+				// The created fields of all other changes do not depend on the content and can thus be computed only once
+				Map<String, Field> created = graphChange.createFields(plan.oldSchema, emptyContent);
+				plan.steps.add(content -> created);
+			}
+			change = change.getNextChange();
+		}
+		return plan;
+	}
+
+	private void addContentStep(SchemaFieldChange change) {
+		sourceFields.add(change.getFieldName());
+		steps.add(content -> change.createFields(oldSchema, content));
+		contentDependent = true;
+	}
+
+	private static boolean isRename(SchemaChange<?> change) {
+		if (change instanceof UpdateFieldChange) {
+			UpdateFieldChange updateChange = (UpdateFieldChange) change;
+			return updateChange.getFieldName() != null && updateChange.getRestProperty(SchemaChangeModel.NAME_KEY) != null;
+		}
+		return false;
+	}
+
+	/**
+	 * Return the set of fields which need to be removed from the migrated container before the new field values are applied.
+	 *
+	 * @return
+	 */
+	public Set<String> getTouchedFields() {
+		return Collections.unmodifiableSet(touchedFields);
+	}
+
+	/**
+	 * Return the set of fields of the old container which are read by the changes of the plan.
+	 *
+	 * @return
+	 */
+	public Set<String> getSourceFields() {
+		return Collections.unmodifiableSet(sourceFields);
+	}
+
+	/**
+	 * Check whether the plan contains changes which need to read the content of the migrated container.
+	 *
+	 * @return
+	 */
+	public boolean isContentDependent() {
+		return contentDependent;
+	}
+
+	/**
+	 * Read the source fields of the given container. Only the fields which are read by the changes of the plan will be transformed.
+	 *
+	 * @param ac
+	 * @param container
+	 *            Container which still contains the old field values
+	 * @param languageTags
+	 *            Language tags which are used to transform the fields
+	 * @return Container which only contains the source fields
+	 */
+	public FieldContainer readSourceFields(InternalActionContext ac, GraphFieldContainer container, List<String> languageTags) {
+		NodeResponse content = new NodeResponse();
+		FieldMap fields = new FieldMapImpl();
+		for (String fieldKey : sourceFields) {
+			FieldSchema fieldSchema = oldSchema.getField(fieldKey);
+			if (fieldSchema == null) {
+				continue;
+			}
+			Field field = container.getRestFieldFromGraph(ac, fieldKey, fieldSchema, languageTags, 0);
+			if (field != null) {
+				fields.put(fieldKey, field);
+			}
+		}
+		content.setFields(fields);
+		return content;
+	}
+
+	/**
+	 * Compute the new field values for the container using the previously read source fields.
+	 *
+	 * @param sourceContent
+	 *            Source fields of the container. May be an empty container if the plan is not content dependent
+	 * @return Map of the new fields. A null value denotes that the field should be removed
+	 */
+	public Map<String, Field> createFields(FieldContainer sourceContent) {
+		// Changes are applied in order of the chain. Later changes may thus override fields of previous changes.
+		Map<String, Field> fields = new HashMap<>();
+		for (Function<FieldContainer, Map<String, Field>> step : steps) {
+			fields.putAll(step.apply(sourceContent));
+		}
+		return fields;
+	}
+}
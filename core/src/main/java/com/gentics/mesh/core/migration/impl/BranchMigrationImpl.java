@@ -8,6 +8,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,19 +24,25 @@ import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
 import com.gentics.mesh.core.data.dao.TagDaoWrapper;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.node.HibNode;
-import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandlerImpl;
 import com.gentics.mesh.core.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.migration.BranchMigration;
 import com.gentics.mesh.core.rest.event.node.BranchMigrationCause;
 import com.gentics.mesh.core.result.Result;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.util.Tuple;
 
 import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
 import io.reactivex.exceptions.CompositeException;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -47,9 +54,13 @@ public class BranchMigrationImpl extends AbstractMigrationHandler implements Bra
 
 	private static final Logger log = LoggerFactory.getLogger(BranchMigrationImpl.class);
 
+	private final MeshOptions options;
+
 	@Inject
-	public BranchMigrationImpl(Database db, BinaryUploadHandlerImpl nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
+	public BranchMigrationImpl(Database db, BinaryUploadHandlerImpl nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options) {
 		super(db, nodeFieldAPIHandler, metrics, batchProvider);
+		this.options = options;
 	}
 
 	@Override
@@ -60,27 +71,56 @@ public class BranchMigrationImpl extends AbstractMigrationHandler implements Bra
 			HibBranch newBranch = context.getNewBranch();
 			BranchMigrationCause cause = context.getCause();
 			MigrationStatusHandler status = context.getStatus();
+			int batchSize = options.getMigrationMaxBatchSize();
+			int concurrency = options.getMigrationConcurrency();
 
-			db.tx(() -> {
+			String projectUuid = db.tx(() -> {
 				if (status != null) {
 					status.setStatus(RUNNING);
 					status.commit();
 				}
+				return oldBranch.getProject().getUuid();
 			});
 
-			List<? extends HibNode> nodes = db.tx(tx -> {
-				HibProject project = oldBranch.getProject();
-				return tx.nodeDao().findAll(project).list();
-			});
+			List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+			String checkpoint = context.getCheckpoint();
+			long count = 0;
+			// Iterate over the node ids of the project in chunks and migrate the chunks to the new branch. Only the ids of the chunks which are currently
+			// being migrated are held in memory.
+			while (true) {
+				String after = checkpoint;
+				List<List<Tuple<String, Object>>> chunks = db.tx(() -> loadChunks(projectUuid, after, batchSize, concurrency));
+				if (chunks.isEmpty()) {
+					break;
+				}
 
-			List<Exception> errorsDetected = new ArrayList<>();
-			// Iterate over all nodes of the project and migrate them to the new branch
-			migrateLoop(nodes, cause, status, (batch, node, errors) -> {
-				migrateNode(node, batch, oldBranch, newBranch, errorsDetected);
-			});
+				int migrated = Observable.fromIterable(chunks)
+					.flatMapSingle(chunk -> Single.fromCallable(() -> migrateChunk(chunk, cause, oldBranch, newBranch, errorsDetected))
+						.subscribeOn(Schedulers.io()), false, concurrency)
+					.reduce(0, Integer::sum)
+					.blockingGet();
+				count += migrated;
+
+				List<Tuple<String, Object>> lastChunk = chunks.get(chunks.size() - 1);
+				checkpoint = lastChunk.get(lastChunk.size() - 1).v1();
+				if (status != null) {
+					for (int i = 0; i < migrated; i++) {
+						status.incCompleted();
+					}
+					// The checkpoint is not advanced once an error was detected. A resumed migration will thus retry the failed nodes. Nodes which have
+					// already been migrated will be skipped.
+					if (errorsDetected.isEmpty()) {
+						status.setCheckpoint(checkpoint);
+					}
+					db.tx(() -> {
+						status.commit();
+					});
+				}
+				log.info("Migrated nodes: " + count);
+			}
 
 			if (!errorsDetected.isEmpty()) {
-				log.info("Encountered {" + errorsDetected.size() + "} errors during micronode migration.");
+				log.info("Encountered {" + errorsDetected.size() + "} errors during branch migration.");
 			}
 
 			// TODO prepare errors. They should be easy to understand and to grasp
@@ -98,85 +138,151 @@ public class BranchMigrationImpl extends AbstractMigrationHandler implements Bra
 
 	}
 
+	/**
+	 * Load the ids of the next nodes of the project. The nodes are ordered by their uuid.
+	 * 
+	 * @param projectUuid
+	 * @param after
+	 *            Uuid of the node after which the nodes will be loaded. The nodes will be loaded from the start if null
+	 * @param batchSize
+	 *            Size of the chunks
+	 * @param chunkCount
+	 *            Maximum amount of chunks
+	 * @return Chunks of node uuids and ids
+	 */
+	private List<List<Tuple<String, Object>>> loadChunks(String projectUuid, String after, int batchSize, int chunkCount) {
+		List<Tuple<String, Object>> ids = db.getVertexIdsAfter(NodeImpl.class, "project_uuid", projectUuid, after, batchSize * chunkCount);
+		List<List<Tuple<String, Object>>> chunks = new ArrayList<>(chunkCount);
+		for (int i = 0; i < ids.size(); i += batchSize) {
+			chunks.add(ids.subList(i, Math.min(i + batchSize, ids.size())));
+		}
+		return chunks;
+	}
+
+	/**
+	 * Migrate the chunk of nodes within a single transaction. The nodes will be migrated individually if the transaction fails in order to determine the nodes
+	 * which caused the failure.
+	 * 
+	 * @param chunk
+	 *            Uuids and ids of the nodes
+	 * @param cause
+	 * @param oldBranch
+	 * @param newBranch
+	 * @param errorsDetected
+	 * @return Amount of processed nodes
+	 */
+	private int migrateChunk(List<Tuple<String, Object>> chunk, BranchMigrationCause cause, HibBranch oldBranch, HibBranch newBranch,
+		List<Exception> errorsDetected) {
+		try {
+			migrateInTx(chunk, cause, oldBranch, newBranch);
+		} catch (Exception e) {
+			if (chunk.size() == 1) {
+				log.error("Error while handling node {" + chunk.get(0).v1() + "} during branch migration.", e);
+				errorsDetected.add(e);
+				return 1;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Migration of the batch failed. Migrating the {" + chunk.size() + "} nodes individually.", e);
+			}
+			for (Tuple<String, Object> entry : chunk) {
+				try {
+					migrateInTx(Collections.singletonList(entry), cause, oldBranch, newBranch);
+				} catch (Exception e1) {
+					log.error("Error while handling node {" + entry.v1() + "} during branch migration.", e1);
+					errorsDetected.add(e1);
+				}
+			}
+		}
+		return chunk.size();
+	}
+
+	private void migrateInTx(List<Tuple<String, Object>> nodes, BranchMigrationCause cause, HibBranch oldBranch, HibBranch newBranch) {
+		EventQueueBatch batch = db.tx(tx -> {
+			EventQueueBatch nodesBatch = batchProvider.get();
+			nodesBatch.setCause(cause);
+			for (Tuple<String, Object> entry : nodes) {
+				HibNode node = tx.getGraph().getFramedVertexExplicit(NodeImpl.class, entry.v2());
+				migrateNode(tx, node, nodesBatch, oldBranch, newBranch);
+			}
+			return nodesBatch;
+		});
+		db.tx(() -> {
+			batch.dispatch();
+		});
+	}
+
 	/**
 	 * Migrate the node from the old branch to the new branch. This will effectively create the edges between the new branch and the node. Additionally also the
 	 * tags will be update to correspond with the new branch structure.
 	 * 
+	 * @param tx
 	 * @param node
 	 * @param batch
 	 * @param oldBranch
 	 * @param newBranch
-	 * @param errorsDetected
 	 */
-	private void migrateNode(HibNode node, EventQueueBatch batch, HibBranch oldBranch, HibBranch newBranch, List<Exception> errorsDetected) {
-		try {
-			db.tx((tx) -> {
-				NodeDaoWrapper nodeDao = tx.nodeDao();
-				TagDaoWrapper tagDao = tx.tagDao();
-				ContentDaoWrapper contentDao = tx.contentDao();
-
-				// Check whether the node already has an initial container and thus was already migrated
-				if (contentDao.getGraphFieldContainers(node, newBranch, INITIAL).hasNext()) {
-					return;
-				}
+	private void migrateNode(Tx tx, HibNode node, EventQueueBatch batch, HibBranch oldBranch, HibBranch newBranch) {
+		NodeDaoWrapper nodeDao = tx.nodeDao();
+		TagDaoWrapper tagDao = tx.tagDao();
+		ContentDaoWrapper contentDao = tx.contentDao();
 
-				HibNode parent = nodeDao.getParentNode(node, oldBranch.getUuid());
-				if (parent != null) {
-					nodeDao.setParentNode(node, newBranch.getUuid(), parent);
-				}
+		// Check whether the node already has an initial container and thus was already migrated
+		if (contentDao.getGraphFieldContainers(node, newBranch, INITIAL).hasNext()) {
+			return;
+		}
 
-				Result<? extends NodeGraphFieldContainer> drafts = contentDao.getGraphFieldContainers(node, oldBranch, DRAFT);
-				Result<? extends NodeGraphFieldContainer> published = contentDao.getGraphFieldContainers(node, oldBranch, PUBLISHED);
+		HibNode parent = nodeDao.getParentNode(node, oldBranch.getUuid());
+		if (parent != null) {
+			nodeDao.setParentNode(node, newBranch.getUuid(), parent);
+		}
 
-				// 1. Migrate draft containers first
-				drafts.forEach(container -> {
-					// We only need to set the initial edge if there are no published containers.
-					// Otherwise the initial edge will be set using the published container.
-					if (!published.hasNext()) {
-						setInitial(node, container, newBranch);
-					}
+		Result<? extends NodeGraphFieldContainer> drafts = contentDao.getGraphFieldContainers(node, oldBranch, DRAFT);
+		Result<? extends NodeGraphFieldContainer> published = contentDao.getGraphFieldContainers(node, oldBranch, PUBLISHED);
 
-					GraphFieldContainerEdgeImpl draftEdge = toGraph(node).addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-					draftEdge.setLanguageTag(container.getLanguageTag());
-					draftEdge.setType(DRAFT);
-					draftEdge.setBranchUuid(newBranch.getUuid());
-					String value = contentDao.getSegmentFieldValue(container);
-					if (value != null) {
-						draftEdge.setSegmentInfo(parent, value);
-					} else {
-						draftEdge.setSegmentInfo(null);
-					}
-					draftEdge.setUrlFieldInfo(container.getUrlFieldValues().collect(Collectors.toSet()));
-					batch.add(container.onUpdated(newBranch.getUuid(), DRAFT));
-				});
-
-				// 2. Migrate published containers
-				published.forEach(container -> {
-					// Set the initial edge for published containers since the published container may be an older version and created before the draft container was created.
-					// The initial edge should always point to the oldest container of either draft or published.
-					setInitial(node, container, newBranch);
-
-					GraphFieldContainerEdgeImpl publishEdge = toGraph(node).addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-					publishEdge.setLanguageTag(container.getLanguageTag());
-					publishEdge.setType(PUBLISHED);
-					publishEdge.setBranchUuid(newBranch.getUuid());
-					String value = contentDao.getSegmentFieldValue(container);
-					if (value != null) {
-						publishEdge.setSegmentInfo(parent, value);
-					} else {
-						publishEdge.setSegmentInfo(null);
-					}
-					publishEdge.setUrlFieldInfo(container.getUrlFieldValues().collect(Collectors.toSet()));
-					batch.add(container.onUpdated(newBranch.getUuid(), PUBLISHED));
-				});
+		// 1. Migrate draft containers first
+		drafts.forEach(container -> {
+			// We only need to set the initial edge if there are no published containers.
+			// Otherwise the initial edge will be set using the published container.
+			if (!published.hasNext()) {
+				setInitial(node, container, newBranch);
+			}
 
-				// Migrate tags
-				tagDao.getTags(node, oldBranch).forEach(tag -> tagDao.addTag(node, tag, newBranch));
-			});
-		} catch (Exception e1) {
-			log.error("Error while handling node {" + node.getUuid() + "} during schema migration.", e1);
-			errorsDetected.add(e1);
-		}
+			GraphFieldContainerEdgeImpl draftEdge = toGraph(node).addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
+			draftEdge.setLanguageTag(container.getLanguageTag());
+			draftEdge.setType(DRAFT);
+			draftEdge.setBranchUuid(newBranch.getUuid());
+			String value = contentDao.getSegmentFieldValue(container);
+			if (value != null) {
+				draftEdge.setSegmentInfo(parent, value);
+			} else {
+				draftEdge.setSegmentInfo(null);
+			}
+			draftEdge.setUrlFieldInfo(container.getUrlFieldValues().collect(Collectors.toSet()));
+			batch.add(container.onUpdated(newBranch.getUuid(), DRAFT));
+		});
+
+		// 2. Migrate published containers
+		published.forEach(container -> {
+			// Set the initial edge for published containers since the published container may be an older version and created before the draft container was created.
+			// The initial edge should always point to the oldest container of either draft or published.
+			setInitial(node, container, newBranch);
+
+			GraphFieldContainerEdgeImpl publishEdge = toGraph(node).addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
+			publishEdge.setLanguageTag(container.getLanguageTag());
+			publishEdge.setType(PUBLISHED);
+			publishEdge.setBranchUuid(newBranch.getUuid());
+			String value = contentDao.getSegmentFieldValue(container);
+			if (value != null) {
+				publishEdge.setSegmentInfo(parent, value);
+			} else {
+				publishEdge.setSegmentInfo(null);
+			}
+			publishEdge.setUrlFieldInfo(container.getUrlFieldValues().collect(Collectors.toSet()));
+			batch.add(container.onUpdated(newBranch.getUuid(), PUBLISHED));
+		});
+
+		// Migrate tags
+		tagDao.getTags(node, oldBranch).forEach(tag -> tagDao.addTag(node, tag, newBranch));
 	}
 
 	/**
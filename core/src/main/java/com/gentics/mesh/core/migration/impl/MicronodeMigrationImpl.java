@@ -5,9 +5,10 @@ import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -17,6 +18,7 @@ import com.gentics.mesh.context.MicronodeMigrationContext;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
 import com.gentics.mesh.core.data.dao.MicroschemaDaoWrapper;
 import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
@@ -25,18 +27,21 @@ import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
 import com.gentics.mesh.core.data.node.field.nesting.MicronodeGraphField;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
+import com.gentics.mesh.core.data.schema.MicronodeContainerReference;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandlerImpl;
 import com.gentics.mesh.core.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.migration.FieldMigrationPlan;
 import com.gentics.mesh.core.migration.MicronodeMigration;
 import com.gentics.mesh.core.rest.event.node.MicroschemaMigrationCause;
-import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.VersionNumber;
+import com.google.common.collect.Lists;
 
 import io.reactivex.Completable;
 import io.reactivex.exceptions.CompositeException;
@@ -53,10 +58,14 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 
 	private final WriteLock writeLock;
 
+	private final MeshOptions options;
+
 	@Inject
-	public MicronodeMigrationImpl(Database db, BinaryUploadHandlerImpl binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider, WriteLock writeLock) {
+	public MicronodeMigrationImpl(Database db, BinaryUploadHandlerImpl binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		WriteLock writeLock, MeshOptions options) {
 		super(db, binaryFieldHandler, metrics, batchProvider);
 		this.writeLock = writeLock;
+		this.options = options;
 	}
 
 	@Override
@@ -69,12 +78,12 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 			MigrationStatusHandler status = context.getStatus();
 			MicroschemaMigrationCause cause = context.getCause();
 
-			// Collect the migration scripts
+			// Prepare the migration - Compile the microschema changes into a migration plan
 			NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
-			Set<String> touchedFields = new HashSet<>();
+			FieldMigrationPlan plan;
 			try {
-				db.tx(() -> {
-					prepareMigration(fromVersion, touchedFields);
+				plan = db.tx(() -> {
+					FieldMigrationPlan compiled = FieldMigrationPlan.compile(fromVersion);
 
 					ac.setProject(branch.getProject());
 					ac.setBranch(branch);
@@ -83,19 +92,20 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 						status.setStatus(RUNNING);
 						status.commit();
 					}
+					return compiled;
 				});
 			} catch (Exception e) {
 				return Completable.error(e);
 			}
 
-			// Get the containers, that need to be transformed
-			List<? extends NodeGraphFieldContainer> fieldContainersResult = db.tx(tx -> {
+			// Determine the containers and fields which reference micronodes of the version. Only those will be touched by the migration.
+			List<MicronodeContainerReference> references = db.tx(tx -> {
 				MicroschemaDaoWrapper microschemaDao = tx.microschemaDao();
-				return microschemaDao.findDraftFieldContainers(fromVersion, branch.getUuid()).list();
+				return microschemaDao.findDraftFieldContainerReferences(fromVersion, branch.getUuid());
 			});
 
 			// No field containers, migration is done
-			if (fieldContainersResult.isEmpty()) {
+			if (references.isEmpty()) {
 				if (status != null) {
 					db.tx(() -> {
 						status.setStatus(COMPLETED);
@@ -105,12 +115,24 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 				return Completable.complete();
 			}
 
-			List<Exception> errorsDetected = migrateLoop(fieldContainersResult, cause, status,
-				(batch, container, errors) -> {
-					try (WriteLock lock = writeLock.lock(ac)) {
-						migrateMicronodeContainer(ac, batch, branch, fromVersion, toVersion, container, touchedFields, errors);
+			List<Exception> errorsDetected = new ArrayList<>();
+			long count = 0;
+			for (List<MicronodeContainerReference> chunk : Lists.partition(references, options.getMigrationMaxBatchSize())) {
+				try (WriteLock lock = writeLock.lock(ac)) {
+					migrateChunk(ac, cause, branch, fromVersion, toVersion, plan, chunk, errorsDetected);
+				}
+				count += chunk.size();
+				if (status != null) {
+					for (int i = 0; i < chunk.size(); i++) {
+						status.incCompleted();
 					}
-				});
+					db.tx(() -> {
+						status.commit();
+					});
+				}
+				log.info("Migrated containers: " + count);
+			}
+			log.info("Encountered {" + errorsDetected.size() + "} errors during micronode migration.");
 
 			Completable result = Completable.complete();
 			if (!errorsDetected.isEmpty()) {
@@ -125,6 +147,59 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 		});
 	}
 
+	/**
+	 * Migrate the chunk of containers within a single transaction. The containers will be migrated individually if the transaction fails in order to determine
+	 * the containers which caused the failure.
+	 *
+	 * @param ac
+	 * @param cause
+	 * @param branch
+	 * @param fromVersion
+	 * @param toVersion
+	 * @param plan
+	 * @param chunk
+	 *            References of the containers
+	 * @param errorsDetected
+	 */
+	private void migrateChunk(NodeMigrationActionContextImpl ac, MicroschemaMigrationCause cause, HibBranch branch, HibMicroschemaVersion fromVersion,
+		HibMicroschemaVersion toVersion, FieldMigrationPlan plan, List<MicronodeContainerReference> chunk, List<Exception> errorsDetected) {
+		try {
+			migrateInTx(ac, cause, branch, fromVersion, toVersion, plan, chunk);
+		} catch (Exception e) {
+			if (chunk.size() == 1) {
+				log.error("Error while handling container {" + chunk.get(0).getContainerId() + "} during micronode migration.", e);
+				errorsDetected.add(e);
+				return;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Migration of the batch failed. Migrating the {" + chunk.size() + "} containers individually.", e);
+			}
+			for (MicronodeContainerReference reference : chunk) {
+				try {
+					migrateInTx(ac, cause, branch, fromVersion, toVersion, plan, Collections.singletonList(reference));
+				} catch (Exception e1) {
+					log.error("Error while handling container {" + reference.getContainerId() + "} during micronode migration.", e1);
+					errorsDetected.add(e1);
+				}
+			}
+		}
+	}
+
+	private void migrateInTx(NodeMigrationActionContextImpl ac, MicroschemaMigrationCause cause, HibBranch branch, HibMicroschemaVersion fromVersion,
+		HibMicroschemaVersion toVersion, FieldMigrationPlan plan, List<MicronodeContainerReference> references) {
+		EventQueueBatch batch = db.tx(tx -> {
+			EventQueueBatch containersBatch = batchProvider.get();
+			containersBatch.setCause(cause);
+			for (MicronodeContainerReference reference : references) {
+				migrateMicronodeContainer(tx, ac, containersBatch, branch, fromVersion, toVersion, plan, reference);
+			}
+			return containersBatch;
+		});
+		db.tx(() -> {
+			batch.dispatch();
+		});
+	}
+
 	/**
 	 * Migrate the draft container. Internally we will also check whether the container is also the published container and handle this case correctly.
 	 *
@@ -135,13 +210,14 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 	 * @param container
 	 * @param fromVersion
 	 * @param toVersion
-	 * @param touchedFields
+	 * @param plan
+	 * @param reference
 	 * @param nextDraftVersion
 	 * @throws Exception
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, EventQueueBatch sqb, HibBranch branch, HibNode node,
 		NodeGraphFieldContainer container, HibMicroschemaVersion fromVersion, HibMicroschemaVersion toVersion,
-		Set<String> touchedFields, VersionNumber nextDraftVersion)
+		FieldMigrationPlan plan, MicronodeContainerReference reference, VersionNumber nextDraftVersion)
 		throws Exception {
 		NodeDaoWrapper nodeDao = Tx.get().nodeDao();
 		ContentDaoWrapper contentDao = Tx.get().contentDao();
@@ -164,7 +240,7 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 			migrated.setVersion(nextDraftVersion);
 		}
 
-		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields);
+		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, plan, reference);
 
 		// Ensure the search index is updated accordingly
 		sqb.add(migrated.onUpdated(branchUuid, DRAFT));
@@ -174,56 +250,51 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 	}
 
 	/**
-	 * Migrate the given micronode container.
+	 * Migrate the referenced micronode container.
 	 *
+	 * @param tx
 	 * @param ac
 	 * @param batch
 	 * @param branch
 	 * @param fromVersion
 	 * @param toVersion
-	 * @param container
-	 * @param touchedFields
-	 * @param errorsDetected
+	 * @param plan
+	 * @param reference
+	 *            Reference to the container and the fields which need to be migrated
+	 * @throws Exception
 	 */
-	private void migrateMicronodeContainer(NodeMigrationActionContextImpl ac, EventQueueBatch batch, HibBranch branch,
-										   HibMicroschemaVersion fromVersion,
-										   HibMicroschemaVersion toVersion, NodeGraphFieldContainer container, Set<String> touchedFields,
-										   List<Exception> errorsDetected) {
-		String containerUuid = container.getUuid();
+	private void migrateMicronodeContainer(Tx tx, NodeMigrationActionContextImpl ac, EventQueueBatch batch, HibBranch branch,
+		HibMicroschemaVersion fromVersion, HibMicroschemaVersion toVersion, FieldMigrationPlan plan, MicronodeContainerReference reference)
+		throws Exception {
+		ContentDaoWrapper contentDao = tx.contentDao();
+		String branchUuid = branch.getUuid();
+		NodeGraphFieldContainer container = tx.getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, reference.getContainerId());
 
+		// The container may have been replaced by a newer draft since the references were loaded
+		if (container == null || !container.isDraft(branchUuid)) {
+			return;
+		}
 		if (log.isDebugEnabled()) {
-			log.debug("Migrating container {" + containerUuid + "}");
+			log.debug("Migrating container {" + container.getUuid() + "}");
 		}
-		String branchUuid = branch.getUuid();
-
-		// Run the actual migration in a dedicated transaction
-		try {
-			db.tx(tx -> {
-				ContentDaoWrapper contentDao = tx.contentDao();
-
-				HibNode node = contentDao.getNode(container);
-				String languageTag = container.getLanguageTag();
-				ac.getNodeParameters().setLanguages(languageTag);
-				ac.getVersioningParameters().setVersion("draft");
-				NodeGraphFieldContainer oldPublished = contentDao.getGraphFieldContainer(node, languageTag, branchUuid, PUBLISHED);
-
-				VersionNumber nextDraftVersion = null;
-				// 1. Check whether there is any other published container which we need to handle separately
-				if (oldPublished != null && !oldPublished.equals(container)) {
-					nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, container, fromVersion, toVersion, touchedFields);
-					nextDraftVersion = nextDraftVersion.nextDraft();
-				}
-
-				// 2. Migrate the draft container. This will also update the draft edge.
-				migrateDraftContainer(ac, batch, branch, node, container, fromVersion, toVersion, touchedFields, nextDraftVersion);
 
-				postMigrationPurge(container, oldPublished);
-			});
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + containerUuid + "} during schema migration.", e1);
-			errorsDetected.add(e1);
+		HibNode node = contentDao.getNode(container);
+		String languageTag = container.getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+		NodeGraphFieldContainer oldPublished = contentDao.getGraphFieldContainer(node, languageTag, branchUuid, PUBLISHED);
+
+		VersionNumber nextDraftVersion = null;
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, container, fromVersion, toVersion, plan, reference);
+			nextDraftVersion = nextDraftVersion.nextDraft();
 		}
 
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, batch, branch, node, container, fromVersion, toVersion, plan, reference, nextDraftVersion);
+
+		postMigrationPurge(container, oldPublished);
 	}
 
 	/**
@@ -239,13 +310,14 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 	 *            Container to be migrated
 	 * @param fromVersion
 	 * @param toVersion
-	 * @param touchedFields
+	 * @param plan
+	 * @param reference
 	 * @return Version of the new published container
 	 * @throws Exception
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, EventQueueBatch sqb, HibBranch branch, HibNode node,
 		NodeGraphFieldContainer container, HibMicroschemaVersion fromVersion, HibMicroschemaVersion toVersion,
-		Set<String> touchedFields) throws Exception {
+		FieldMigrationPlan plan, MicronodeContainerReference reference) throws Exception {
 		NodeDaoWrapper nodeDao = Tx.get().nodeDao();
 		ContentDaoWrapper contentDao = Tx.get().contentDao();
 
@@ -256,14 +328,15 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 		migrated.setVersion(container.getVersion().nextPublished());
 		nodeDao.setPublished(node, ac, migrated, branchUuid);
 
-		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, touchedFields);
+		migrateMicronodeFields(ac, migrated, fromVersion, toVersion, plan, reference);
 		sqb.add(migrated.onUpdated(branchUuid, PUBLISHED));
 		return migrated.getVersion();
 
 	}
 
 	/**
-	 * Migrate all micronode fields from old schema version to new schema version
+	 * Migrate the referenced micronode fields from old schema version to new schema version. Only the micronodes which use the old version will be cloned and
+	 * migrated. Micronodes of other versions within the migrated lists are shared with the old list.
 	 * 
 	 * @param ac
 	 *            action context
@@ -273,41 +346,49 @@ public class MicronodeMigrationImpl extends AbstractMigrationHandler implements
 	 *            old schema version
 	 * @param toVersion
 	 *            new schema version
-	 * @param touchedFields
-	 *            touched fields
+	 * @param plan
+	 *            compiled migration plan
+	 * @param reference
+	 *            reference which lists the fields to be migrated
 	 * @throws Exception
 	 */
 	protected void migrateMicronodeFields(NodeMigrationActionContextImpl ac, NodeGraphFieldContainer container,
-		HibMicroschemaVersion fromVersion, HibMicroschemaVersion toVersion, Set<String> touchedFields) throws Exception {
-		// iterate over all fields with micronodes to migrate
-		for (MicronodeGraphField field : container.getMicronodeFields(fromVersion)) {
+		HibMicroschemaVersion fromVersion, HibMicroschemaVersion toVersion, FieldMigrationPlan plan, MicronodeContainerReference reference)
+		throws Exception {
+		List<String> languageTags = Arrays.asList(container.getLanguageTag());
+
+		// iterate over the micronode fields which use the version
+		for (String fieldKey : reference.getFieldKeys()) {
+			MicronodeGraphField field = container.getMicronode(fieldKey);
+			if (field == null || !fromVersion.equals(field.getMicronode().getSchemaContainerVersion())) {
+				continue;
+			}
 			// clone the field (this will clone the micronode)
-			field = container.createMicronode(field.getFieldKey(), fromVersion);
-			Micronode micronode = field.getMicronode();
-			// transform to rest and migrate
-			MicronodeResponse restModel = micronode.transformToRestSync(ac, 0);
-			migrate(ac, micronode, restModel, fromVersion, toVersion, touchedFields);
+			field = container.createMicronode(fieldKey, fromVersion);
+			migrate(ac, field.getMicronode(), plan, toVersion, languageTags);
 		}
 
-		// iterate over all micronode list fields to migrate
-		for (MicronodeGraphFieldList field : container.getMicronodeListFields(fromVersion)) {
-			MicronodeGraphFieldList oldListField = field;
+		// iterate over the micronode list fields which contain micronodes of the version
+		for (String fieldKey : reference.getListFieldKeys()) {
+			MicronodeGraphFieldList oldListField = container.getMicronodeList(fieldKey);
+			if (oldListField == null) {
+				continue;
+			}
 
-			// clone the field (this will not clone the micronodes)
-			field = container.createMicronodeFieldList(field.getFieldKey());
+			// create a new list (this will not clone the micronodes)
+			MicronodeGraphFieldList field = container.createMicronodeFieldList(fieldKey);
 
-			// clone every micronode
 			for (MicronodeGraphField oldField : oldListField.getList()) {
 				Micronode oldMicronode = oldField.getMicronode();
-				Micronode newMicronode = field.createMicronode();
-				newMicronode.setSchemaContainerVersion(oldMicronode.getSchemaContainerVersion());
-				newMicronode.clone(oldMicronode);
-
-				// migrate the micronode, if it uses the fromVersion
-				if (newMicronode.getSchemaContainerVersion().equals(fromVersion)) {
-					// transform to rest and migrate
-					MicronodeResponse restModel = newMicronode.transformToRestSync(ac, 0);
-					migrate(ac, newMicronode, restModel, fromVersion, toVersion, touchedFields);
+				if (fromVersion.equals(oldMicronode.getSchemaContainerVersion())) {
+					// clone and migrate the micronode, since it uses the fromVersion
+					Micronode newMicronode = field.createMicronode();
+					newMicronode.setSchemaContainerVersion(fromVersion);
+					newMicronode.clone(oldMicronode);
+					migrate(ac, newMicronode, plan, toVersion, languageTags);
+				} else {
+					// micronodes of other versions are not changed and can be shared with the old list
+					field.addMicronode(oldMicronode);
 				}
 			}
 		}
@@ -36,6 +36,10 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private JobStatus status;
 
+	private String checkpoint;
+
+	private boolean checkpointChanged = false;
+
 	public MigrationStatusHandlerImpl(Job job, JobType type) {
 		this.job = job;
 	}
@@ -51,6 +55,10 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		}
 		job.setCompletionCount(completionCount);
 		job.setStatus(status);
+		if (checkpointChanged) {
+			job.setCheckpoint(checkpoint);
+			checkpointChanged = false;
+		}
 
 		Tx.get().getGraph().commit();
 		return this;
@@ -85,6 +93,8 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	 */
 	public MigrationStatusHandler done() {
 		setStatus(COMPLETED);
+		// The checkpoint is no longer needed once the migration has been completed
+		setCheckpoint(null);
 		log.info("Migration completed without errors.");
 		job.setStopTimestamp();
 		commit();
@@ -132,4 +142,10 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		completionCount++;
 	}
 
+	@Override
+	public void setCheckpoint(String checkpoint) {
+		this.checkpoint = checkpoint;
+		this.checkpointChanged = true;
+	}
+
 }
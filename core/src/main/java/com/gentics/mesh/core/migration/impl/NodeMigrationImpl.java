@@ -6,10 +6,9 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 import static com.gentics.mesh.metric.SimpleMetric.NODE_MIGRATION_PENDING;
 
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
@@ -28,10 +27,9 @@ import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandlerImpl;
 import com.gentics.mesh.core.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.migration.FieldMigrationPlan;
 import com.gentics.mesh.core.migration.NodeMigration;
 import com.gentics.mesh.core.rest.event.node.SchemaMigrationCause;
-import com.gentics.mesh.core.rest.node.NodeResponse;
-import com.gentics.mesh.core.rest.schema.SchemaVersionModel;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -73,17 +71,16 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 			HibBranch branch = context.getBranch();
 			MigrationStatusHandler status = context.getStatus();
 
-			// Prepare the migration - Collect the migration scripts
-			Set<String> touchedFields = new HashSet<>();
-			SchemaVersionModel newSchema = db.tx(() -> toVersion.getSchema());
-
+			// Prepare the migration - Compile the schema changes into a migration plan
+			FieldMigrationPlan plan;
 			try {
-				db.tx(() -> {
-					prepareMigration(fromVersion, touchedFields);
+				plan = db.tx(() -> {
+					FieldMigrationPlan compiled = FieldMigrationPlan.compile(fromVersion);
 					if (status != null) {
 						status.setStatus(RUNNING);
 						status.commit();
 					}
+					return compiled;
 				});
 			} catch (Exception e) {
 				log.error("Error while preparing migration");
@@ -115,7 +112,7 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 
 			List<Exception> errorsDetected = migrateLoop(containers, cause, status, (batch, container, errors) -> {
 				try (WriteLock lock = writeLock.lock(context)) {
-					migrateContainer(context, batch, container, fromVersion, newSchema, errors, touchedFields);
+					migrateContainer(context, batch, container, errors, plan);
 				}
 				if (metrics.isEnabled()) {
 					migrationGauge.decrementAndGet();
@@ -144,15 +141,13 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 	 * @param batch
 	 * @param container
 	 *            Container to be migrated
-	 * @param fromVersion
-	 * @param newSchema
 	 * @param errorsDetected
-	 * @param touchedFields
+	 * @param plan
+	 *            Compiled migration plan
 	 * @return
 	 */
 	private void migrateContainer(NodeMigrationActionContext ac, EventQueueBatch batch, NodeGraphFieldContainer container,
-		HibSchemaVersion fromVersion, SchemaVersionModel newSchema, List<Exception> errorsDetected,
-		Set<String> touchedFields) {
+		List<Exception> errorsDetected, FieldMigrationPlan plan) {
 		ContentDaoWrapper contentDao = Tx.get().contentDao();
 
 		String containerUuid = container.getUuid();
@@ -178,14 +173,13 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 				boolean hasSameOldSchemaVersion = container != null
 					&& container.getSchemaContainerVersion().getId().equals(container.getSchemaContainerVersion().getId());
 				if (hasSameOldSchemaVersion) {
-					nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, oldPublished, fromVersion, toVersion, touchedFields,
-						newSchema);
+					nextDraftVersion = migratePublishedContainer(ac, batch, branch, node, oldPublished, toVersion, plan);
 					nextDraftVersion = nextDraftVersion.nextDraft();
 				}
 
 			}
 			// 2. Migrate the draft container. This will also update the draft edge.
-			migrateDraftContainer(ac, batch, branch, node, container, fromVersion, toVersion, touchedFields, newSchema, nextDraftVersion);
+			migrateDraftContainer(ac, batch, branch, node, container, toVersion, plan, nextDraftVersion);
 
 			postMigrationPurge(container, oldPublished);
 		} catch (Exception e1) {
@@ -207,19 +201,15 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 	 *            Node of the container
 	 * @param container
 	 *            Container to be migrated
-	 * @param fromVersion
 	 * @param toVersion
-	 * @param touchedFields
-	 * @param newSchema
-	 *            new schema used to serialize the REST model
+	 * @param plan
+	 *            Compiled migration plan
 	 * @param nextDraftVersion
 	 *            Suggested new draft version
 	 * @throws Exception
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContext ac, EventQueueBatch sqb, HibBranch branch, HibNode node,
-		NodeGraphFieldContainer container, HibSchemaVersion fromVersion, HibSchemaVersion toVersion,
-		Set<String> touchedFields,
-		SchemaVersionModel newSchema, VersionNumber nextDraftVersion)
+		NodeGraphFieldContainer container, HibSchemaVersion toVersion, FieldMigrationPlan plan, VersionNumber nextDraftVersion)
 		throws Exception {
 		NodeDaoWrapper nodeDao = Tx.get().nodeDao();
 		ContentDaoWrapper contentDao = Tx.get().contentDao();
@@ -233,10 +223,8 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 		boolean publish = container.isPublished(branchUuid);
 
 		ac.getVersioningParameters().setVersion(container.getVersion().getFullVersion());
-		ac.getGenericParameters().setFields("fields");
-		NodeResponse restModel = nodeDao.transformToRestSync(node, ac, 0, languageTag);
 
-		// Actual migration - Create the new version
+		// Actual migration - Create the new version. The fields will be cloned by reference.
 		NodeGraphFieldContainer migrated = contentDao.createGraphFieldContainer(node, container.getLanguageTag(), branch, container.getEditor(),
 			container, true);
 
@@ -251,8 +239,8 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 			migrated.setVersion(nextDraftVersion);
 		}
 
-		// Pass the new version through the migration scripts and update the version
-		migrate(ac, migrated, restModel, fromVersion, toVersion, touchedFields);
+		// Apply the migration plan to the new version and update the version
+		migrate(ac, migrated, plan, toVersion, Arrays.asList(languageTag));
 
 		// Ensure the search index is updated accordingly
 		sqb.add(migrated.onUpdated(branchUuid, DRAFT));
@@ -272,16 +260,14 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 	 *            Node of the container
 	 * @param content
 	 *            Container to be migrated
-	 * @param fromVersion
 	 * @param toVersion
-	 * @param touchedFields
-	 * @param newSchema
+	 * @param plan
+	 *            Compiled migration plan
 	 * @return Version of the new published container
 	 * @throws Exception
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContext ac, EventQueueBatch sqb, HibBranch branch, HibNode node,
-		NodeGraphFieldContainer content, HibSchemaVersion fromVersion, HibSchemaVersion toVersion,
-		Set<String> touchedFields, SchemaVersionModel newSchema) throws Exception {
+		NodeGraphFieldContainer content, HibSchemaVersion toVersion, FieldMigrationPlan plan) throws Exception {
 		NodeDaoWrapper nodeDao = Tx.get().nodeDao();
 		ContentDaoWrapper contentDao = Tx.get().contentDao();
 
@@ -289,9 +275,6 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 		String branchUuid = branch.getUuid();
 
 		ac.getVersioningParameters().setVersion("published");
-		ac.getGenericParameters().setFields("fields");
-
-		NodeResponse restModel = nodeDao.transformToRestSync(node, ac, 0, languageTag);
 
 		NodeGraphFieldContainer migrated = contentDao.createGraphFieldContainer(node, content.getLanguageTag(), branch, content.getEditor(),
 			content, true);
@@ -299,7 +282,7 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 		migrated.setVersion(content.getVersion().nextPublished());
 		nodeDao.setPublished(node, ac, migrated, branchUuid);
 
-		migrate(ac, migrated, restModel, fromVersion, toVersion, touchedFields);
+		migrate(ac, migrated, plan, toVersion, Arrays.asList(languageTag));
 		sqb.add(migrated.onUpdated(branchUuid, PUBLISHED));
 		return migrated.getVersion();
 	}
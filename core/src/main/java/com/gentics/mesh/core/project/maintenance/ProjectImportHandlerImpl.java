@@ -0,0 +1,413 @@
+package com.gentics.mesh.core.project.maintenance;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.binary.Binaries;
+import com.gentics.mesh.core.data.binary.HibBinary;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.user.MeshAuthUser;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.endpoint.node.NodeOperation;
+import com.gentics.mesh.core.endpoint.node.NodeOperationProcessor;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.core.rest.job.JobWarningList;
+import com.gentics.mesh.core.rest.job.warning.JobWarning;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.parameter.impl.PublishParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
+import com.gentics.mesh.shared.SharedKeys;
+import com.gentics.mesh.storage.BinaryStorage;
+import com.gentics.mesh.util.FileUtils;
+import com.gentics.mesh.util.RxUtil;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.reactivex.Single;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+
+/**
+ * @see ProjectImportHandler
+ *
+ *      The export file contains one operation per line. Nodes and their language variants are imported using the {@link NodeOperation}s of the bulk
+ *      endpoint. Binary files are listed in the binaries manifest lines and are resolved relative to the export file. Files outside of the directory of
+ *      the export file are rejected:
+ *
+ *      <pre>
+ * {"op": "create", "uuid": "optional uuid", "node": { node create request }}
+ * {"op": "upsert", "uuid": "uuid", "node": { node create or update request }}
+ * {"op": "binary", "uuid": "uuid", "language": "en", "field": "image", "file": "binaries/image.jpg", "filename": "image.jpg", "mimeType": "image/jpeg"}
+ * {"op": "publish", "uuid": "uuid", "language": "optional language"}
+ *      </pre>
+ *
+ *      The global mass insert intent affects all transactions of the instance. The import should thus be run while the instance is not used otherwise.
+ */
+@Singleton
+public class ProjectImportHandlerImpl implements ProjectImportHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectImportHandlerImpl.class);
+
+	/**
+	 * Maximum amount of warnings which will be stored in the job.
+	 */
+	private static final int MAX_WARNINGS = 1000;
+
+	private final Database db;
+
+	private final NodeOperationProcessor processor;
+
+	private final Binaries binaries;
+
+	private final BinaryStorage binaryStorage;
+
+	private final Vertx rxVertx;
+
+	@Inject
+	public ProjectImportHandlerImpl(Database db, NodeOperationProcessor processor, Binaries binaries, BinaryStorage binaryStorage, Vertx rxVertx) {
+		this.db = db;
+		this.processor = processor;
+		this.binaries = binaries;
+		this.binaryStorage = binaryStorage;
+		this.rxVertx = rxVertx;
+	}
+
+	@Override
+	public Single<JobWarningList> importNodes(HibProject project, String userUuid, String path, int batchSize, Consumer<Long> progress) {
+		return Single.fromCallable(() -> {
+			File exportFile = new File(path);
+			if (!exportFile.isFile()) {
+				throw error(BAD_REQUEST, "project_import_file_not_found", path);
+			}
+			MeshAuthUser user = db.tx(tx -> {
+				return tx.userDao().findMeshAuthUserByUuid(userUuid);
+			});
+			if (user == null) {
+				throw error(NOT_FOUND, "object_not_found_for_uuid", userUuid);
+			}
+
+			ImportContext context = new ImportContext(project, user, exportFile.getCanonicalFile().getParentFile());
+			long handled = 0;
+			db.setMassInsertIntent();
+			try (BufferedReader reader = Files.newBufferedReader(exportFile.toPath(), UTF_8)) {
+				List<ImportOperation> pending = new ArrayList<>(batchSize);
+				long lineNumber = 0;
+				String line;
+				while ((line = reader.readLine()) != null) {
+					lineNumber++;
+					if (isBlank(line)) {
+						continue;
+					}
+					pending.add(new ImportOperation(context, lineNumber, line));
+					if (pending.size() >= batchSize) {
+						handled += apply(pending);
+						pending.clear();
+						progress.accept(handled);
+					}
+				}
+				handled += apply(pending);
+				progress.accept(handled);
+			} finally {
+				db.resetIntent();
+			}
+			log.info("Imported {" + handled + "} operations from {" + path + "} with {" + context.failures + "} failures.");
+
+			// The imported nodes have not been indexed since no events were dispatched.
+			SyncEventHandler.invokeSync(rxVertx.getDelegate());
+			// For the same reason the caches of all instances which may contain the structure of the project must be cleared.
+			rxVertx.eventBus().publish(CLEAR_PATH_STORE.address, null);
+			return context.warnings;
+		});
+	}
+
+	/**
+	 * Apply the operations. The events of the operations are never dispatched. The search index will be synchronized once the import has finished.
+	 *
+	 * @param operations
+	 * @return Amount of handled operations
+	 */
+	private int apply(List<ImportOperation> operations) {
+		processor.apply(operations, false);
+		return operations.size();
+	}
+
+	/**
+	 * Store the binary file unless it has already been stored during the import.
+	 *
+	 * @param context
+	 * @param file
+	 * @param hash
+	 * @return Uuid of the stored binary
+	 */
+	private String storeBinary(ImportContext context, File file, String hash) {
+		return context.storedBinaries.computeIfAbsent(hash, h -> {
+			String binaryUuid = UUIDUtil.randomUUID();
+			String temporaryId = UUIDUtil.randomUUID();
+			rxVertx.fileSystem().rxOpen(file.getAbsolutePath(), new OpenOptions().setRead(true))
+				.flatMapPublisher(RxUtil::toBufferFlow)
+				.to(stream -> binaryStorage.storeInTemp(stream, temporaryId))
+				.andThen(binaryStorage.moveInPlace(binaryUuid, temporaryId))
+				.blockingAwait();
+			return binaryUuid;
+		});
+	}
+
+	private String hash(File file) {
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			MessageDigest md = MessageDigest.getInstance("SHA-512");
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				md.update(buffer, 0, read);
+			}
+			return FileUtils.bytesToHex(md.digest());
+		} catch (IOException e) {
+			throw error(BAD_REQUEST, "project_import_file_not_found", file.getPath());
+		} catch (Exception e) {
+			throw new RuntimeException("Error while hashing binary file {" + file.getPath() + "}", e);
+		}
+	}
+
+	/**
+	 * State of a running import.
+	 */
+	private static class ImportContext {
+
+		private final HibProject project;
+
+		private final MeshAuthUser user;
+
+		private final File baseDir;
+
+		private final JobWarningList warnings = new JobWarningList();
+
+		/**
+		 * Binaries which have already been stored during the import. Transactions which will be retried can thus reuse the stored data.
+		 */
+		private final Map<String, String> storedBinaries = new HashMap<>();
+
+		private long failures = 0;
+
+		ImportContext(HibProject project, MeshAuthUser user, File baseDir) {
+			this.project = project;
+			this.user = user;
+			this.baseDir = baseDir;
+		}
+
+		void fail(ImportOperation operation, Throwable e) {
+			failures++;
+			AbstractRestException restError = NodeOperation.restError(e);
+			String message;
+			if (restError != null) {
+				message = operation.translate(restError);
+			} else {
+				log.error("Error while importing line {" + operation.getIndex() + "}", e);
+				Throwable cause = e;
+				while (cause.getCause() != null) {
+					cause = cause.getCause();
+				}
+				message = String.valueOf(cause.getMessage());
+			}
+			if (warnings.getData().size() < MAX_WARNINGS) {
+				JobWarning warning = new JobWarning();
+				warning.setType("import-failure");
+				warning.setMessage(message);
+				warning.getProperties().put("line", String.valueOf(operation.getIndex()));
+				if (operation.getOp() != null) {
+					warning.getProperties().put("op", operation.getOp());
+				}
+				if (operation.getUuid() != null) {
+					warning.getProperties().put("uuid", operation.getUuid());
+				}
+				warnings.add(warning);
+			}
+		}
+	}
+
+	/**
+	 * Single operation of the export file. In addition to the node operations, binary manifest lines are supported.
+	 */
+	private class ImportOperation extends NodeOperation {
+
+		private static final String BINARY = "binary";
+
+		private final ImportContext importContext;
+
+		private final ImportActionContext ac;
+
+		private String field;
+
+		private File file;
+
+		private String fileName;
+
+		private String mimeType;
+
+		private String hash;
+
+		ImportOperation(ImportContext context, long lineNumber, String line) {
+			super(lineNumber, line);
+			this.importContext = context;
+			this.ac = new ImportActionContext(context.user, context.project, this);
+		}
+
+		@Override
+		public InternalActionContext getActionContext() {
+			return ac;
+		}
+
+		@Override
+		protected void parseOperation(JsonObject json) {
+			if (!BINARY.equals(getOp())) {
+				super.parseOperation(json);
+				return;
+			}
+			field = json.getString("field");
+			fileName = json.getString("filename");
+			mimeType = json.getString("mimeType");
+			String filePath = json.getString("file");
+			if (isEmpty(getLanguage()) || isEmpty(field) || isEmpty(filePath)) {
+				throw error(BAD_REQUEST, "error_parse_request_json_error");
+			}
+			file = resolve(filePath);
+			if (!file.isFile()) {
+				throw error(BAD_REQUEST, "project_import_file_not_found", filePath);
+			}
+			if (isEmpty(fileName)) {
+				fileName = file.getName();
+			}
+			hash = hash(file);
+		}
+
+		/**
+		 * Resolve the path relative to the directory of the export file. Absolute paths and paths which point outside of the directory are rejected.
+		 *
+		 * @param filePath
+		 * @return
+		 */
+		private File resolve(String filePath) {
+			if (new File(filePath).isAbsolute()) {
+				throw error(BAD_REQUEST, "project_import_file_outside_export_dir", filePath);
+			}
+			File resolved;
+			try {
+				resolved = new File(importContext.baseDir, filePath).getCanonicalFile();
+			} catch (IOException e) {
+				throw error(BAD_REQUEST, "project_import_file_not_found", filePath);
+			}
+			if (!resolved.toPath().startsWith(importContext.baseDir.toPath())) {
+				throw error(BAD_REQUEST, "project_import_file_outside_export_dir", filePath);
+			}
+			return resolved;
+		}
+
+		@Override
+		protected void applyOperation(Tx tx, EventQueueBatch batch) {
+			applyBinary(tx);
+		}
+
+		@Override
+		protected void succeed(String nodeUuid, HttpResponseStatus status) {
+			// Only the failures are reported
+		}
+
+		@Override
+		protected void fail(Throwable e) {
+			importContext.fail(this, e);
+		}
+
+		/**
+		 * Set the binary field of the draft. The draft will be modified in place since the imported content has not been published yet.
+		 *
+		 * @param tx
+		 */
+		private void applyBinary(Tx tx) {
+			ContentDaoWrapper contentDao = tx.contentDao();
+			HibBranch branch = tx.getBranch(ac, importContext.project);
+			HibNode node = tx.nodeDao().loadObjectByUuid(importContext.project, ac, getUuid(), UPDATE_PERM);
+			NodeGraphFieldContainer container = contentDao.getGraphFieldContainer(node, getLanguage(), branch, DRAFT);
+			if (container == null) {
+				throw error(NOT_FOUND, "error_language_not_found", getLanguage());
+			}
+			FieldSchema fieldSchema = container.getSchemaContainerVersion().getSchema().getField(field);
+			if (fieldSchema == null) {
+				throw error(BAD_REQUEST, "error_schema_definition_not_found", field);
+			}
+			if (!(fieldSchema instanceof BinaryFieldSchema)) {
+				throw error(BAD_REQUEST, "error_found_field_is_not_binary", field);
+			}
+
+			HibBinary binary = binaries.findByHash(hash).runInExistingTx(tx);
+			if (binary == null) {
+				binary = binaries.create(storeBinary(importContext, file, hash), hash, file.length()).runInExistingTx(tx);
+			}
+			BinaryGraphField oldField = container.getBinary(field);
+			if (oldField != null) {
+				oldField.removeField(container);
+			}
+			BinaryGraphField binaryField = container.createBinary(field, binary);
+			binaryField.setFileName(fileName);
+			binaryField.setMimeType(mimeType);
+			if (field.equals(container.getSchemaContainerVersion().getSchema().getSegmentField())) {
+				contentDao.updateWebrootPathInfo(container, branch.getUuid(), "node_conflicting_segmentfield_upload");
+			}
+		}
+	}
+
+	/**
+	 * Action context for a single operation. The node of the operation is returned as the request body.
+	 */
+	private static class ImportActionContext extends LocalActionContextImpl<NodeResponse> {
+
+		private final NodeOperation operation;
+
+		ImportActionContext(MeshAuthUser user, HibProject project, NodeOperation operation) {
+			// Recursive publishing may commit intermediate safe points and is thus not supported.
+			super(user, NodeResponse.class, new VersioningParametersImpl().draft(), new PublishParametersImpl().setRecursive(false));
+			data().put(SharedKeys.PROJECT_CONTEXT_KEY, project);
+			this.operation = operation;
+		}
+
+		@Override
+		public String getBodyAsString() {
+			return operation.getBody();
+		}
+	}
+}
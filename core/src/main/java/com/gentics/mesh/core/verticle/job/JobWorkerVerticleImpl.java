@@ -1,21 +1,38 @@
 package com.gentics.mesh.core.verticle.job;
 
 import static com.gentics.mesh.core.rest.MeshEvent.JOB_WORKER_ADDRESS;
+import static com.gentics.mesh.metric.SimpleMetric.JOB_PROCESSED;
+import static com.gentics.mesh.metric.SimpleMetric.JOB_QUEUED;
+import static com.gentics.mesh.metric.SimpleMetric.JOB_RUNNING;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
-import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.verticle.AbstractJobVerticle;
 
 import dagger.Lazy;
+import io.micrometer.core.instrument.Counter;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.eventbus.Message;
 
 /**
  * Dedicated verticle which will process jobs.
+ *
+ * Jobs are grouped into lanes by their lane key (see {@link Job#getLaneKey()}). The jobs of a single lane are processed one after another. Up to the
+ * configured job concurrency lanes are processed concurrently.
  */
 @Singleton
 public class JobWorkerVerticleImpl extends AbstractJobVerticle implements JobWorkerVerticle {
@@ -36,10 +53,25 @@ public class JobWorkerVerticleImpl extends AbstractJobVerticle implements JobWor
 
 	private Database db;
 
+	private final MeshOptions options;
+
+	private final MetricsService metrics;
+
+	private final AtomicLong queuedGauge;
+
+	private final AtomicLong runningGauge;
+
+	private final Counter processedCounter;
+
 	@Inject
-	public JobWorkerVerticleImpl(Database db, Lazy<BootstrapInitializer> boot) {
+	public JobWorkerVerticleImpl(Database db, Lazy<BootstrapInitializer> boot, MeshOptions options, MetricsService metrics) {
 		this.db = db;
 		this.boot = boot;
+		this.options = options;
+		this.metrics = metrics;
+		this.queuedGauge = metrics.longGauge(JOB_QUEUED);
+		this.runningGauge = metrics.longGauge(JOB_RUNNING);
+		this.processedCounter = metrics.counter(JOB_PROCESSED);
 	}
 
 	@Override
@@ -54,9 +86,59 @@ public class JobWorkerVerticleImpl extends AbstractJobVerticle implements JobWor
 
 	@Override
 	public Completable executeJob(Message<Object> message) {
-		return Completable.defer(() -> db.tx(tx -> {
-			return tx.jobDao().process();
-		}));
+		return Completable.defer(() -> {
+			List<Completable> jobs = new ArrayList<>();
+			Map<String, List<Completable>> lanes = db.tx(() -> {
+				Map<String, List<Completable>> jobsPerLane = new LinkedHashMap<>();
+				for (Job job : boot.get().jobRoot().findProcessable()) {
+					try {
+						Completable action = track(job.process());
+						jobs.add(action);
+						jobsPerLane.computeIfAbsent(job.getLaneKey(), k -> new ArrayList<>()).add(action);
+					} catch (Exception e) {
+						job.markAsFailed(e);
+						log.error("Error while processing job {" + job.getUuid() + "}");
+					}
+				}
+				return jobsPerLane;
+			});
+
+			int concurrency = options.getJobConcurrency();
+			if (log.isDebugEnabled()) {
+				log.debug("Processing {" + lanes.size() + "} job lanes with a concurrency of {" + concurrency + "}");
+			}
+			Completable processing;
+			if (concurrency <= 1) {
+				processing = Completable.concat(jobs);
+			} else {
+				// The jobs of different lanes don't touch the same data and can thus be processed concurrently. Errors of one lane must not abort the other
+				// lanes.
+				processing = Flowable.fromIterable(lanes.values())
+					.flatMapCompletable(lane -> Completable.concat(lane).subscribeOn(Schedulers.io()), true, concurrency);
+			}
+			// Jobs which were not started due to an error within their lane are no longer queued
+			return processing.doFinally(() -> queuedGauge.set(0));
+		});
+	}
+
+	/**
+	 * Wrap the job action so that the job metrics get updated.
+	 *
+	 * @param job
+	 * @return
+	 */
+	private Completable track(Completable job) {
+		if (!metrics.isEnabled()) {
+			return job;
+		}
+		queuedGauge.incrementAndGet();
+		return job.doOnSubscribe(d -> {
+			queuedGauge.decrementAndGet();
+			runningGauge.incrementAndGet();
+		}).doFinally(() -> {
+			runningGauge.decrementAndGet();
+			processedCounter.increment();
+		});
 	}
 
 }
@@ -7,8 +7,11 @@ import javax.annotation.Nullable;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.MeshFactory;
 import com.gentics.mesh.annotation.Getter;
+import com.gentics.mesh.cache.CachePrewarmer;
+import com.gentics.mesh.cache.ResponseCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheck;
+import com.gentics.mesh.core.endpoint.eventbus.EventFeed;
 import com.gentics.mesh.dagger.module.SearchProviderModule;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -32,6 +35,15 @@ public interface MeshComponent extends BaseMeshComponent {
 	@Getter
 	BucketManager bucketManager();
 
+	@Getter
+	ResponseCache responseCache();
+
+	@Getter
+	EventFeed eventFeed();
+
+	@Getter
+	CachePrewarmer cachePrewarmer();
+
 	/**
 	 * Builder for the main dagger component. It allows injection of options and the mesh instance which will be created by the {@link MeshFactory} outside of
 	 * dagger.
@@ -5,14 +5,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.auth.oauth2.MeshOAuth2ServiceImpl;
+import com.gentics.mesh.cache.CacheEpochs;
+import com.gentics.mesh.cache.CacheEpochsImpl;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NavigationCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectBranchNameCacheImpl;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cache.ProjectNameCacheImpl;
+import com.gentics.mesh.cache.WebrootLinkCache;
+import com.gentics.mesh.cache.WebrootLinkCacheImpl;
 import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cache.WebrootPathCacheImpl;
 import com.gentics.mesh.cli.BootstrapInitializer;
@@ -73,6 +79,8 @@ import com.gentics.mesh.core.migration.NodeMigration;
 import com.gentics.mesh.core.migration.impl.BranchMigrationImpl;
 import com.gentics.mesh.core.migration.impl.MicronodeMigrationImpl;
 import com.gentics.mesh.core.migration.impl.NodeMigrationImpl;
+import com.gentics.mesh.core.project.maintenance.ProjectImportHandler;
+import com.gentics.mesh.core.project.maintenance.ProjectImportHandlerImpl;
 import com.gentics.mesh.core.project.maintenance.ProjectVersionPurgeHandler;
 import com.gentics.mesh.core.project.maintenance.ProjectVersionPurgeHandlerImpl;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
@@ -160,12 +168,21 @@ public abstract class CommonBindModule {
 	@Binds
 	abstract WebrootPathCache bindWebrootPathCache(WebrootPathCacheImpl e);
 
+	@Binds
+	abstract WebrootLinkCache bindWebrootLinkCache(WebrootLinkCacheImpl e);
+
+	@Binds
+	abstract NavigationCache bindNavigationCache(NavigationCacheImpl e);
+
 	@Binds
 	abstract PermissionCache bindPermissionCache(PermissionCacheImpl e);
 
 	@Binds
 	abstract ProjectNameCache bindProjectNameCache(ProjectNameCacheImpl e);
 
+	@Binds
+	abstract CacheEpochs bindCacheEpochs(CacheEpochsImpl e);
+
 	@Binds
 	abstract PluginEnvironment bindPluginEnv(PluginEnvironmentImpl e);
 
@@ -268,6 +285,9 @@ public abstract class CommonBindModule {
 	@Binds
 	abstract ProjectVersionPurgeHandler projectVersionPurgeHandler(ProjectVersionPurgeHandlerImpl e);
 
+	@Binds
+	abstract ProjectImportHandler projectImportHandler(ProjectImportHandlerImpl e);
+
 	@Binds
 	abstract ServerSchemaStorage serverSchemaStorage(ServerSchemaStorageImpl e);
 
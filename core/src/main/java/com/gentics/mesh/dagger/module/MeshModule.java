@@ -11,6 +11,7 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.handler.impl.MeshBodyHandlerImpl;
 import com.gentics.mesh.image.ImgscalrImageManipulator;
+import com.gentics.mesh.metric.MetricsService;
 import com.hazelcast.core.HazelcastInstance;
 
 import dagger.Module;
@@ -38,12 +39,14 @@ public class MeshModule {
 	 * @param vertx
 	 * @param options
 	 * @param boot
+	 * @param metrics
 	 * @return
 	 */
 	@Provides
 	@Singleton
-	public static ImageManipulator imageProvider(io.vertx.reactivex.core.Vertx vertx, MeshOptions options, BootstrapInitializer boot) {
-		return new ImgscalrImageManipulator(vertx, options, boot);
+	public static ImageManipulator imageProvider(io.vertx.reactivex.core.Vertx vertx, MeshOptions options, BootstrapInitializer boot,
+		MetricsService metrics) {
+		return new ImgscalrImageManipulator(vertx, options, boot, metrics);
 	}
 
 	/**
@@ -72,6 +72,7 @@ import com.gentics.mesh.core.rest.plugin.PluginDeploymentRequest;
 import com.gentics.mesh.core.rest.plugin.PluginListResponse;
 import com.gentics.mesh.core.rest.plugin.PluginResponse;
 import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
+import com.gentics.mesh.core.rest.project.ProjectImportRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
@@ -225,6 +226,12 @@ public class MeshLocalClientImpl implements MeshLocalClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	@Override
+	public MeshRequest<String> bulkNodes(String projectName, InputStream operations, ParameterProvider... parameters) {
+		// The bulk operations are streamed via the HTTP request and can't be handled locally
+		return null;
+	}
+
 	@Override
 	public MeshRequest<NodeResponse> createNode(String projectName, NodeCreateRequest nodeCreateRequest, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
@@ -476,6 +483,14 @@ public class MeshLocalClientImpl implements MeshLocalClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> importProject(String uuid, ProjectImportRequest request) {
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		ac.setPayloadObject(request);
+		projectCrudHandler.handleImport(ac, uuid);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
 	@Override
 	public MeshRequest<SchemaResponse> assignSchemaToProject(String projectName, String schemaUuid) {
 		LocalActionContextImpl<SchemaResponse> ac = createContext(SchemaResponse.class);
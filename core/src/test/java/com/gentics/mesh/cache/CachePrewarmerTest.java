@@ -0,0 +1,66 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class CachePrewarmerTest extends AbstractMeshTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	public void enablePrewarm() {
+		CacheConfig config = options().getCacheConfig();
+		config.setPrewarmEnabled(true);
+		config.setPrewarmSnapshotPath(new File(folder.getRoot(), "hotkeys.json").getAbsolutePath());
+	}
+
+	@After
+	public void disablePrewarm() {
+		options().getCacheConfig().setPrewarmEnabled(false);
+	}
+
+	@Test
+	public void testPrewarm() {
+		call(() -> client().webroot(PROJECT_NAME, "/News/2015"));
+		assertTrue("The permissions should have been cached.", mesh().permissionCache().size() > 0);
+		assertTrue("The path should have been cached.", mesh().pathCache().size() > 0);
+
+		mesh().cachePrewarmer().saveSnapshot();
+		assertTrue("The snapshot should have been stored.", new File(options().getCacheConfig().getPrewarmSnapshotPath()).exists());
+
+		mesh().permissionCache().clear(false);
+		mesh().pathCache().clear();
+		mesh().branchCache().clear();
+		assertEquals(0, mesh().permissionCache().size());
+
+		mesh().cachePrewarmer().prewarm();
+		assertTrue("The permission cache should have been prewarmed.", mesh().permissionCache().size() > 0);
+		assertTrue("The path cache should have been prewarmed.", mesh().pathCache().size() > 0);
+		assertTrue("The branch cache should have been prewarmed.", mesh().branchCache().size() > 0);
+	}
+
+	@Test
+	public void testPrewarmWithoutSnapshot() {
+		mesh().branchCache().clear();
+		mesh().cachePrewarmer().prewarm();
+		assertTrue("The branch cache should have been prewarmed.", mesh().branchCache().size() > 0);
+	}
+
+}
@@ -8,6 +8,9 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheImpl;
@@ -58,4 +61,106 @@ public class EventAwareCacheTest extends AbstractMeshTest {
 		assertNull("The cache entry should have been invalidated.", USER_STATE_CACHE.get(userUuid()));
 		assertTrue("The other cache entry should be still in the cache.", USER_STATE_CACHE.get(uuid2));
 	}
+
+	@Test
+	public void testScopedEntries() {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setEnabled(false);
+		CacheEpochs epochs = new CacheEpochsImpl(options, () -> null);
+		EventAwareCache<String, Boolean> cache = new EventAwareCacheImpl.Builder<String, Boolean>()
+			.maxSize(100)
+			.events(USER_UPDATED)
+			.setMetricsService(mock(MetricsService.class))
+			.meshOptions(options)
+			.epochs(epochs)
+			.name("testcache")
+			.vertx(vertx())
+			.build();
+
+		cache.put("a", true, "user:1");
+		cache.put("b", true, "user:2", "role:1");
+		cache.put("c", true);
+		assertTrue("The entry was not cached.", cache.get("a"));
+
+		// Only the entries of the invalidated scope should be affected
+		cache.invalidateScopes("role:1");
+		assertTrue("The entry of the other scope should be still in the cache.", cache.get("a"));
+		assertNull("The entry of the scope should have been invalidated.", cache.get("b"));
+		assertTrue("The unscoped entry should be still in the cache.", cache.get("c"));
+
+		// Entries which are stored after the bump are valid again
+		cache.put("b", true, "user:2", "role:1");
+		assertTrue("The entry was not cached.", cache.get("b"));
+
+		// Bumping the epoch directly affects all caches which share the epochs
+		epochs.bump("user:1", "user:2");
+		assertNull("The entry of the scope should have been invalidated.", cache.get("a"));
+		assertNull("The entry of the scope should have been invalidated.", cache.get("b"));
+		assertEquals("Only the unscoped entry should remain.", 1, cache.size());
+	}
+
+	@Test
+	public void testStampedEntries() throws Exception {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setEnabled(false);
+		CacheEpochs epochs = new CacheEpochsImpl(options, () -> null);
+		EventAwareCache<String, Boolean> cache = new EventAwareCacheImpl.Builder<String, Boolean>()
+			.maxSize(100)
+			.events(USER_UPDATED)
+			.setMetricsService(mock(MetricsService.class))
+			.meshOptions(options)
+			.epochs(epochs)
+			.name("testcache")
+			.vertx(vertx())
+			.build();
+
+		// The scope is invalidated while the value is being computed
+		EpochStamp stamp = cache.stamp("user:1");
+		cache.invalidateScopes("user:1");
+		cache.put("a", true, stamp);
+		assertNull("The entry was computed before the invalidation and must not be returned.", cache.get("a"));
+
+		cache.put("a", true, cache.stamp("user:1"));
+		assertTrue("The entry was not cached.", cache.get("a"));
+
+		// Without a cluster the epochs are bumped right away, even on the event loop
+		CountDownLatch latch = new CountDownLatch(1);
+		vertx().runOnContext(v -> {
+			cache.invalidateScopes("user:1");
+			latch.countDown();
+		});
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertNull("The entry of the scope should have been invalidated.", cache.get("a"));
+	}
+
+	@Test
+	public void testRemovedScopes() {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setEnabled(false);
+		CacheEpochs epochs = new CacheEpochsImpl(options, () -> null);
+		EventAwareCache<String, Boolean> cache = new EventAwareCacheImpl.Builder<String, Boolean>()
+			.maxSize(100)
+			.events(USER_UPDATED)
+			.setMetricsService(mock(MetricsService.class))
+			.meshOptions(options)
+			.epochs(epochs)
+			.name("testcache")
+			.vertx(vertx())
+			.build();
+
+		cache.put("a", true, "role:1");
+		cache.put("b", true, "user:1", "role:2");
+		cache.invalidateScopes("role:2");
+		cache.put("b", true, "user:1", "role:2");
+		cache.put("c", true, "user:2");
+		assertTrue(epochs.current("role:2") > 0);
+
+		// Entries of the removed scopes must not become valid again once the epochs start at 0
+		cache.removeScopes("role:1", "role:2");
+		assertEquals("The epoch of the removed scope should have been dropped.", 0, epochs.current("role:2"));
+		assertNull("The entry of the removed scope should have been evicted.", cache.get("a"));
+		assertNull("The entry of the removed scope should have been evicted.", cache.get("b"));
+		assertTrue("The entry of the other scope should be still in the cache.", cache.get("c"));
+		assertEquals(1, cache.size());
+	}
 }
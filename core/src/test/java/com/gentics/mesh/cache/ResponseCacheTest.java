@@ -0,0 +1,92 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.RESPONSE_CACHE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.group.GroupCreateRequest;
+import com.gentics.mesh.core.rest.group.GroupReference;
+import com.gentics.mesh.core.rest.group.GroupResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.role.RoleResponse;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = RESPONSE_CACHE)
+public class ResponseCacheTest extends AbstractMeshTest {
+
+	private ResponseCache cache() {
+		return mesh().responseCache();
+	}
+
+	/**
+	 * Assigning a role to a group does not change the etag of the role, but the groups are part of the role response.
+	 */
+	@Test
+	public void testRoleGroupAssignment() {
+		RoleResponse role = call(() -> client().findRoleByUuid(roleUuid()));
+		assertTrue("The response should have been cached", cache().size() > 0);
+		GroupResponse group = call(() -> client().createGroup(new GroupCreateRequest().setName("extraGroup")));
+		assertFalse(role.getGroups().stream().map(GroupReference::getUuid).anyMatch(group.getUuid()::equals));
+
+		waitForEvent(GROUP_ROLE_ASSIGNED, () -> {
+			call(() -> client().addRoleToGroup(group.getUuid(), roleUuid()));
+		});
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+
+		RoleResponse updatedRole = call(() -> client().findRoleByUuid(roleUuid()));
+		assertTrue("The new group should be listed in the role", updatedRole.getGroups().stream().map(GroupReference::getUuid)
+			.anyMatch(group.getUuid()::equals));
+	}
+
+	/**
+	 * Renaming the target of a link does not change the etag of the node which contains the link.
+	 */
+	@Test
+	public void testLinkTargetRenamed() {
+		String nodeUuid;
+		String targetUuid;
+		try (Tx tx = tx()) {
+			nodeUuid = content("news overview").getUuid();
+			targetUuid = content("concorde").getUuid();
+		}
+		updateNode(nodeUuid, "content", FieldUtil.createHtmlField("<a href=\"{{mesh.link('" + targetUuid + "')}}\">Link</a>"));
+
+		NodeParametersImpl parameters = new NodeParametersImpl().setResolveLinks(LinkType.SHORT);
+		NodeResponse node = call(() -> client().findNodeByUuid(projectName(), nodeUuid, parameters));
+		assertTrue("The response should have been cached", cache().size() > 0);
+		assertFalse(node.getFields().getHtmlField("content").getHTML().contains("Renamed.en.html"));
+
+		updateNode(targetUuid, "slug", FieldUtil.createStringField("Renamed.en.html"));
+
+		NodeResponse updatedNode = call(() -> client().findNodeByUuid(projectName(), nodeUuid, parameters));
+		assertEquals(node.getVersion(), updatedNode.getVersion());
+		assertTrue("The link should point to the renamed node", updatedNode.getFields().getHtmlField("content").getHTML().contains("Renamed.en.html"));
+	}
+
+	private void updateNode(String uuid, String fieldKey, Field field) {
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put(fieldKey, field);
+		waitForEvent(NODE_UPDATED, () -> {
+			call(() -> client().updateNode(projectName(), uuid, request));
+		});
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+	}
+}
@@ -10,14 +10,20 @@ import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 
 import java.io.IOException;
 
 import org.junit.Test;
 
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
+import com.gentics.mesh.parameter.client.BackupParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
@@ -56,4 +62,34 @@ public class AdminEndpointBackupRestoreLocalTest extends AbstractMeshTest {
 		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
 		call(() -> client().findNodeByUuid(NEW_PROJECT_NAME, baseNodeUuid), NOT_FOUND, "project_not_found", NEW_PROJECT_NAME);
 	}
+
+	@Test
+	public void testIncrementalBackupRestore() throws IOException {
+		grantAdmin();
+
+		JobListResponse jobs = waitForJob(() -> {
+			GenericMessageResponse message = call(() -> client().invokeBackup(new BackupParametersImpl().setIncremental(true)));
+			assertThat(message).matches("backup_enqueued");
+		});
+		JobResponse job = jobs.getData().get(0);
+		assertEquals(JobStatus.COMPLETED, job.getStatus());
+		assertNotNull("The job should reference the written backup file.", job.getProperties().get("backupFile"));
+
+		// The second incremental backup only contains the created project
+		ProjectResponse backedUpProject = call(() -> client().createProject(new ProjectCreateRequest().setName("backedUp").setSchemaRef("folder")));
+		waitForJob(() -> {
+			call(() -> client().invokeBackup(new BackupParametersImpl().setIncremental(true)));
+		});
+
+		ProjectResponse newProject = call(() -> client().createProject(new ProjectCreateRequest().setName("notBackedUp").setSchemaRef("folder")));
+
+		expect(GRAPH_RESTORE_START).one();
+		expect(GRAPH_RESTORE_FINISHED).one();
+		GenericMessageResponse message = call(() -> client().invokeRestore());
+		awaitEvents();
+		assertThat(message).matches("restore_finished");
+
+		call(() -> client().findNodeByUuid("backedUp", backedUpProject.getRootNode().getUuid()));
+		call(() -> client().findNodeByUuid("notBackedUp", newProject.getRootNode().getUuid()), NOT_FOUND, "project_not_found", "notBackedUp");
+	}
 }
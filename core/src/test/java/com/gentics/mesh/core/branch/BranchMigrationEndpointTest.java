@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.branch;
 
+import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 import static com.gentics.mesh.test.ClientHelper.call;
@@ -33,6 +34,7 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -242,6 +244,67 @@ public class BranchMigrationEndpointTest extends AbstractMeshTest {
 		triggerAndWaitForJob(jobUuid);
 	}
 
+	@Test
+	public void testMigrateInConcurrentBatches() throws Throwable {
+		options().setMigrationMaxBatchSize(3);
+		options().setMigrationConcurrency(2);
+		try {
+			EventQueueBatch batch = createBatch();
+			HibBranch newBranch = tx(tx -> {
+				return tx.branchDao().create(project(), "newbranch", user(), batch);
+			});
+			triggerAndWaitForJob(requestBranchMigration(newBranch));
+
+			try (Tx tx = tx()) {
+				for (HibNode node : tx.nodeDao().findAll(project())) {
+					assertThat(tx.contentDao().getGraphFieldContainers(node, newBranch, ContainerType.INITIAL))
+						.as("Initial containers of node {" + node.getUuid() + "}").isNotEmpty();
+				}
+			}
+		} finally {
+			options().setMigrationMaxBatchSize(MeshOptions.DEFAULT_MIGRATION_MAX_BATCH_SIZE);
+			options().setMigrationConcurrency(MeshOptions.DEFAULT_MIGRATION_CONCURRENCY);
+		}
+	}
+
+	@Test
+	public void testResumeFromCheckpoint() throws Throwable {
+		options().setMigrationMaxBatchSize(2);
+		try {
+			EventQueueBatch batch = createBatch();
+			HibBranch newBranch = tx(tx -> {
+				return tx.branchDao().create(project(), "newbranch", user(), batch);
+			});
+			List<String> uuids = tx(tx -> {
+				return tx.nodeDao().findAll(project()).stream().map(HibNode::getUuid).sorted().collect(Collectors.toList());
+			});
+			String checkpoint = uuids.get(uuids.size() / 2);
+
+			// Simulate a previous run which was interrupted after the checkpoint has been persisted
+			String jobUuid = requestBranchMigration(newBranch);
+			tx(tx -> {
+				toGraph(tx.jobDao().findByUuid(jobUuid)).setCheckpoint(checkpoint);
+			});
+			triggerAndWaitForJob(jobUuid);
+
+			try (Tx tx = tx()) {
+				for (String uuid : uuids) {
+					HibNode node = tx.nodeDao().findByUuid(project(), uuid);
+					if (uuid.compareTo(checkpoint) > 0) {
+						assertThat(tx.contentDao().getGraphFieldContainers(node, newBranch, ContainerType.INITIAL))
+							.as("Initial containers of node {" + uuid + "} after the checkpoint").isNotEmpty();
+					} else {
+						assertThat(tx.contentDao().getGraphFieldContainers(node, newBranch, ContainerType.INITIAL))
+							.as("Initial containers of node {" + uuid + "} before the checkpoint").isEmpty();
+					}
+				}
+				assertThat(toGraph(tx.jobDao().findByUuid(jobUuid)).getCheckpoint()).as("Checkpoint of the completed job").isNull();
+			}
+		} finally {
+			options().setMigrationMaxBatchSize(MeshOptions.DEFAULT_MIGRATION_MAX_BATCH_SIZE);
+		}
+	}
+
 	private void createNode(String baseNodeUuid) {
 		NodeCreateRequest create = new NodeCreateRequest();
 		create.setLanguage("en");
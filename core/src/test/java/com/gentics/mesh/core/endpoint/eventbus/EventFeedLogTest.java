@@ -0,0 +1,155 @@
+package com.gentics.mesh.core.endpoint.eventbus;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.vertx.core.json.JsonObject;
+
+public class EventFeedLogTest {
+
+	private static final String ADDRESS = "mesh.node.updated";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSegmentRollover() throws IOException {
+		File dir = folder.newFolder();
+		// 20 entries are distributed over segments with 2 entries each
+		try (EventFeedLog log = new EventFeedLog(dir, 20)) {
+			append(log, 5);
+			assertEquals(5, log.getLastSeq());
+			assertEquals(1, log.getFirstSeq());
+		}
+		assertEquals(3, segments(dir).size());
+
+		try (EventFeedLog log = new EventFeedLog(dir, 20)) {
+			List<JsonObject> entries = log.read(2, e -> true);
+			assertEquals(Arrays.asList(3L, 4L, 5L), seqs(entries));
+			assertEquals(log.token(3), entries.get(0).getString("token"));
+			assertEquals("The filter should be applied to the entries", 1, log.read(0, e -> e.getLong("seq") == 4).size());
+		}
+	}
+
+	@Test
+	public void testRetention() throws IOException {
+		File dir = folder.newFolder();
+		try (EventFeedLog log = new EventFeedLog(dir, 20)) {
+			append(log, 100);
+			assertEquals(100, log.getLastSeq());
+			assertTrue("The oldest entries should have been deleted", log.getFirstSeq() > 1);
+
+			List<JsonObject> entries = log.read(0, e -> true);
+			assertTrue("At least the configured amount of entries should be retained", entries.size() >= 20);
+			assertEquals(log.getFirstSeq(), (long) entries.get(0).getLong("seq"));
+			assertEquals(100L, (long) entries.get(entries.size() - 1).getLong("seq"));
+		}
+		// 10 full segments and the current one
+		assertTrue(segments(dir).size() <= 11);
+	}
+
+	@Test
+	public void testParseToken() throws IOException {
+		File dir = folder.newFolder();
+		try (EventFeedLog log = new EventFeedLog(dir, 20)) {
+			append(log, 3);
+			assertEquals(2, log.parseToken(log.token(2)));
+			assertEquals(3, log.parseToken(log.latestToken()));
+			assertEquals(0, log.parseToken(log.token(0)));
+
+			assertEquals(-1, log.parseToken(null));
+			assertEquals(-1, log.parseToken("garbage"));
+			assertEquals(-1, log.parseToken(log.getFeedId() + ":abc"));
+			assertEquals("Tokens of a different feed must be rejected", -1, log.parseToken("otherfeed:2"));
+			assertEquals("Tokens of future entries must be rejected", -1, log.parseToken(log.token(4)));
+
+			append(log, 100);
+			long firstSeq = log.getFirstSeq();
+			assertEquals("The entries after the token are no longer retained", -1, log.parseToken(log.token(1)));
+			assertEquals(-1, log.parseToken(log.token(firstSeq - 2)));
+			assertEquals(firstSeq - 1, log.parseToken(log.token(firstSeq - 1)));
+		}
+	}
+
+	@Test
+	public void testRecoverPartialLine() throws IOException {
+		File dir = folder.newFolder();
+		String feedId;
+		try (EventFeedLog log = new EventFeedLog(dir, 20)) {
+			append(log, 3);
+			feedId = log.getFeedId();
+		}
+
+		// Simulate a crash while an entry was written
+		List<File> segments = segments(dir);
+		File last = segments.get(segments.size() - 1);
+		Files.write(last.toPath(), "{\"seq\":4,\"addr".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+		try (EventFeedLog log = new EventFeedLog(dir, 20)) {
+			assertEquals(feedId, log.getFeedId());
+			assertEquals(3, log.getLastSeq());
+			append(log, 1);
+			assertEquals(Arrays.asList(1L, 2L, 3L, 4L), seqs(log.read(0, e -> true)));
+		}
+	}
+
+	@Test
+	public void testAppendWhileReading() throws Exception {
+		File dir = folder.newFolder();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try (EventFeedLog log = new EventFeedLog(dir, 20)) {
+			append(log, 3);
+			List<JsonObject> entries = log.read(0, e -> {
+				if (e.getLong("seq") == 1) {
+					// Appending from another thread must not be blocked by the reading client
+					try {
+						executor.submit(() -> {
+							append(log, 1);
+							return null;
+						}).get(10, TimeUnit.SECONDS);
+					} catch (Exception ex) {
+						throw new RuntimeException(ex);
+					}
+				}
+				return true;
+			});
+			assertEquals("Entries which were appended while reading should not be returned", Arrays.asList(1L, 2L, 3L), seqs(entries));
+			assertEquals(4, log.getLastSeq());
+			assertEquals(Arrays.asList(4L), seqs(log.read(3, e -> true)));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void append(EventFeedLog log, int count) throws IOException {
+		for (int i = 0; i < count; i++) {
+			log.append(ADDRESS, new JsonObject().put("uuid", "uuid" + i));
+		}
+	}
+
+	private List<Long> seqs(List<JsonObject> entries) {
+		return entries.stream().map(e -> e.getLong("seq")).collect(Collectors.toList());
+	}
+
+	private List<File> segments(File dir) {
+		File[] files = dir.listFiles((d, name) -> name.endsWith(".jsonl"));
+		Arrays.sort(files);
+		return Arrays.asList(files);
+	}
+}
@@ -1,6 +1,7 @@
 
 package com.gentics.mesh.core.eventbus;
 
+import static com.gentics.mesh.core.rest.MeshEvent.EVENT_FEED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
@@ -14,14 +15,18 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.assertj.MeshAssertions;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
@@ -29,6 +34,7 @@ import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.rest.client.MeshRestClientUtil;
 import com.gentics.mesh.rest.client.MeshWebsocket;
 import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshOptionChanger;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.util.RxUtil;
 
@@ -39,7 +45,7 @@ import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 
 @RunWith(VertxUnitRunner.class)
-@MeshTestSetting(testSize = FULL, startServer = true)
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = MeshOptionChanger.EVENT_FEED)
 public class EventbusEndpointTest extends AbstractMeshTest {
 
 	private MeshWebsocket ws;
@@ -220,6 +226,98 @@ public class EventbusEndpointTest extends AbstractMeshTest {
 		assertNotEquals(response.getVersion(), response2.getVersion());
 	}
 
+	@Test(timeout = 10_000)
+	public void testSchemaFilter(TestContext context) throws Exception {
+		Async async = context.async();
+		String folderUuid = folderUuid();
+
+		ws.registerEvents(new EventSubscriptionFilter().setSchemas(Arrays.asList("folder")), NODE_UPDATED);
+
+		// The update of the content must not be sent
+		ws.events().firstOrError().subscribe(event -> {
+			NodeMeshEventModel body = JsonUtil.readValue(event.getBodyAsJson().toString(), NodeMeshEventModel.class);
+			context.assertEquals(folderUuid, body.getUuid());
+			context.assertEquals("folder", body.getSchema().getName());
+			async.complete();
+		});
+
+		Thread.sleep(1000);
+		updateSlug(contentUuid(), "blub");
+		updateSlug(folderUuid, "blub");
+	}
+
+	@Test(timeout = 10_000)
+	public void testSubtreeFilter(TestContext context) throws Exception {
+		Async async = context.async();
+		String newsUuid = folderUuid();
+		String folder2015Uuid = tx(() -> folder("2015").getUuid());
+		String news2015Uuid = tx(() -> content("news_2015").getUuid());
+
+		// The news folder is the parent of the 2015 folder and thus not part of the subtree
+		ws.registerEvents(new EventSubscriptionFilter().setProject(PROJECT_NAME).setNodeUuid(folder2015Uuid), NODE_UPDATED);
+
+		ws.events().firstOrError().subscribe(event -> {
+			NodeMeshEventModel body = JsonUtil.readValue(event.getBodyAsJson().toString(), NodeMeshEventModel.class);
+			context.assertEquals(news2015Uuid, body.getUuid());
+			async.complete();
+		});
+
+		Thread.sleep(1000);
+		updateSlug(newsUuid, "blub");
+		updateSlug(news2015Uuid, "blub");
+	}
+
+	@Test(timeout = 20_000)
+	public void testEventFeedResume(TestContext context) throws Exception {
+		EventSubscriptionFilter filter = new EventSubscriptionFilter().setEvents(Arrays.asList(NODE_UPDATED.address));
+		ws.registerEventFeed(filter, null);
+		Thread.sleep(1000);
+
+		updateSlug(contentUuid(), "first");
+		ObjectNode first = ws.events().filter(MeshRestClientUtil.isOneOf(EVENT_FEED)).blockingFirst().getBodyAsJson();
+		assertEquals(NODE_UPDATED.address, first.get("address").textValue());
+		String token = first.get("token").textValue();
+		assertNotNull(token);
+		ws.close();
+
+		// The update happens while no client is subscribed
+		updateSlug(contentUuid(), "second");
+
+		ws = client().eventbus();
+		ws.connections().blockingFirst();
+		Async async = context.async();
+		ws.events().filter(MeshRestClientUtil.isOneOf(EVENT_FEED)).firstOrError().subscribe(event -> {
+			ObjectNode entry = event.getBodyAsJson();
+			context.assertEquals(NODE_UPDATED.address, entry.get("address").textValue());
+			context.assertEquals(first.get("seq").longValue() + 1, entry.get("seq").longValue());
+			context.assertEquals(contentUuid(), entry.get("body").get("uuid").textValue());
+			async.complete();
+		});
+		ws.registerEventFeed(filter, token);
+	}
+
+	@Test(timeout = 10_000)
+	public void testEventFeedExpiredToken(TestContext context) throws Exception {
+		Async async = context.async();
+
+		ws.events().filter(MeshRestClientUtil.isOneOf(EVENT_FEED)).firstOrError().subscribe(event -> {
+			ObjectNode body = event.getBodyAsJson();
+			context.assertTrue(body.get("expired").booleanValue());
+			context.assertNotNull(body.get("token").textValue());
+			async.complete();
+		});
+		ws.registerEventFeed(null, "unknown:42");
+	}
+
+	private void updateSlug(String uuid, String slug) {
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		request.setVersion(response.getVersion());
+		request.setLanguage("en");
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+	}
+
 	@Test
 	public void testHeartbeat() throws InterruptedException {
 		// Simply tests if the connections has no errors for 10 seconds.
@@ -25,11 +25,13 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.dao.MicroschemaDaoWrapper;
 import com.gentics.mesh.core.data.dao.RoleDaoWrapper;
 import com.gentics.mesh.core.data.dao.UserDaoWrapper;
+import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.root.MicroschemaRoot;
 import com.gentics.mesh.core.data.schema.HibMicroschema;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
+import com.gentics.mesh.core.data.schema.MicronodeContainerReference;
 import com.gentics.mesh.core.data.schema.Microschema;
 import com.gentics.mesh.core.data.schema.handler.MicroschemaComparatorImpl;
 import com.gentics.mesh.core.data.service.BasicObjectTestcases;
@@ -312,4 +314,34 @@ public class MicroschemaModelTest extends AbstractMeshTest implements BasicObjec
 				.hasSize(3);
 		}
 	}
+
+	/**
+	 * Test getting the references of the contents to micronodes using a specific microschema container version
+	 */
+	@Test
+	public void testGetContainerReferencesUsingMicroschemaVersion() {
+		try (Tx tx = tx()) {
+			MicroschemaDaoWrapper microschemaDao = tx.microschemaDao();
+			HibMicroschemaVersion vcard = microschemaContainer("vcard").getLatestVersion();
+			HibMicroschemaVersion captionedImage = microschemaContainer("captionedImage").getLatestVersion();
+
+			NodeGraphFieldContainer containerWithBoth = boot().contentDao().getGraphFieldContainer(folder("2015"), "en");
+			containerWithBoth.createMicronode("single", vcard);
+			containerWithBoth.createMicronode("image", captionedImage);
+			MicronodeGraphFieldList mixedList = containerWithBoth.createMicronodeFieldList("list");
+			mixedList.createMicronode().setSchemaContainerVersion(vcard);
+			mixedList.createMicronode().setSchemaContainerVersion(captionedImage);
+			containerWithBoth.createMicronodeFieldList("images").createMicronode().setSchemaContainerVersion(captionedImage);
+
+			NodeGraphFieldContainer containerWithOtherVersion = boot().contentDao().getGraphFieldContainer(folder("deals"), "en");
+			containerWithOtherVersion.createMicronode("image", captionedImage);
+
+			List<MicronodeContainerReference> references = microschemaDao.findDraftFieldContainerReferences(vcard, project().getLatestBranch().getUuid());
+			assertThat(references).hasSize(1);
+			MicronodeContainerReference reference = references.get(0);
+			assertEquals(containerWithBoth.getId(), reference.getContainerId());
+			assertThat(reference.getFieldKeys()).containsOnly("single");
+			assertThat(reference.getListFieldKeys()).containsOnly("list");
+		}
+	}
 }
@@ -0,0 +1,170 @@
+package com.gentics.mesh.core.migration;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.schema.FieldTypeChange;
+import com.gentics.mesh.core.data.schema.HibSchemaVersion;
+import com.gentics.mesh.core.data.schema.RemoveFieldChange;
+import com.gentics.mesh.core.data.schema.Schema;
+import com.gentics.mesh.core.data.schema.impl.AddFieldChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.FieldTypeChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.RemoveFieldChangeImpl;
+import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
+import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaVersionModel;
+import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangeModel;
+import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
+import com.gentics.mesh.core.schema.field.DummyMigrationStatus;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.UUIDUtil;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class FieldMigrationPlanTest extends AbstractMeshTest {
+
+	/**
+	 * Migrate two identical containers, one via the compiled plan and one via the REST model of the whole container, and assert that both end up with the
+	 * same fields.
+	 */
+	@Test
+	public void testPlanMatchesRestModelMigration() throws Exception {
+		try (Tx tx = tx()) {
+			ContentDaoWrapper contentDao = tx.contentDao();
+			AbstractMigrationHandler handler = (AbstractMigrationHandler) meshDagger().nodeMigrationHandler();
+
+			Schema container = tx.getGraph().addFramedVertex(SchemaContainerImpl.class);
+			container.generateBucketId();
+			container.setName(UUIDUtil.randomUUID());
+			container.setCreated(user());
+			boot().schemaContainerRoot().addItem(container);
+			HibSchemaVersion versionA = createSchemaVersion(container, "1.0", FieldUtil.createStringFieldSchema("title"),
+				FieldUtil.createStringFieldSchema("count"), FieldUtil.createStringFieldSchema("oldname"), FieldUtil.createStringFieldSchema("removed"));
+			container.setLatestVersion(versionA);
+			HibSchemaVersion versionB = createSchemaVersion(container, "2.0", FieldUtil.createStringFieldSchema("title"),
+				FieldUtil.createNumberFieldSchema("count"), FieldUtil.createStringFieldSchema("newname"), FieldUtil.createStringFieldSchema("added"));
+
+			// Chain of changes: type change, rename, removal and addition of a field
+			FieldTypeChange typeChange = tx.getGraph().addFramedVertex(FieldTypeChangeImpl.class);
+			typeChange.setFieldName("count");
+			typeChange.setType("number");
+			UpdateFieldChangeImpl renameChange = tx.getGraph().addFramedVertex(UpdateFieldChangeImpl.class);
+			renameChange.setFieldName("oldname");
+			renameChange.setRestProperty(SchemaChangeModel.NAME_KEY, "newname");
+			RemoveFieldChange removeChange = tx.getGraph().addFramedVertex(RemoveFieldChangeImpl.class);
+			removeChange.setFieldName("removed");
+			AddFieldChangeImpl addChange = tx.getGraph().addFramedVertex(AddFieldChangeImpl.class);
+			addChange.setFieldName("added");
+			addChange.setType("string");
+
+			typeChange.setPreviousContainerVersion(versionA);
+			typeChange.setNextChange(renameChange);
+			renameChange.setNextChange(removeChange);
+			removeChange.setNextChange(addChange);
+			addChange.setNextSchemaContainerVersion(versionB);
+			versionA.setNextVersion(versionB);
+
+			project().getLatestBranch().assignSchemaVersion(user(), versionA, createBatch());
+			HibNode restNode = createNode(versionA);
+			HibNode planNode = createNode(versionA);
+			project().getLatestBranch().assignSchemaVersion(user(), versionB, createBatch());
+
+			NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+			ac.setProject(project());
+			ac.setBranch(project().getLatestBranch());
+			ac.setFromVersion(versionA);
+			ac.setToVersion(versionB);
+			ac.setStatus(DummyMigrationStatus.get());
+
+			// Migrate via the REST model of the whole container
+			Set<String> touchedFields = new HashSet<>();
+			handler.prepareMigration(versionA, touchedFields);
+			NodeGraphFieldContainer restContainer = contentDao.getGraphFieldContainer(restNode, english());
+			ac.getVersioningParameters().setVersion(restContainer.getVersion().getFullVersion());
+			ac.getGenericParameters().setFields("fields");
+			NodeResponse restModel = tx.nodeDao().transformToRestSync(restNode, ac, 0, english());
+			NodeGraphFieldContainer restMigrated = contentDao.createGraphFieldContainer(restNode, english(), project().getLatestBranch(), user(),
+				restContainer, true);
+			handler.migrate(ac, restMigrated, restModel, versionA, versionB, touchedFields);
+
+			// Migrate via the compiled plan
+			FieldMigrationPlan plan = FieldMigrationPlan.compile(versionA);
+			assertEquals(touchedFields, plan.getTouchedFields());
+			assertEquals(new HashSet<>(Arrays.asList("count", "oldname")), plan.getSourceFields());
+			assertTrue(plan.isContentDependent());
+			NodeGraphFieldContainer planContainer = contentDao.getGraphFieldContainer(planNode, english());
+			NodeGraphFieldContainer planMigrated = contentDao.createGraphFieldContainer(planNode, english(), project().getLatestBranch(), user(),
+				planContainer, true);
+			handler.migrate(ac, planMigrated, plan, versionB, Arrays.asList(english()));
+
+			assertEquals("Both migrations must result in the same set of fields", fieldKeys(restMigrated), fieldKeys(planMigrated));
+			assertEquals(versionB.getId(), planMigrated.getSchemaContainerVersion().getId());
+			List<String> languageTags = Arrays.asList(english());
+			for (FieldSchema fieldSchema : versionB.getSchema().getFields()) {
+				String key = fieldSchema.getName();
+				Field restField = restMigrated.getRestFieldFromGraph(ac, key, fieldSchema, languageTags, 0);
+				Field planField = planMigrated.getRestFieldFromGraph(ac, key, fieldSchema, languageTags, 0);
+				assertEquals("Field {" + key + "} differs", toJson(restField), toJson(planField));
+			}
+			assertNotNull("The type change must have converted the value", planMigrated.getNumber("count"));
+			assertEquals("Old value", planMigrated.getString("newname").getString());
+		}
+	}
+
+	private HibSchemaVersion createSchemaVersion(Schema container, String version, FieldSchema... fields) {
+		SchemaVersionModel schema = new SchemaModelImpl();
+		schema.setName("migratedSchema");
+		schema.setVersion(version);
+		for (FieldSchema field : fields) {
+			schema.addField(field);
+		}
+		schema.setContainer(false);
+		schema.validate();
+
+		HibSchemaVersion schemaVersion = createSchemaVersion(Tx.get());
+		schemaVersion.setName("migratedSchema");
+		schemaVersion.setSchema(schema);
+		schemaVersion.setSchemaContainer(container);
+		return schemaVersion;
+	}
+
+	private HibNode createNode(HibSchemaVersion version) {
+		HibNode node = Tx.get().nodeDao().create(folder("2015"), user(), version, project());
+		NodeGraphFieldContainer content = boot().contentDao().createGraphFieldContainer(node, english(), project().getLatestBranch(), user());
+		content.createString("title").setString("Title");
+		content.createString("count").setString("42");
+		content.createString("oldname").setString("Old value");
+		content.createString("removed").setString("Removed value");
+		return node;
+	}
+
+	private Set<String> fieldKeys(NodeGraphFieldContainer container) {
+		return container.getFields().stream().map(GraphField::getFieldKey).collect(Collectors.toCollection(TreeSet::new));
+	}
+
+	private String toJson(Field field) {
+		return field == null ? null : JsonUtil.toJson(field);
+	}
+}
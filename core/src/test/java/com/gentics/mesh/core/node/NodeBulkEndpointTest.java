@@ -0,0 +1,117 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.client.BulkParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeBulkEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testBulkCreateUpdatePublish() {
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		String existingUuid = contentUuid();
+		String version = call(() -> client().findNodeByUuid(PROJECT_NAME, existingUuid, new VersioningParametersImpl().draft())).getVersion();
+
+		List<String> uuids = new ArrayList<>();
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 5; i++) {
+			String uuid = UUIDUtil.randomUUID();
+			uuids.add(uuid);
+			NodeCreateRequest request = new NodeCreateRequest();
+			request.setSchema(new SchemaReferenceImpl().setName("folder"));
+			request.setLanguage("en");
+			request.setParentNodeUuid(parentNodeUuid);
+			request.getFields().put("name", FieldUtil.createStringField("bulk folder " + i));
+			request.getFields().put("slug", FieldUtil.createStringField("bulk-folder-" + i));
+			body.append(new JsonObject().put("op", "create").put("uuid", uuid).put("node", new JsonObject(request.toJson())).encode()).append("\n");
+		}
+
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion(version);
+		update.getFields().put("teaser", FieldUtil.createStringField("bulk teaser"));
+		body.append(new JsonObject().put("op", "upsert").put("uuid", existingUuid).put("node", new JsonObject(update.toJson())).encode()).append("\n");
+		body.append(new JsonObject().put("op", "publish").put("uuid", uuids.get(0)).encode()).append("\n");
+		body.append("{invalid json\n");
+		body.append(new JsonObject().put("op", "publish").put("uuid", UUIDUtil.randomUUID()).encode()).append("\n");
+
+		expect(NODE_CONTENT_CREATED).total(5);
+		expect(NODE_PUBLISHED).one();
+		String response = call(() -> client().bulkNodes(PROJECT_NAME, new ByteArrayInputStream(body.toString().getBytes(UTF_8))));
+		awaitEvents();
+
+		String[] lines = response.split("\n");
+		assertEquals("Each operation should have a result.", 9, lines.length);
+		for (int i = 0; i < 5; i++) {
+			JsonObject result = new JsonObject(lines[i]);
+			assertEquals(i, result.getInteger("index").intValue());
+			assertEquals(uuids.get(i), result.getString("uuid"));
+			assertEquals(201, result.getInteger("status").intValue());
+		}
+		assertEquals(200, new JsonObject(lines[5]).getInteger("status").intValue());
+		assertEquals(200, new JsonObject(lines[6]).getInteger("status").intValue());
+		assertEquals(400, new JsonObject(lines[7]).getInteger("status").intValue());
+		JsonObject notFound = new JsonObject(lines[8]);
+		assertEquals(404, notFound.getInteger("status").intValue());
+		assertNotNull(notFound.getString("message"));
+
+		for (String uuid : uuids) {
+			call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		}
+		NodeResponse published = call(() -> client().findNodeByUuid(PROJECT_NAME, uuids.get(0), new VersioningParametersImpl().published()));
+		assertEquals("bulk folder 0", published.getFields().getStringField("name").getString());
+		NodeResponse updated = call(() -> client().findNodeByUuid(PROJECT_NAME, existingUuid, new VersioningParametersImpl().draft()));
+		assertEquals("bulk teaser", updated.getFields().getStringField("teaser").getString());
+	}
+
+	@Test
+	public void testBulkWithSmallBatches() {
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			NodeCreateRequest request = new NodeCreateRequest();
+			request.setSchema(new SchemaReferenceImpl().setName("folder"));
+			request.setLanguage("en");
+			request.setParentNodeUuid(parentNodeUuid);
+			request.getFields().put("name", FieldUtil.createStringField("batch folder " + i));
+			// The duplicate slug of the last node must only fail the affected operation
+			request.getFields().put("slug", FieldUtil.createStringField("batch-folder-" + Math.min(i, 8)));
+			body.append(new JsonObject().put("op", "create").put("node", new JsonObject(request.toJson())).encode()).append("\n");
+		}
+
+		String response = call(() -> client().bulkNodes(PROJECT_NAME, new ByteArrayInputStream(body.toString().getBytes(UTF_8)),
+			new BulkParametersImpl().setBatchSize(3)));
+		String[] lines = response.split("\n");
+		assertEquals(10, lines.length);
+		for (int i = 0; i < 9; i++) {
+			assertEquals(201, new JsonObject(lines[i]).getInteger("status").intValue());
+		}
+		assertEquals(409, new JsonObject(lines[9]).getInteger("status").intValue());
+	}
+
+}
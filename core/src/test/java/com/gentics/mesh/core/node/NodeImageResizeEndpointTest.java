@@ -66,6 +66,31 @@ public class NodeImageResizeEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testImageResizeWithMissingCacheFile() throws Exception {
+		HibNode node = folder("news");
+		String uuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(100).setHeight(102);
+		call(() -> client().downloadBinaryField(PROJECT_NAME, uuid, "en", "image", params)).close();
+
+		// Remove the indexed cache file as if it had been evicted concurrently
+		String sha512sum = tx(tx -> {
+			return tx.contentDao().getLatestDraftFieldContainer(node, english()).getBinary("image").getBinary().getSHA512Sum();
+		});
+		CacheFileInfo cacheFile = meshDagger().imageManipulator().getCacheFilePath(sha512sum, params).blockingGet();
+		assertTrue(cacheFile.exists);
+		assertTrue(new File(cacheFile.path).delete());
+
+		// The image needs to be resized again
+		MeshBinaryResponse download = call(() -> client().downloadBinaryField(PROJECT_NAME, uuid, "en", "image", params));
+		try (Tx tx = tx()) {
+			ContentDaoWrapper contentDao = tx.contentDao();
+			validateResizeImage(download, contentDao.getLatestDraftFieldContainer(node, english()).getBinary("image"), params, 100, 102);
+		}
+	}
+
 	@Test
 	public void testImageResizeOverLimit() throws Exception {
 		HibNode node = folder("news");
@@ -2,6 +2,9 @@ package com.gentics.mesh.core.node;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.MeshVersion.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.INITIAL_BRANCH_NAME;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
@@ -12,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 import java.util.List;
 
@@ -308,6 +312,73 @@ public class NodeNavigationEndpointTest extends AbstractMeshTest {
 		assertThat(response).hasDepth(1).isValid(4);
 	}
 
+	/**
+	 * Test that the cached navigation reflects nodes which get created or deleted.
+	 */
+	@Test
+	public void testNavigationAfterStructureChange() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+
+		NavigationResponse response = call(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+		assertThat(response).hasDepth(1).isValid(4);
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.setLanguage("en");
+		request.getFields().put("name", FieldUtil.createStringField("new folder"));
+		request.getFields().put("slug", FieldUtil.createStringField("new folder"));
+		request.setParentNodeUuid(baseNodeUuid);
+		expect(NODE_CONTENT_CREATED).one();
+		NodeResponse folder = call(() -> client().createNode(PROJECT_NAME, request));
+		awaitEvents();
+
+		response = call(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+		assertThat(response).hasDepth(1).isValid(5);
+		assertNotNull("The created folder should be part of the navigation.", findFolder(response, folder.getUuid()));
+
+		expect(NODE_DELETED).one();
+		call(() -> client().deleteNode(PROJECT_NAME, folder.getUuid()));
+		awaitEvents();
+
+		response = call(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+		assertThat(response).hasDepth(1).isValid(4);
+	}
+
+	/**
+	 * Test reading a cached navigation which contains a node that was deleted before the cache was invalidated.
+	 */
+	@Test
+	public void testNavigationWithDeletedCachedNode() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.setLanguage("en");
+		request.getFields().put("name", FieldUtil.createStringField("new folder"));
+		request.getFields().put("slug", FieldUtil.createStringField("new folder"));
+		request.setParentNodeUuid(baseNodeUuid);
+		expect(NODE_CONTENT_CREATED).one();
+		NodeResponse folder = call(() -> client().createNode(PROJECT_NAME, request));
+		awaitEvents();
+
+		NavigationResponse response = call(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+		assertThat(response).hasDepth(1).isValid(5);
+
+		// Remove the node without sending any event so that the cached navigation still contains it
+		tx(tx -> {
+			toGraph(tx.nodeDao().findByUuid(project(), folder.getUuid())).remove();
+		});
+
+		response = call(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+		assertThat(response).hasDepth(1).isValid(4);
+		assertNull("The deleted folder should not be part of the navigation.", findFolder(response, folder.getUuid()));
+	}
+
 	@Test
 	public void testPublishedNavigation() {
 		// TODO
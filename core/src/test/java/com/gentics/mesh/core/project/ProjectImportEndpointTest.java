@@ -0,0 +1,190 @@
+package com.gentics.mesh.core.project;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.warning.JobWarning;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.BinaryField;
+import com.gentics.mesh.core.rest.project.ProjectImportRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NavigationParametersImpl;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(elasticsearch = NONE, testSize = TestSize.FULL, startServer = true)
+public class ProjectImportEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testImportWithNoPerm() {
+		call(() -> client().importProject(projectUuid(), new ProjectImportRequest().setPath("/tmp/export.ndjson")), FORBIDDEN,
+			"error_admin_permission_required");
+	}
+
+	@Test
+	public void testBogusProject() {
+		adminCall(() -> client().importProject(userUuid(), new ProjectImportRequest().setPath("/tmp/export.ndjson")), NOT_FOUND,
+			"object_not_found_for_uuid", userUuid());
+	}
+
+	@Test
+	public void testImport() throws IOException {
+		try (Tx tx = tx()) {
+			prepareSchema(folder("2015"), "", "binary");
+			tx.success();
+		}
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		File exportDir = Files.createTempDirectory("mesh-import").toFile();
+		File binaryFile = new File(exportDir, "binaries/data.bin");
+		binaryFile.getParentFile().mkdirs();
+		Files.write(binaryFile.toPath(), "binary data".getBytes(UTF_8));
+
+		List<String> uuids = new ArrayList<>();
+		StringBuilder export = new StringBuilder();
+		for (int i = 0; i < 5; i++) {
+			String uuid = UUIDUtil.randomUUID();
+			uuids.add(uuid);
+			NodeCreateRequest request = new NodeCreateRequest();
+			request.setSchema(new SchemaReferenceImpl().setName("folder"));
+			request.setLanguage("en");
+			request.setParentNodeUuid(parentNodeUuid);
+			request.getFields().put("name", FieldUtil.createStringField("imported folder " + i));
+			request.getFields().put("slug", FieldUtil.createStringField("imported-folder-" + i));
+			export.append(new JsonObject().put("op", "create").put("uuid", uuid).put("node", new JsonObject(request.toJson())).encode()).append("\n");
+		}
+		export.append(new JsonObject().put("op", "binary").put("uuid", uuids.get(0)).put("language", "en").put("field", "binary")
+			.put("file", "binaries/data.bin").put("mimeType", "application/octet-stream").encode()).append("\n");
+		export.append(new JsonObject().put("op", "publish").put("uuid", uuids.get(1)).encode()).append("\n");
+		export.append("{invalid json\n");
+		File exportFile = new File(exportDir, "export.ndjson");
+		Files.write(exportFile.toPath(), export.toString().getBytes(UTF_8));
+
+		JobListResponse jobs = waitForJob(() -> {
+			adminCall(() -> client().importProject(projectUuid(), new ProjectImportRequest().setPath(exportFile.getAbsolutePath()).setBatchSize(3)));
+		});
+		List<JobWarning> warnings = jobs.getData().get(0).getWarnings();
+		assertEquals("Only the invalid line should have failed.", 1, warnings.size());
+		assertEquals("8", warnings.get(0).getProperties().get("line"));
+
+		for (String uuid : uuids) {
+			call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		}
+		NodeResponse withBinary = call(() -> client().findNodeByUuid(PROJECT_NAME, uuids.get(0), new VersioningParametersImpl().draft()));
+		BinaryField binaryField = withBinary.getFields().getBinaryField("binary");
+		assertNotNull(binaryField);
+		assertEquals("data.bin", binaryField.getFileName());
+		assertEquals(11, binaryField.getFileSize());
+		NodeResponse published = call(() -> client().findNodeByUuid(PROJECT_NAME, uuids.get(1), new VersioningParametersImpl().published()));
+		assertEquals("imported folder 1", published.getFields().getStringField("name").getString());
+	}
+
+	@Test
+	public void testImportFileOutsideOfExportDir() throws IOException {
+		try (Tx tx = tx()) {
+			prepareSchema(folder("2015"), "", "binary");
+			tx.success();
+		}
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		File baseDir = Files.createTempDirectory("mesh-import").toFile();
+		File exportDir = new File(baseDir, "export");
+		exportDir.mkdirs();
+		File secretFile = new File(baseDir, "secret.txt");
+		Files.write(secretFile.toPath(), "secret".getBytes(UTF_8));
+
+		String uuid = UUIDUtil.randomUUID();
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.setLanguage("en");
+		request.setParentNodeUuid(parentNodeUuid);
+		request.getFields().put("name", FieldUtil.createStringField("imported folder"));
+		request.getFields().put("slug", FieldUtil.createStringField("imported-folder"));
+		StringBuilder export = new StringBuilder();
+		export.append(new JsonObject().put("op", "create").put("uuid", uuid).put("node", new JsonObject(request.toJson())).encode()).append("\n");
+		export.append(new JsonObject().put("op", "binary").put("uuid", uuid).put("language", "en").put("field", "binary")
+			.put("file", "../secret.txt").encode()).append("\n");
+		export.append(new JsonObject().put("op", "binary").put("uuid", uuid).put("language", "en").put("field", "binary")
+			.put("file", secretFile.getAbsolutePath()).encode()).append("\n");
+		File exportFile = new File(exportDir, "export.ndjson");
+		Files.write(exportFile.toPath(), export.toString().getBytes(UTF_8));
+
+		JobListResponse jobs = waitForJob(() -> {
+			adminCall(() -> client().importProject(projectUuid(), new ProjectImportRequest().setPath(exportFile.getAbsolutePath())));
+		});
+		List<JobWarning> warnings = jobs.getData().get(0).getWarnings();
+		assertEquals("Both binary lines should have been rejected.", 2, warnings.size());
+		assertEquals("2", warnings.get(0).getProperties().get("line"));
+		assertEquals("3", warnings.get(1).getProperties().get("line"));
+		for (JobWarning warning : warnings) {
+			assertThat(warning.getMessage()).contains("is not located within the directory of the import file");
+		}
+
+		NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		assertNull("No binary should have been stored.", node.getFields().getBinaryField("binary"));
+	}
+
+	/**
+	 * The import does not dispatch any node events. The caches which contain the structure of the project must thus be cleared once the import has
+	 * finished.
+	 */
+	@Test
+	public void testImportClearsCaches() throws IOException {
+		String parentNodeUuid = tx(() -> folder("2015").getUuid());
+		call(() -> client().webroot(PROJECT_NAME, "/News/2015", new VersioningParametersImpl().draft()));
+		call(() -> client().loadNavigation(PROJECT_NAME, parentNodeUuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+		call(() -> client().resolveLinks("{{mesh.link('" + parentNodeUuid + "')}}", new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+		assertTrue("The path should have been cached.", mesh().pathCache().size() > 0);
+		assertTrue("The navigation should have been cached.", mesh().navigationCache().size() > 0);
+		assertTrue("The link should have been cached.", mesh().linkCache().size() > 0);
+
+		File exportDir = Files.createTempDirectory("mesh-import").toFile();
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.setLanguage("en");
+		request.setParentNodeUuid(parentNodeUuid);
+		request.getFields().put("name", FieldUtil.createStringField("imported folder"));
+		request.getFields().put("slug", FieldUtil.createStringField("imported-folder"));
+		String export = new JsonObject().put("op", "create").put("node", new JsonObject(request.toJson())).encode() + "\n";
+		File exportFile = new File(exportDir, "export.ndjson");
+		Files.write(exportFile.toPath(), export.getBytes(UTF_8));
+
+		waitForJob(() -> {
+			adminCall(() -> client().importProject(projectUuid(), new ProjectImportRequest().setPath(exportFile.getAbsolutePath())));
+		});
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+
+		assertEquals("The path cache should have been cleared.", 0, mesh().pathCache().size());
+		assertEquals("The navigation cache should have been cleared.", 0, mesh().navigationCache().size());
+		assertEquals("The link cache should have been cleared.", 0, mesh().linkCache().size());
+	}
+
+}
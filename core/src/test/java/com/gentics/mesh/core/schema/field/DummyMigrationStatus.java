@@ -53,4 +53,9 @@ public class DummyMigrationStatus implements MigrationStatusHandler {
 	public void incCompleted() {
 
 	}
+
+	@Override
+	public void setCheckpoint(String checkpoint) {
+
+	}
 }
@@ -32,7 +32,6 @@ import static org.junit.Assert.assertTrue;
 
 import java.net.UnknownHostException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -41,22 +40,17 @@ import java.util.stream.Collectors;
 import org.junit.Ignore;
 import org.junit.Test;
 
-import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.TagFamily;
-import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
 import com.gentics.mesh.core.data.dao.RoleDaoWrapper;
 import com.gentics.mesh.core.data.dao.TagDaoWrapper;
 import com.gentics.mesh.core.data.dao.TagFamilyDaoWrapper;
-import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.role.HibRole;
-import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.tag.HibTag;
 import com.gentics.mesh.core.data.tagfamily.HibTagFamily;
 import com.gentics.mesh.core.db.Tx;
-import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.Permission;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.event.tag.TagMeshEventModel;
@@ -465,7 +459,6 @@ public class TagFamilyEndpointTest extends AbstractMeshTest implements BasicRest
 		HibProject project = project();
 		HibTagFamily tagfamily = tagFamily("basic");
 		String tagFamilyUuid = tx(() -> tagfamily.getUuid());
-		HibBranch branch = tx(() -> initialBranch());
 
 		expect(TAG_FAMILY_UPDATED).one();
 		TagFamilyUpdateRequest request = new TagFamilyUpdateRequest();
@@ -476,34 +469,18 @@ public class TagFamilyEndpointTest extends AbstractMeshTest implements BasicRest
 
 		try (Tx tx = tx()) {
 			TagDaoWrapper tagDao = tx.tagDao();
-			// Multiple tags of the same family can be tagged on same node. This should
-			// still trigger only 1 update for that node.
-			HashSet<String> taggedNodes = new HashSet<>();
-			int storeCount = 0;
-
+			// The tag family and all its tags are stored again
+			int storeCount = 1;
 			for (HibTag tag : tagDao.findAll(tagfamily)) {
 				storeCount++;
-				for (HibNode node : tagDao.getNodes(tag, branch)) {
-					if (!taggedNodes.contains(node.getUuid())) {
-						taggedNodes.add(node.getUuid());
-						for (ContainerType containerType : Arrays.asList(ContainerType.DRAFT,
-								ContainerType.PUBLISHED)) {
-							for (NodeGraphFieldContainer fieldContainer : boot().contentDao()
-									.getGraphFieldContainers(node, branch, containerType)) {
-								HibSchemaVersion schema = node.getSchemaContainer().getLatestVersion();
-								storeCount++;
-								assertThat(trackingSearchProvider()).hasStore(
-										ContentDaoWrapper.composeIndexName(project.getUuid(), branch.getUuid(),
-												schema.getUuid(), containerType),
-										ContentDaoWrapper.composeDocumentId(node.getUuid(),
-												fieldContainer.getLanguageTag()));
-							}
-						}
-					}
-				}
+				assertThat(trackingSearchProvider()).hasStore(Tag.composeIndexName(project.getUuid()), Tag.composeDocumentId(tag.getUuid()));
 			}
 
-			assertThat(trackingSearchProvider()).hasEvents(storeCount + 1, 0, 0, 0, 0);
+			// The tag family name within the node documents is updated in place
+			String nodeUpdateKey = ContentDaoWrapper.composeIndexPattern(project.getUuid()) + "-";
+			assertTrue("The node documents should have been updated by query", trackingSearchProvider().getUpdateEvents().keySet().stream()
+				.anyMatch(key -> key.startsWith(nodeUpdateKey) && key.contains(tagFamilyUuid)));
+			assertThat(trackingSearchProvider()).hasEvents(storeCount, 1, 0, 0, 0);
 		}
 	}
 
@@ -0,0 +1,108 @@
+package com.gentics.mesh.core.verticle.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.db.TxAction1;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.reactivex.Completable;
+
+public class JobWorkerVerticleImplTest {
+
+	private List<String> events = new CopyOnWriteArrayList<>();
+
+	private MeshOptions options = new MeshOptions();
+
+	private JobRoot jobRoot;
+
+	private JobWorkerVerticleImpl verticle;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() throws Exception {
+		Database db = mock(Database.class);
+		when(db.tx(any(TxAction1.class))).thenAnswer(invocation -> invocation.<TxAction1<?>>getArgument(0).handle());
+		jobRoot = mock(JobRoot.class);
+		BootstrapInitializer boot = mock(BootstrapInitializer.class);
+		when(boot.jobRoot()).thenReturn(jobRoot);
+		MetricsService metrics = mock(MetricsService.class);
+		when(metrics.longGauge(any())).thenAnswer(invocation -> new AtomicLong());
+		verticle = new JobWorkerVerticleImpl(db, () -> boot, options, metrics);
+	}
+
+	@Test
+	public void testLanesRunConcurrently() {
+		options.setJobConcurrency(2);
+		CountDownLatch otherLaneStarted = new CountDownLatch(1);
+		Job first = job("project1", Completable.fromAction(() -> {
+			events.add("first-start");
+			// The job of the other lane can only start while this job is still running if the lanes are processed concurrently
+			if (!otherLaneStarted.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("The job of the other lane was not processed concurrently");
+			}
+			events.add("first-end");
+		}));
+		Job second = job("project1", Completable.fromAction(() -> events.add("second")));
+		Job other = job("project2", Completable.fromAction(() -> {
+			events.add("other");
+			otherLaneStarted.countDown();
+		}));
+		doReturn(Arrays.asList(first, second, other)).when(jobRoot).findProcessable();
+
+		assertTrue(verticle.executeJob(null).blockingAwait(20, TimeUnit.SECONDS));
+		assertEquals(4, events.size());
+		assertTrue("The job of the other lane should have run while the first job was running",
+			events.indexOf("other") < events.indexOf("first-end"));
+		assertTrue("Jobs of the same project must be processed in order", events.indexOf("first-end") < events.indexOf("second"));
+	}
+
+	@Test
+	public void testFailedLaneDoesNotAbortOtherLanes() {
+		options.setJobConcurrency(2);
+		Job failing = job("project1", Completable.error(new RuntimeException("Failing job")));
+		Job skipped = job("project1", Completable.fromAction(() -> events.add("skipped")));
+		Job other = job("project2", Completable.fromAction(() -> events.add("other")));
+		doReturn(Arrays.asList(failing, skipped, other)).when(jobRoot).findProcessable();
+
+		verticle.executeJob(null).test().awaitDone(20, TimeUnit.SECONDS).assertError(RuntimeException.class);
+		assertEquals("Only the lane of the failed job should have been aborted", Arrays.asList("other"), events);
+	}
+
+	@Test
+	public void testSequentialProcessing() {
+		Job first = job("project1", Completable.fromAction(() -> events.add("first")));
+		Job second = job("project2", Completable.fromAction(() -> events.add("second")));
+		Job third = job("project1", Completable.fromAction(() -> events.add("third")));
+		doReturn(Arrays.asList(first, second, third)).when(jobRoot).findProcessable();
+
+		assertTrue(verticle.executeJob(null).blockingAwait(20, TimeUnit.SECONDS));
+		assertEquals("With the default concurrency all jobs are processed in order", Arrays.asList("first", "second", "third"), events);
+	}
+
+	private Job job(String projectUuid, Completable action) {
+		Job job = mock(Job.class);
+		when(job.getLaneKey()).thenReturn(projectUuid);
+		when(job.process()).thenReturn(action);
+		return job;
+	}
+}
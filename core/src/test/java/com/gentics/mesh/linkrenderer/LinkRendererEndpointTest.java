@@ -1,155 +1,218 @@
-package com.gentics.mesh.linkrenderer;
-
-import static com.gentics.mesh.MeshVersion.CURRENT_API_BASE_PATH;
-import static com.gentics.mesh.test.ClientHelper.call;
-import static com.gentics.mesh.test.TestSize.FULL;
-import static org.junit.Assert.assertEquals;
-
-import java.util.Arrays;
-
-import org.junit.Test;
-
-import com.gentics.mesh.core.data.node.HibNode;
-import com.gentics.mesh.core.db.Tx;
-import com.gentics.mesh.parameter.LinkType;
-import com.gentics.mesh.parameter.impl.NodeParametersImpl;
-import com.gentics.mesh.test.context.AbstractMeshTest;
-import com.gentics.mesh.test.context.MeshTestSetting;
-import com.gentics.mesh.util.UUIDUtil;
-
-import io.vertx.core.json.JsonObject;
-
-/**
- * Test cases for link rendering using the Utility Verticle
- */
-@MeshTestSetting(testSize = FULL, startServer = true)
-public class LinkRendererEndpointTest extends AbstractMeshTest {
-
-	/**
-	 * Test rendering valid link with link type "OFF" (expects no link rendering)
-	 */
-	@Test
-	public void testLinkReplacerTypeOff() {
-		try (Tx tx = tx()) {
-			HibNode newsNode = content("news overview");
-			testSimpleLink(newsNode, LinkType.OFF, "{{mesh.link('" + newsNode.getUuid() + "')}}");
-		}
-	}
-
-	/**
-	 * Test rendering valid link with link type "SHORT" (no webroot prefix, no project prefix)
-	 */
-	@Test
-	public void testLinkReplacerTypeShort() {
-		try (Tx tx = tx()) {
-			HibNode newsNode = content("news overview");
-			testSimpleLink(newsNode, LinkType.SHORT, "/News/News%20Overview.en.html");
-		}
-	}
-
-	/**
-	 * Test rendering valid link with link type "MEDIUM" (project prefix, but no webroot prefix)
-	 */
-	@Test
-	public void testLinkReplacerTypeMedium() {
-		try (Tx tx = tx()) {
-			HibNode newsNode = content("news overview");
-			testSimpleLink(newsNode, LinkType.MEDIUM, "/dummy/News/News%20Overview.en.html");
-		}
-	}
-
-	/**
-	 * Test rendering valid link with link type "FULL" (webroot and project prefix)
-	 */
-	@Test
-	public void testLinkReplacerTypeFull() {
-		try (Tx tx = tx()) {
-			HibNode newsNode = content("news overview");
-			testSimpleLink(newsNode, LinkType.FULL, CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html");
-		}
-	}
-
-	/**
-	 * Test rendering JSON object with links in attribute values. Links use single quotes, double quotes and no quotes
-	 */
-	@Test
-	public void testLinkInJson() {
-		try (Tx tx = tx()) {
-			HibNode newsNode = content("news overview");
-
-			JsonObject jsonObject = new JsonObject().put("quotes", "prefix {{mesh.link('" + newsNode.getUuid() + "')}} postfix")
-					.put("doublequotes", "prefix {{mesh.link(\"" + newsNode.getUuid() + "\")}} postfix")
-					.put("noquotes", "prefix {{mesh.link(" + newsNode.getUuid() + ")}} postfix");
-
-			JsonObject expected = new JsonObject().put("quotes", "prefix " + CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html postfix")
-					.put("doublequotes", "prefix " + CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html postfix")
-					.put("noquotes", "prefix " + CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html postfix");
-
-			JsonObject resultObject = new JsonObject(renderContent(jsonObject.encode(), LinkType.FULL));
-
-			for (String attr : Arrays.asList("quotes", "doublequotes", "noquotes")) {
-				assertEquals("Check attribute '" + attr + "'", expected.getString(attr), resultObject.getString(attr));
-			}
-		}
-	}
-
-	/**
-	 * Test rendering invalid link (node does not exist). Expects link to be rendered as '#'
-	 */
-	@Test
-	public void testInvalidLink() {
-		try (Tx tx = tx()) {
-			testRenderContent("{{mesh.link('" + UUIDUtil.randomUUID() + "')}}", LinkType.FULL, CURRENT_API_BASE_PATH + "/project/webroot/error/404");
-		}
-	}
-
-	@Test
-	public void testRenderLanguagesWithBranch() {
-		String uuid = tx(() -> folder("news").getUuid());
-		testRenderContent(String.format("{{mesh.link(%s, %s, %s)}}", uuid, "en", "demo"), LinkType.SHORT, "/News");
-		testRenderContent(String.format("{{mesh.link(%s, %s, %s)}}", uuid, "de", "demo"), LinkType.SHORT, "/Neuigkeiten");
-	}
-
-	/**
-	 * Test rendering a simple link to the given node with given link type
-	 * 
-	 * @param node
-	 *            node to link to
-	 * @param linkType
-	 *            link type
-	 * @param expectedResult
-	 *            expected result
-	 */
-	private void testSimpleLink(HibNode node, LinkType linkType, String expectedResult) {
-		try (Tx tx = tx()) {
-			testRenderContent("{{mesh.link('" + node.getUuid() + "')}}", linkType, expectedResult);
-		}
-	}
-
-	/**
-	 * Test rendering the given content
-	 * 
-	 * @param content
-	 *            content to render
-	 * @param linkType
-	 *            link type
-	 * @param expectedResult
-	 *            expected result
-	 */
-	private void testRenderContent(String content, LinkType linkType, String expectedResult) {
-		assertEquals("Check rendered content", expectedResult, renderContent(content, linkType));
-	}
-
-	/**
-	 * Render the given content, assert success and return the result
-	 * 
-	 * @param content
-	 *            content to render
-	 * @param linkType
-	 *            link type
-	 * @return rendered result
-	 */
-	private String renderContent(String content, LinkType linkType) {
-		return call(() -> client().resolveLinks(content, new NodeParametersImpl().setResolveLinks(linkType)));
-	}
-}
+package com.gentics.mesh.linkrenderer;
+
+import static com.gentics.mesh.MeshVersion.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.branch.BranchCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Test cases for link rendering using the Utility Verticle
+ */
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class LinkRendererEndpointTest extends AbstractMeshTest {
+
+	/**
+	 * Test rendering valid link with link type "OFF" (expects no link rendering)
+	 */
+	@Test
+	public void testLinkReplacerTypeOff() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+			testSimpleLink(newsNode, LinkType.OFF, "{{mesh.link('" + newsNode.getUuid() + "')}}");
+		}
+	}
+
+	/**
+	 * Test rendering valid link with link type "SHORT" (no webroot prefix, no project prefix)
+	 */
+	@Test
+	public void testLinkReplacerTypeShort() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+			testSimpleLink(newsNode, LinkType.SHORT, "/News/News%20Overview.en.html");
+		}
+	}
+
+	/**
+	 * Test rendering valid link with link type "MEDIUM" (project prefix, but no webroot prefix)
+	 */
+	@Test
+	public void testLinkReplacerTypeMedium() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+			testSimpleLink(newsNode, LinkType.MEDIUM, "/dummy/News/News%20Overview.en.html");
+		}
+	}
+
+	/**
+	 * Test rendering valid link with link type "FULL" (webroot and project prefix)
+	 */
+	@Test
+	public void testLinkReplacerTypeFull() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+			testSimpleLink(newsNode, LinkType.FULL, CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html");
+		}
+	}
+
+	/**
+	 * Test rendering JSON object with links in attribute values. Links use single quotes, double quotes and no quotes
+	 */
+	@Test
+	public void testLinkInJson() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+
+			JsonObject jsonObject = new JsonObject().put("quotes", "prefix {{mesh.link('" + newsNode.getUuid() + "')}} postfix")
+					.put("doublequotes", "prefix {{mesh.link(\"" + newsNode.getUuid() + "\")}} postfix")
+					.put("noquotes", "prefix {{mesh.link(" + newsNode.getUuid() + ")}} postfix");
+
+			JsonObject expected = new JsonObject().put("quotes", "prefix " + CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html postfix")
+					.put("doublequotes", "prefix " + CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html postfix")
+					.put("noquotes", "prefix " + CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html postfix");
+
+			JsonObject resultObject = new JsonObject(renderContent(jsonObject.encode(), LinkType.FULL));
+
+			for (String attr : Arrays.asList("quotes", "doublequotes", "noquotes")) {
+				assertEquals("Check attribute '" + attr + "'", expected.getString(attr), resultObject.getString(attr));
+			}
+		}
+	}
+
+	/**
+	 * Test rendering invalid link (node does not exist). Expects link to be rendered as '#'
+	 */
+	@Test
+	public void testInvalidLink() {
+		try (Tx tx = tx()) {
+			testRenderContent("{{mesh.link('" + UUIDUtil.randomUUID() + "')}}", LinkType.FULL, CURRENT_API_BASE_PATH + "/project/webroot/error/404");
+		}
+	}
+
+	@Test
+	public void testRenderLanguagesWithBranch() {
+		String uuid = tx(() -> folder("news").getUuid());
+		testRenderContent(String.format("{{mesh.link(%s, %s, %s)}}", uuid, "en", "demo"), LinkType.SHORT, "/News");
+		testRenderContent(String.format("{{mesh.link(%s, %s, %s)}}", uuid, "de", "demo"), LinkType.SHORT, "/Neuigkeiten");
+	}
+
+	/**
+	 * Test that the same link is rendered for the branch which is given in the link and that the branch does not leak into the following links.
+	 */
+	@Test
+	public void testSameLinkInTwoBranches() {
+		grantAdmin();
+		String uuid = tx(() -> content("news overview").getUuid());
+		BranchCreateRequest branchRequest = new BranchCreateRequest().setName("other").setLatest(false);
+		waitForJobs(() -> {
+			call(() -> client().createBranch(PROJECT_NAME, branchRequest));
+		}, COMPLETED, 1);
+		updateSlug(uuid, "Other.en.html", new VersioningParametersImpl().setBranch("other"));
+
+		String otherLink = CURRENT_API_BASE_PATH + "/dummy/webroot/News/Other.en.html?branch=other";
+		String latestLink = CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html";
+		String inOther = "{{mesh.link(" + uuid + ", en, other)}}";
+		String inLatest = "{{mesh.link(" + uuid + ", en)}}";
+		testRenderContent(inOther + "|" + inLatest, LinkType.FULL, otherLink + "|" + latestLink);
+		testRenderContent(inLatest + "|" + inOther, LinkType.FULL, latestLink + "|" + otherLink);
+		testRenderContent(inOther + "|" + inLatest, LinkType.FULL, otherLink + "|" + latestLink);
+	}
+
+	/**
+	 * Test that a cached link is rendered again once the target node was renamed or moved.
+	 */
+	@Test
+	public void testLinkTargetRenamedAndMoved() {
+		String uuid = tx(() -> content("news overview").getUuid());
+		String dealsUuid = tx(() -> folder("deals").getUuid());
+		String link = "{{mesh.link('" + uuid + "')}}";
+		testRenderContent(link, LinkType.MEDIUM, "/dummy/News/News%20Overview.en.html");
+
+		updateSlug(uuid, "Renamed.en.html", new VersioningParametersImpl());
+		testRenderContent(link, LinkType.MEDIUM, "/dummy/News/Renamed.en.html");
+
+		waitForEvent(NODE_MOVED, () -> {
+			call(() -> client().moveNode(PROJECT_NAME, uuid, dealsUuid));
+		});
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+		testRenderContent(link, LinkType.MEDIUM, "/dummy/Deals/Renamed.en.html");
+	}
+
+	private void updateSlug(String uuid, String slug, VersioningParametersImpl versioningParameters) {
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("draft");
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		waitForEvent(NODE_UPDATED, () -> {
+			call(() -> client().updateNode(PROJECT_NAME, uuid, request, versioningParameters));
+		});
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+	}
+
+	/**
+	 * Test rendering a simple link to the given node with given link type
+	 * 
+	 * @param node
+	 *            node to link to
+	 * @param linkType
+	 *            link type
+	 * @param expectedResult
+	 *            expected result
+	 */
+	private void testSimpleLink(HibNode node, LinkType linkType, String expectedResult) {
+		try (Tx tx = tx()) {
+			testRenderContent("{{mesh.link('" + node.getUuid() + "')}}", linkType, expectedResult);
+		}
+	}
+
+	/**
+	 * Test rendering the given content
+	 * 
+	 * @param content
+	 *            content to render
+	 * @param linkType
+	 *            link type
+	 * @param expectedResult
+	 *            expected result
+	 */
+	private void testRenderContent(String content, LinkType linkType, String expectedResult) {
+		assertEquals("Check rendered content", expectedResult, renderContent(content, linkType));
+	}
+
+	/**
+	 * Render the given content, assert success and return the result
+	 * 
+	 * @param content
+	 *            content to render
+	 * @param linkType
+	 *            link type
+	 * @return rendered result
+	 */
+	private String renderContent(String content, LinkType linkType) {
+		return call(() -> client().resolveLinks(content, new NodeParametersImpl().setResolveLinks(linkType)));
+	}
+}
@@ -270,6 +270,54 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testEscapedQuotes() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+			String uuid = newsNode.getUuid();
+			// Links within JSON strings contain escaped double quotes
+			final String content = "{{mesh.link(\\\"" + uuid + "\\\", \\\"de\\\")}}";
+
+			InternalActionContext ac = mockActionContext();
+			String replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.FULL, null,
+					null);
+
+			assertEquals("Check rendered content", CURRENT_API_BASE_PATH + "/dummy/webroot/Neuigkeiten/News%20Overview.de.html", replacedContent);
+		}
+	}
+
+	@Test
+	public void testMixedQuotesAndWhitespace() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+			String uuid = newsNode.getUuid();
+			final String content = "{{mesh.link( '" + uuid + "' , \"de\" )}}|{{mesh.link(" + uuid + ",)}}";
+
+			InternalActionContext ac = mockActionContext();
+			String replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.FULL, null,
+					null);
+
+			assertEquals("Check rendered content", CURRENT_API_BASE_PATH + "/dummy/webroot/Neuigkeiten/News%20Overview.de.html|"
+				+ CURRENT_API_BASE_PATH + "/dummy/webroot/News/News%20Overview.en.html", replacedContent);
+		}
+	}
+
+	@Test
+	public void testDuplicateLinks() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+			String uuid = newsNode.getUuid();
+			final String content = "{{mesh.link('" + uuid + "')}} {{mesh.link('" + uuid + "', 'de')}} {{mesh.link('" + uuid + "')}}";
+
+			InternalActionContext ac = mockActionContext();
+			String replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.MEDIUM, null,
+					null);
+
+			assertEquals("Check rendered content", "/dummy/News/News%20Overview.en.html /dummy/Neuigkeiten/News%20Overview.de.html "
+				+ "/dummy/News/News%20Overview.en.html", replacedContent);
+		}
+	}
+
 	@Test
 	public void testNodeReplace() throws IOException, InterruptedException, ExecutionException {
 		try (Tx tx = tx()) {
@@ -3,6 +3,7 @@ package com.gentics.mesh.search;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshTestHelper.getSimpleTermQuery;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
@@ -41,6 +42,42 @@ public class NodeTagSearchEndpointTest extends AbstractNodeSearchEndpointTest {
 
 	}
 
+	@Test
+	public void testSearchNodeByRenamedTag() throws Exception {
+		try (Tx tx = tx()) {
+			recreateIndices();
+		}
+		String tagUuid = tx(() -> tag("twinjet").getUuid());
+		String tagFamilyUuid = tx(() -> tagFamily("basic").getUuid());
+
+		updateTag(PROJECT_NAME, tagFamilyUuid, tagUuid, "Widebody");
+		waitForSearchIdleEvent();
+
+		NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, getESText("tag.es")));
+		assertThat(response.getData()).isEmpty();
+
+		String query = getESText("tag.es").replace("Twinjet", "Widebody");
+		response = call(() -> client().searchNodes(PROJECT_NAME, query));
+		assertThat(response.getData()).isNotEmpty();
+	}
+
+	@Test
+	public void testSearchNodeByRenamedTagFamily() throws Exception {
+		try (Tx tx = tx()) {
+			recreateIndices();
+		}
+		String tagFamilyUuid = tx(() -> tagFamily("basic").getUuid());
+
+		updateTagFamily(PROJECT_NAME, tagFamilyUuid, "basicRenamed");
+		waitForSearchIdleEvent();
+
+		NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, getSimpleTermQuery("tagFamilies.basic.uuid", tagFamilyUuid)));
+		assertThat(response.getData()).isEmpty();
+
+		response = call(() -> client().searchNodes(PROJECT_NAME, getSimpleTermQuery("tagFamilies.basicRenamed.uuid", tagFamilyUuid)));
+		assertThat(response.getData()).isNotEmpty();
+	}
+
 	@Test
 	public void testFailingQuery() throws Exception {
 		try (Tx tx = tx()) {
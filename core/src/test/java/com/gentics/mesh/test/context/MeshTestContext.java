@@ -454,6 +454,10 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		meshDagger.permissionCache().clear(false);
+		meshDagger.linkCache().clear();
+		meshDagger.navigationCache().clear();
+		meshDagger.responseCache().clear();
+		meshDagger.imageManipulator().clearCacheIndex();
 	}
 
 	public TestDataProvider getData() {
@@ -645,6 +649,9 @@ public class MeshTestContext extends TestWatcher {
 
 		String plugindirPath = newFolder("plugins");
 		meshOptions.setPluginDirectory(plugindirPath);
+
+		String eventFeedPath = newFolder("eventfeed");
+		meshOptions.setEventFeedDirectory(eventFeedPath);
 	}
 
 	/**
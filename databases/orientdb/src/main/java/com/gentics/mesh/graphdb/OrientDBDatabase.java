@@ -1,6 +1,7 @@
 package com.gentics.mesh.graphdb;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_REJECTED;
 import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_TIMEOUT_COUNT;
 import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_WAITING_TIME;
 import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
@@ -8,10 +9,15 @@ import static com.gentics.mesh.metric.SimpleMetric.TX_TIME;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,11 +60,14 @@ import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.metric.SimpleMetric;
 import com.gentics.mesh.util.ETag;
+import com.gentics.mesh.util.Tuple;
 import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
@@ -126,6 +135,10 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private Counter topologyLockTimeoutCounter;
 
+	private Counter topologyLockRejectedCounter;
+
+	private final AtomicInteger topologyLockWaiting = new AtomicInteger();
+
 	private Mesh mesh;
 
 	private WriteLock writeLock;
@@ -148,6 +161,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 			txRetryCounter = metrics.counter(TX_RETRY);
 			topologyLockTimer = metrics.timer(TOPOLOGY_LOCK_WAITING_TIME);
 			topologyLockTimeoutCounter = metrics.counter(TOPOLOGY_LOCK_TIMEOUT_COUNT);
+			topologyLockRejectedCounter = metrics.counter(TOPOLOGY_LOCK_REJECTED);
 		}
 		this.typeHandler = typeHandler;
 		this.indexHandler = indexHandler;
@@ -315,6 +329,27 @@ public class OrientDBDatabase extends AbstractDatabase {
 		}).iterator();
 	}
 
+	@Override
+	public List<Tuple<String, Object>> getVertexIdsAfter(Class<?> classOfVertex, String indexPostfix, Object fieldValue, String after, int limit) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		OrientVertexType elementType = orientBaseGraph.getVertexType(classOfVertex.getSimpleName());
+		String indexName = classOfVertex.getSimpleName() + "_" + indexPostfix;
+		OIndex index = elementType.getClassIndex(indexName);
+		// A partial key will match the first entry for the given field value
+		Object startKey = after == null ? index().createComposedIndexKey(fieldValue) : index().createComposedIndexKey(fieldValue, after);
+		OIndexCursor cursor = index.getInternal().iterateEntriesMajor(startKey, after == null, true);
+		List<Tuple<String, Object>> ids = new ArrayList<>(limit);
+		Map.Entry<Object, OIdentifiable> entry;
+		while (ids.size() < limit && (entry = cursor.nextEntry()) != null) {
+			List<Object> keys = ((OCompositeKey) entry.getKey()).getKeys();
+			if (!fieldValue.equals(keys.get(0))) {
+				break;
+			}
+			ids.add(Tuple.tuple((String) keys.get(1), entry.getValue().getIdentity()));
+		}
+		return ids;
+	}
+
 	@Override
 	public <T extends VertexFrame> Result<T> getVerticesTraversal(Class<T> classOfVertex, String[] fieldNames, Object[] fieldValues) {
 		Stream<Vertex> stream = toStream(getVertices(classOfVertex, fieldNames, fieldValues));
@@ -416,28 +451,29 @@ public class OrientDBDatabase extends AbstractDatabase {
 		ClusterOptions clusterOptions = options.getClusterOptions();
 		long lockTimeout = clusterOptions.getTopologyLockTimeout();
 		if (clusterOptions.isEnabled() && clusterManager() != null && lockTimeout != 0) {
-			long start = System.currentTimeMillis();
-			long i = 0;
 			Timer.Sample sample = Timer.start();
-			while (clusterManager().isClusterTopologyLocked()) {
-				long dur = System.currentTimeMillis() - start;
-				if (i % 250 == 0) {
-					log.info("Write operation locked due to topology lock. Locked since " + dur + "ms");
+			if (!clusterManager().isClusterTopologyLocked()) {
+				sample.stop(this.topologyLockTimer);
+				return;
+			}
+			int maxWaiting = clusterOptions.getTopologyLockMaxWaiting();
+			int waiting = topologyLockWaiting.incrementAndGet();
+			try {
+				if (maxWaiting > 0 && waiting > maxWaiting) {
+					log.warn("Rejecting write operation since {" + maxWaiting + "} operations are already waiting for the topology lock.");
+					topologyLockRejectedCounter.increment();
+					throw error(SERVICE_UNAVAILABLE, "error_cluster_topology_locked");
 				}
-				if (dur > lockTimeout) {
+				log.info("Write operation locked due to topology lock. Waiting operations: {" + waiting + "}");
+				// The wait is released by the cluster manager as soon as the lock has been released
+				if (!clusterManager().waitUntilTopologyUnlocked().blockingAwait(lockTimeout, MILLISECONDS)) {
 					topologyLockTimeoutCounter.increment();
 					log.warn("Tx global lock timeout of {" + lockTimeout + "} reached.");
-					break;
-				}
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException e) {
-					log.error("Interrupting topology lock delay.", e);
-					break;
 				}
-				i++;
+			} finally {
+				topologyLockWaiting.decrementAndGet();
+				sample.stop(this.topologyLockTimer);
 			}
-			sample.stop(this.topologyLockTimer);
 		}
 	}
 
@@ -526,6 +562,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return txProvider.backup(backupDirectory);
 	}
 
+	@Override
+	public String incrementalBackupGraph(String backupDirectory) throws IOException {
+		return txProvider.incrementalBackup(backupDirectory);
+	}
+
 	@Override
 	public void restoreGraph(String backupFile) throws IOException {
 		txProvider.restore(backupFile);
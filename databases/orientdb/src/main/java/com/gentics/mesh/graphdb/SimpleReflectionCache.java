@@ -10,12 +10,20 @@ import java.util.Set;
 import org.reflections.Reflections;
 
 import com.gentics.madl.annotations.GraphElement;
+import com.gentics.mesh.madl.frame.GraphElementType;
+import com.gentics.mesh.madl.frame.GraphElementTypes;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 
 /**
- * Cache for classes which were annotated with {@link GraphElement}.
+ * Cache for classes which were annotated with {@link GraphElement}. The classes are loaded from the {@link GraphElementTypes} registry which is generated at
+ * build time. The classpath will only be scanned if the registry does not contain any class within the base paths.
  */
 public class SimpleReflectionCache extends Reflections {
 
+	private static final Logger log = LoggerFactory.getLogger(SimpleReflectionCache.class);
+
 	private final Map<String, Set<String>> hierarchy;
 	private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
 
@@ -32,6 +40,17 @@ public class SimpleReflectionCache extends Reflections {
 	public SimpleReflectionCache(String... basePaths) {
 		this();
 		for (String basePath : basePaths) {
+			boolean found = false;
+			for (GraphElementType<?> type : GraphElementTypes.getTypes()) {
+				if (type.getType().getName().startsWith(basePath + ".")) {
+					classStringCache.put(type.getName(), type.getType());
+					found = true;
+				}
+			}
+			if (found) {
+				continue;
+			}
+			log.warn("No generated graph element types found for {" + basePath + "}. Scanning the classpath instead.");
 			Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
 			for (Class<?> clazz : graphTypeClasses) {
 				classStringCache.put(clazz.getSimpleName(), clazz);
@@ -1,6 +1,7 @@
 package com.gentics.mesh.graphdb.cluster;
 
 import static com.gentics.mesh.MeshEnv.CONFIG_FOLDERNAME;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
@@ -14,6 +15,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 
 import javax.inject.Inject;
@@ -438,8 +442,7 @@ public class OrientDBClusterManager implements ClusterManager {
 				mesh.setStatus(MeshStatus.WAITING_FOR_CLUSTER);
 				joinCluster();
 				mesh.setStatus(MeshStatus.STARTING);
-				// Add a safety margin
-				Thread.sleep(options.getClusterOptions().getTopologyLockDelay());
+				awaitJoinSettled();
 			}
 		}
 
@@ -459,6 +462,29 @@ public class OrientDBClusterManager implements ClusterManager {
 		}
 	}
 
+	/**
+	 * Add a safety margin until the topology lock of the join has been released. The status map may not yet reflect the join and is thus only trusted
+	 * once it has been updated after the join. The margin is limited by the topology lock delay.
+	 * 
+	 * @throws InterruptedException
+	 */
+	private void awaitJoinSettled() throws InterruptedException {
+		long delay = options.getClusterOptions().getTopologyLockDelay();
+		long start = System.currentTimeMillis();
+		try {
+			topologyEventBridge.awaitStatusUpdate().get(delay, MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.info("The database status map was not updated within {" + delay + "} ms after the join");
+			return;
+		} catch (ExecutionException e) {
+			log.warn("Error while waiting for the database status update", e);
+		}
+		long remaining = Math.max(0, delay - (System.currentTimeMillis() - start));
+		if (!waitUntilTopologyUnlocked().blockingAwait(remaining, MILLISECONDS)) {
+			log.info("The cluster topology is still locked after {" + delay + "} ms");
+		}
+	}
+
 	@Override
 	public void stop() {
 		log.info("Stopping cluster manager");
@@ -528,6 +554,28 @@ public class OrientDBClusterManager implements ClusterManager {
 		});
 	}
 
+	@Override
+	public Completable waitUntilTopologyUnlocked() {
+		return Completable.defer(() -> {
+			if (topologyEventBridge == null) {
+				return Completable.complete();
+			}
+			CompletableFuture<Void> unlocked = topologyEventBridge.awaitUnlock();
+			if (unlocked.isDone()) {
+				return Completable.complete();
+			}
+			return Completable.create(sub -> {
+				unlocked.whenComplete((v, error) -> {
+					if (error != null) {
+						sub.onError(error);
+					} else {
+						sub.onComplete();
+					}
+				});
+			});
+		});
+	}
+
 	private boolean writeQuorumReached() {
 		try {
 			// The server and manager may not yet be initialized. We need to wait until those are ready
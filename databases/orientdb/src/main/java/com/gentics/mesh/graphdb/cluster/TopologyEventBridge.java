@@ -5,15 +5,20 @@ import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINING;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_LEFT;
 
-import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
 import com.orientechnologies.orient.server.distributed.ODistributedLifecycleListener;
 import com.orientechnologies.orient.server.distributed.ODistributedServerManager.DB_STATUS;
 
@@ -41,10 +46,20 @@ public class TopologyEventBridge implements ODistributedLifecycleListener {
 
 	private final Lazy<BootstrapInitializer> boot;
 
-	private Map<String, DB_STATUS> databaseStatusMap;
+	private IMap<String, DB_STATUS> databaseStatusMap;
 
 	private CountDownLatch nodeJoinLatch = new CountDownLatch(1);
 
+	/**
+	 * Future which will be completed once the topology lock has been released. A new future will be created whenever the lock is acquired again.
+	 */
+	private CompletableFuture<Void> unlockFuture = CompletableFuture.completedFuture(null);
+
+	/**
+	 * Future which will be completed with the next update of the database status map.
+	 */
+	private CompletableFuture<Void> statusUpdateFuture = new CompletableFuture<>();
+
 	private ClusterOptions clusterOptions;
 
 	public TopologyEventBridge(MeshOptions options, Lazy<Vertx> vertx, Lazy<BootstrapInitializer> boot, OrientDBClusterManager manager,
@@ -54,6 +69,9 @@ public class TopologyEventBridge implements ODistributedLifecycleListener {
 		this.boot = boot;
 		this.manager = manager;
 		this.databaseStatusMap = hz.getMap(DB_STATUS_MAP_KEY);
+		// The status map is shared across the cluster. Changes of other nodes will thus also update the lock state.
+		this.databaseStatusMap.addEntryListener(new DatabaseStatusListener(), false);
+		updateLockState();
 	}
 
 	EventBus getEventBus() {
@@ -96,6 +114,7 @@ public class TopologyEventBridge implements ODistributedLifecycleListener {
 		if (isVertxReady()) {
 			getEventBus().publish(CLUSTER_NODE_LEFT.address, nodeName);
 		}
+		updateLockState();
 	}
 
 	@Override
@@ -140,6 +159,64 @@ public class TopologyEventBridge implements ODistributedLifecycleListener {
 		return nodeJoinLatch.await(timeout, unit);
 	}
 
+	/**
+	 * Return a future which will be completed once the topology lock has been released. The returned future is shared by all callers and is already
+	 * completed if the topology is currently not locked.
+	 * 
+	 * @return
+	 */
+	public CompletableFuture<Void> awaitUnlock() {
+		// The listener is notified asynchronously. The state is thus checked again to not miss a recent change.
+		return updateLockState();
+	}
+
+	/**
+	 * Return a future which will be completed once the database status map has been updated the next time.
+	 * 
+	 * @return
+	 */
+	public synchronized CompletableFuture<Void> awaitStatusUpdate() {
+		return statusUpdateFuture;
+	}
+
+	/**
+	 * Update the lock state and complete the pending status update future.
+	 */
+	private void onStatusUpdate() {
+		updateLockState();
+		CompletableFuture<Void> updated;
+		synchronized (this) {
+			updated = statusUpdateFuture;
+			statusUpdateFuture = new CompletableFuture<>();
+		}
+		updated.complete(null);
+	}
+
+	/**
+	 * Update the lock state by checking the current database status of all nodes. The pending unlock future will be completed if the lock has been released.
+	 * 
+	 * @return Current unlock future
+	 */
+	CompletableFuture<Void> updateLockState() {
+		CompletableFuture<Void> released = null;
+		CompletableFuture<Void> current;
+		// The state is evaluated within the lock so that concurrent updates can't apply an outdated state
+		synchronized (this) {
+			boolean locked = isClusterTopologyLocked();
+			if (locked && unlockFuture.isDone()) {
+				unlockFuture = new CompletableFuture<>();
+			} else if (!locked && !unlockFuture.isDone()) {
+				released = unlockFuture;
+			}
+			current = unlockFuture;
+		}
+		if (released != null) {
+			log.info("Topology lock was released");
+			released.complete(null);
+		}
+		return current;
+	}
+
 	public boolean isVertxReady() {
 		return boot.get().isVertxReady();
 	}
@@ -169,4 +246,26 @@ public class TopologyEventBridge implements ODistributedLifecycleListener {
 		return false;
 	}
 
+	/**
+	 * Listener which updates the lock state whenever the database status of a node changes.
+	 */
+	private class DatabaseStatusListener implements EntryAddedListener<String, DB_STATUS>, EntryUpdatedListener<String, DB_STATUS>,
+		EntryRemovedListener<String, DB_STATUS> {
+
+		@Override
+		public void entryAdded(EntryEvent<String, DB_STATUS> event) {
+			onStatusUpdate();
+		}
+
+		@Override
+		public void entryUpdated(EntryEvent<String, DB_STATUS> event) {
+			onStatusUpdate();
+		}
+
+		@Override
+		public void entryRemoved(EntryEvent<String, DB_STATUS> event) {
+			onStatusUpdate();
+		}
+	}
+
 }
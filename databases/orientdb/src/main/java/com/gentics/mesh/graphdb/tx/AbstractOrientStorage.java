@@ -19,7 +19,10 @@ import java.util.Date;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.MetricsService;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
 import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 
@@ -104,6 +107,31 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		}
 	}
 
+	@Override
+	public String incrementalBackup(String backupDirectory) throws IOException {
+		if (log.isDebugEnabled()) {
+			log.debug("Running incremental backup to backup directory {" + backupDirectory + "}.");
+		}
+		boolean isMemoryMode = options.getStorageOptions().getDirectory() == null;
+		if (isMemoryMode) {
+			throw error(SERVICE_UNAVAILABLE, "backup_error_not_supported_in_memory_mode");
+		}
+		ODatabaseSession db = createSession();
+		try {
+			File directory = new File(backupDirectory);
+			directory.mkdirs();
+			// The incremental backup only copies the pages which have been changed since the LSN of the last backup within the directory. The storage is
+			// not frozen and write operations can continue while the backup is running.
+			File backupFile = new File(db.incrementalBackup(directory.getAbsolutePath()));
+			if (!backupFile.isAbsolute()) {
+				backupFile = new File(directory, backupFile.getPath());
+			}
+			return backupFile.getAbsolutePath();
+		} finally {
+			db.close();
+		}
+	}
+
 	@Override
 	public void restore(String backupFile) throws IOException {
 		if (log.isDebugEnabled()) {
@@ -112,6 +140,15 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		log.debug("Opening database {}", DB_NAME);
 		ODatabaseSession db = createSession();
 		try {
+			if (new File(backupFile).isDirectory()) {
+				// Restore the full chain of incremental backups within the directory
+				OStorage storage = ((ODatabaseDocumentInternal) db).getStorage().getUnderlying();
+				if (!(storage instanceof OLocalPaginatedStorage)) {
+					throw new IOException("Incremental backups can only be restored into a local storage.");
+				}
+				((OLocalPaginatedStorage) storage).restoreFromIncrementalBackup(backupFile);
+				return;
+			}
 			OCommandOutputListener listener = new OCommandOutputListener() {
 				@Override
 				public void onMessage(String iText) {
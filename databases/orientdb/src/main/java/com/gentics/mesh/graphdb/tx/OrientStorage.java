@@ -45,10 +45,21 @@ public interface OrientStorage extends GraphStorage {
 	 */
 	String backup(String backupDirectory) throws FileNotFoundException, IOException;
 
+	/**
+	 * Invoke the incremental backup process.
+	 * 
+	 * @param backupDirectory
+	 *            Directory which contains the chain of incremental backups
+	 * @return Path of the created backup file
+	 * @throws IOException
+	 */
+	String incrementalBackup(String backupDirectory) throws IOException;
+
 	/**
 	 * Invoke the restore process.
 	 * 
 	 * @param backupFile
+	 *            Backup file or directory of an incremental backup
 	 * @throws IOException
 	 */
 	void restore(String backupFile) throws IOException;
@@ -48,6 +48,7 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.cluster.TxCleanupTask;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
+import com.gentics.mesh.madl.frame.RegistryFrameFactory;
 import com.gentics.mesh.madl.tp3.mock.Element;
 import com.gentics.mesh.madl.tp3.mock.GraphTraversal;
 import com.gentics.mesh.madl.tp3.mock.GraphTraversalSource;
@@ -110,7 +111,8 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 			isWrapped = true;
 			init(activeTx.getGraph());
 		} else {
-			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph((OrientGraph) provider.rawTx(), typeResolver);
+			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph((OrientGraph) provider.rawTx(), RegistryFrameFactory.INSTANCE,
+				typeResolver);
 			init(transaction);
 		}
 		this.txData = new TxDataImpl(options, boot, permissionRoots);
@@ -310,6 +310,15 @@ public class TxDataImpl implements TxData {
 		return options.setVersionPurgeMaxBatchSize(versionPurgeMaxBatchSize);
 	}
 
+	public int getJobConcurrency() {
+		return options.getJobConcurrency();
+	}
+
+	@Setter
+	public MeshOptions setJobConcurrency(int jobConcurrency) {
+		return options.setJobConcurrency(jobConcurrency);
+	}
+
 	/**
 	 * @see MeshOptions#validate()
 	 */
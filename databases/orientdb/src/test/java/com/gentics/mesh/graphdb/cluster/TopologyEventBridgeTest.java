@@ -0,0 +1,135 @@
+package com.gentics.mesh.graphdb.cluster;
+
+import static com.gentics.mesh.graphdb.cluster.TopologyEventBridge.DB_STATUS_MAP_KEY;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.OrientDBDatabase;
+import com.gentics.mesh.metric.MetricsService;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapListener;
+import com.orientechnologies.orient.server.distributed.ODistributedServerManager.DB_STATUS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Completable;
+
+public class TopologyEventBridgeTest {
+
+	private Map<String, DB_STATUS> status = new ConcurrentHashMap<>();
+
+	private TopologyEventBridge bridge;
+
+	private EntryUpdatedListener<String, DB_STATUS> listener;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		IMap<String, DB_STATUS> map = mock(IMap.class);
+		when(map.entrySet()).thenAnswer(invocation -> status.entrySet());
+		HazelcastInstance hz = mock(HazelcastInstance.class);
+		when(hz.<String, DB_STATUS>getMap(DB_STATUS_MAP_KEY)).thenReturn(map);
+
+		bridge = new TopologyEventBridge(new MeshOptions(), () -> null, () -> null, mock(OrientDBClusterManager.class), hz);
+		ArgumentCaptor<MapListener> captor = ArgumentCaptor.forClass(MapListener.class);
+		verify(map).addEntryListener(captor.capture(), eq(false));
+		listener = (EntryUpdatedListener<String, DB_STATUS>) captor.getValue();
+	}
+
+	@Test
+	public void testUnlockFuture() {
+		assertTrue("The topology is not locked", bridge.awaitUnlock().isDone());
+
+		CompletableFuture<Void> statusUpdate = bridge.awaitStatusUpdate();
+		updateStatus("node1", DB_STATUS.SYNCHRONIZING);
+		assertTrue("The status update should have been signaled", statusUpdate.isDone());
+		assertFalse("A new future should be used for the next status update", bridge.awaitStatusUpdate().isDone());
+
+		CompletableFuture<Void> unlocked = bridge.awaitUnlock();
+		assertFalse("The topology is locked", unlocked.isDone());
+		assertSame("The pending future should be shared", unlocked, bridge.awaitUnlock());
+
+		// Other nodes which are still synchronizing keep the lock
+		updateStatus("node2", DB_STATUS.BACKUP);
+		updateStatus("node1", DB_STATUS.ONLINE);
+		assertFalse("The topology is still locked by the backup", unlocked.isDone());
+
+		updateStatus("node2", DB_STATUS.ONLINE);
+		assertTrue("The future should be completed once the lock has been released", unlocked.isDone());
+		assertTrue(bridge.updateLockState().isDone());
+
+		// Locking the topology again hands out a new future
+		updateStatus("node1", DB_STATUS.SYNCHRONIZING);
+		CompletableFuture<Void> relocked = bridge.awaitUnlock();
+		assertFalse(relocked.isDone());
+		status.put("node1", DB_STATUS.ONLINE);
+		assertTrue("The state should be checked again when the future is requested", bridge.awaitUnlock().isDone());
+		assertTrue(relocked.isDone());
+	}
+
+	@Test
+	public void testRejectWhenMaxWaitingExceeded() throws Exception {
+		MeshOptions options = new MeshOptions();
+		options.getClusterOptions()
+			.setEnabled(true)
+			.setTopologyLockTimeout(10_000)
+			.setTopologyLockMaxWaiting(1);
+		MetricsService metrics = mock(MetricsService.class);
+		when(metrics.timer(any())).thenReturn(mock(Timer.class));
+		when(metrics.counter(any())).thenReturn(mock(Counter.class));
+		CompletableFuture<Void> unlocked = new CompletableFuture<>();
+		OrientDBClusterManager clusterManager = mock(OrientDBClusterManager.class);
+		when(clusterManager.isClusterTopologyLocked()).thenReturn(true);
+		when(clusterManager.waitUntilTopologyUnlocked()).thenReturn(Completable.fromFuture(unlocked));
+		OrientDBDatabase db = new OrientDBDatabase(options, null, null, null, metrics, null, null, clusterManager, null, null, null, null, null);
+
+		Thread waiter = new Thread(db::blockingTopologyLockCheck);
+		waiter.start();
+		// Wait until the first operation has registered as waiting
+		verify(clusterManager, timeout(5_000)).waitUntilTopologyUnlocked();
+
+		try {
+			db.blockingTopologyLockCheck();
+			fail("The operation should have been rejected");
+		} catch (GenericRestException e) {
+			assertEquals(SERVICE_UNAVAILABLE, e.getStatus());
+			assertEquals("error_cluster_topology_locked", e.getI18nKey());
+		}
+
+		unlocked.complete(null);
+		waiter.join(5_000);
+		assertFalse("The waiting operation should have been released", waiter.isAlive());
+		// The released operation is no longer counted as waiting
+		db.blockingTopologyLockCheck();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void updateStatus(String nodeName, DB_STATUS nodeStatus) {
+		status.put(nodeName, nodeStatus);
+		EntryEvent<String, DB_STATUS> event = mock(EntryEvent.class);
+		listener.entryUpdated(event);
+	}
+}
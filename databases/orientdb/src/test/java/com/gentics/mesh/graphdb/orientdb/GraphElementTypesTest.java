@@ -0,0 +1,45 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.graphdb.MeshTypeResolver;
+import com.gentics.mesh.graphdb.SimpleReflectionCache;
+import com.gentics.mesh.graphdb.orientdb.graph.Group;
+import com.gentics.mesh.graphdb.orientdb.graph.Person;
+import com.gentics.mesh.madl.frame.GraphElementType;
+import com.gentics.mesh.madl.frame.GraphElementTypes;
+import com.gentics.mesh.madl.frame.RegistryFrameFactory;
+
+/**
+ * Tests for the registry which is generated by the graph element processor.
+ */
+public class GraphElementTypesTest {
+
+	@Test
+	public void testRegistry() {
+		GraphElementType<Person> type = GraphElementTypes.forClass(Person.class);
+		assertNotNull("The annotated test entity should have been registered at build time", type);
+		assertEquals(Person.class, GraphElementTypes.forName("Person").getType());
+		assertTrue(type.newInstance() instanceof Person);
+		assertNull("Classes which are not graph elements must not be registered", GraphElementTypes.forClass(String.class));
+	}
+
+	@Test
+	public void testFrameFactory() {
+		assertTrue(RegistryFrameFactory.INSTANCE.create(null, Group.class) instanceof Group);
+		// Classes which are not registered are instantiated via reflection
+		assertEquals("", RegistryFrameFactory.INSTANCE.create(null, String.class));
+	}
+
+	@Test
+	public void testReflectionCache() {
+		SimpleReflectionCache cache = new SimpleReflectionCache(MeshTypeResolver.class.getPackage().getName() + ".orientdb.graph");
+		assertEquals(Person.class, cache.forName("Person"));
+		assertEquals(Group.class, cache.forName("Group"));
+	}
+}
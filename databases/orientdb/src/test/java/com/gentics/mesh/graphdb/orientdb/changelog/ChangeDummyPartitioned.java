@@ -0,0 +1,37 @@
+package com.gentics.mesh.graphdb.orientdb.changelog;
+
+import com.gentics.mesh.changelog.AbstractChange;
+
+/**
+ * Change which marks all nodes using partitions.
+ */
+public class ChangeDummyPartitioned extends AbstractChange {
+
+	@Override
+	public String getUuid() {
+		return "9C1E8F0B4D2A4B7E9E8F0B4D2A6B7E11";
+	}
+
+	@Override
+	public String getName() {
+		return "Mark all nodes";
+	}
+
+	@Override
+	public void applyInTx() {
+		iterateInPartitions("NodeImpl", vertex -> {
+			vertex.setProperty("dummyMarker", true);
+		});
+	}
+
+	@Override
+	protected boolean isConcurrent() {
+		return true;
+	}
+
+	@Override
+	public String getDescription() {
+		return "Sets a property on all nodes in concurrently processed partitions";
+	}
+
+}
@@ -2,6 +2,7 @@ package com.gentics.mesh.graphdb.orientdb.changelog;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -25,8 +26,10 @@ import org.junit.runners.Parameterized.Parameters;
 import org.mockito.Mockito;
 
 import com.gentics.mesh.changelog.Change;
+import com.gentics.mesh.changelog.ChangelogRootWrapper;
 import com.gentics.mesh.changelog.ChangelogSystem;
 import com.gentics.mesh.changelog.ChangelogSystemImpl;
+import com.gentics.mesh.changelog.MeshGraphHelper;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.graphdb.cluster.OrientDBClusterManager;
@@ -35,6 +38,8 @@ import com.gentics.mesh.maven.MavenMetadata;
 import com.gentics.mesh.maven.MavenUtilities;
 import com.gentics.mesh.maven.VersionNumber;
 import com.gentics.mesh.metric.MetricsService;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.TransactionalGraph;
 import com.tinkerpop.blueprints.Vertex;
 
 import io.micrometer.core.instrument.Counter;
@@ -120,6 +125,74 @@ public class ChangelogSystemTest {
 		assertFalse("The change should only be applied once but we found another moped vertex", it.hasNext());
 	}
 
+	@Test
+	public void testPartitionedChange() throws Exception {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setDirectory("target/dump/graphdb");
+		options.setNodeName("dummyNode");
+		options.setChangelogBatchSize(10);
+		options.setChangelogConcurrency(4);
+
+		Database db = getDatabase(options);
+		db.setupConnectionPool();
+		ChangelogSystem cls = new ChangelogSystemImpl(db, options);
+		assertTrue("All changes should have been applied", cls.applyChanges(null, Arrays.asList(new ChangeDummyPartitioned())));
+		TransactionalGraph graph = db.rawTx();
+		try {
+			int count = 0;
+			for (Vertex vertex : graph.getVertices("@class", "NodeImpl")) {
+				assertTrue("All nodes should have been updated by the change", vertex.<Boolean>getProperty("dummyMarker"));
+				count++;
+			}
+			assertTrue("The dump should contain nodes", count > 0);
+			Vertex changelogRoot = MeshGraphHelper.getMeshRootVertex(graph).getVertices(Direction.OUT, ChangelogRootWrapper.HAS_CHANGELOG_ROOT)
+				.iterator().next();
+			assertNull("The checkpoint should be removed once the change has been completed",
+				changelogRoot.getProperty(ChangelogRootWrapper.CHECKPOINT_PROPERTY_PREFIX + new ChangeDummyPartitioned().getUuid()));
+		} finally {
+			graph.shutdown();
+		}
+	}
+
+	@Test
+	public void testPartitionedChangeContinuesAfterCheckpoint() throws Exception {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setDirectory("target/dump/graphdb");
+		options.setNodeName("dummyNode");
+		options.setChangelogBatchSize(3);
+
+		Database db = getDatabase(options);
+		db.setupConnectionPool();
+		String checkpointKey = ChangelogRootWrapper.CHECKPOINT_PROPERTY_PREFIX + new ChangeDummyPartitioned().getUuid();
+		TransactionalGraph graph = db.rawTx();
+		try {
+			Vertex changelogRoot = MeshGraphHelper.getMeshRootVertex(graph).getVertices(Direction.OUT, ChangelogRootWrapper.HAS_CHANGELOG_ROOT)
+				.iterator().next();
+			changelogRoot.setProperty(checkpointKey, "5");
+			graph.commit();
+		} finally {
+			graph.shutdown();
+		}
+
+		ChangelogSystem cls = new ChangelogSystemImpl(db, options);
+		assertTrue("All changes should have been applied", cls.applyChanges(null, Arrays.asList(new ChangeDummyPartitioned())));
+		graph = db.rawTx();
+		try {
+			int count = 0;
+			for (Vertex vertex : graph.getVertices("@class", "NodeImpl")) {
+				if (count < 5) {
+					assertNull("The nodes before the checkpoint should have been skipped", vertex.getProperty("dummyMarker"));
+				} else {
+					assertTrue("The nodes after the checkpoint should have been updated", vertex.<Boolean>getProperty("dummyMarker"));
+				}
+				count++;
+			}
+			assertTrue("The dump should contain nodes after the checkpoint", count > 5);
+		} finally {
+			graph.shutdown();
+		}
+	}
+
 	/**
 	 * Load the graph database which was configured in the mesh storage options.
 	 * 
@@ -0,0 +1,156 @@
+package com.gentics.mesh.distributed.coordinator;
+
+import static com.gentics.mesh.MeshVersion.CURRENT_API_BASE_PATH;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * The monitor keeps track of the load of the cluster members. The members are periodically probed via their readiness endpoint in order to determine
+ * whether they are healthy. The amount and the latency of the handled read requests is used to select the least loaded member.
+ */
+@Singleton
+public class ClusterLoadMonitor {
+
+	private static final Logger log = LoggerFactory.getLogger(ClusterLoadMonitor.class);
+
+	private static final long PROBE_INTERVAL_MS = 2000;
+
+	private static final String PROBE_PATH = CURRENT_API_BASE_PATH + "/health/ready";
+
+	private final MasterElector elector;
+
+	private final Vertx vertx;
+
+	private final MeshOptions options;
+
+	private final Map<String, MemberStats> stats = new ConcurrentHashMap<>();
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private HttpClient probeClient;
+
+	@Inject
+	public ClusterLoadMonitor(MasterElector elector, Vertx vertx, MeshOptions options) {
+		this.elector = elector;
+		this.vertx = vertx;
+		this.options = options;
+	}
+
+	/**
+	 * Start probing the cluster members. The monitor will only be started once.
+	 */
+	public void start() {
+		if (!started.compareAndSet(false, true)) {
+			return;
+		}
+		probeClient = vertx.createHttpClient(new HttpClientOptions()
+			.setKeepAlive(true)
+			.setMaxPoolSize(2)
+			.setConnectTimeout((int) PROBE_INTERVAL_MS));
+		vertx.setPeriodic(PROBE_INTERVAL_MS, id -> probe());
+		log.info("Started cluster load monitor");
+	}
+
+	/**
+	 * Update the list of members and probe the readiness of the remote members.
+	 */
+	private void probe() {
+		List<MasterServer> members;
+		try {
+			members = elector.getMembers();
+		} catch (Exception e) {
+			log.warn("Could not load the cluster members", e);
+			return;
+		}
+		Set<String> names = members.stream().map(MasterServer::getName).collect(Collectors.toSet());
+		stats.keySet().retainAll(names);
+
+		for (MasterServer member : members) {
+			MemberStats memberStats = stats(member);
+			if (member.isSelf()) {
+				// The local instance is handling this request and thus ready
+				memberStats.setHealthy(true);
+				continue;
+			}
+			long start = System.currentTimeMillis();
+			@SuppressWarnings("deprecation")
+			HttpClientRequest request = probeClient.get(member.getPort(), member.getHost(), PROBE_PATH, response -> {
+				memberStats.recordProbeLatency(System.currentTimeMillis() - start);
+				boolean healthy = response.statusCode() == 200;
+				if (healthy != memberStats.isHealthy()) {
+					log.info("Member {" + member.getName() + "} is now " + (healthy ? "healthy" : "unhealthy"));
+				}
+				memberStats.setHealthy(healthy);
+				response.resume();
+			});
+			request.exceptionHandler(e -> {
+				if (memberStats.isHealthy()) {
+					log.warn("Probe of member {" + member.getName() + "} failed", e);
+				}
+				memberStats.setHealthy(false);
+			});
+			request.setTimeout(PROBE_INTERVAL_MS);
+			request.end();
+		}
+	}
+
+	/**
+	 * Return the statistics of the member.
+	 *
+	 * @param member
+	 * @return
+	 */
+	public MemberStats stats(MasterServer member) {
+		MemberStats memberStats = stats.computeIfAbsent(member.getName(), name -> new MemberStats(member));
+		memberStats.setServer(member);
+		return memberStats;
+	}
+
+	/**
+	 * Select the healthy member with the lowest load.
+	 *
+	 * @return Selected member or null if no healthy member is known
+	 */
+	public MemberStats selectLeastLoaded() {
+		return stats.values().stream()
+			.filter(MemberStats::isHealthy)
+			.min(Comparator.comparingLong(MemberStats::getScore))
+			.orElse(null);
+	}
+
+	/**
+	 * Return the statistics of all known members.
+	 *
+	 * @return
+	 */
+	public Map<String, MemberStats> getStats() {
+		return stats;
+	}
+
+	/**
+	 * Check whether the load balancing of read requests is enabled.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return options.getClusterOptions().isCoordinatorLoadBalancing();
+	}
+}
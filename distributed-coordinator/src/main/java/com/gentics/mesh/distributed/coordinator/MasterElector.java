@@ -1,9 +1,12 @@
 package com.gentics.mesh.distributed.coordinator;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -333,20 +336,39 @@ public class MasterElector {
 		if (masterMember == null) {
 			return null;
 		}
-		String name = masterMember.getStringAttribute(MESH_NODE_NAME_ATTR);
-		int port = masterMember.getIntAttribute(MESH_HTTP_PORT_ATTR);
-		boolean isMasterLocal = isLocal(masterMember);
-		String host = "localhost";
-		if (!isMasterLocal) {
-			host = masterMember.getAddress().getHost();
-		}
-		MasterServer server = new MasterServer(name, host, port, isMasterLocal);
+		MasterServer server = toServer(masterMember);
 		if (log.isDebugEnabled()) {
 			log.debug("Our master member: " + server);
 		}
 		return server;
 	}
 
+	/**
+	 * Return the server information of all cluster members which have already announced their HTTP server.
+	 * 
+	 * @return
+	 */
+	public List<MasterServer> getMembers() {
+		if (localUuid == null) {
+			return Collections.emptyList();
+		}
+		return hazelcast.get().getCluster().getMembers().stream()
+			.filter(m -> m.getIntAttribute(MESH_HTTP_PORT_ATTR) != null)
+			.map(this::toServer)
+			.collect(Collectors.toList());
+	}
+
+	private MasterServer toServer(Member member) {
+		String name = member.getStringAttribute(MESH_NODE_NAME_ATTR);
+		int port = member.getIntAttribute(MESH_HTTP_PORT_ATTR);
+		boolean isLocal = isLocal(member);
+		String host = "localhost";
+		if (!isLocal) {
+			host = member.getAddress().getHost();
+		}
+		return new MasterServer(name, host, port, isLocal);
+	}
+
 	/**
 	 * Let the handler accept the object from the given message, if the message was not published from the local node
 	 * 
@@ -0,0 +1,138 @@
+package com.gentics.mesh.distributed.coordinator;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load and latency statistics of a cluster member as observed by the local coordinator. The statistics contain the requests which are currently handled by
+ * the member on behalf of this instance and the latencies of the most recent requests. The latency of the readiness probes is tracked separately since the
+ * local member is never probed and the probes are much cheaper than the requests.
+ */
+public class MemberStats {
+
+	private static final int LATENCY_SAMPLES = 128;
+
+	private final String name;
+
+	private volatile MasterServer server;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final long[] latencies = new long[LATENCY_SAMPLES];
+
+	private int latencyCount;
+
+	private int latencyPos;
+
+	private volatile long probeLatency;
+
+	private volatile boolean healthy = true;
+
+	public MemberStats(MasterServer server) {
+		this.name = server.getName();
+		this.server = server;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public MasterServer getServer() {
+		return server;
+	}
+
+	public void setServer(MasterServer server) {
+		this.server = server;
+	}
+
+	/**
+	 * Mark the start of a request which is handled by the member.
+	 */
+	public void requestStarted() {
+		inFlight.incrementAndGet();
+	}
+
+	/**
+	 * Mark the end of a request which is handled by the member.
+	 *
+	 * @param latency
+	 *            Duration of the request in ms
+	 */
+	public void requestFinished(long latency) {
+		inFlight.decrementAndGet();
+		recordLatency(latency);
+	}
+
+	/**
+	 * Add a request latency sample. Only the latest samples are retained.
+	 *
+	 * @param latency
+	 *            Latency in ms
+	 */
+	public synchronized void recordLatency(long latency) {
+		latencies[latencyPos] = latency;
+		latencyPos = (latencyPos + 1) % LATENCY_SAMPLES;
+		latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+	}
+
+	/**
+	 * Record the latency of the latest readiness probe. Probe latencies are not part of the request latency samples.
+	 *
+	 * @param latency
+	 *            Latency in ms
+	 */
+	public void recordProbeLatency(long latency) {
+		this.probeLatency = latency;
+	}
+
+	/**
+	 * Return the latency of the latest readiness probe.
+	 *
+	 * @return Latency in ms or 0 if the member has not been probed
+	 */
+	public long getProbeLatency() {
+		return probeLatency;
+	}
+
+	/**
+	 * Return the 99th percentile of the retained request latency samples.
+	 *
+	 * @return Latency in ms or 0 if no samples have been recorded
+	 */
+	public synchronized long getP99Latency() {
+		if (latencyCount == 0) {
+			return 0;
+		}
+		long[] samples = Arrays.copyOf(latencies, latencyCount);
+		Arrays.sort(samples);
+		int idx = (int) Math.ceil(samples.length * 0.99) - 1;
+		return samples[Math.max(0, idx)];
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public boolean isHealthy() {
+		return healthy;
+	}
+
+	public void setHealthy(boolean healthy) {
+		this.healthy = healthy;
+	}
+
+	/**
+	 * Return the load score of the member. Members with a lower score should be preferred. The score is only based on the requests, so that the local and the
+	 * remote members are compared by the same kind of samples.
+	 *
+	 * @return
+	 */
+	public long getScore() {
+		return (inFlight.get() + 1) * Math.max(1, getP99Latency());
+	}
+
+	@Override
+	public String toString() {
+		return name + " (in-flight: " + getInFlight() + ", p99: " + getP99Latency() + "ms, probe: " + probeLatency + "ms, healthy: " + healthy + ")";
+	}
+}
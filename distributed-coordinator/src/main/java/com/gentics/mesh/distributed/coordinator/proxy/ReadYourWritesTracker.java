@@ -0,0 +1,88 @@
+package com.gentics.mesh.distributed.coordinator.proxy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Tracks the clients which recently sent modifying requests. The read requests of these clients are routed to the elected master so that the clients are
+ * able to read their own writes, even if the changes have not yet been replicated to the other instances.
+ */
+@Singleton
+public class ReadYourWritesTracker {
+
+	private static final int MAX_SESSIONS = 10_000;
+
+	private static final String TOKEN_COOKIE = "mesh.token=";
+
+	private final long window;
+
+	private final Map<String, Long> lastWrites = Collections.synchronizedMap(new LinkedHashMap<String, Long>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+			return size() > MAX_SESSIONS;
+		}
+	});
+
+	@Inject
+	public ReadYourWritesTracker(MeshOptions options) {
+		this.window = options.getClusterOptions().getCoordinatorReadYourWritesWindow();
+	}
+
+	/**
+	 * Return the key which identifies the session of the request. The session is identified by the authorization header or the token cookie.
+	 *
+	 * @param request
+	 * @return Key or null if the request does not contain any credentials
+	 */
+	public static String sessionKey(HttpServerRequest request) {
+		String authorization = request.getHeader("Authorization");
+		if (authorization != null) {
+			return authorization;
+		}
+		String cookies = request.getHeader("Cookie");
+		if (cookies != null) {
+			for (String cookie : cookies.split(";")) {
+				cookie = cookie.trim();
+				if (cookie.startsWith(TOKEN_COOKIE)) {
+					return cookie.substring(TOKEN_COOKIE.length());
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Record a modifying request of the session.
+	 *
+	 * @param sessionKey
+	 */
+	public void recordWrite(String sessionKey) {
+		if (sessionKey != null && window > 0) {
+			lastWrites.put(sessionKey, System.currentTimeMillis());
+		}
+	}
+
+	/**
+	 * Check whether the session sent a modifying request within the configured window.
+	 *
+	 * @param sessionKey
+	 * @return
+	 */
+	public boolean hasRecentWrite(String sessionKey) {
+		if (sessionKey == null) {
+			return false;
+		}
+		Long lastWrite = lastWrites.get(sessionKey);
+		return lastWrite != null && System.currentTimeMillis() - lastWrite < window;
+	}
+}
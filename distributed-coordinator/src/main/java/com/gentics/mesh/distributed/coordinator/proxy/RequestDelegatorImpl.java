@@ -9,8 +9,10 @@ import java.util.regex.Pattern;
 import javax.inject.Inject;
 
 import com.gentics.mesh.distributed.RequestDelegator;
+import com.gentics.mesh.distributed.coordinator.ClusterLoadMonitor;
 import com.gentics.mesh.distributed.coordinator.Coordinator;
 import com.gentics.mesh.distributed.coordinator.MasterServer;
+import com.gentics.mesh.distributed.coordinator.MemberStats;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.cluster.CoordinatorMode;
 
@@ -18,6 +20,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
@@ -37,18 +40,31 @@ public class RequestDelegatorImpl implements RequestDelegator {
 
 	public static final String MESH_DIRECT_HEADER = "X-Mesh-Direct";
 
+	/**
+	 * Maximum amount of pooled connections per cluster member.
+	 */
+	private static final int MAX_POOL_SIZE = 64;
+
 	private final Coordinator coordinator;
 	private final HttpClient httpClient;
 	private final MeshOptions options;
+	private final ClusterLoadMonitor loadMonitor;
+	private final ReadYourWritesTracker readYourWrites;
 
 	private static final Set<Pattern> readOnlyPathPatternSet = createReadOnlyPatternSet();
 	private static final Set<Pattern> whiteListPathPatternSet = createWhitelistPatternSet();
 
 	@Inject
-	public RequestDelegatorImpl(Coordinator coordinator, Vertx vertx, MeshOptions options) {
+	public RequestDelegatorImpl(Coordinator coordinator, Vertx vertx, MeshOptions options, ClusterLoadMonitor loadMonitor,
+		ReadYourWritesTracker readYourWrites) {
 		this.coordinator = coordinator;
-		this.httpClient = vertx.createHttpClient();
+		// Connections to the members are kept alive and reused for subsequent requests
+		this.httpClient = vertx.createHttpClient(new HttpClientOptions()
+			.setKeepAlive(true)
+			.setMaxPoolSize(MAX_POOL_SIZE));
 		this.options = options;
+		this.loadMonitor = loadMonitor;
+		this.readYourWrites = readYourWrites;
 	}
 
 	@Override
@@ -95,9 +111,16 @@ public class RequestDelegatorImpl implements RequestDelegator {
 		// In CUD mode we only delegate mutating requests to the master
 		if (mode == CoordinatorMode.CUD) {
 			if (isReadRequest(method, path)) {
-				rc.next();
+				if (loadMonitor.isEnabled()) {
+					routeRead(rc);
+				} else {
+					rc.next();
+				}
 				return;
 			}
+			if (loadMonitor.isEnabled()) {
+				readYourWrites.recordWrite(ReadYourWritesTracker.sessionKey(request));
+			}
 		}
 
 		MasterServer master = coordinator.getMasterMember();
@@ -130,31 +153,95 @@ public class RequestDelegatorImpl implements RequestDelegator {
 		}
 	}
 
+	/**
+	 * Route the read request to the least loaded healthy member. Clients which recently sent a modifying request will be routed to the master.
+	 * 
+	 * @param rc
+	 */
+	private void routeRead(RoutingContext rc) {
+		loadMonitor.start();
+		MemberStats target = null;
+		MasterServer master = coordinator.getMasterMember();
+		if (master != null && readYourWrites.hasRecentWrite(ReadYourWritesTracker.sessionKey(rc.request()))) {
+			target = loadMonitor.stats(master);
+		} else {
+			target = loadMonitor.selectLeastLoaded();
+		}
+
+		if (target == null) {
+			rc.next();
+			return;
+		}
+		if (target.getServer().isSelf()) {
+			MemberStats self = target;
+			long start = System.currentTimeMillis();
+			self.requestStarted();
+			rc.addBodyEndHandler(v -> self.requestFinished(System.currentTimeMillis() - start));
+			rc.next();
+			return;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Routing read request to member {" + target + "}");
+		}
+		forward(rc, target.getServer(), target);
+	}
+
 	@Override
 	public void redirectToMaster(RoutingContext rc) {
+		MasterServer master = coordinator.getMasterMember();
+		if (log.isDebugEnabled()) {
+			log.debug("Forwarding request to master {" + master.toString() + "}");
+		}
+		forward(rc, master, loadMonitor.isEnabled() ? loadMonitor.stats(master) : null);
+	}
+
+	/**
+	 * Forward the request to the given cluster member.
+	 * 
+	 * @param rc
+	 * @param server
+	 *            Member which should handle the request
+	 * @param stats
+	 *            Statistics of the member which will be updated or null
+	 */
+	private void forward(RoutingContext rc, MasterServer server, MemberStats stats) {
 		HttpServerRequest request = rc.request();
 		String requestURI = request.uri();
 		HttpMethod method = request.method();
 		HttpServerResponse response = rc.response();
-		MasterServer master = coordinator.getMasterMember();
-		String host = master.getHost();
-		int port = master.getPort();
-
-		if (log.isDebugEnabled()) {
-			log.debug("Forwarding request to master {" + master.toString() + "}");
+		String host = server.getHost();
+		int port = server.getPort();
+		long start = System.currentTimeMillis();
+		if (stats != null) {
+			stats.requestStarted();
 		}
 
 		@SuppressWarnings("deprecation")
 		HttpClientRequest forwardRequest = httpClient.request(method, port, host, requestURI, forwardResponse -> {
 			response.setChunked(true);
 			response.setStatusCode(forwardResponse.statusCode());
-			response.putHeader(MESH_FORWARDED_FROM_HEADER, master.getName());
+			response.putHeader(MESH_FORWARDED_FROM_HEADER, server.getName());
 			forwardHeaders(response, forwardResponse);
 			printHeaders("Forward response headers", response.headers());
 			Pump.pump(forwardResponse, response)
 				.setWriteQueueMaxSize(8192)
 				.start();
-			forwardResponse.endHandler(v -> response.end());
+			forwardResponse.endHandler(v -> {
+				if (stats != null) {
+					stats.requestFinished(System.currentTimeMillis() - start);
+				}
+				response.end();
+			});
+		});
+		forwardRequest.exceptionHandler(e -> {
+			log.error("Could not forward request to member {" + server.getName() + "}", e);
+			if (stats != null) {
+				stats.requestFinished(System.currentTimeMillis() - start);
+				stats.setHealthy(false);
+			}
+			if (!response.headWritten()) {
+				rc.fail(e);
+			}
 		});
 
 		forwardHeaders(request, forwardRequest);
@@ -0,0 +1,65 @@
+package com.gentics.mesh.distributed.coordinator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+
+public class ClusterLoadMonitorTest {
+
+	@Test
+	public void testP99Latency() {
+		MemberStats stats = new MemberStats(new MasterServer("nodeA", "localhost", 8080, true));
+		assertEquals(0, stats.getP99Latency());
+		for (int i = 1; i <= 100; i++) {
+			stats.recordLatency(i);
+		}
+		assertEquals(99, stats.getP99Latency());
+
+		// Only the latest samples are retained
+		for (int i = 0; i < 200; i++) {
+			stats.recordLatency(5);
+		}
+		assertEquals(5, stats.getP99Latency());
+	}
+
+	@Test
+	public void testProbeLatencyIsNotScored() {
+		MemberStats stats = new MemberStats(new MasterServer("nodeB", "10.0.0.2", 8080, false));
+		stats.recordLatency(50);
+		for (int i = 0; i < 200; i++) {
+			stats.recordProbeLatency(1);
+		}
+		assertEquals(1, stats.getProbeLatency());
+		assertEquals("Probes must not affect the request latency", 50, stats.getP99Latency());
+		assertEquals(50, stats.getScore());
+	}
+
+	@Test
+	public void testSelectLeastLoaded() {
+		ClusterLoadMonitor monitor = new ClusterLoadMonitor(null, null, new MeshOptions());
+		assertNull(monitor.selectLeastLoaded());
+
+		MemberStats nodeA = monitor.stats(new MasterServer("nodeA", "localhost", 8080, true));
+		MemberStats nodeB = monitor.stats(new MasterServer("nodeB", "10.0.0.2", 8080, false));
+		nodeA.recordLatency(10);
+		nodeB.recordLatency(10);
+
+		nodeA.requestStarted();
+		assertEquals("nodeB", monitor.selectLeastLoaded().getName());
+
+		nodeB.requestStarted();
+		nodeB.requestStarted();
+		assertEquals("nodeA", monitor.selectLeastLoaded().getName());
+
+		// Unhealthy members are never selected
+		nodeA.setHealthy(false);
+		assertEquals("nodeB", monitor.selectLeastLoaded().getName());
+
+		nodeB.setHealthy(false);
+		assertNull(monitor.selectLeastLoaded());
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.gentics.mesh.distributed.coordinator.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.http.HttpServerRequest;
+
+public class ReadYourWritesTrackerTest {
+
+	@Test
+	public void testSessionKey() {
+		assertEquals("Bearer token", ReadYourWritesTracker.sessionKey(request("Bearer token", "mesh.token=cookieToken")));
+		assertEquals("cookieToken", ReadYourWritesTracker.sessionKey(request(null, "other=value; mesh.token=cookieToken")));
+		assertNull(ReadYourWritesTracker.sessionKey(request(null, "other=value")));
+		assertNull(ReadYourWritesTracker.sessionKey(request(null, null)));
+	}
+
+	@Test
+	public void testRecentWrite() throws InterruptedException {
+		ReadYourWritesTracker tracker = tracker(200);
+		assertFalse(tracker.hasRecentWrite("session1"));
+		assertFalse(tracker.hasRecentWrite(null));
+
+		tracker.recordWrite("session1");
+		tracker.recordWrite(null);
+		assertTrue(tracker.hasRecentWrite("session1"));
+		assertFalse("Only the session which sent the write should be affected", tracker.hasRecentWrite("session2"));
+
+		Thread.sleep(300);
+		assertFalse("The write should be outside of the window", tracker.hasRecentWrite("session1"));
+	}
+
+	@Test
+	public void testDisabledWindow() {
+		ReadYourWritesTracker tracker = tracker(0);
+		tracker.recordWrite("session1");
+		assertFalse(tracker.hasRecentWrite("session1"));
+	}
+
+	private ReadYourWritesTracker tracker(long window) {
+		MeshOptions options = new MeshOptions();
+		options.getClusterOptions().setCoordinatorReadYourWritesWindow(window);
+		return new ReadYourWritesTracker(options);
+	}
+
+	private HttpServerRequest request(String authorization, String cookie) {
+		HttpServerRequest request = mock(HttpServerRequest.class);
+		when(request.getHeader("Authorization")).thenReturn(authorization);
+		when(request.getHeader("Cookie")).thenReturn(cookie);
+		return request;
+	}
+}
@@ -0,0 +1,152 @@
+package com.gentics.mesh.distributed.coordinator.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.distributed.coordinator.ClusterLoadMonitor;
+import com.gentics.mesh.distributed.coordinator.Coordinator;
+import com.gentics.mesh.distributed.coordinator.MasterServer;
+import com.gentics.mesh.distributed.coordinator.MemberStats;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.cluster.CoordinatorMode;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+@SuppressWarnings("deprecation")
+public class RequestDelegatorImplTest {
+
+	private static final String PATH = "/api/v2/demo/nodes";
+
+	private HttpClient httpClient;
+
+	private ClusterLoadMonitor monitor;
+
+	private RequestDelegatorImpl delegator;
+
+	private MemberStats self;
+
+	private MemberStats remote;
+
+	private MemberStats master;
+
+	@Before
+	public void setup() {
+		MeshOptions options = new MeshOptions();
+		options.getClusterOptions()
+			.setEnabled(true)
+			.setCoordinatorMode(CoordinatorMode.CUD)
+			.setCoordinatorLoadBalancing(true)
+			.setCoordinatorReadYourWritesWindow(10_000);
+
+		httpClient = mock(HttpClient.class);
+		when(httpClient.request(any(HttpMethod.class), anyInt(), anyString(), anyString(), any())).thenReturn(mock(HttpClientRequest.class));
+		Vertx vertx = mock(Vertx.class);
+		when(vertx.createHttpClient(any(HttpClientOptions.class))).thenReturn(httpClient);
+
+		MasterServer masterServer = new MasterServer("master", "10.0.0.1", 8080, false);
+		Coordinator coordinator = mock(Coordinator.class);
+		when(coordinator.getCoordinatorMode()).thenReturn(CoordinatorMode.CUD);
+		when(coordinator.getMasterMember()).thenReturn(masterServer);
+
+		monitor = new ClusterLoadMonitor(null, vertx, options);
+		self = monitor.stats(new MasterServer("self", "localhost", 8080, true));
+		remote = monitor.stats(new MasterServer("remote", "10.0.0.2", 8080, false));
+		master = monitor.stats(masterServer);
+		delegator = new RequestDelegatorImpl(coordinator, vertx, options, monitor, new ReadYourWritesTracker(options));
+	}
+
+	@Test
+	public void testReadHandledLocally() {
+		self.recordLatency(10);
+		remote.recordLatency(100);
+		master.recordLatency(100);
+
+		RoutingContext rc = routingContext(HttpMethod.GET, "Bearer session1");
+		delegator.handle(rc);
+
+		verify(rc).next();
+		verify(rc).addBodyEndHandler(any());
+		assertEquals(1, self.getInFlight());
+		verify(httpClient, never()).request(any(HttpMethod.class), anyInt(), anyString(), anyString(), any());
+	}
+
+	@Test
+	public void testReadForwardedToLeastLoadedMember() {
+		self.recordLatency(100);
+		remote.recordLatency(10);
+		master.recordLatency(100);
+
+		RoutingContext rc = routingContext(HttpMethod.GET, "Bearer session1");
+		delegator.handle(rc);
+
+		verify(rc, never()).next();
+		verify(httpClient).request(eq(HttpMethod.GET), eq(8080), eq("10.0.0.2"), eq(PATH), any());
+		assertEquals(1, remote.getInFlight());
+	}
+
+	@Test
+	public void testReadAfterWriteForwardedToMaster() {
+		self.recordLatency(10);
+		remote.recordLatency(100);
+		master.recordLatency(100);
+
+		delegator.handle(routingContext(HttpMethod.POST, "Bearer session1"));
+		verify(httpClient).request(eq(HttpMethod.POST), eq(8080), eq("10.0.0.1"), eq(PATH), any());
+
+		// The session which sent the write reads from the master
+		RoutingContext rc = routingContext(HttpMethod.GET, "Bearer session1");
+		delegator.handle(rc);
+		verify(rc, never()).next();
+		verify(httpClient).request(eq(HttpMethod.GET), eq(8080), eq("10.0.0.1"), eq(PATH), any());
+
+		// Other sessions are still routed to the least loaded member
+		RoutingContext otherRc = routingContext(HttpMethod.GET, "Bearer session2");
+		delegator.handle(otherRc);
+		verify(otherRc).next();
+	}
+
+	@Test
+	public void testNoHealthyMember() {
+		self.setHealthy(false);
+		remote.setHealthy(false);
+		master.setHealthy(false);
+
+		RoutingContext rc = routingContext(HttpMethod.GET, "Bearer session1");
+		delegator.handle(rc);
+
+		verify(rc).next();
+		verify(httpClient, never()).request(any(HttpMethod.class), anyInt(), anyString(), anyString(), any());
+	}
+
+	private RoutingContext routingContext(HttpMethod method, String authorization) {
+		HttpServerRequest request = mock(HttpServerRequest.class);
+		when(request.method()).thenReturn(method);
+		when(request.path()).thenReturn(PATH);
+		when(request.uri()).thenReturn(PATH);
+		when(request.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+		when(request.getHeader("Authorization")).thenReturn(authorization);
+		when(request.exceptionHandler(any())).thenReturn(request);
+		RoutingContext rc = mock(RoutingContext.class);
+		when(rc.request()).thenReturn(request);
+		when(rc.response()).thenReturn(mock(HttpServerResponse.class));
+		return rc;
+	}
+}
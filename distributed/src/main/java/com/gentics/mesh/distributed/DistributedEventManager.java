@@ -12,6 +12,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.naming.InvalidNameException;
 
+import com.gentics.mesh.cache.CacheEpochs;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
@@ -48,15 +49,18 @@ public class DistributedEventManager {
 
 	private final Lazy<PermissionCache> permCache;
 
+	private final Lazy<CacheEpochs> cacheEpochs;
+
 	@Inject
 	public DistributedEventManager(Lazy<Vertx> vertx, Lazy<Database> db, Lazy<BootstrapInitializer> boot,
 		RouterStorageRegistryImpl routerStorageRegistry,
-		Lazy<PermissionCache> permCache) {
+		Lazy<PermissionCache> permCache, Lazy<CacheEpochs> cacheEpochs) {
 		this.vertx = vertx;
 		this.db = db;
 		this.boot = boot;
 		this.routerStorageRegistry = routerStorageRegistry;
 		this.permCache = permCache;
+		this.cacheEpochs = cacheEpochs;
 	}
 
 	/**
@@ -115,8 +119,8 @@ public class DistributedEventManager {
 			log.error("Error while handling synchronizing projects during topology update event.", e);
 			handler.fail(400, "Could not initialize projects.");
 		}
-		// Invalidate permission store since the permissions may have changed
-		permCache.get().clear();
+		// Catch up with the cache epochs which may have been bumped while the instance was disconnected
+		cacheEpochs.get().sync();
 	}
 
 	private void synchronizeProjectRoutes() throws InvalidNameException {
@@ -2,19 +2,24 @@ package com.gentics.mesh.search.impl;
 
 import static com.gentics.mesh.core.rest.MeshEvent.INDEX_CLEAR_FINISHED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.SEARCH_BULK_ITEM_DEAD_LETTER;
+import static com.gentics.mesh.metric.SimpleMetric.SEARCH_BULK_ITEM_RETRY;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.isConflictError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.isNotFoundError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.isResourceAlreadyExistsError;
+import static com.gentics.mesh.search.verticle.eventhandler.RxUtil.scrollAll;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -25,9 +30,12 @@ import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.mesh.core.data.search.bulk.BulkEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
 import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.CachedJsonObjectProxy;
+import com.gentics.mesh.core.data.search.request.ScriptUpdateDocumentRequest;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.search.ElasticsearchProcessManager;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.util.UUIDUtil;
@@ -36,7 +44,6 @@ import dagger.Lazy;
 import io.reactivex.Completable;
 import io.reactivex.CompletableSource;
 import io.reactivex.CompletableTransformer;
-import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.functions.Function;
@@ -55,8 +62,18 @@ public class ElasticSearchProvider implements SearchProvider {
 
 	private static final Logger log = LoggerFactory.getLogger(ElasticSearchProvider.class);
 
+	/**
+	 * Logger for bulk items which could not be processed by Elasticsearch. The logger can be used to redirect the failed items into a dedicated log.
+	 */
+	private static final Logger deadLetterLog = LoggerFactory.getLogger(ElasticSearchProvider.class.getName() + ".deadletter");
+
 	private final static int MAX_RETRY_ON_ERROR = 5;
 
+	/**
+	 * Amount of documents which are loaded per scroll page and updated within one bulk request when updating documents by query.
+	 */
+	private final static int UPDATE_BY_QUERY_PAGE_SIZE = 500;
+
 	private final MeshOptions options;
 
 	private final Lazy<Vertx> vertx;
@@ -70,12 +87,15 @@ public class ElasticSearchProvider implements SearchProvider {
 
 	private final ComplianceMode complianceMode;
 
+	private final MetricsService metrics;
+
 	@Inject
-	public ElasticSearchProvider(Lazy<Vertx> vertx, MeshOptions options, ElasticsearchClient<JsonObject> client) {
+	public ElasticSearchProvider(Lazy<Vertx> vertx, MeshOptions options, ElasticsearchClient<JsonObject> client, MetricsService metrics) {
 		this.vertx = vertx;
 		this.options = options;
 		this.client = client;
 		this.complianceMode = options.getSearchOptions().getComplianceMode();
+		this.metrics = metrics;
 	}
 
 	/**
@@ -294,6 +314,41 @@ public class ElasticSearchProvider implements SearchProvider {
 			.compose(withTimeoutAndLog("Deleting document {" + fullIndex + "} / {" + uuid + "}", true));
 	}
 
+	@Override
+	public Completable updateByQuery(String indexPattern, JsonObject query, JsonObject script) {
+		String fullIndexPattern = installationPrefix() + indexPattern;
+		long start = System.currentTimeMillis();
+		if (log.isDebugEnabled()) {
+			log.debug("Updating documents of indices {" + fullIndexPattern + "} by query {" + query.encode() + "}");
+		}
+		JsonObject searchQuery = new JsonObject()
+			.put("_source", false)
+			.put("size", UPDATE_BY_QUERY_PAGE_SIZE)
+			.put("query", query);
+		// The script is shared by all update requests and thus only encoded once
+		CachedJsonObjectProxy cachedScript = new CachedJsonObjectProxy(script);
+		AtomicLong count = new AtomicLong();
+		// Documents of preceding requests must be visible to the query
+		return refreshIndex(indexPattern)
+			.andThen(scrollAll(client, searchQuery, "1m", fullIndexPattern))
+			.concatMapCompletable(response -> {
+				JsonArray hits = response.getJsonObject("hits").getJsonArray("hits");
+				List<Bulkable> updates = new ArrayList<>(hits.size());
+				for (int i = 0; i < hits.size(); i++) {
+					JsonObject hit = hits.getJsonObject(i);
+					updates.add(new ScriptUpdateDocumentRequest(hit.getString("_index"), hit.getString("_id"), cachedScript, complianceMode));
+				}
+				count.addAndGet(updates.size());
+				return processBulk(updates);
+			})
+			.doOnComplete(() -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Updated {" + count.get() + "} documents of indices {" + fullIndexPattern + "}. Duration "
+						+ (System.currentTimeMillis() - start) + "[ms]");
+				}
+			});
+	}
+
 	@Override
 	public Completable updateDocument(String index, String uuid, JsonObject document, boolean ignoreMissingDocumentError) {
 		String fullIndex = installationPrefix() + index;
@@ -352,18 +407,167 @@ public class ElasticSearchProvider implements SearchProvider {
 		if (entries.isEmpty()) {
 			return Completable.complete();
 		}
+		List<Bulkable> succeeded = new ArrayList<>();
+		return processBulk(new ArrayList<>(entries), 1, succeeded)
+			.flatMapCompletable(failedItems -> {
+				if (failedItems.isEmpty()) {
+					return Completable.complete();
+				}
+				// Acknowledge the successful entries since the caller will only acknowledge the entries of bulk requests which did not fail
+				for (Bulkable entry : succeeded) {
+					entry.onComplete().run();
+				}
+				return Completable.error(new ElasticsearchBulkResponseError(new JsonObject()
+					.put("errors", true)
+					.put("items", failedItems)));
+			});
+	}
 
-		return Flowable.fromIterable(entries)
-			.flatMapSingle(Bulkable::toBulkActions)
-			.flatMapIterable(list -> list)
-			.reduce(new StringBuilder(), (builder, str) -> builder.append(str).append("\n"))
-			.map(StringBuilder::toString)
+	/**
+	 * Send the entries in a bulk request. Only the entries which failed with a retryable error will be sent again.
+	 * 
+	 * @param entries
+	 *            Entries to be sent
+	 * @param attempt
+	 *            Number of the attempt, starting with 1
+	 * @param succeeded
+	 *            List to which the successfully processed entries will be added
+	 * @return Response items which failed permanently
+	 */
+	private Single<JsonArray> processBulk(List<Bulkable> entries, int attempt, List<Bulkable> succeeded) {
+		long start = System.currentTimeMillis();
+		Long timeout = getOptions().getTimeout();
+		return Single.fromCallable(() -> toBulkBody(entries))
 			.doOnSuccess(bulkData -> {
 				if (log.isTraceEnabled()) {
 					log.trace("Using bulk payload:");
 					log.trace(bulkData);
 				}
-			}).flatMapCompletable(this::processBulk);
+			})
+			.flatMap(bulkData -> client.processBulk(bulkData).async())
+			.timeout(timeout, TimeUnit.MILLISECONDS)
+			.doOnError(error -> {
+				if (error instanceof TimeoutException) {
+					log.error("The operation failed since the timeout of {" + timeout + "} ms has been reached. Action: Storing document batch.");
+				} else {
+					log.error("Request failed {Storing document batch.}", error.toString());
+					log.error(error);
+				}
+			})
+			.flatMap(response -> {
+				if (!response.getBoolean("errors", false)) {
+					if (log.isDebugEnabled()) {
+						log.debug("Finished bulk request. Duration " + (System.currentTimeMillis() - start) + "[ms]");
+					}
+					succeeded.addAll(entries);
+					return Single.just(new JsonArray());
+				}
+				return handleBulkErrors(entries, response, attempt, succeeded);
+			});
+	}
+
+	/**
+	 * Build the body of the bulk request. The body is presized using the bulk length of the entries so that the actions, which reuse the cached encoding of
+	 * the documents, are copied only once.
+	 * 
+	 * @param entries
+	 * @return
+	 */
+	private String toBulkBody(List<Bulkable> entries) {
+		long length = 0;
+		for (Bulkable entry : entries) {
+			length += entry.bulkLength();
+		}
+		StringBuilder bulkBody = new StringBuilder((int) Math.min(length, Integer.MAX_VALUE - 8));
+		// The order of the actions must match the order of the entries in order to map the response items back to the entries
+		for (Bulkable entry : entries) {
+			entry.appendBulkActions(bulkBody);
+		}
+		return bulkBody.toString();
+	}
+
+	/**
+	 * Map the items of the bulk response back to the entries. Entries which failed with a retryable error (429, 5xx) will be sent again after a delay
+	 * until the retry limit has been reached. All other failed items will be logged as dead letters.
+	 * 
+	 * @param entries
+	 * @param response
+	 * @param attempt
+	 * @param succeeded
+	 * @return Response items which failed permanently
+	 */
+	private Single<JsonArray> handleBulkErrors(List<Bulkable> entries, JsonObject response, int attempt, List<Bulkable> succeeded) {
+		log.trace("Error after processing bulk:\n{}", response);
+		ElasticSearchOptions searchOptions = getOptions();
+		boolean retryAllowed = attempt <= searchOptions.getRetryLimit();
+		JsonArray items = response.getJsonArray("items");
+		JsonArray failedItems = new JsonArray();
+		List<Bulkable> retry = new ArrayList<>();
+
+		int itemIndex = 0;
+		for (Bulkable entry : entries) {
+			List<JsonObject> entryErrors = new ArrayList<>();
+			boolean retryable = false;
+			for (int i = 0; i < entry.bulkActionCount() && itemIndex < items.size(); i++, itemIndex++) {
+				JsonObject wrapper = items.getJsonObject(itemIndex);
+				// Each item contains a single field which is named after the action type
+				for (String actionType : wrapper.fieldNames()) {
+					JsonObject item = wrapper.getJsonObject(actionType);
+					if (item.containsKey("error")) {
+						entryErrors.add(wrapper);
+						int status = item.getInteger("status", 0);
+						retryable |= status == 429 || status >= 500;
+					}
+				}
+			}
+
+			if (entryErrors.isEmpty()) {
+				succeeded.add(entry);
+			} else if (retryable && retryAllowed) {
+				retry.add(entry);
+			} else {
+				for (JsonObject wrapper : entryErrors) {
+					logDeadLetter(wrapper);
+					failedItems.add(wrapper);
+				}
+			}
+		}
+
+		if (retry.isEmpty()) {
+			return Single.just(failedItems);
+		} else {
+			long delay = searchOptions.getRetryInterval() * (1L << Math.min(attempt - 1, 10));
+			log.info("Retrying {" + retry.size() + "} of {" + entries.size() + "} bulk entries in {" + delay + "} ms. Attempt {" + attempt + "} of {"
+				+ searchOptions.getRetryLimit() + "}");
+			if (metrics.isEnabled()) {
+				metrics.counter(SEARCH_BULK_ITEM_RETRY).increment(retry.size());
+			}
+			return Completable.timer(delay, TimeUnit.MILLISECONDS)
+				.andThen(Single.defer(() -> processBulk(retry, attempt + 1, succeeded)))
+				.map(retryFailedItems -> failedItems.addAll(retryFailedItems));
+		}
+	}
+
+	/**
+	 * Log the failed bulk item.
+	 * 
+	 * @param wrapper
+	 *            Bulk response item
+	 */
+	private void logDeadLetter(JsonObject wrapper) {
+		for (String actionType : wrapper.fieldNames()) {
+			JsonObject item = wrapper.getJsonObject(actionType);
+			JsonObject error = item.getJsonObject("error");
+			String type = error.getString("type");
+			// Missing indices will be handled by an index sync
+			if (!"index_not_found_exception".equals(type)) {
+				deadLetterLog.error("Could not " + actionType + " document {" + item.getString("_index") + ":" + item.getString("_id") + "} - status {"
+					+ item.getInteger("status") + "} " + type + " : " + error.getString("reason"));
+				if (metrics.isEnabled()) {
+					metrics.counter(SEARCH_BULK_ITEM_DEAD_LETTER).increment();
+				}
+			}
+		}
 	}
 
 	@Override
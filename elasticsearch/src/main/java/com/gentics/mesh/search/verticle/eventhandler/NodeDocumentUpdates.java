@@ -0,0 +1,110 @@
+package com.gentics.mesh.search.verticle.eventhandler;
+
+import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Factory for requests which update the denormalized tag and tag family data within the node documents of a project.
+ *
+ * Instead of loading and transforming all affected nodes, the documents will be selected by a query and updated in place by a script. Node documents
+ * contain the tags twice: Within the <code>tags</code> object (list of uuids and list of names) and within the <code>tagFamilies</code> object, which is
+ * keyed by the name of the tag family.
+ */
+public final class NodeDocumentUpdates {
+
+	private static final String RENAME_TAG_SCRIPT = String.join("\n",
+		"boolean changed = false;",
+		"def tags = ctx._source.tags;",
+		"if (tags != null && tags.uuid != null) {",
+		"  for (int i = 0; i < tags.uuid.size(); i++) {",
+		"    if (tags.uuid[i] == params.uuid && tags.name[i] != params.name) {",
+		"      tags.name[i] = params.name;",
+		"      changed = true;",
+		"    }",
+		"  }",
+		"}",
+		"def families = ctx._source.tagFamilies;",
+		"if (families != null) {",
+		"  for (def family : families.values()) {",
+		"    for (def tag : family.tags) {",
+		"      if (tag.uuid == params.uuid && tag.name != params.name) {",
+		"        tag.name = params.name;",
+		"        changed = true;",
+		"      }",
+		"    }",
+		"  }",
+		"}",
+		"if (!changed) {",
+		"  ctx.op = 'noop';",
+		"}");
+
+	private static final String RENAME_TAG_FAMILY_SCRIPT = String.join("\n",
+		"def families = ctx._source.tagFamilies;",
+		"String oldName = null;",
+		"if (families != null) {",
+		"  for (def entry : families.entrySet()) {",
+		"    if (entry.getValue().uuid == params.uuid) {",
+		"      oldName = entry.getKey();",
+		"    }",
+		"  }",
+		"}",
+		"if (oldName == null || oldName == params.name) {",
+		"  ctx.op = 'noop';",
+		"} else {",
+		"  families.put(params.name, families.remove(oldName));",
+		"}");
+
+	private NodeDocumentUpdates() {
+	}
+
+	/**
+	 * Create a request which updates the name of the tag in all node documents of the project which reference the tag.
+	 *
+	 * @param projectUuid
+	 * @param tagUuid
+	 * @param tagName
+	 *            New name of the tag
+	 * @return
+	 */
+	public static SearchRequest renameTag(String projectUuid, String tagUuid, String tagName) {
+		JsonObject query = new JsonObject()
+			.put("nested", new JsonObject()
+				.put("path", "tags")
+				.put("query", new JsonObject()
+					.put("term", new JsonObject()
+						.put("tags.uuid", tagUuid))));
+		JsonObject script = script(RENAME_TAG_SCRIPT, tagUuid, tagName);
+		return SearchRequest.create(provider -> provider.updateByQuery(ContentDaoWrapper.composeIndexPattern(projectUuid), query, script));
+	}
+
+	/**
+	 * Create a request which updates the name of the tag family in all node documents of the project which reference tags of the tag family.
+	 *
+	 * @param projectUuid
+	 * @param tagFamilyUuid
+	 * @param tagFamilyName
+	 *            New name of the tag family
+	 * @return
+	 */
+	public static SearchRequest renameTagFamily(String projectUuid, String tagFamilyUuid, String tagFamilyName) {
+		// The field name of the tag family depends on the old name. The wildcard is expanded to the uuid fields of all tag families.
+		JsonObject query = new JsonObject()
+			.put("multi_match", new JsonObject()
+				.put("query", tagFamilyUuid)
+				.put("fields", new JsonArray().add("tagFamilies.*.uuid")));
+		JsonObject script = script(RENAME_TAG_FAMILY_SCRIPT, tagFamilyUuid, tagFamilyName);
+		return SearchRequest.create(provider -> provider.updateByQuery(ContentDaoWrapper.composeIndexPattern(projectUuid), query, script));
+	}
+
+	private static JsonObject script(String source, String uuid, String name) {
+		return new JsonObject()
+			.put("source", source)
+			.put("lang", "painless")
+			.put("params", new JsonObject()
+				.put("uuid", uuid)
+				.put("name", name));
+	}
+}
@@ -3,7 +3,6 @@ package com.gentics.mesh.search.verticle.eventhandler;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
-import static com.gentics.mesh.search.verticle.entity.MeshEntities.findElementByUuidStream;
 import static com.gentics.mesh.search.verticle.eventhandler.Util.concat;
 import static com.gentics.mesh.search.verticle.eventhandler.Util.requireType;
 
@@ -16,8 +15,6 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.Tag;
-import com.gentics.mesh.core.data.dao.TagDaoWrapper;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.data.tag.HibTag;
 import com.gentics.mesh.core.data.tagfamily.HibTagFamily;
@@ -65,13 +62,14 @@ public class TagEventHandler implements EventHandler {
 					Optional<HibTag> tag = entities.tag.getElement(model);
 					Optional<HibTagFamily> tagFamily = tag.map(HibTag::getTagFamily);
 
-					return concat(
-						tag.stream().map(t -> entities.createRequest(t, projectUuid)),
-						tagFamily.stream().map(tf -> entities.createRequest(tf, projectUuid)),
-						event == TAG_UPDATED
-							? tag.stream().flatMap(t -> taggedNodes(model, t))
-							: Stream.empty()
-					).collect(Util.toFlowable());
+					Stream<SearchRequest> tagUpdate = tag.stream().map(t -> entities.createRequest(t, projectUuid));
+					Stream<SearchRequest> tagFamilyUpdate = tagFamily.stream().map(tf -> entities.createRequest(tf, projectUuid));
+					// The tag name within the node documents is updated in place
+					Stream<SearchRequest> nodeUpdates = event == TAG_UPDATED
+						? tag.stream().map(t -> NodeDocumentUpdates.renameTag(projectUuid, t.getUuid(), t.getName()))
+						: Stream.empty();
+
+					return concat(tagUpdate, tagFamilyUpdate, nodeUpdates).collect(Util.toFlowable());
 				});
 			} else if (event == TAG_DELETED) {
 				// The tag was deleted via a project deletion. The project handler takes care of deleting the tag index.
@@ -86,12 +84,4 @@ public class TagEventHandler implements EventHandler {
 			}
 		});
 	}
-
-	private Stream<CreateDocumentRequest> taggedNodes(MeshProjectElementEventModel model, HibTag tag) {
-		TagDaoWrapper tagDao = helper.getBoot().tagDao();
-		return findElementByUuidStream(helper.getBoot().projectRoot(), model.getProject().getUuid())
-			.flatMap(project -> project.getBranchRoot().findAll().stream()
-			.flatMap(branch -> tagDao.getNodes(tag, branch).stream()
-			.flatMap(node -> entities.generateNodeRequests(node.getUuid(), project, branch))));
-	}
 }
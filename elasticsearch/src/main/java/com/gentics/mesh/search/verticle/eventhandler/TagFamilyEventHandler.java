@@ -3,7 +3,6 @@ package com.gentics.mesh.search.verticle.eventhandler;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
-import static com.gentics.mesh.search.verticle.entity.MeshEntities.findElementByUuidStream;
 import static com.gentics.mesh.search.verticle.eventhandler.Util.requireType;
 
 import java.util.Arrays;
@@ -71,9 +70,10 @@ public class TagFamilyEventHandler implements EventHandler {
 						})
 						.map(t -> entities.createRequest(t, projectUuid));
 
-					Stream<SearchRequest> nodeUpdates = tagFamily.stream().flatMap(tf -> {
-						return createNodeUpdates(model, tf);
-					});
+					// The tag family name within the node documents is updated in place
+					Stream<SearchRequest> nodeUpdates = event == TAG_FAMILY_UPDATED
+						? tagFamily.stream().map(tf -> NodeDocumentUpdates.renameTagFamily(projectUuid, tf.getUuid(), tf.getName()))
+						: Stream.empty();
 
 					return Util.concat(tagFamilyUpdate, tagUpdates, nodeUpdates).collect(Util.toFlowable());
 				});
@@ -91,22 +91,4 @@ public class TagFamilyEventHandler implements EventHandler {
 			}
 		});
 	}
-
-	/**
-	 * Find all nodes that have been tagged by tags of the given tag family and create a stream of update requests.
-	 * 
-	 * @param model
-	 * @param tagFamily
-	 * @return
-	 */
-	private Stream<SearchRequest> createNodeUpdates(MeshProjectElementEventModel model, HibTagFamily tagFamily) {
-		TagDaoWrapper tagDao = helper.getBoot().tagDao();
-		return findElementByUuidStream(helper.getBoot().projectRoot(), model.getProject().getUuid())
-			.flatMap(project -> project.getBranchRoot().findAll().stream()
-				.flatMap(branch -> {
-					return tagDao.findAll(tagFamily).stream()
-						.flatMap(tag -> tagDao.getNodes(tag, branch).stream())
-						.flatMap(node -> entities.generateNodeRequests(node.getUuid(), project, branch));
-				}));
-	}
 }
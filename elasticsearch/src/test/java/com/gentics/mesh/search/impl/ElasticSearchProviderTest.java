@@ -0,0 +1,175 @@
+package com.gentics.mesh.search.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.elasticsearch.client.ElasticsearchClient;
+import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.search.SearchProvider;
+
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.reactivex.functions.Action;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class ElasticSearchProviderTest {
+
+	private MeshOptions options = new MeshOptions();
+
+	private List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+	private Deque<JsonObject> responses = new LinkedList<>();
+
+	private List<String> completed = new CopyOnWriteArrayList<>();
+
+	private ElasticSearchProvider provider;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		options.getSearchOptions().setRetryInterval(10).setRetryLimit(2);
+		ElasticsearchClient<JsonObject> client = mock(ElasticsearchClient.class);
+		when(client.processBulk(anyString())).thenAnswer(invocation -> {
+			String bulkData = invocation.getArgument(0);
+			requests.add(Arrays.stream(bulkData.split("\n"))
+				.map(line -> new JsonObject(line).getJsonObject("delete").getString("_id"))
+				.collect(Collectors.toList()));
+			RequestBuilder<JsonObject> request = mock(RequestBuilder.class);
+			when(request.async()).thenReturn(Single.just(responses.poll()));
+			return request;
+		});
+		provider = new ElasticSearchProvider(null, options, client, mock(MetricsService.class));
+	}
+
+	@Test
+	public void testRetryFailedItems() {
+		responses.add(response(item("a", 200), item("b", 429), item("c", 400)));
+		responses.add(response(item("b", 200)));
+
+		provider.processBulk(entries("a", "b", "c")).test().awaitDone(10, TimeUnit.SECONDS)
+			.assertError(ElasticsearchBulkResponseError.class);
+
+		assertEquals("Only the item which failed with a retryable error should have been sent again",
+			Arrays.asList(Arrays.asList("a", "b", "c"), Arrays.asList("b")), requests);
+		assertEquals("The entries which were applied should have been acknowledged", Arrays.asList("a", "b"), completed);
+	}
+
+	@Test
+	public void testRetryLimit() {
+		responses.add(response(item("a", 200), item("b", 503)));
+		responses.add(response(item("b", 503)));
+		responses.add(response(item("b", 503)));
+
+		provider.processBulk(entries("a", "b")).test().awaitDone(10, TimeUnit.SECONDS)
+			.assertError(ElasticsearchBulkResponseError.class);
+
+		assertEquals("The item should have been retried until the limit was reached",
+			Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("b"), Arrays.asList("b")), requests);
+		assertEquals(Arrays.asList("a"), completed);
+	}
+
+	@Test
+	public void testSuccessfulRetry() {
+		responses.add(response(item("a", 503), item("b", 200)));
+		responses.add(response(item("a", 200)));
+
+		provider.processBulk(entries("a", "b")).test().awaitDone(10, TimeUnit.SECONDS).assertComplete();
+
+		assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("a")), requests);
+		assertEquals("The caller acknowledges the entries if the bulk did not fail", Collections.emptyList(), completed);
+	}
+
+	private List<Bulkable> entries(String... ids) {
+		List<Bulkable> entries = new ArrayList<>();
+		for (String id : ids) {
+			entries.add(new DeleteEntry(id));
+		}
+		return entries;
+	}
+
+	private JsonObject response(JsonObject... items) {
+		boolean errors = Arrays.stream(items).anyMatch(item -> item.getJsonObject("delete").containsKey("error"));
+		return new JsonObject()
+			.put("took", 1)
+			.put("errors", errors)
+			.put("items", new JsonArray(Arrays.asList(items)));
+	}
+
+	private JsonObject item(String id, int status) {
+		JsonObject item = new JsonObject()
+			.put("_index", "mesh-node")
+			.put("_id", id)
+			.put("status", status);
+		if (status >= 400) {
+			item.put("error", new JsonObject()
+				.put("type", status == 400 ? "mapper_parsing_exception" : "es_rejected_execution_exception")
+				.put("reason", "Failure of " + id));
+		}
+		return new JsonObject().put("delete", item);
+	}
+
+	/**
+	 * Bulkable which deletes a single document.
+	 */
+	private class DeleteEntry implements Bulkable {
+
+		private final String id;
+
+		DeleteEntry(String id) {
+			this.id = id;
+		}
+
+		private String action() {
+			return new JsonObject().put("delete", new JsonObject().put("_index", "mesh-node").put("_id", id)).encode();
+		}
+
+		@Override
+		public Single<List<String>> toBulkActions() {
+			return Single.just(Collections.singletonList(action()));
+		}
+
+		@Override
+		public void appendBulkActions(StringBuilder bulkBody) {
+			bulkBody.append(action()).append("\n");
+		}
+
+		@Override
+		public long bulkLength() {
+			return action().length() + 1;
+		}
+
+		@Override
+		public int requestCount() {
+			return 1;
+		}
+
+		@Override
+		public Completable execute(SearchProvider searchProvider) {
+			return searchProvider.processBulk(Collections.singletonList(this));
+		}
+
+		@Override
+		public Action onComplete() {
+			return () -> completed.add(id);
+		}
+	}
+}
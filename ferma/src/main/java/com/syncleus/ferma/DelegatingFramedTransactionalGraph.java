@@ -15,6 +15,7 @@
  */
 package com.syncleus.ferma;
 
+import com.syncleus.ferma.framefactories.FrameFactory;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.TransactionalGraph;
 
@@ -25,6 +26,10 @@ public class DelegatingFramedTransactionalGraph<G extends TransactionalGraph> ex
 		super(delegate, defaultResolver);
 	}
 
+	public DelegatingFramedTransactionalGraph(final G delegate, final FrameFactory builder, final TypeResolver defaultResolver) {
+		super(delegate, builder, defaultResolver);
+	}
+
 	@Override
 	public void stopTransaction(final TransactionalGraph.Conclusion conclusion) {
 		((TransactionalGraph) this.getBaseGraph()).stopTransaction(conclusion);
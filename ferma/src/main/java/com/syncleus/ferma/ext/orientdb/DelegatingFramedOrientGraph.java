@@ -30,6 +30,7 @@ import com.syncleus.ferma.DefaultClassInitializer;
 import com.syncleus.ferma.DelegatingFramedTransactionalGraph;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.WrapperFramedTransactionalGraph;
+import com.syncleus.ferma.framefactories.FrameFactory;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 
@@ -40,6 +41,10 @@ public class DelegatingFramedOrientGraph extends DelegatingFramedTransactionalGr
 		super(delegate, typeResolver);
 	}
 
+	public DelegatingFramedOrientGraph(OrientGraph delegate, FrameFactory frameFactory, TypeResolver typeResolver) {
+		super(delegate, frameFactory, typeResolver);
+	}
+
 	@Override
 	public <T> T addFramedVertex(Object id, final ClassInitializer<T> initializer) {
 		return frameNewElement(this.getBaseGraph().addVertex(id), initializer);
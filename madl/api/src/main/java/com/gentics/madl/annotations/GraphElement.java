@@ -16,13 +16,16 @@
 package com.gentics.madl.annotations;
 
 import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Annotation which is used to identify classes which represent graph elements.
+ * Annotation which is used to identify classes which represent graph elements. The annotation is inherited by subclasses which are thus registered by the
+ * {@link com.gentics.madl.processor.GraphElementProcessor} as well.
  */
+@Inherited
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface GraphElement {
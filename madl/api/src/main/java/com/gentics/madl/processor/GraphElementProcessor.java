@@ -0,0 +1,151 @@
+package com.gentics.madl.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import com.gentics.madl.annotations.GraphElement;
+import com.gentics.mesh.madl.frame.GraphElementTypeProvider;
+
+/**
+ * Annotation processor which generates a {@link GraphElementTypeProvider} for all classes of the compiled module which are annotated with
+ * {@link GraphElement} or which extend an annotated class. The provider lists the classes together with constructor references and is registered for the
+ * {@link java.util.ServiceLoader}. This way the graph element types can be resolved and instantiated at runtime without classpath scanning and reflection.
+ */
+@SupportedAnnotationTypes("com.gentics.madl.annotations.GraphElement")
+public class GraphElementProcessor extends AbstractProcessor {
+
+	public static final String PROVIDER_CLASS_NAME = "GeneratedGraphElementTypeProvider";
+
+	private final Set<String> types = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			if (!types.isEmpty()) {
+				generate();
+			}
+			return false;
+		}
+		// The annotation is inherited and thus all subclasses of annotated classes are returned as well
+		for (Element element : roundEnv.getElementsAnnotatedWith(GraphElement.class)) {
+			if (element.getKind() == ElementKind.CLASS && isInstantiable((TypeElement) element)) {
+				types.add(((TypeElement) element).getQualifiedName().toString());
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check whether the generated provider can create instances of the class via a public no-args constructor.
+	 *
+	 * @param type
+	 * @return
+	 */
+	private boolean isInstantiable(TypeElement type) {
+		Set<Modifier> modifiers = type.getModifiers();
+		if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		if (type.getNestingKind() == NestingKind.MEMBER) {
+			if (!modifiers.contains(Modifier.STATIC) || !isInstantiableEnclosing(type.getEnclosingElement())) {
+				return false;
+			}
+		} else if (type.getNestingKind() != NestingKind.TOP_LEVEL) {
+			return false;
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isInstantiableEnclosing(Element element) {
+		return element.getModifiers().contains(Modifier.PUBLIC);
+	}
+
+	/**
+	 * Write the provider class and the service registration. The provider is placed in the common package of all found types.
+	 */
+	private void generate() {
+		String packageName = commonPackage();
+		String className = packageName.isEmpty() ? PROVIDER_CLASS_NAME : packageName + "." + PROVIDER_CLASS_NAME;
+		try {
+			JavaFileObject source = processingEnv.getFiler().createSourceFile(className);
+			try (Writer writer = source.openWriter()) {
+				if (!packageName.isEmpty()) {
+					writer.write("package " + packageName + ";\n\n");
+				}
+				writer.write("import java.util.Arrays;\n");
+				writer.write("import java.util.List;\n\n");
+				writer.write("import com.gentics.mesh.madl.frame.GraphElementType;\n");
+				writer.write("import com.gentics.mesh.madl.frame.GraphElementTypeProvider;\n\n");
+				writer.write("/**\n * Generated by {@link " + getClass().getName() + "}. Do not edit.\n */\n");
+				writer.write("public class " + PROVIDER_CLASS_NAME + " implements GraphElementTypeProvider {\n\n");
+				writer.write("\t@Override\n");
+				writer.write("\tpublic List<GraphElementType<?>> getTypes() {\n");
+				writer.write("\t\treturn Arrays.asList(\n");
+				int i = 0;
+				for (String type : types) {
+					writer.write("\t\t\tnew GraphElementType<>(" + type + ".class, " + type + "::new)");
+					writer.write(++i < types.size() ? ",\n" : ");\n");
+				}
+				writer.write("\t}\n}\n");
+			}
+
+			FileObject service = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+				"META-INF/services/" + GraphElementTypeProvider.class.getName());
+			try (Writer writer = service.openWriter()) {
+				writer.write(className + "\n");
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write graph element type provider {" + className + "}: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Return the longest package prefix which is shared by all found types.
+	 *
+	 * @return
+	 */
+	private String commonPackage() {
+		String common = null;
+		for (String type : types) {
+			TypeElement element = processingEnv.getElementUtils().getTypeElement(type);
+			String pkg = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+			if (common == null) {
+				common = pkg;
+			} else {
+				while (!pkg.equals(common) && !pkg.startsWith(common + ".")) {
+					int idx = common.lastIndexOf('.');
+					common = idx < 0 ? "" : common.substring(0, idx);
+				}
+			}
+		}
+		return common == null ? "" : common;
+	}
+}
@@ -0,0 +1,49 @@
+package com.gentics.mesh.madl.frame;
+
+import java.util.function.Supplier;
+
+/**
+ * Registry entry for a graph element class. The entry contains the class and a constructor reference which can be used to create new instances without
+ * reflection.
+ *
+ * @param <T>
+ *            Type of the graph element
+ */
+public final class GraphElementType<T> {
+
+	private final Class<T> type;
+
+	private final Supplier<T> constructor;
+
+	public GraphElementType(Class<T> type, Supplier<T> constructor) {
+		this.type = type;
+		this.constructor = constructor;
+	}
+
+	/**
+	 * Return the class of the graph element.
+	 *
+	 * @return
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Return the name which is stored in the type resolution property of the graph element.
+	 *
+	 * @return
+	 */
+	public String getName() {
+		return type.getSimpleName();
+	}
+
+	/**
+	 * Create a new instance of the graph element.
+	 *
+	 * @return
+	 */
+	public T newInstance() {
+		return constructor.get();
+	}
+}
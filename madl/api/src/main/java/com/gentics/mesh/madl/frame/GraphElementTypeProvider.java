@@ -0,0 +1,17 @@
+package com.gentics.mesh.madl.frame;
+
+import java.util.List;
+
+/**
+ * Provider for the graph element types of a module. Implementations are generated by the {@link com.gentics.madl.processor.GraphElementProcessor} and
+ * loaded via the {@link java.util.ServiceLoader}.
+ */
+public interface GraphElementTypeProvider {
+
+	/**
+	 * Return the graph element types of the module.
+	 *
+	 * @return
+	 */
+	List<GraphElementType<?>> getTypes();
+}
@@ -0,0 +1,65 @@
+package com.gentics.mesh.madl.frame;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Static registry of all graph element types which were found by the {@link com.gentics.madl.processor.GraphElementProcessor} at build time. The registry
+ * replaces the classpath scanning and the reflective instantiation of frames.
+ */
+public final class GraphElementTypes {
+
+	private static final Map<String, GraphElementType<?>> TYPES_BY_NAME;
+
+	private static final Map<Class<?>, GraphElementType<?>> TYPES_BY_CLASS;
+
+	static {
+		Map<String, GraphElementType<?>> byName = new HashMap<>();
+		Map<Class<?>, GraphElementType<?>> byClass = new HashMap<>();
+		for (GraphElementTypeProvider provider : ServiceLoader.load(GraphElementTypeProvider.class, GraphElementTypes.class.getClassLoader())) {
+			for (GraphElementType<?> type : provider.getTypes()) {
+				byName.put(type.getName(), type);
+				byClass.put(type.getType(), type);
+			}
+		}
+		TYPES_BY_NAME = Collections.unmodifiableMap(byName);
+		TYPES_BY_CLASS = Collections.unmodifiableMap(byClass);
+	}
+
+	private GraphElementTypes() {
+	}
+
+	/**
+	 * Return the type for the given name.
+	 *
+	 * @param name
+	 *            Simple name of the graph element class
+	 * @return Found type or null if the type is not registered
+	 */
+	public static GraphElementType<?> forName(String name) {
+		return TYPES_BY_NAME.get(name);
+	}
+
+	/**
+	 * Return the type for the given class.
+	 *
+	 * @param clazz
+	 * @return Found type or null if the class is not registered
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> GraphElementType<T> forClass(Class<T> clazz) {
+		return (GraphElementType<T>) TYPES_BY_CLASS.get(clazz);
+	}
+
+	/**
+	 * Return all registered types.
+	 *
+	 * @return
+	 */
+	public static Collection<GraphElementType<?>> getTypes() {
+		return TYPES_BY_NAME.values();
+	}
+}
@@ -0,0 +1,25 @@
+package com.gentics.mesh.madl.frame;
+
+import com.syncleus.ferma.framefactories.DefaultFrameFactory;
+import com.syncleus.ferma.framefactories.FrameFactory;
+import com.tinkerpop.blueprints.Element;
+
+/**
+ * Frame factory which creates the frames via the constructor references of the {@link GraphElementTypes} registry. Classes which are not registered will be
+ * instantiated via reflection.
+ */
+public class RegistryFrameFactory implements FrameFactory {
+
+	public static final RegistryFrameFactory INSTANCE = new RegistryFrameFactory();
+
+	private final FrameFactory fallback = new DefaultFrameFactory();
+
+	@Override
+	public <T> T create(Element e, Class<T> kind) {
+		GraphElementType<T> type = GraphElementTypes.forClass(kind);
+		if (type != null) {
+			return type.newInstance();
+		}
+		return fallback.create(e, kind);
+	}
+}
@@ -2,6 +2,7 @@ package com.gentics.mesh.parameter;
 
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.parameter.impl.BackupParametersImpl;
+import com.gentics.mesh.parameter.impl.BulkParametersImpl;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
@@ -71,4 +72,8 @@ public interface ParameterProviderContext extends ActionContext {
 	default BackupParameters getBackupParameters() {
 		return new BackupParametersImpl(this);
 	}
+
+	default BulkParameters getBulkParameters() {
+		return new BulkParametersImpl(this);
+	}
 }
@@ -44,6 +44,16 @@ public class BackupParametersImpl extends AbstractParameters implements BackupPa
 		consistencyCheck.setType(ParamType.BOOLEAN);
 		parameters.put(CONSISTENCY_CHECK_PARAMETER_KEY, consistencyCheck);
 
+		// incremental
+		QueryParameter incremental = new QueryParameter();
+		incremental.setDefaultValue("false");
+		incremental.setDescription(
+			"Specify whether an incremental backup should be created. The backup will be run as a job which does not block write operations. Only the changes since the last incremental backup will be written.");
+		incremental.setExample("true");
+		incremental.setRequired(false);
+		incremental.setType(ParamType.BOOLEAN);
+		parameters.put(INCREMENTAL_PARAMETER_KEY, incremental);
+
 		return parameters;
 	}
 
@@ -0,0 +1,51 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.BulkParameters;
+
+/**
+ * @see BulkParameters
+ */
+public class BulkParametersImpl extends AbstractParameters implements BulkParameters {
+
+	public BulkParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public BulkParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+	}
+
+	@Override
+	public String getName() {
+		return "Bulk parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// batch size
+		QueryParameter batchSize = new QueryParameter();
+		batchSize.setDefaultValue(String.valueOf(DEFAULT_BATCH_SIZE));
+		batchSize.setDescription("Number of operations which will be applied and committed within a single transaction. The maximum batch size is "
+			+ MAX_BATCH_SIZE + ".");
+		batchSize.setExample("500");
+		batchSize.setRequired(false);
+		batchSize.setType(ParamType.NUMBER);
+		parameters.put(BATCH_SIZE_PARAMETER_KEY, batchSize);
+
+		return parameters;
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Registry for the epochs of cache scopes. Cache entries can be stored for one or more scopes (e.g. a project, branch, user or role) and remember the epochs
+ * of these scopes. An entry is only valid as long as the stored epochs match the current epochs. Bumping the epoch of a scope thus invalidates all entries of
+ * the scope in all caches without the need to iterate over the entries.
+ *
+ * In clustered mode the epochs are shared with all instances of the cluster.
+ */
+public interface CacheEpochs {
+
+	/**
+	 * Return the current epoch of the scope.
+	 *
+	 * @param scope
+	 * @return Epoch or 0 if the scope was never bumped
+	 */
+	long current(String scope);
+
+	/**
+	 * Bump the epochs of the given scopes. In clustered mode the new epochs will be propagated to the other instances.
+	 *
+	 * @param scopes
+	 */
+	void bump(String... scopes);
+
+	/**
+	 * Remove the scopes of deleted elements. The epoch of a removed scope starts at 0 again and the entries which were stored for the scope are thus evicted
+	 * via the removal listeners. In clustered mode the removal will be propagated to the other instances.
+	 *
+	 * @param scopes
+	 */
+	void remove(String... scopes);
+
+	/**
+	 * Add a listener which will be invoked for every scope which was removed by this or another instance.
+	 *
+	 * @param listener
+	 */
+	void addRemovalListener(Consumer<String> listener);
+
+	/**
+	 * Check whether the epochs are shared via the cluster. Updating the epochs requires blocking calls to the cluster in that case.
+	 *
+	 * @return
+	 */
+	boolean isDistributed();
+
+	/**
+	 * Reload the epochs from the cluster. This is used to catch up with changes which may have been missed while the instance was disconnected.
+	 */
+	void sync();
+
+	/**
+	 * Return the scope for the project.
+	 *
+	 * @param projectUuid
+	 * @return
+	 */
+	static String projectScope(String projectUuid) {
+		return "project:" + projectUuid;
+	}
+
+	/**
+	 * Return the scope for the branch.
+	 *
+	 * @param branchUuid
+	 * @return
+	 */
+	static String branchScope(String branchUuid) {
+		return "branch:" + branchUuid;
+	}
+
+	/**
+	 * Return the scope for the user.
+	 *
+	 * @param userId
+	 *            Id of the user element
+	 * @return
+	 */
+	static String userScope(Object userId) {
+		return "user:" + userId;
+	}
+
+	/**
+	 * Return the scope for the role.
+	 *
+	 * @param roleUuid
+	 * @return
+	 */
+	static String roleScope(String roleUuid) {
+		return "role:" + roleUuid;
+	}
+}
@@ -0,0 +1,97 @@
+package com.gentics.mesh.cache;
+
+import java.util.Arrays;
+
+/**
+ * Epochs of cache scopes which were captured at a specific time. The stamp must be captured before the value which will be cached is computed. A change
+ * which happens while the value is computed will thus bump the epoch of the scope and the stored entry will be invalid right away.
+ *
+ * @see CacheEpochs
+ */
+public final class EpochStamp {
+
+	private static final EpochStamp EMPTY = new EpochStamp(new String[0], new long[0]);
+
+	private final String[] scopes;
+
+	private final long[] epochs;
+
+	private EpochStamp(String[] scopes, long[] epochs) {
+		this.scopes = scopes;
+		this.epochs = epochs;
+	}
+
+	/**
+	 * Capture the current epochs of the scopes.
+	 *
+	 * @param epochs
+	 *            Epochs to read from or null if no epochs are available
+	 * @param scopes
+	 * @return Stamp which does not contain any scope if no epochs have been given
+	 */
+	public static EpochStamp capture(CacheEpochs epochs, String... scopes) {
+		if (epochs == null || scopes.length == 0) {
+			return EMPTY;
+		}
+		long[] values = new long[scopes.length];
+		for (int i = 0; i < scopes.length; i++) {
+			values[i] = epochs.current(scopes[i]);
+		}
+		return new EpochStamp(scopes.clone(), values);
+	}
+
+	/**
+	 * Return a stamp which contains the scopes of this and the other stamp.
+	 *
+	 * @param other
+	 * @return
+	 */
+	public EpochStamp with(EpochStamp other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return other;
+		}
+		String[] mergedScopes = Arrays.copyOf(scopes, scopes.length + other.scopes.length);
+		System.arraycopy(other.scopes, 0, mergedScopes, scopes.length, other.scopes.length);
+		long[] mergedEpochs = Arrays.copyOf(epochs, epochs.length + other.epochs.length);
+		System.arraycopy(other.epochs, 0, mergedEpochs, epochs.length, other.epochs.length);
+		return new EpochStamp(mergedScopes, mergedEpochs);
+	}
+
+	/**
+	 * Check whether the epochs of the scopes have not been bumped since the stamp was captured.
+	 *
+	 * @param current
+	 *            Epochs to compare with
+	 * @return
+	 */
+	public boolean isCurrent(CacheEpochs current) {
+		for (int i = 0; i < scopes.length; i++) {
+			if (current.current(scopes[i]) != epochs[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check whether the stamp contains the scope.
+	 *
+	 * @param scope
+	 * @return
+	 */
+	public boolean contains(String scope) {
+		for (String s : scopes) {
+			if (s.equals(scope)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean isEmpty() {
+		return scopes.length == 0;
+	}
+}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.cache;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -58,4 +59,13 @@ public interface MeshCache<K, V> {
 	 * @return
 	 */
 	long size();
+
+	/**
+	 * Return the keys of the most frequently used entries.
+	 * 
+	 * @param limit
+	 *            Maximum amount of keys
+	 * @return Keys ordered from hottest to coldest
+	 */
+	List<K> getHottestKeys(int limit);
 }
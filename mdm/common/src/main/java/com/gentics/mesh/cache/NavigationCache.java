@@ -0,0 +1,25 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache for the structure of navigations.
+ */
+public interface NavigationCache extends MeshCache<String, NavigationTree> {
+
+	/**
+	 * Return the cached navigation tree or load it using the given loader.
+	 *
+	 * @param rootUuid
+	 *            Uuid of the navigation root node
+	 * @param branchUuid
+	 *            Branch which is used to load the children
+	 * @param maxDepth
+	 *            Maximum depth of the navigation
+	 * @param loader
+	 *            Loader which is used when the tree is not cached
+	 * @return
+	 */
+	NavigationTree getTree(String rootUuid, String branchUuid, int maxDepth, Supplier<NavigationTree> loader);
+
+}
@@ -0,0 +1,106 @@
+package com.gentics.mesh.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Structure of a navigation which is stored in the {@link NavigationCache}.
+ *
+ * The tree contains all children of the navigation root up to the maximum depth regardless of the permissions of the requesting user. Permissions and
+ * the includeAll flag will be applied when the navigation response is built from the tree.
+ */
+public class NavigationTree {
+
+	private final String branchUuid;
+
+	private final Element root;
+
+	private final Set<String> nodeUuids;
+
+	public NavigationTree(String branchUuid, Element root, Set<String> nodeUuids) {
+		this.branchUuid = branchUuid;
+		this.root = root;
+		this.nodeUuids = nodeUuids;
+	}
+
+	/**
+	 * Return the uuid of the branch for which the tree has been loaded.
+	 *
+	 * @return
+	 */
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	/**
+	 * Return the root element of the tree.
+	 *
+	 * @return
+	 */
+	public Element getRoot() {
+		return root;
+	}
+
+	/**
+	 * Check whether the node with the given uuid is part of the tree.
+	 *
+	 * @param nodeUuid
+	 * @return
+	 */
+	public boolean contains(String nodeUuid) {
+		return nodeUuids.contains(nodeUuid);
+	}
+
+	/**
+	 * Element of the navigation tree which represents a single node.
+	 */
+	public static class Element {
+
+		private final Object id;
+
+		private final String uuid;
+
+		private final boolean container;
+
+		private final List<Element> children;
+
+		public Element(Object id, String uuid, boolean container, List<Element> children) {
+			this.id = id;
+			this.uuid = uuid;
+			this.container = container;
+			this.children = children == null ? Collections.emptyList() : children;
+		}
+
+		/**
+		 * Return the graph element id of the node.
+		 *
+		 * @return
+		 */
+		public Object getId() {
+			return id;
+		}
+
+		public String getUuid() {
+			return uuid;
+		}
+
+		/**
+		 * Check whether the latest schema version of the node is a container schema.
+		 *
+		 * @return
+		 */
+		public boolean isContainer() {
+			return container;
+		}
+
+		/**
+		 * Return the children of the node. The children of elements on the last level of the tree have not been loaded.
+		 *
+		 * @return
+		 */
+		public List<Element> getChildren() {
+			return children;
+		}
+	}
+}
@@ -35,4 +35,63 @@ public interface PermissionCache extends MeshCache<String, Boolean> {
 	 */
 	void store(Object userId, InternalPermission permission, Object elementId);
 
+	/**
+	 * Capture the current epoch of the user. The stamp must be captured before the permissions of the user are checked.
+	 * 
+	 * @param userId
+	 *            User id
+	 * @return
+	 */
+	EpochStamp stampUser(Object userId);
+
+	/**
+	 * Capture the current epoch of the role. The stamp must be captured before the permissions which are granted by the role are checked.
+	 * 
+	 * @param roleUuid
+	 * @return
+	 */
+	EpochStamp stampRole(String roleUuid);
+
+	/**
+	 * Store the granting permission in the perm store. The entry will be invalidated when one of the scopes of the stamp gets invalidated.
+	 * 
+	 * @param userId
+	 *            User id
+	 * @param permission
+	 * @param elementId
+	 * @param stamp
+	 *            Stamp of the user and the granting role which was captured before the permission was checked
+	 */
+	void store(Object userId, InternalPermission permission, Object elementId, EpochStamp stamp);
+
+	/**
+	 * Invalidate the stored permissions of the users in all instances.
+	 * 
+	 * @param userIds
+	 *            User ids
+	 */
+	void invalidateUsers(Object... userIds);
+
+	/**
+	 * Invalidate the stored permissions which were granted by the role in all instances.
+	 * 
+	 * @param roleUuid
+	 */
+	void invalidateRole(String roleUuid);
+
+	/**
+	 * Remove the scope of the deleted user. The stored permissions of the user will be evicted in all instances.
+	 * 
+	 * @param userId
+	 *            User id
+	 */
+	void removeUser(Object userId);
+
+	/**
+	 * Remove the scope of the deleted role. The stored permissions which were granted by the role will be evicted in all instances.
+	 * 
+	 * @param roleUuid
+	 */
+	void removeRole(String roleUuid);
+
 }
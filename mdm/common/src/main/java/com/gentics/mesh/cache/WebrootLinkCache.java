@@ -0,0 +1,9 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for resolved mesh links. The key contains all properties which affect the rendered link (e.g. target node, branch, type, link type and
+ * languages).
+ */
+public interface WebrootLinkCache extends MeshCache<String, String> {
+
+}
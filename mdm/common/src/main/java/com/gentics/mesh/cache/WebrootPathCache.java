@@ -26,6 +26,33 @@ public interface WebrootPathCache extends MeshCache<String, Path> {
 	 */
 	void store(HibProject project, HibBranch branch, ContainerType type, String path, Path resolvedPath);
 
+	/**
+	 * Store a path in the cache. The entry will be invalidated when the project or branch of the stamp gets invalidated.
+	 * 
+	 * @param project
+	 *            Project for which the path is valid
+	 * @param branch
+	 *            Used branch
+	 * @param type
+	 *            Type of the resolved content
+	 * @param path
+	 *            Webroot path
+	 * @param resolvedPath
+	 *            Resolved webroot path to be put in the cache
+	 * @param stamp
+	 *            Stamp which was captured via {@link #stamp(HibProject, HibBranch)} before the path was resolved
+	 */
+	void store(HibProject project, HibBranch branch, ContainerType type, String path, Path resolvedPath, EpochStamp stamp);
+
+	/**
+	 * Capture the current epochs of the project and branch. The stamp must be captured before the path is resolved.
+	 * 
+	 * @param project
+	 * @param branch
+	 * @return
+	 */
+	EpochStamp stamp(HibProject project, HibBranch branch);
+
 	/**
 	 * Check whether the cache has the path already stored.
 	 * 
@@ -37,6 +37,13 @@ public interface BranchMigrationContext {
 	 */
 	MigrationStatusHandler getStatus();
 
+	/**
+	 * Return the uuid of the last node which was migrated by a previous run of the migration. The migration will be resumed after this node.
+	 * 
+	 * @return Uuid of the node or null if the migration should start from the beginning
+	 */
+	String getCheckpoint();
+
 	/**
 	 * Validate that all needed information are present in the context.
 	 */
@@ -20,6 +20,7 @@ import com.gentics.mesh.util.ETag;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
@@ -85,6 +86,18 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		response.setStatusCode(status.code()).end(body);
 	}
 
+	@Override
+	public void send(Buffer body, HttpResponseStatus status, String contentType) {
+		HttpServerResponse response = rc.response();
+		response.putHeader(CONTENT_TYPE, contentType);
+
+		// Check if a custom header has been set
+		if (!response.headers().contains(CACHE_CONTROL)) {
+			response.putHeader(CACHE_CONTROL, "no-cache");
+		}
+		response.setStatusCode(status.code()).end(body);
+	}
+
 	@Override
 	public void send(HttpResponseStatus status) {
 		rc.response().setStatusCode(status.code()).end();
@@ -62,6 +62,13 @@ public interface MigrationStatusHandler {
 	 */
 	void incCompleted();
 
+	/**
+	 * Set the checkpoint up to which the migration has been processed. The checkpoint will be persisted on the next commit.
+	 * 
+	 * @param checkpoint
+	 */
+	void setCheckpoint(String checkpoint);
+
 	default Exception fail(HttpResponseStatus status, String message) {
 		GenericRestException ex = Errors.error(status, message);
 		error(ex, message);
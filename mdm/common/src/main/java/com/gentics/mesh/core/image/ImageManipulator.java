@@ -15,7 +15,8 @@ import io.reactivex.Single;
 public interface ImageManipulator {
 
 	/**
-	 * Resize the given binary data and return the path to the resized file.
+	 * Resize the given binary data and return the path to the resized file. The returned single can be subscribed again in order to repeat the lookup of the
+	 * cache file.
 	 * 
 	 * @param binary
 	 * @param parameters
@@ -34,6 +35,28 @@ public interface ImageManipulator {
 	 */
 	Single<CacheFileInfo> getCacheFilePath(String sha512sum, ImageManipulationParameters parameters);
 
+	/**
+	 * Clear the in-memory index of the image cache. This needs to be invoked when the image cache directory has been modified externally.
+	 */
+	void clearCacheIndex();
+
+	/**
+	 * Remove the cache file from the in-memory index of the image cache. This needs to be invoked when a cache file which was returned by
+	 * {@link #handleResize(HibBinary, ImageManipulationParameters)} could not be found.
+	 *
+	 * @param cacheFilePath
+	 */
+	void invalidateCacheFile(String cacheFilePath);
+
+	/**
+	 * Return the size of a cache file which was returned by {@link #handleResize(HibBinary, ImageManipulationParameters)}. The size is taken from the
+	 * in-memory index of the image cache.
+	 *
+	 * @param cacheFilePath
+	 * @return Size in bytes or -1 if the cache file is not indexed
+	 */
+	long getCacheFileSize(String cacheFilePath);
+
 	/**
 	 * Read the image information from image file.
 	 *
@@ -0,0 +1,37 @@
+package com.gentics.mesh.core.project.maintenance;
+
+import java.util.function.Consumer;
+
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.rest.job.JobWarningList;
+
+import io.reactivex.Single;
+
+/**
+ * Handler which imports nodes from an export file into a project.
+ */
+public interface ProjectImportHandler {
+
+	/**
+	 * Default amount of operations which will be applied within a single transaction.
+	 */
+	int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * Import the nodes of the export file into the project. The storage will be switched to mass insert mode for the duration of the import. No events will
+	 * be dispatched for the imported nodes. Instead a single index sync will be invoked once the import has finished.
+	 * 
+	 * @param project
+	 * @param userUuid
+	 *            Uuid of the user which will be used to create the nodes
+	 * @param path
+	 *            Path of the export file
+	 * @param batchSize
+	 *            Amount of operations which will be applied within a single transaction
+	 * @param progress
+	 *            Consumer which will be invoked with the amount of handled operations after each batch
+	 * @return Warnings for the operations which could not be applied
+	 */
+	Single<JobWarningList> importNodes(HibProject project, String userUuid, String path, int batchSize, Consumer<Long> progress);
+
+}
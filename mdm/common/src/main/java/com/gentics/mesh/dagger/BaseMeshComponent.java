@@ -5,9 +5,11 @@ import javax.inject.Provider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.gentics.mesh.annotation.Getter;
+import com.gentics.mesh.cache.NavigationCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
+import com.gentics.mesh.cache.WebrootLinkCache;
 import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.generic.PermissionProperties;
@@ -20,6 +22,7 @@ import com.gentics.mesh.core.link.WebRootLinkReplacer;
 import com.gentics.mesh.core.migration.BranchMigration;
 import com.gentics.mesh.core.migration.MicronodeMigration;
 import com.gentics.mesh.core.migration.NodeMigration;
+import com.gentics.mesh.core.project.maintenance.ProjectImportHandler;
 import com.gentics.mesh.core.project.maintenance.ProjectVersionPurgeHandler;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.core.verticle.job.JobWorkerVerticle;
@@ -76,6 +79,12 @@ public interface BaseMeshComponent {
 	@Getter
 	WebrootPathCache pathCache();
 
+	@Getter
+	WebrootLinkCache linkCache();
+
+	@Getter
+	NavigationCache navigationCache();
+
 	@Getter
 	PermissionCache permissionCache();
 
@@ -114,6 +123,9 @@ public interface BaseMeshComponent {
 	@Getter
 	ProjectVersionPurgeHandler projectVersionPurgeHandler();
 
+	@Getter
+	ProjectImportHandler projectImportHandler();
+
 	@Getter
 	ServerSchemaStorage serverSchemaStorage();
 
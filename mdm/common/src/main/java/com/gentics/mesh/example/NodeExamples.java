@@ -63,6 +63,8 @@ import com.gentics.mesh.core.rest.tag.TagReference;
 import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.util.Tuple;
 
+import io.vertx.core.json.JsonObject;
+
 public class NodeExamples extends AbstractExamples {
 
 	public NodeResponse getNodeResponseWithAllFields() {
@@ -253,6 +255,23 @@ public class NodeExamples extends AbstractExamples {
 		return nodeCreateRequest;
 	}
 
+	public String getNodeBulkRequest() {
+		return String.join("\n",
+			new JsonObject().put("op", "create").put("uuid", UUID_1).put("node", new JsonObject(getNodeCreateRequest().toJson())).encode(),
+			new JsonObject().put("op", "upsert").put("uuid", NODE_DELOREAN_UUID).put("node", new JsonObject(getNodeUpdateRequest2().toJson())).encode(),
+			new JsonObject().put("op", "publish").put("uuid", UUID_1).encode(),
+			new JsonObject().put("op", "publish").put("uuid", UUID_2).put("language", "en").encode());
+	}
+
+	public String getNodeBulkResponse() {
+		return String.join("\n",
+			new JsonObject().put("index", 0).put("op", "create").put("uuid", UUID_1).put("status", 201).encode(),
+			new JsonObject().put("index", 1).put("op", "upsert").put("uuid", NODE_DELOREAN_UUID).put("status", 200).encode(),
+			new JsonObject().put("index", 2).put("op", "publish").put("uuid", UUID_1).put("status", 200).encode(),
+			new JsonObject().put("index", 3).put("op", "publish").put("uuid", UUID_2).put("status", 404)
+				.put("message", "Object with uuid \"" + UUID_2 + "\" could not be found.").encode());
+	}
+
 	public NodeUpdateRequest getNodeUpdateRequest2() {
 		NodeUpdateRequest nodeUpdateRequest = new NodeUpdateRequest();
 		nodeUpdateRequest.setLanguage("en");
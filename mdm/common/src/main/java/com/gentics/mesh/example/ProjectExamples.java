@@ -8,6 +8,7 @@ import static com.gentics.mesh.example.ExampleUuids.PROJECT_DEMO_UUID;
 import static com.gentics.mesh.example.ExampleUuids.SCHEMA_FOLDER_UUID;
 
 import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
+import com.gentics.mesh.core.rest.project.ProjectImportRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
@@ -64,4 +65,8 @@ public class ProjectExamples extends AbstractExamples {
 		return projectCreate;
 	}
 
+	public ProjectImportRequest getProjectImportRequest() {
+		return new ProjectImportRequest().setPath("/data/export/demo.ndjson").setBatchSize(1000);
+	}
+
 }
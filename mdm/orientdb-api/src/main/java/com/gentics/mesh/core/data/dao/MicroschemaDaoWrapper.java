@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data.dao;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -12,6 +13,7 @@ import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.schema.HibMicroschema;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
+import com.gentics.mesh.core.data.schema.MicronodeContainerReference;
 import com.gentics.mesh.core.data.schema.Microschema;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.microschema.MicroschemaVersionModel;
@@ -242,6 +244,16 @@ public interface MicroschemaDaoWrapper extends MicroschemaDao, DaoWrapper<HibMic
 	Result<? extends NodeGraphFieldContainer> findDraftFieldContainers(HibMicroschemaVersion version,
 		String branchUuid);
 
+	/**
+	 * Return the references of all draft contents to micronodes of the microschema version. Each reference lists the micronode fields and micronode list
+	 * fields of the content which use the version.
+	 *
+	 * @param version
+	 * @param branchUuid
+	 * @return
+	 */
+	List<MicronodeContainerReference> findDraftFieldContainerReferences(HibMicroschemaVersion version, String branchUuid);
+
 	/**
 	 * Unlink the microschema from the project.
 	 * 
@@ -44,6 +44,13 @@ public interface Job extends MeshCoreVertex<JobResponse>, CreatorTrackingVertex,
 
 	String WARNING_PROPERTY_KEY = "warnings";
 
+	String CHECKPOINT_PROPERTY_KEY = "checkpoint";
+
+	/**
+	 * Lane key for jobs which are not bound to a project.
+	 */
+	String GLOBAL_LANE_KEY = "global";
+
 	/**
 	 * The max length before detail error messages will be truncated
 	 */
@@ -77,6 +84,14 @@ public interface Job extends MeshCoreVertex<JobResponse>, CreatorTrackingVertex,
 	 */
 	void setBranch(HibBranch branch);
 
+	/**
+	 * Return the key of the lane in which the job will be processed. Jobs of the same lane are processed one after another while jobs of different lanes may
+	 * be processed concurrently.
+	 * 
+	 * @return
+	 */
+	String getLaneKey();
+
 	/**
 	 * Return the schema version reference.
 	 * 
@@ -324,4 +339,18 @@ public interface Job extends MeshCoreVertex<JobResponse>, CreatorTrackingVertex,
 	 */
 	void setWarnings(JobWarningList warnings);
 
+	/**
+	 * Return the checkpoint which was persisted by the job. The checkpoint is used to resume a job which was interrupted or failed.
+	 * 
+	 * @return Checkpoint or null if the job has not yet persisted a checkpoint
+	 */
+	String getCheckpoint();
+
+	/**
+	 * Set the checkpoint up to which the job has been processed.
+	 * 
+	 * @param checkpoint
+	 */
+	void setCheckpoint(String checkpoint);
+
 }
@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.job;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.project.HibProject;
@@ -76,11 +77,40 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	HibJob enqueueVersionPurge(HibUser user, HibProject project);
 
+	/**
+	 * Enqueue a project import job which will import the nodes from the given export file.
+	 * 
+	 * @param user
+	 *            User which will be used to create the nodes
+	 * @param project
+	 * @param path
+	 *            Path of the export file
+	 * @param batchSize
+	 *            Amount of operations which will be applied within a single transaction
+	 * @return
+	 */
+	HibJob enqueueNodeImport(HibUser user, HibProject project, String path, int batchSize);
+
+	/**
+	 * Enqueue an incremental graph backup job.
+	 * 
+	 * @param user
+	 * @return
+	 */
+	HibJob enqueueBackup(HibUser user);
+
 	/**
 	 * Process all remaining jobs.
 	 */
 	Completable process();
 
+	/**
+	 * Return all jobs which still need to be processed. Failed and completed jobs will be omitted.
+	 * 
+	 * @return
+	 */
+	List<? extends Job> findProcessable();
+
 	/**
 	 * Purge all failed jobs from the job root.
 	 */
@@ -21,6 +21,14 @@ public interface MicronodeGraphFieldList extends ListGraphField<MicronodeGraphFi
 	 */
 	Micronode createMicronode();
 
+	/**
+	 * Add the existing micronode to the list. The micronode will be shared with the other lists which contain it and will only be deleted once no list
+	 * references it anymore.
+	 * 
+	 * @param micronode
+	 */
+	void addMicronode(Micronode micronode);
+
 	/**
 	 * Update the micronode list using the rest model list as a source.
 	 * 
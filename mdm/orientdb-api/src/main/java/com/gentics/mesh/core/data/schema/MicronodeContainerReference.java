@@ -0,0 +1,49 @@
+package com.gentics.mesh.core.data.schema;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Reference of a content to the micronodes of a microschema version. The reference contains the id of the content and the keys of the micronode fields and
+ * micronode list fields which contain micronodes of the version. The reference does not hold any graph elements and can thus be used across transactions.
+ */
+public class MicronodeContainerReference {
+
+	private final Object containerId;
+
+	private final Set<String> fieldKeys = new LinkedHashSet<>();
+
+	private final Set<String> listFieldKeys = new LinkedHashSet<>();
+
+	public MicronodeContainerReference(Object containerId) {
+		this.containerId = containerId;
+	}
+
+	/**
+	 * Return the id of the referencing content.
+	 *
+	 * @return
+	 */
+	public Object getContainerId() {
+		return containerId;
+	}
+
+	/**
+	 * Return the keys of the micronode fields which reference a micronode of the version.
+	 *
+	 * @return
+	 */
+	public Set<String> getFieldKeys() {
+		return fieldKeys;
+	}
+
+	/**
+	 * Return the keys of the micronode list fields which contain at least one micronode of the version.
+	 *
+	 * @return
+	 */
+	public Set<String> getListFieldKeys() {
+		return listFieldKeys;
+	}
+
+}
@@ -5,6 +5,8 @@ import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
 
+import java.util.List;
+
 import com.gentics.mesh.core.TypeInfo;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.Micronode;
@@ -38,6 +40,16 @@ public interface MicroschemaVersion extends
 	 */
 	Result<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid);
 
+	/**
+	 * Return the references of all draft {@link NodeGraphFieldContainer}'s of the given branch to micronodes which use this schema version. The references
+	 * are determined via the micronodes of the version and thus only touch the contents which actually use the version.
+	 *
+	 * @param branchUuid
+	 *            Uuid of the branch
+	 * @return List of references with one entry per content
+	 */
+	List<MicronodeContainerReference> getDraftFieldContainerReferences(String branchUuid);
+
 	/**
 	 * Return an iterator over micronodes which reference this microschema version.
 	 *
@@ -53,6 +53,13 @@ public class BulkRequest implements Bulkable {
 			.toList();
 	}
 
+	@Override
+	public void appendBulkActions(StringBuilder bulkBody) {
+		for (Bulkable request : requests) {
+			request.appendBulkActions(bulkBody);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return requests.size() + " bulked requests. " + requests;
@@ -69,4 +76,11 @@ public class BulkRequest implements Bulkable {
 			.mapToLong(Bulkable::bulkLength)
 			.sum();
 	}
+
+	@Override
+	public int bulkActionCount() {
+		return requests.stream()
+			.mapToInt(Bulkable::bulkActionCount)
+			.sum();
+	}
 }
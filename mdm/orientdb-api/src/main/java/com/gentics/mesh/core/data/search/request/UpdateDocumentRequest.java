@@ -58,8 +58,14 @@ public class UpdateDocumentRequest implements Bulkable {
 	public Single<List<String>> toBulkActions() {
 		return Single.just(Arrays.asList(
 			bulkPreamble,
-			new JsonObject()
-				.put("doc", doc.getProxyTarget()).encode()));
+			"{\"doc\":" + doc.encode() + "}"));
+	}
+
+	@Override
+	public void appendBulkActions(StringBuilder bulkBody) {
+		// Wrap the cached encoding of the document instead of encoding the document again
+		bulkBody.append(bulkPreamble).append('\n')
+			.append("{\"doc\":").append(doc.encode()).append("}\n");
 	}
 
 	public String getIndex() {
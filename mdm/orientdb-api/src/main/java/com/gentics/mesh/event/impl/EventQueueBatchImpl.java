@@ -11,6 +11,7 @@ import com.gentics.mesh.core.rest.event.EventCauseAction;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
 
@@ -37,9 +38,12 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	private final Vertx vertx;
 
+	private final MeshOptions options;
+
 	@Inject
-	public EventQueueBatchImpl(Vertx vertx) {
+	public EventQueueBatchImpl(Vertx vertx, MeshOptions options) {
 		this.vertx = vertx;
+		this.options = options;
 	}
 
 	@Override
@@ -78,6 +82,9 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 		// TODO buffer event dispatching?
 		getEntries().forEach(entry -> {
 			entry.setCause(getCause());
+			if (entry.getOrigin() == null) {
+				entry.setOrigin(options.getNodeName());
+			}
 			MeshEvent event = entry.getEvent();
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
@@ -57,4 +57,12 @@ public interface ClusterManager {
 	 */
 	Completable waitUntilWriteQuorumReached();
 
+	/**
+	 * Returns a completable which will complete once the cluster topology lock has been released. The completable will complete immediately if the topology
+	 * is not locked. Waiting does not block a thread.
+	 * 
+	 * @return
+	 */
+	Completable waitUntilTopologyUnlocked();
+
 }
@@ -22,6 +22,7 @@ import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.graphdb.cluster.ClusterManager;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.madl.frame.VertexFrame;
+import com.gentics.mesh.util.Tuple;
 import com.syncleus.ferma.EdgeFrame;
 import com.tinkerpop.blueprints.Element;
 import com.tinkerpop.blueprints.TransactionalGraph;
@@ -44,6 +45,11 @@ public interface Database extends TxFactory, GlueDatabase {
 
 	Logger log = LoggerFactory.getLogger(Database.class);
 
+	/**
+	 * Name of the directory within the backup directory which contains the incremental backups.
+	 */
+	String INCREMENTAL_BACKUP_DIRECTORY = "incremental";
+
 	/**
 	 * Stop the graph database.
 	 */
@@ -289,10 +295,22 @@ public interface Database extends TxFactory, GlueDatabase {
 	 */
 	String backupGraph(String backupDirectory) throws IOException;
 
+	/**
+	 * Create an incremental database backup. The first backup within the directory contains the whole database. Each following backup only contains the
+	 * changes since the previous backup of the directory. The backup does not block write operations.
+	 * 
+	 * @param backupDirectory
+	 *            Directory which contains the chain of incremental backups
+	 * @throws IOException
+	 * @return The path of the created backup file.
+	 */
+	String incrementalBackupGraph(String backupDirectory) throws IOException;
+
 	/**
 	 * Restore a previously created database backup.
 	 * 
 	 * @param backupFile
+	 *            Backup file or directory of an incremental backup
 	 * @throws IOException
 	 */
 	void restoreGraph(String backupFile) throws IOException;
@@ -323,6 +341,23 @@ public interface Database extends TxFactory, GlueDatabase {
 		long start,
 		long end);
 
+	/**
+	 * Utilize the composed index and locate the ids of the vertices which match the given value of the first index field. The entries are returned in the
+	 * order of the second index field. Only entries for which the value of the second index field is greater than the given value will be returned.
+	 * 
+	 * @param classOfVertex
+	 * @param postfix
+	 *            Postfix of the composed index
+	 * @param fieldValue
+	 *            Value of the first index field
+	 * @param after
+	 *            Value of the second index field after which the entries will be returned. The entries will be returned from the start if null
+	 * @param limit
+	 *            Maximum amount of returned entries
+	 * @return Values of the second index field and ids of the vertices
+	 */
+	List<Tuple<String, Object>> getVertexIdsAfter(Class<?> classOfVertex, String postfix, Object fieldValue, String after, int limit);
+
 	/**
 	 * Utilize the index and locate the matching vertices.
 	 *
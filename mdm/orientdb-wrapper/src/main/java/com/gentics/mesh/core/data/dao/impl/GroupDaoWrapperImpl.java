@@ -144,7 +144,7 @@ public class GroupDaoWrapperImpl extends AbstractDaoWrapper<HibGroup> implements
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		permissionCache.get().clear();
+		permissionCache.get().invalidateUsers(user.getId());
 	}
 
 	@Override
@@ -184,7 +184,7 @@ public class GroupDaoWrapperImpl extends AbstractDaoWrapper<HibGroup> implements
 		for (HibUser user : getUsers(group)) {
 			user.updateShortcutEdges();
 		}
-		permissionCache.get().clear();
+		permissionCache.get().invalidateRole(role.getUuid());
 	}
 
 	@Override
@@ -308,7 +308,7 @@ public class GroupDaoWrapperImpl extends AbstractDaoWrapper<HibGroup> implements
 			bac.inc();
 		}
 		bac.process();
-		permissionCache.get().clear();
+		permissionCache.get().invalidateUsers(affectedUsers.stream().map(HibUser::getId).toArray());
 	}
 
 	@Override
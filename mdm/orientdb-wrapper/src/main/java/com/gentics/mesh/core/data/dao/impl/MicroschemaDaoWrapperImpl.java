@@ -8,6 +8,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -30,6 +31,7 @@ import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.root.MicroschemaRoot;
 import com.gentics.mesh.core.data.schema.HibMicroschema;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
+import com.gentics.mesh.core.data.schema.MicronodeContainerReference;
 import com.gentics.mesh.core.data.schema.HibSchema;
 import com.gentics.mesh.core.data.schema.Microschema;
 import com.gentics.mesh.core.data.schema.MicroschemaVersion;
@@ -284,6 +286,11 @@ public class MicroschemaDaoWrapperImpl extends AbstractDaoWrapper<HibMicroschema
 		return toGraph(version).getDraftFieldContainers(branchUuid);
 	}
 
+	@Override
+	public List<MicronodeContainerReference> findDraftFieldContainerReferences(HibMicroschemaVersion version, String branchUuid) {
+		return toGraph(version).getDraftFieldContainerReferences(branchUuid);
+	}
+
 	@Override
 	public MicroschemaResponse transformToRestSync(HibMicroschema microschema, InternalActionContext ac, int level,
 		String... languageTags) {
@@ -140,16 +140,17 @@ public class RoleDaoWrapperImpl extends AbstractDaoWrapper<HibRole> implements R
 		}
 
 		if (permissionRevoked) {
-			permissionCache.get().clear();
+			permissionCache.get().invalidateRole(role.getUuid());
 		}
 	}
 
 	@Override
 	public void delete(HibRole role, BulkActionContext bac) {
+		String roleUuid = role.getUuid();
 		bac.add(role.onDeleted());
 		role.removeElement();
 		bac.process();
-		permissionCache.get().clear();
+		permissionCache.get().removeRole(roleUuid);
 	}
 
 	@Override
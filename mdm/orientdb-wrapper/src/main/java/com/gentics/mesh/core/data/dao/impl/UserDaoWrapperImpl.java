@@ -23,6 +23,7 @@ import javax.inject.Inject;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.gentics.mesh.cache.EpochStamp;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
@@ -211,7 +212,7 @@ public class UserDaoWrapperImpl extends AbstractDaoWrapper<HibUser> implements U
 			if (ac.getUser().isAdmin()) {
 				user.setAdmin(requestModel.getAdmin());
 				// Permissions need to be purged
-				permissionCache.get().clear();
+				permissionCache.get().invalidateUsers(user.getId());
 			} else {
 				throw error(FORBIDDEN, "user_error_admin_privilege_needed_for_admin_flag");
 			}
@@ -420,13 +421,16 @@ public class UserDaoWrapperImpl extends AbstractDaoWrapper<HibUser> implements U
 
 	@Override
 	public boolean hasPermissionForId(HibUser user, Object elementId, InternalPermission permission) {
-		if (permissionCache.get().hasPermission(user.getId(), permission, elementId)) {
+		PermissionCache cache = permissionCache.get();
+		if (cache.hasPermission(user.getId(), permission, elementId)) {
 			return true;
 		} else {
+			// The epochs are captured before the permissions are checked so that concurrent changes invalidate the stored entries
+			EpochStamp userStamp = cache.stampUser(user.getId());
 			// Admin users have all permissions
 			if (user.isAdmin()) {
 				for (InternalPermission perm : InternalPermission.values()) {
-					permissionCache.get().store(user.getId(), perm, elementId);
+					cache.store(user.getId(), perm, elementId, userStamp);
 				}
 				return true;
 			}
@@ -439,15 +443,17 @@ public class UserDaoWrapperImpl extends AbstractDaoWrapper<HibUser> implements U
 			Vertex vertex = graph.getVertex(elementId);
 			for (Edge roleEdge : roleEdges) {
 				Vertex role = roleEdge.getVertex(Direction.IN);
+				String roleUuid = role.<String>getProperty("uuid");
+				EpochStamp roleStamp = cache.stampRole(roleUuid);
 
 				Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
-				boolean hasPermission = allowedRoles != null && allowedRoles.contains(role.<String>getProperty("uuid"));
+				boolean hasPermission = allowedRoles != null && allowedRoles.contains(roleUuid);
 				if (hasPermission) {
 					// We only store granting permissions in the store in order
 					// reduce the invalidation calls.
 					// This way we do not need to invalidate the cache if a role
 					// is removed from a group or a role is deleted.
-					permissionCache.get().store(user.getId(), permission, elementId);
+					cache.store(user.getId(), permission, elementId, userStamp.with(roleStamp));
 					return true;
 				}
 			}
@@ -537,10 +543,11 @@ public class UserDaoWrapperImpl extends AbstractDaoWrapper<HibUser> implements U
 		// user will be just disabled and removed from all groups.");
 		// }
 		// outE(HAS_USER).removeAll();
+		Object userId = user.getId();
 		bac.add(user.onDeleted());
 		user.remove();
 		bac.process();
-		permissionCache.get().clear();
+		permissionCache.get().removeUser(userId);
 	}
 
 	@Override
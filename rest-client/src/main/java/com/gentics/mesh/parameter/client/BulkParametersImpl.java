@@ -0,0 +1,10 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.BulkParameters;
+
+/**
+ * @see BulkParameters
+ */
+public class BulkParametersImpl extends AbstractParameters implements BulkParameters {
+
+}
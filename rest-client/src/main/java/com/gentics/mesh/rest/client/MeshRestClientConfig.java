@@ -25,6 +25,13 @@ public class MeshRestClientConfig {
 	private final byte[] clientCert;
 	private final byte[] clientKey;
 	private final boolean hostnameVerification;
+	private final int maxIdleConnections;
+	private final Duration keepAliveDuration;
+	private final int maxRequests;
+	private final int maxRequestsPerHost;
+	private final boolean http2;
+	private final boolean http2PriorKnowledge;
+	private final int responseCacheSize;
 
 	public MeshRestClientConfig(Builder builder) {
 		this.host = Objects.requireNonNull(builder.host);
@@ -37,6 +44,13 @@ public class MeshRestClientConfig {
 		this.trustedCAs = builder.trustedCAs;
 		this.clientCert = builder.clientCert;
 		this.clientKey = builder.clientKey;
+		this.maxIdleConnections = builder.maxIdleConnections;
+		this.keepAliveDuration = builder.keepAliveDuration;
+		this.maxRequests = builder.maxRequests;
+		this.maxRequestsPerHost = builder.maxRequestsPerHost;
+		this.http2 = builder.http2;
+		this.http2PriorKnowledge = builder.http2PriorKnowledge;
+		this.responseCacheSize = builder.responseCacheSize;
 	}
 
 	/**
@@ -94,6 +108,34 @@ public class MeshRestClientConfig {
 		return trustedCAs;
 	}
 
+	public int getMaxIdleConnections() {
+		return maxIdleConnections;
+	}
+
+	public Duration getKeepAliveDuration() {
+		return keepAliveDuration;
+	}
+
+	public int getMaxRequests() {
+		return maxRequests;
+	}
+
+	public int getMaxRequestsPerHost() {
+		return maxRequestsPerHost;
+	}
+
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	public boolean isHttp2PriorKnowledge() {
+		return http2PriorKnowledge;
+	}
+
+	public int getResponseCacheSize() {
+		return responseCacheSize;
+	}
+
 	/**
 	 * Create a fresh config builder.
 	 * 
@@ -117,6 +159,13 @@ public class MeshRestClientConfig {
 		private final Set<byte[]> trustedCAs;
 		private byte[] clientCert;
 		private byte[] clientKey;
+		private int maxIdleConnections = 5;
+		private Duration keepAliveDuration = Duration.ofMinutes(5);
+		private int maxRequests = 64;
+		private int maxRequestsPerHost = 64;
+		private boolean http2 = true;
+		private boolean http2PriorKnowledge = false;
+		private int responseCacheSize = 0;
 
 		public Builder() {
 			trustedCAs = new HashSet<>();
@@ -144,6 +193,13 @@ public class MeshRestClientConfig {
 			if (config.getClientKey() != null) {
 				setClientKey(config.getClientKey().clone());
 			}
+			setMaxIdleConnections(config.getMaxIdleConnections());
+			setKeepAliveDuration(config.getKeepAliveDuration());
+			setMaxRequests(config.getMaxRequests());
+			setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+			setHttp2(config.isHttp2());
+			setHttp2PriorKnowledge(config.isHttp2PriorKnowledge());
+			setResponseCacheSize(config.getResponseCacheSize());
 		}
 
 		/**
@@ -360,6 +416,115 @@ public class MeshRestClientConfig {
 			return this;
 		}
 
+		/**
+		 * Sets the maximum amount of idle connections which will be kept in the connection pool.
+		 *
+		 * <p>
+		 * Default: 5
+		 * </p>
+		 *
+		 * @param maxIdleConnections
+		 * @return
+		 */
+		public Builder setMaxIdleConnections(int maxIdleConnections) {
+			this.maxIdleConnections = maxIdleConnections;
+			return this;
+		}
+
+		/**
+		 * Sets the amount of time an idle connection will be kept in the connection pool.
+		 *
+		 * <p>
+		 * Default: 5 minutes
+		 * </p>
+		 *
+		 * @param keepAliveDuration
+		 * @return
+		 */
+		public Builder setKeepAliveDuration(Duration keepAliveDuration) {
+			this.keepAliveDuration = Objects.requireNonNull(keepAliveDuration);
+			return this;
+		}
+
+		/**
+		 * Sets the maximum amount of requests which will be executed concurrently. Additional requests will be queued.
+		 *
+		 * <p>
+		 * Default: 64
+		 * </p>
+		 *
+		 * @param maxRequests
+		 * @return
+		 */
+		public Builder setMaxRequests(int maxRequests) {
+			this.maxRequests = maxRequests;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum amount of requests to the host which will be executed concurrently. Additional requests will be queued.
+		 *
+		 * <p>
+		 * Default: 64
+		 * </p>
+		 *
+		 * @param maxRequestsPerHost
+		 * @return
+		 */
+		public Builder setMaxRequestsPerHost(int maxRequestsPerHost) {
+			this.maxRequestsPerHost = maxRequestsPerHost;
+			return this;
+		}
+
+		/**
+		 * Decides if HTTP/2 may be negotiated for ssl connections. All requests will share a single connection when HTTP/2 is used. Otherwise HTTP/1.1 will be
+		 * used.
+		 *
+		 * <p>
+		 * Default: true
+		 * </p>
+		 *
+		 * @param http2
+		 * @return
+		 */
+		public Builder setHttp2(boolean http2) {
+			this.http2 = http2;
+			return this;
+		}
+
+		/**
+		 * Decides if HTTP/2 should be used for non-ssl connections without negotiation. The server must accept cleartext HTTP/2 connections when this is
+		 * enabled.
+		 *
+		 * <p>
+		 * Default: false
+		 * </p>
+		 *
+		 * @param http2PriorKnowledge
+		 * @return
+		 */
+		public Builder setHttp2PriorKnowledge(boolean http2PriorKnowledge) {
+			this.http2PriorKnowledge = http2PriorKnowledge;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum amount of responses which will be kept in the client-side response cache. Cached GET requests will be sent with the
+		 * <code>If-None-Match</code> header and the cached response will be returned when the server responds with <code>304 Not Modified</code>. A value of 0
+		 * disables the cache.
+		 *
+		 * <p>
+		 * Default: 0
+		 * </p>
+		 *
+		 * @param responseCacheSize
+		 * @return
+		 */
+		public Builder setResponseCacheSize(int responseCacheSize) {
+			this.responseCacheSize = responseCacheSize;
+			return this;
+		}
+
 		private static byte[] readFile(String path) {
 			Objects.requireNonNull(path);
 			File keyFile = new File(path);
@@ -1,6 +1,7 @@
 package com.gentics.mesh.rest.client;
 
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
 import io.reactivex.Observable;
 
 import static com.gentics.mesh.rest.client.impl.Util.toAddresses;
@@ -41,6 +42,35 @@ public interface MeshWebsocket {
 		registerEvents(toAddresses(events));
 	}
 
+	/**
+	 * Registers on an event so that this websocket will receive the messages for the given addresses which match the filter.
+	 * The filter is applied by mesh. Registering an address again will replace its filter.
+	 *
+	 * @param filter The filter for the events
+	 * @param eventNames The names of the events to register to
+	 */
+	void registerEvents(EventSubscriptionFilter filter, String... eventNames);
+
+	/**
+	 * Registers on an event so that this websocket will receive the messages for the given addresses which match the filter.
+	 * The filter is applied by mesh. Registering an address again will replace its filter.
+	 *
+	 * @param filter The filter for the events
+	 * @param events The events to register to
+	 */
+	default void registerEvents(EventSubscriptionFilter filter, MeshEvent... events) {
+		registerEvents(filter, toAddresses(events));
+	}
+
+	/**
+	 * Registers on the {@link MeshEvent#EVENT_FEED}. Each feed message contains a resume token. The websocket will pass the token of the last received
+	 * message when it reconnects so that mesh sends the entries which were missed in the meantime.
+	 *
+	 * @param filter The filter for the feed entries. May be null.
+	 * @param resumeToken Token of the last feed message which was received by a previous websocket. May be null.
+	 */
+	void registerEventFeed(EventSubscriptionFilter filter, String resumeToken);
+
 	/**
 	 * Unregisters on events.
 	 * The {@link #events()} observable will stop receiving events of the given addresses.
@@ -0,0 +1,105 @@
+package com.gentics.mesh.rest.client.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache for JSON responses which carry an ETag. The cached responses are used to send conditional GET requests. The cached body will be returned when
+ * the server responds with <code>304 Not Modified</code>.
+ *
+ * The raw body is cached instead of the deserialized model. Each response will thus be deserialized into a new model instance which can be modified by the
+ * caller.
+ */
+public class ETagResponseCache {
+
+	private final Map<String, Entry> entries;
+
+	public ETagResponseCache(int maxSize) {
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxSize;
+			}
+		});
+	}
+
+	/**
+	 * Create the cache key for the request. Responses depend on the permissions of the user and are thus cached per authorization.
+	 *
+	 * @param url
+	 * @param headers
+	 *            Request headers
+	 * @return
+	 */
+	public static String createKey(String url, Map<String, String> headers) {
+		String authorization = headers.get("Authorization");
+		return authorization == null ? url : url + "\n" + authorization;
+	}
+
+	/**
+	 * Return the cached response for the key.
+	 *
+	 * @param key
+	 * @return Cached response or null if the response has not been cached
+	 */
+	public Entry get(String key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Store the response in the cache.
+	 *
+	 * @param key
+	 * @param etag
+	 *            ETag of the response as returned by the server
+	 * @param body
+	 *            Raw response body
+	 */
+	public void put(String key, String etag, byte[] body) {
+		entries.put(key, new Entry(etag, body));
+	}
+
+	/**
+	 * Remove the cached response for the key.
+	 *
+	 * @param key
+	 */
+	public void invalidate(String key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Return the amount of cached responses.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Cached response.
+	 */
+	public static class Entry {
+
+		private final String etag;
+
+		private final byte[] body;
+
+		Entry(String etag, byte[] body) {
+			this.etag = etag;
+			this.body = body;
+		}
+
+		public String getETag() {
+			return etag;
+		}
+
+		public byte[] getBody() {
+			return body;
+		}
+	}
+}
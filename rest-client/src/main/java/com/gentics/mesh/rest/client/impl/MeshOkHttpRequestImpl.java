@@ -1,5 +1,6 @@
 package com.gentics.mesh.rest.client.impl;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -48,15 +49,22 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 	private final String url;
 	private final Map<String, String> headers;
 	private final RequestBody requestBody;
+	private final ETagResponseCache cache;
 
 	private MeshOkHttpRequestImpl(OkHttpClient client, Class<? extends T> resultClass, String method, String url, Map<String, String> headers,
 		RequestBody requestBody) {
+		this(client, resultClass, method, url, headers, requestBody, null);
+	}
+
+	private MeshOkHttpRequestImpl(OkHttpClient client, Class<? extends T> resultClass, String method, String url, Map<String, String> headers,
+		RequestBody requestBody, ETagResponseCache cache) {
 		this.client = client;
 		this.resultClass = resultClass;
 		this.method = method;
 		this.url = url;
 		this.headers = headers;
 		this.requestBody = requestBody;
+		this.cache = cache;
 	}
 
 	/**
@@ -148,7 +156,26 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 	 */
 	public static <T> MeshOkHttpRequestImpl<T> EmptyRequest(OkHttpClient client, String method, String url, Map<String, String> headers,
 		Class<? extends T> classOfT) {
-		return new MeshOkHttpRequestImpl<>(client, classOfT, method, url, headers, RequestBody.create(null, ""));
+		return EmptyRequest(client, method, url, headers, classOfT, null);
+	}
+
+	/**
+	 * Create a {@link MeshOkHttpRequestImpl} request which does not send a body payload. GET requests will be sent as conditional requests when the response
+	 * has been cached.
+	 * 
+	 * @param <T>
+	 * @param client
+	 * @param method
+	 * @param url
+	 * @param headers
+	 * @param classOfT
+	 * @param cache
+	 *            Response cache or null if responses should not be cached
+	 * @return
+	 */
+	public static <T> MeshOkHttpRequestImpl<T> EmptyRequest(OkHttpClient client, String method, String url, Map<String, String> headers,
+		Class<? extends T> classOfT, ETagResponseCache cache) {
+		return new MeshOkHttpRequestImpl<>(client, classOfT, method, url, headers, RequestBody.create(null, ""), cache);
 	}
 
 	@Override
@@ -162,10 +189,25 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 	}
 
 	private Request createRequest() {
+		return createRequest(null);
+	}
+
+	/**
+	 * Create the request.
+	 * 
+	 * @param cached
+	 *            Cached response which will be revalidated by the request
+	 * @return
+	 */
+	private Request createRequest(ETagResponseCache.Entry cached) {
 		Request.Builder builder = new Request.Builder()
 			.url(url)
 			.headers(Headers.of(headers));
 
+		if (cached != null) {
+			builder.header("If-None-Match", cached.getETag());
+		}
+
 		if (!method.equalsIgnoreCase("get")) {
 			builder = builder.method(method, requestBody);
 		}
@@ -174,8 +216,12 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 	}
 
 	private Single<Response> getOkResponse() {
+		return getOkResponse(createRequest());
+	}
+
+	private Single<Response> getOkResponse(Request request) {
 		return Single.create(sub -> {
-			Call call = client.newCall(createRequest());
+			Call call = client.newCall(request);
 			call.enqueue(new Callback() {
 				@Override
 				public void onFailure(Call call, IOException e) {
@@ -198,7 +244,10 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 
 	@Override
 	public Single<T> toSingle() {
-		return getOkResponse().map(this::mapResponse);
+		return Single.defer(() -> {
+			ETagResponseCache.Entry cached = getCachedResponse();
+			return getOkResponse(createRequest(cached)).map(response -> mapResponse(response, cached));
+		});
 	}
 
 	@Override
@@ -211,6 +260,24 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 	}
 
 	private T mapResponse(Response response) throws IOException, MeshRestClientMessageException {
+		return mapResponse(response, null);
+	}
+
+	/**
+	 * Map the response to the result. JSON responses are deserialized while the body is being read.
+	 * 
+	 * @param response
+	 * @param cached
+	 *            Cached response which was revalidated by the request
+	 * @return
+	 * @throws IOException
+	 * @throws MeshRestClientMessageException
+	 */
+	private T mapResponse(Response response, ETagResponseCache.Entry cached) throws IOException, MeshRestClientMessageException {
+		if (cached != null && response.code() == 304) {
+			response.close();
+			return JsonUtil.readValue(new ByteArrayInputStream(cached.getBody()), resultClass);
+		}
 		throwOnError(response);
 
 		String contentType = response.header("Content-Type");
@@ -223,7 +290,21 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 		} else if (resultClass.isAssignableFrom(MeshWebrootResponse.class)) {
 			return (T) new OkHttpWebrootResponse(response);
 		} else if (contentType != null && contentType.startsWith("application/json")) {
-			return JsonUtil.readValue(response.body().string(), resultClass);
+			String etag = response.header("ETag");
+			if (isCacheable()) {
+				if (etag == null) {
+					// The previously cached response must no longer be revalidated
+					cache.invalidate(getCacheKey());
+				} else {
+					byte[] body;
+					try (ResponseBody responseBody = response.body()) {
+						body = responseBody.bytes();
+					}
+					cache.put(getCacheKey(), etag, body);
+					return JsonUtil.readValue(new ByteArrayInputStream(body), resultClass);
+				}
+			}
+			return JsonUtil.readValue(response.body().byteStream(), resultClass);
 		} else if (resultClass.isAssignableFrom(String.class)) {
 			return (T) response.body().string();
 		} else {
@@ -231,6 +312,33 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 		}
 	}
 
+	/**
+	 * Check whether the response of the request may be cached. Only JSON responses of GET requests which don't already contain a conditional header will be
+	 * cached.
+	 * 
+	 * @return
+	 */
+	private boolean isCacheable() {
+		return cache != null
+			&& method.equalsIgnoreCase("get")
+			&& !headers.containsKey("If-None-Match")
+			&& !resultClass.isAssignableFrom(EmptyResponse.class)
+			&& !resultClass.isAssignableFrom(MeshBinaryResponse.class)
+			&& !resultClass.isAssignableFrom(MeshWebrootResponse.class)
+			&& !resultClass.isAssignableFrom(String.class);
+	}
+
+	private String getCacheKey() {
+		return ETagResponseCache.createKey(url, headers);
+	}
+
+	private ETagResponseCache.Entry getCachedResponse() {
+		if (!isCacheable()) {
+			return null;
+		}
+		return cache.get(getCacheKey());
+	}
+
 	private void throwOnError(Response response) throws IOException, MeshRestClientMessageException {
 		if (!response.isSuccessful() && response.code() != 304) {
 			String body = response.body().string();
@@ -270,8 +378,9 @@ public class MeshOkHttpRequestImpl<T> implements MeshRequest<T> {
 	@Override
 	public T blockingGet() {
 		try {
-			Response response = client.newCall(createRequest()).execute();
-			return mapResponse(response);
+			ETagResponseCache.Entry cached = getCachedResponse();
+			Response response = client.newCall(createRequest(cached)).execute();
+			return mapResponse(response, cached);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.rest.client.impl;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_YAML_UTF8;
 import static com.gentics.mesh.rest.client.impl.HttpMethod.DELETE;
 import static com.gentics.mesh.rest.client.impl.HttpMethod.GET;
@@ -61,6 +62,7 @@ import com.gentics.mesh.core.rest.plugin.PluginDeploymentRequest;
 import com.gentics.mesh.core.rest.plugin.PluginListResponse;
 import com.gentics.mesh.core.rest.plugin.PluginResponse;
 import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
+import com.gentics.mesh.core.rest.project.ProjectImportRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
@@ -143,6 +145,16 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 			nodeUpsertRequest);
 	}
 
+	@Override
+	public MeshRequest<String> bulkNodes(String projectName, InputStream operations, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(operations, "operations must not be null");
+		MeshRequest<String> request = prepareRequest(POST, "/" + encodeSegment(projectName) + "/nodes/bulk" + getQuery(parameters), String.class,
+			operations, -1, APPLICATION_NDJSON);
+		request.setHeader("Accept", APPLICATION_NDJSON);
+		return request;
+	}
+
 	@Override
 	public MeshRequest<NodeResponse> createNode(String projectName, NodeCreateRequest nodeCreateRequest, ParameterProvider... parameters) {
 		Objects.requireNonNull(projectName, "projectName must not be null");
@@ -374,6 +386,13 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(POST, "/projects/" + uuid + "/maintenance/purge" + getQuery(parameters), GenericMessageResponse.class);
 	}
 
+	@Override
+	public MeshRequest<GenericMessageResponse> importProject(String uuid, ProjectImportRequest request) {
+		Objects.requireNonNull(uuid, "uuid must not be null");
+		Objects.requireNonNull(request, "request must not be null");
+		return prepareRequest(POST, "/projects/" + uuid + "/maintenance/import", GenericMessageResponse.class, request);
+	}
+
 	@Override
 	public MeshRequest<SchemaResponse> assignSchemaToProject(String projectName, String schemaUuid) {
 		Objects.requireNonNull(projectName, "projectName must not be null");
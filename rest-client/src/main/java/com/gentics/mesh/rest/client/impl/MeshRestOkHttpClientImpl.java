@@ -19,6 +19,7 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 
 	private final OkHttpClient client;
 	private final MeshRestClientConfig config;
+	private final ETagResponseCache responseCache;
 
 	public MeshRestOkHttpClientImpl(MeshRestClientConfig config) {
 		this(config, OkHttpClientUtil.createClient(config));
@@ -27,6 +28,7 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 	public MeshRestOkHttpClientImpl(MeshRestClientConfig config, OkHttpClient client) {
 		this.client = client;
 		this.config = config;
+		this.responseCache = config.getResponseCacheSize() > 0 ? new ETagResponseCache(config.getResponseCacheSize()) : null;
 	}
 
 	@Override
@@ -42,7 +44,7 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 
 	@Override
 	public <T> MeshRequest<T> prepareRequest(HttpMethod method, String path, Class<? extends T> classOfT) {
-		return MeshOkHttpRequestImpl.EmptyRequest(client, method.name(), getUrl(path), createHeaders(), classOfT);
+		return MeshOkHttpRequestImpl.EmptyRequest(client, method.name(), getUrl(path), createHeaders(), classOfT, responseCache);
 	}
 
 	@Override
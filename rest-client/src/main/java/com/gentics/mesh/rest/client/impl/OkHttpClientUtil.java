@@ -15,6 +15,10 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
@@ -32,9 +36,11 @@ import com.gentics.mesh.util.UUIDUtil;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
+import okhttp3.Protocol;
 
 /**
  * Utility for the OkHttp client.
@@ -55,7 +61,8 @@ public final class OkHttpClientUtil {
 	public static OkHttpClient createClient(MeshRestClientConfig config) {
 
 		Dispatcher dispatcher = new Dispatcher();
-		dispatcher.setMaxRequestsPerHost(64);
+		dispatcher.setMaxRequests(config.getMaxRequests());
+		dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
 
 		// We need a long timeout per default since some requests take a long time. For all tests a 1 minute timeout works fine.
 		Builder builder = new OkHttpClient.Builder()
@@ -63,12 +70,30 @@ public final class OkHttpClientUtil {
 			.connectTimeout(Duration.ofMinutes(1))
 			.writeTimeout(Duration.ofMinutes(1))
 			.readTimeout(Duration.ofMinutes(1))
-			.dispatcher(dispatcher);
+			.dispatcher(dispatcher)
+			.connectionPool(new ConnectionPool(config.getMaxIdleConnections(), config.getKeepAliveDuration().toMillis(), TimeUnit.MILLISECONDS))
+			.protocols(getProtocols(config));
 
 		initializeHttpClient(builder, config);
 		return builder.build();
 	}
 
+	/**
+	 * Return the protocols which may be used by the client.
+	 * 
+	 * @param config
+	 * @return
+	 */
+	private static List<Protocol> getProtocols(MeshRestClientConfig config) {
+		if (!config.isSsl() && config.isHttp2PriorKnowledge()) {
+			return Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE);
+		}
+		if (config.isHttp2()) {
+			return Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+		}
+		return Collections.singletonList(Protocol.HTTP_1_1);
+	}
+
 	/**
 	 * Initialize a given client builder with the client config.
 	 * 
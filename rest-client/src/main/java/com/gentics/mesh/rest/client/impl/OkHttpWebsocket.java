@@ -1,5 +1,8 @@
 package com.gentics.mesh.rest.client.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.gentics.mesh.core.rest.event.EventSubscriptionFilter;
 import com.gentics.mesh.rest.client.EventbusEvent;
 import com.gentics.mesh.rest.client.MeshRestClientConfig;
 import com.gentics.mesh.rest.client.MeshWebsocket;
@@ -21,12 +24,16 @@ import okio.ByteString;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
+import static com.gentics.mesh.core.rest.MeshEvent.EVENT_FEED;
 import static com.gentics.mesh.rest.client.impl.Util.eventbusMessage;
 
 /**
@@ -45,6 +52,8 @@ public class OkHttpWebsocket implements MeshWebsocket {
 	private final Subject<Object> connections = PublishSubject.create();
 	private final Subject<Throwable> errors = PublishSubject.create();
 	private final Set<String> registeredEventAddresses = Collections.synchronizedSet(new HashSet<>());
+	private final Map<String, String> eventFilters = new ConcurrentHashMap<>();
+	private volatile String lastFeedToken;
 
 	private WebSocket currentConnection;
 	private AtomicBoolean connected = new AtomicBoolean(false);
@@ -74,7 +83,8 @@ public class OkHttpWebsocket implements MeshWebsocket {
 			@Override
 			public void onOpen(WebSocket webSocket, Response response) {
 				connected.set(true);
-				sendRegisterEvents();
+				// Request the feed entries which were missed while the websocket was disconnected
+				sendRegisterEvents(lastFeedToken);
 				log.debug("Connection established, sending connection event");
 				connections.onNext(connectionDummy);
 			}
@@ -84,7 +94,9 @@ public class OkHttpWebsocket implements MeshWebsocket {
 				log.trace("Received message: {}", text);
 
 				try {
-					events.onNext(new EventbusEvent(text));
+					EventbusEvent event = new EventbusEvent(text);
+					trackFeedToken(event);
+					events.onNext(event);
 				} catch (IOException e) {
 					errors.onNext(new Exception("Could not parse message from mesh", e));
 				}
@@ -149,17 +161,75 @@ public class OkHttpWebsocket implements MeshWebsocket {
 
 	@Override
 	public void registerEvents(String... eventNames) {
-		registeredEventAddresses.addAll(Arrays.asList(eventNames));
-		sendRegisterEvents();
+		registerEvents(null, eventNames);
+	}
+
+	@Override
+	public void registerEvents(EventSubscriptionFilter filter, String... eventNames) {
+		addRegistrations(filter, eventNames);
+		sendRegisterEvents(null);
+	}
+
+	@Override
+	public void registerEventFeed(EventSubscriptionFilter filter, String resumeToken) {
+		if (resumeToken != null) {
+			lastFeedToken = resumeToken;
+		}
+		addRegistrations(filter, EVENT_FEED.address);
+		sendRegisterEvents(resumeToken);
 	}
 
 	@Override
 	public void unregisterEvents(String... eventNames) {
 		Stream.of(eventNames).forEach(registeredEventAddresses::remove);
+		Stream.of(eventNames).forEach(eventFilters::remove);
+	}
+
+	private void addRegistrations(EventSubscriptionFilter filter, String... eventNames) {
+		for (String address : eventNames) {
+			if (filter == null) {
+				eventFilters.remove(address);
+			} else {
+				eventFilters.put(address, filter.toJson());
+			}
+		}
+		registeredEventAddresses.addAll(Arrays.asList(eventNames));
+	}
+
+	/**
+	 * Send the registrations to mesh.
+	 *
+	 * @param resumeToken
+	 *            Token which will be passed with the registration of the event feed. May be null.
+	 */
+	private void sendRegisterEvents(String resumeToken) {
+		registeredEventAddresses.forEach(address -> {
+			Map<String, String> headers = new HashMap<>();
+			String filter = eventFilters.get(address);
+			if (filter != null) {
+				headers.put("filter", filter);
+			}
+			if (resumeToken != null && EVENT_FEED.address.equals(address)) {
+				headers.put("resumeToken", resumeToken);
+			}
+			send(eventbusMessage(EventbusMessageType.REGISTER, address, headers));
+		});
 	}
 
-	private void sendRegisterEvents() {
-		registeredEventAddresses.forEach(address -> send(eventbusMessage(EventbusMessageType.REGISTER, address)));
+	/**
+	 * Remember the token of the last received feed message, so that the missed entries can be requested after a reconnect.
+	 *
+	 * @param event
+	 */
+	private void trackFeedToken(EventbusEvent event) {
+		if (!EVENT_FEED.address.equals(event.getAddress())) {
+			return;
+		}
+		ObjectNode body = event.getBodyAsJson();
+		JsonNode token = body == null ? null : body.get("token");
+		if (token != null && token.isTextual()) {
+			lastFeedToken = token.textValue();
+		}
 	}
 
 	private void send(String text) {
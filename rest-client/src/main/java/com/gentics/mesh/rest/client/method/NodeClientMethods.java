@@ -1,5 +1,7 @@
 package com.gentics.mesh.rest.client.method;
 
+import java.io.InputStream;
+
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -69,6 +71,19 @@ public interface NodeClientMethods {
 	 */
 	MeshRequest<NodeResponse> upsertNode(String projectName, String uuid, NodeUpsertRequest nodeUpsertRequest, ParameterProvider... parameters);
 
+	/**
+	 * Create, update and publish nodes in bulk. The operations must be provided as NDJSON (one JSON operation per line). The result of each operation will
+	 * be returned as a line of the NDJSON response.
+	 * 
+	 * @param projectName
+	 *            Name of the project
+	 * @param operations
+	 *            Stream of the NDJSON operations
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<String> bulkNodes(String projectName, InputStream operations, ParameterProvider... parameters);
+
 	/**
 	 * Update the node with the given UUID.
 	 * 
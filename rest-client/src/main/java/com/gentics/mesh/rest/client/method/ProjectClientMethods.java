@@ -2,6 +2,7 @@ package com.gentics.mesh.rest.client.method;
 
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
+import com.gentics.mesh.core.rest.project.ProjectImportRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
 import com.gentics.mesh.core.rest.project.ProjectUpdateRequest;
@@ -103,4 +104,13 @@ public interface ProjectClientMethods {
 	 * @return
 	 */
 	MeshRequest<GenericMessageResponse> purgeProject(String uuid, ParameterProvider... parameters);
+
+	/**
+	 * Invoke an import of the nodes of the given export file into the project. The file must be accessible by the server.
+	 * 
+	 * @param uuid
+	 * @param request
+	 * @return
+	 */
+	MeshRequest<GenericMessageResponse> importProject(String uuid, ProjectImportRequest request);
 }
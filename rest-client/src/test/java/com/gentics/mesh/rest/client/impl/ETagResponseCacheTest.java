@@ -0,0 +1,41 @@
+package com.gentics.mesh.rest.client.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class ETagResponseCacheTest {
+
+	@Test
+	public void testEviction() {
+		ETagResponseCache cache = new ETagResponseCache(2);
+		cache.put("a", "etag-a", "a".getBytes(UTF_8));
+		cache.put("b", "etag-b", "b".getBytes(UTF_8));
+		// Access a so that b will be evicted
+		assertNotNull(cache.get("a"));
+		cache.put("c", "etag-c", "c".getBytes(UTF_8));
+
+		assertEquals(2, cache.size());
+		assertNull(cache.get("b"));
+		assertEquals("etag-a", cache.get("a").getETag());
+		assertEquals("c", new String(cache.get("c").getBody(), UTF_8));
+
+		cache.invalidate("a");
+		assertNull(cache.get("a"));
+	}
+
+	@Test
+	public void testKeyPerAuthorization() {
+		String url = "http://localhost:8080/api/v2/demo/nodes";
+		String key1 = ETagResponseCache.createKey(url, Collections.singletonMap("Authorization", "Bearer token1"));
+		String key2 = ETagResponseCache.createKey(url, Collections.singletonMap("Authorization", "Bearer token2"));
+		assertNotEquals(key1, key2);
+		assertEquals(url, ETagResponseCache.createKey(url, Collections.emptyMap()));
+	}
+}
@@ -0,0 +1,105 @@
+package com.gentics.mesh.rest.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class MeshOkHttpRequestImplTest {
+
+	private MockWebServer server;
+
+	private OkHttpClient client;
+
+	private ETagResponseCache cache;
+
+	private String url;
+
+	@Before
+	public void setup() throws Exception {
+		server = new MockWebServer();
+		server.start();
+		client = new OkHttpClient();
+		cache = new ETagResponseCache(10);
+		url = server.url("/api/v2/demo/nodes").toString();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		server.shutdown();
+	}
+
+	@Test
+	public void testConditionalRequests() throws Exception {
+		server.enqueue(jsonResponse("v1").setHeader("ETag", "\"etag1\""));
+		assertEquals("v1", get().getMessage());
+		assertNull("The first request must not be conditional", server.takeRequest().getHeader("If-None-Match"));
+		assertEquals("\"etag1\"", cache.get(key()).getETag());
+
+		// The cached body is returned when the response was not modified
+		server.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"etag1\""));
+		assertEquals("v1", get().getMessage());
+		assertEquals("\"etag1\"", server.takeRequest().getHeader("If-None-Match"));
+
+		// A modified response replaces the cached entry
+		server.enqueue(jsonResponse("v2").setHeader("ETag", "\"etag2\""));
+		assertEquals("v2", get().getMessage());
+		assertEquals("\"etag1\"", server.takeRequest().getHeader("If-None-Match"));
+		assertEquals("\"etag2\"", cache.get(key()).getETag());
+
+		server.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"etag2\""));
+		assertEquals("v2", get().getMessage());
+		assertEquals("\"etag2\"", server.takeRequest().getHeader("If-None-Match"));
+	}
+
+	@Test
+	public void testResponseWithoutETagEvictsEntry() throws Exception {
+		server.enqueue(jsonResponse("v1").setHeader("ETag", "\"etag1\""));
+		assertEquals("v1", get().getMessage());
+		server.takeRequest();
+
+		server.enqueue(jsonResponse("v2"));
+		assertEquals("v2", get().getMessage());
+		assertEquals("\"etag1\"", server.takeRequest().getHeader("If-None-Match"));
+		assertNull("The entry should have been evicted since the response did not contain an ETag", cache.get(key()));
+
+		// The next request must not revalidate the outdated entry
+		server.enqueue(jsonResponse("v3"));
+		assertEquals("v3", get().getMessage());
+		RecordedRequest request = server.takeRequest();
+		assertNull(request.getHeader("If-None-Match"));
+	}
+
+	private GenericMessageResponse get() {
+		return MeshOkHttpRequestImpl.<GenericMessageResponse>EmptyRequest(client, "GET", url, headers(), GenericMessageResponse.class, cache)
+			.blockingGet();
+	}
+
+	private MockResponse jsonResponse(String message) {
+		return new MockResponse()
+			.setHeader("Content-Type", "application/json; charset=utf-8")
+			.setBody("{\"message\":\"" + message + "\"}");
+	}
+
+	private Map<String, String> headers() {
+		Map<String, String> headers = new HashMap<>();
+		headers.put("Authorization", "Bearer token");
+		return headers;
+	}
+
+	private String key() {
+		return ETagResponseCache.createKey(url, headers());
+	}
+}
@@ -12,6 +12,7 @@ import com.gentics.mesh.core.rest.event.group.GroupRoleAssignModel;
 import com.gentics.mesh.core.rest.event.group.GroupUserAssignModel;
 import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
 import com.gentics.mesh.core.rest.event.job.JobEventModel;
+import com.gentics.mesh.core.rest.event.job.ProjectImportEventModel;
 import com.gentics.mesh.core.rest.event.job.ProjectVersionPurgeEventModel;
 import com.gentics.mesh.core.rest.event.migration.BranchMigrationMeshEventModel;
 import com.gentics.mesh.core.rest.event.migration.MicroschemaMigrationMeshEventModel;
@@ -52,6 +53,14 @@ public final class Examples {
 		return model;
 	}
 
+	public static ProjectImportEventModel projectImportEvent() {
+		ProjectImportEventModel model = new ProjectImportEventModel();
+		model.setUuid(uuid1());
+		model.setName("demo");
+		model.setStatus(JobStatus.COMPLETED);
+		return model;
+	}
+
 	public static SchemaMigrationMeshEventModel schemaMigrationEvent() {
 		SchemaMigrationMeshEventModel model = new SchemaMigrationMeshEventModel();
 		model.setUuid(uuid1());
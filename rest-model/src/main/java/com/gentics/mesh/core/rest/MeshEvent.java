@@ -20,6 +20,7 @@ import com.gentics.mesh.core.rest.event.group.GroupRoleAssignModel;
 import com.gentics.mesh.core.rest.event.group.GroupUserAssignModel;
 import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
 import com.gentics.mesh.core.rest.event.job.JobEventModel;
+import com.gentics.mesh.core.rest.event.job.ProjectImportEventModel;
 import com.gentics.mesh.core.rest.event.job.ProjectVersionPurgeEventModel;
 import com.gentics.mesh.core.rest.event.migration.BranchMigrationMeshEventModel;
 import com.gentics.mesh.core.rest.event.migration.MicroschemaMigrationMeshEventModel;
@@ -55,6 +56,11 @@ public enum MeshEvent {
 		"Emitted once a version purge job finishes successully or failed",
 		Examples::versionPurgeEvent),
 
+	PROJECT_IMPORT_FINISHED("mesh.project.import.finished",
+		ProjectImportEventModel.class,
+		"Emitted once a project import job finishes successully or failed",
+		Examples::projectImportEvent),
+
 	/**
 	 * Schema migration start event.
 	 */
@@ -620,7 +626,11 @@ public enum MeshEvent {
 
 	PLUGIN_UNDEPLOYED("mesh.plugin.undeployed",
 		null,
-		"Emitted once a plugin has been undeployed.");
+		"Emitted once a plugin has been undeployed."),
+
+	EVENT_FEED("mesh.event.feed",
+		null,
+		"Ordered feed of all events. Each message contains the resume token, the address and the body of the original event.");
 
 	public final String address;
 	public final Class<? extends MeshEventModel> bodyModel;
@@ -0,0 +1,112 @@
+package com.gentics.mesh.core.rest.event;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * Filter which is applied by the server to the events of an eventbus subscription. Only events which match all of the set criteria will be sent to the
+ * client. Events which do not contain the information of a set criterion (e.g. events without a project) will not match.
+ */
+public class EventSubscriptionFilter implements RestModel {
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Name or uuid of the project to which the events must belong.")
+	private String project;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the branch to which the events must belong.")
+	private String branchUuid;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Names of the schemas of the nodes to which the events must belong.")
+	private List<String> schemas;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of a node. Only events of this node and the nodes below it will be sent.")
+	private String nodeUuid;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Addresses of the events which will be sent. This is only used for the event feed since other subscriptions are already bound to an address.")
+	private List<String> events;
+
+	public EventSubscriptionFilter() {
+	}
+
+	public String getProject() {
+		return project;
+	}
+
+	/**
+	 * Set the name or uuid of the project.
+	 *
+	 * @param project
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setProject(String project) {
+		this.project = project;
+		return this;
+	}
+
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	/**
+	 * Set the uuid of the branch.
+	 *
+	 * @param branchUuid
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setBranchUuid(String branchUuid) {
+		this.branchUuid = branchUuid;
+		return this;
+	}
+
+	public List<String> getSchemas() {
+		return schemas;
+	}
+
+	/**
+	 * Set the names of the schemas.
+	 *
+	 * @param schemas
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setSchemas(List<String> schemas) {
+		this.schemas = schemas;
+		return this;
+	}
+
+	public String getNodeUuid() {
+		return nodeUuid;
+	}
+
+	/**
+	 * Set the uuid of the node which is the root of the subtree.
+	 *
+	 * @param nodeUuid
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setNodeUuid(String nodeUuid) {
+		this.nodeUuid = nodeUuid;
+		return this;
+	}
+
+	public List<String> getEvents() {
+		return events;
+	}
+
+	/**
+	 * Set the addresses of the events which will be included in the event feed.
+	 *
+	 * @param events
+	 * @return Fluent API
+	 */
+	public EventSubscriptionFilter setEvents(List<String> events) {
+		this.events = events;
+		return this;
+	}
+}
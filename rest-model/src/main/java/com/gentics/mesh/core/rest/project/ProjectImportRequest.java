@@ -0,0 +1,64 @@
+package com.gentics.mesh.core.rest.project;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * REST model for the project import request.
+ */
+public class ProjectImportRequest implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Path of the export file on the server. The file contains one import operation per line. Binary files are resolved relative to the export file.")
+	private String path;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Number of operations which will be applied within a single transaction.")
+	private Integer batchSize;
+
+	public ProjectImportRequest() {
+	}
+
+	/**
+	 * Return the path of the export file.
+	 * 
+	 * @return Path of the export file
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Set the path of the export file.
+	 * 
+	 * @param path
+	 *            Path of the export file on the server
+	 * @return Fluent API
+	 */
+	public ProjectImportRequest setPath(String path) {
+		this.path = path;
+		return this;
+	}
+
+	/**
+	 * Return the batch size.
+	 * 
+	 * @return Batch size or null if the default should be used
+	 */
+	public Integer getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Set the number of operations which will be applied within a single transaction.
+	 * 
+	 * @param batchSize
+	 * @return Fluent API
+	 */
+	public ProjectImportRequest setBatchSize(Integer batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+}
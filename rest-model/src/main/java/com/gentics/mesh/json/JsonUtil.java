@@ -4,6 +4,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -189,31 +190,64 @@ public final class JsonUtil {
 			return defaultMapper.readValue(content, valueType);
 		} catch (JsonMappingException e) {
 			log.error("Could not deserialize json {" + content + "} into {" + valueType.getName() + "}", e);
-			String line = "unknown";
-			String column = "unknown";
-			if (e.getLocation() != null) {
-				line = String.valueOf(e.getLocation().getLineNr());
-				column = String.valueOf(e.getLocation().getColumnNr());
-			}
-			String field = "";
-			if (e.getPath() != null && e.getPath().size() >= 1) {
-				field = e.getPath().get(0).getFieldName();
-			}
-			throw new GenericRestException(BAD_REQUEST, "error_json_structure_invalid", line, column, field, e.getOriginalMessage());
+			throw structureError(e);
 		} catch (JsonParseException e) {
-			String msg = e.getOriginalMessage();
-			String line = "unknown";
-			String column = "unknown";
-			if (e.getLocation() != null) {
-				line = String.valueOf(e.getLocation().getLineNr());
-				column = String.valueOf(e.getLocation().getColumnNr());
-			}
-			throw new GenericRestException(BAD_REQUEST, "error_json_malformed", line, column, msg);
+			throw malformedError(e);
+		} catch (Exception e) {
+			throw new GenericRestException(BAD_REQUEST, "error_json_parse", e);
+		}
+	}
+
+	/**
+	 * Read the JSON content from the given stream and transform it into a POJO. The content will be deserialized while it is being read and the stream will
+	 * be closed afterwards.
+	 * 
+	 * @param content
+	 *            Stream of the JSON content
+	 * @param valueType
+	 *            Class of the POJO
+	 * @return POJO instance
+	 * @throws GenericRestException
+	 *             Exception which contains information about the JSON error line, column
+	 */
+	public static <T> T readValue(InputStream content, Class<T> valueType) throws GenericRestException {
+		try (InputStream in = content) {
+			return defaultMapper.readValue(in, valueType);
+		} catch (JsonMappingException e) {
+			log.error("Could not deserialize json into {" + valueType.getName() + "}", e);
+			throw structureError(e);
+		} catch (JsonParseException e) {
+			throw malformedError(e);
 		} catch (Exception e) {
 			throw new GenericRestException(BAD_REQUEST, "error_json_parse", e);
 		}
 	}
 
+	private static GenericRestException structureError(JsonMappingException e) {
+		String line = "unknown";
+		String column = "unknown";
+		if (e.getLocation() != null) {
+			line = String.valueOf(e.getLocation().getLineNr());
+			column = String.valueOf(e.getLocation().getColumnNr());
+		}
+		String field = "";
+		if (e.getPath() != null && e.getPath().size() >= 1) {
+			field = e.getPath().get(0).getFieldName();
+		}
+		return new GenericRestException(BAD_REQUEST, "error_json_structure_invalid", line, column, field, e.getOriginalMessage());
+	}
+
+	private static GenericRestException malformedError(JsonParseException e) {
+		String msg = e.getOriginalMessage();
+		String line = "unknown";
+		String column = "unknown";
+		if (e.getLocation() != null) {
+			line = String.valueOf(e.getLocation().getLineNr());
+			column = String.valueOf(e.getLocation().getColumnNr());
+		}
+		return new GenericRestException(BAD_REQUEST, "error_json_malformed", line, column, msg);
+	}
+
 	/**
 	 * Generate the JSON schema for the given model class.
 	 * 
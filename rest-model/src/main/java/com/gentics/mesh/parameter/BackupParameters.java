@@ -9,6 +9,8 @@ public interface BackupParameters extends ParameterProvider {
 
 	public static final String CONSISTENCY_CHECK_PARAMETER_KEY = "consistencyCheck";
 
+	public static final String INCREMENTAL_PARAMETER_KEY = "incremental";
+
 	/**
 	 * Set the consistency check flag. When enabled a consistency check will be run before invoking the backup.
 	 * 
@@ -28,4 +30,25 @@ public interface BackupParameters extends ParameterProvider {
 	default boolean isConsistencyCheck() {
 		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(CONSISTENCY_CHECK_PARAMETER_KEY)), false);
 	}
+
+	/**
+	 * Set the incremental flag. When enabled the backup will be run as a background job which creates an incremental backup without blocking write
+	 * operations.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default BackupParameters setIncremental(boolean flag) {
+		setParameter(INCREMENTAL_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the incremental flag has been set.
+	 * 
+	 * @return
+	 */
+	default boolean isIncremental() {
+		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(INCREMENTAL_PARAMETER_KEY)), false);
+	}
 }
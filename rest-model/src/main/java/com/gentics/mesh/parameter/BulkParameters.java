@@ -0,0 +1,36 @@
+package com.gentics.mesh.parameter;
+
+import com.gentics.mesh.util.NumberUtils;
+
+/**
+ * Interface for bulk operation query parameters.
+ */
+public interface BulkParameters extends ParameterProvider {
+
+	public static final String BATCH_SIZE_PARAMETER_KEY = "batchSize";
+
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	public static final int MAX_BATCH_SIZE = 1000;
+
+	/**
+	 * Set the number of operations which will be applied within a single transaction.
+	 * 
+	 * @param batchSize
+	 * @return Fluent API
+	 */
+	default BulkParameters setBatchSize(int batchSize) {
+		setParameter(BATCH_SIZE_PARAMETER_KEY, String.valueOf(batchSize));
+		return this;
+	}
+
+	/**
+	 * Return the number of operations which will be applied within a single transaction. The value is limited to {@link #MAX_BATCH_SIZE}.
+	 * 
+	 * @return
+	 */
+	default int getBatchSize() {
+		int batchSize = NumberUtils.toInteger(getParameter(BATCH_SIZE_PARAMETER_KEY), DEFAULT_BATCH_SIZE);
+		return Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+	}
+}
@@ -0,0 +1,60 @@
+package com.gentics.mesh.image;
+
+import javax.imageio.ImageReadParam;
+
+/**
+ * Parameters which describe how a source image is decoded before it gets cropped and resized.
+ */
+public class DecodeParameters {
+
+	private final ImageReadParam readParam;
+
+	private final boolean cropped;
+
+	private final double aspectRatio;
+
+	private final long estimatedSize;
+
+	public DecodeParameters(ImageReadParam readParam, boolean cropped, double aspectRatio, long estimatedSize) {
+		this.readParam = readParam;
+		this.cropped = cropped;
+		this.aspectRatio = aspectRatio;
+		this.estimatedSize = estimatedSize;
+	}
+
+	/**
+	 * Return the parameters for the image reader.
+	 *
+	 * @return
+	 */
+	public ImageReadParam getReadParam() {
+		return readParam;
+	}
+
+	/**
+	 * Check whether the decoder only reads the requested crop area.
+	 *
+	 * @return
+	 */
+	public boolean isCropped() {
+		return cropped;
+	}
+
+	/**
+	 * Return the aspect ratio of the decoded area before subsampling was applied.
+	 *
+	 * @return
+	 */
+	public double getAspectRatio() {
+		return aspectRatio;
+	}
+
+	/**
+	 * Return the estimated amount of memory in bytes which is needed for the decoded image.
+	 *
+	 * @return
+	 */
+	public long getEstimatedSize() {
+		return estimatedSize;
+	}
+}
@@ -1,8 +1,13 @@
 package com.gentics.mesh.image;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_RESIZE_DEDUPLICATED;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_RESIZE_PENDING;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_RESIZE_REJECTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -11,9 +16,14 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
@@ -34,11 +44,13 @@ import org.imgscalr.Scalr.Mode;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.binary.HibBinary;
 import com.gentics.mesh.core.data.dao.BinaryDaoWrapper;
+import com.gentics.mesh.core.image.CacheFileInfo;
 import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Supplier;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
@@ -59,23 +71,60 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private static final Logger log = LoggerFactory.getLogger(ImgscalrImageManipulator.class);
 
+	/**
+	 * Minimum ratio between the subsampled source size and the target size. Keeping more pixels than needed allows the resample filter to produce the
+	 * same quality as with the fully decoded image.
+	 */
+	private static final int SUBSAMPLING_OVERSAMPLING = 2;
+
+	/**
+	 * Estimated amount of bytes which are needed per decoded pixel.
+	 */
+	private static final int BYTES_PER_PIXEL = 4;
+
 	private FocalPointModifier focalPointModifier;
 
 	private WorkerExecutor workerPool;
 
 	private final BootstrapInitializer boot;
 
-	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, BootstrapInitializer boot) {
-		this(vertx, options.getImageOptions(), boot);
-		
+	private final MetricsService metrics;
+
+	/**
+	 * Resize operations which are currently queued or running, keyed by the sha512sum of the original image and the cache key of the image variant.
+	 */
+	private final Map<String, Single<String>> pendingResizes = new ConcurrentHashMap<>();
+
+	private final AtomicLong pendingResizeCount;
+
+	/**
+	 * Semaphore which limits the memory used by concurrent decode operations. One permit represents one KiB of decoded image data. Null if no budget has
+	 * been configured.
+	 */
+	private final Semaphore decodeBudget;
+
+	private final int decodeBudgetPermits;
+
+	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, BootstrapInitializer boot, MetricsService metrics) {
+		this(vertx, options.getImageOptions(), boot, metrics);
 	}
 
-	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, BootstrapInitializer boot) {
-		super(vertx, options);
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, BootstrapInitializer boot, MetricsService metrics) {
+		super(vertx, options, metrics);
 		focalPointModifier = new FocalPointModifier(options);
 		// 10 seconds
-		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
+		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", options.getResizeWorkerPoolSize(), Duration.ofSeconds(10).toNanos());
 		this.boot = boot;
+		this.metrics = metrics;
+		this.pendingResizeCount = metrics.isEnabled() ? metrics.longGauge(IMAGE_RESIZE_PENDING) : new AtomicLong();
+		long budget = options.getDecodeMemoryBudget();
+		if (budget > 0) {
+			this.decodeBudgetPermits = (int) Math.max(1, Math.min(budget / 1024, Integer.MAX_VALUE));
+			this.decodeBudget = new Semaphore(decodeBudgetPermits, true);
+		} else {
+			this.decodeBudgetPermits = 0;
+			this.decodeBudget = null;
+		}
 	}
 
 	/**
@@ -108,9 +157,21 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	 * @return Resized image or original image if no resize operation was requested
 	 */
 	protected BufferedImage resizeIfRequested(BufferedImage originalImage, ImageManipulationParameters parameters) {
+		return resizeIfRequested(originalImage, parameters, (double) originalImage.getWidth() / (double) originalImage.getHeight());
+	}
+
+	/**
+	 * Resize the image if the request contains resize parameters.
+	 *
+	 * @param originalImage
+	 * @param parameters
+	 * @param aspectRatio
+	 *            Aspect ratio of the source image. This may differ slightly from the aspect ratio of the given image if it was decoded with subsampling
+	 * @return Resized image or original image if no resize operation was requested
+	 */
+	protected BufferedImage resizeIfRequested(BufferedImage originalImage, ImageManipulationParameters parameters, double aspectRatio) {
 		int originalHeight = originalImage.getHeight();
 		int originalWidth = originalImage.getWidth();
-		double aspectRatio = (double) originalWidth / (double) originalHeight;
 
 		// Resize if required and calculate missing parameters if needed
 		Integer pHeight = NumberUtils.toInt(parameters.getHeight(), 0);
@@ -275,12 +336,30 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	 * @return The modified image
 	 */
 	protected BufferedImage cropAndResize(BufferedImage image, ImageManipulationParameters parameters) {
+		return cropAndResize(image, parameters, null);
+	}
+
+	/**
+	 * Resize the given image with the specified manipulation parameters.
+	 *
+	 * @param image
+	 *            The image to process
+	 * @param parameters
+	 *            The parameters defining cropping and resizing requests
+	 * @param decodeParams
+	 *            Parameters which were used to decode the image or null if the image was fully decoded
+	 * @return The modified image
+	 */
+	protected BufferedImage cropAndResize(BufferedImage image, ImageManipulationParameters parameters, DecodeParameters decodeParams) {
 		CropMode cropMode = parameters.getCropMode();
 		boolean omitResize = false;
 		if (cropMode != null) {
 			switch (cropMode) {
 				case RECT:
-					image = crop(image, parameters.getRect());
+					// The decoder already restricted the image to the crop area
+					if (decodeParams == null || !decodeParams.isCropped()) {
+						image = crop(image, parameters.getRect());
+					}
 					break;
 				case FOCALPOINT:
 					image = focalPointModifier.apply(image, parameters);
@@ -291,12 +370,115 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		}
 
 		if (!omitResize) {
-			image = resizeIfRequested(image, parameters);
+			if (decodeParams == null) {
+				image = resizeIfRequested(image, parameters);
+			} else {
+				image = resizeIfRequested(image, parameters, decodeParams.getAspectRatio());
+			}
 		}
 
 		return image;
 	}
 
+	/**
+	 * Determine how the source image needs to be decoded. The decoder will only read the crop area if a rect crop was requested. Additionally the image
+	 * will be decoded with source subsampling if the target size is considerably smaller than the source image.
+	 *
+	 * @param reader
+	 *            Reader for the source image
+	 * @param parameters
+	 * @return Parameters for decoding the image
+	 * @throws IOException
+	 */
+	protected DecodeParameters getDecodeParameters(ImageReader reader, ImageManipulationParameters parameters) throws IOException {
+		ImageReadParam readParam = reader.getDefaultReadParam();
+		int sourceWidth = reader.getWidth(0);
+		int sourceHeight = reader.getHeight(0);
+		boolean cropped = false;
+
+		ImageRect rect = parameters.getRect();
+		if (parameters.getCropMode() == CropMode.RECT && rect != null) {
+			rect.validateCropBounds(sourceWidth, sourceHeight);
+			if (rect.getStartX() >= 0 && rect.getStartY() >= 0 && rect.getWidth() > 0 && rect.getHeight() > 0) {
+				readParam.setSourceRegion(new Rectangle(rect.getStartX(), rect.getStartY(), rect.getWidth(), rect.getHeight()));
+				sourceWidth = rect.getWidth();
+				sourceHeight = rect.getHeight();
+				cropped = true;
+			}
+		}
+
+		int subsampling = 1;
+		if (options.isSubsampling() && (parameters.getCropMode() != CropMode.RECT || cropped)) {
+			subsampling = getSubsamplingFactor(sourceWidth, sourceHeight, parameters);
+			if (subsampling > 1) {
+				readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+			}
+		}
+
+		int decodedWidth = (sourceWidth + subsampling - 1) / subsampling;
+		int decodedHeight = (sourceHeight + subsampling - 1) / subsampling;
+		return new DecodeParameters(readParam, cropped, (double) sourceWidth / (double) sourceHeight, (long) decodedWidth * decodedHeight
+			* BYTES_PER_PIXEL);
+	}
+
+	/**
+	 * Calculate the source subsampling factor for the requested target size. The subsampled image will still be at least
+	 * {@link #SUBSAMPLING_OVERSAMPLING} times larger than the target size.
+	 *
+	 * @param sourceWidth
+	 * @param sourceHeight
+	 * @param parameters
+	 * @return Subsampling factor or 1 if no subsampling should be applied
+	 */
+	private int getSubsamplingFactor(int sourceWidth, int sourceHeight, ImageManipulationParameters parameters) {
+		// Automatic dimensions may be resolved to the original size of the image
+		if ("auto".equals(parameters.getWidth()) || "auto".equals(parameters.getHeight())) {
+			return 1;
+		}
+		int targetWidth = NumberUtils.toInt(parameters.getWidth(), 0);
+		int targetHeight = NumberUtils.toInt(parameters.getHeight(), 0);
+		if (parameters.getCropMode() == CropMode.FOCALPOINT) {
+			// The zoom and the debug axis depend on absolute pixel sizes and thus the image must not be subsampled
+			Float zoom = parameters.getFocalPointZoom();
+			if ((zoom != null && zoom > 1) || parameters.getFocalPointDebug() || targetWidth == 0 || targetHeight == 0) {
+				return 1;
+			}
+		}
+		if (targetWidth <= 0 && targetHeight <= 0) {
+			return 1;
+		}
+		int factor = Integer.MAX_VALUE;
+		if (targetWidth > 0) {
+			factor = Math.min(factor, sourceWidth / (targetWidth * SUBSAMPLING_OVERSAMPLING));
+		}
+		if (targetHeight > 0) {
+			factor = Math.min(factor, sourceHeight / (targetHeight * SUBSAMPLING_OVERSAMPLING));
+		}
+		return Math.max(1, factor);
+	}
+
+	/**
+	 * Acquire the part of the decode memory budget which is needed to decode the image. Decode operations which exceed the whole budget will only be
+	 * executed when no other decode operation is running.
+	 *
+	 * @param decodeParams
+	 * @return Acquired permits which need to be released afterwards
+	 * @throws InterruptedException
+	 */
+	private int acquireDecodeBudget(DecodeParameters decodeParams) throws InterruptedException {
+		if (decodeBudget == null) {
+			return 0;
+		}
+		int permits = (int) Math.max(1, Math.min(decodeParams.getEstimatedSize() / 1024, decodeBudgetPermits));
+		if (!decodeBudget.tryAcquire(permits)) {
+			if (log.isDebugEnabled()) {
+				log.debug("Waiting for {" + permits + "} KiB of the decode memory budget");
+			}
+			decodeBudget.acquire(permits);
+		}
+		return permits;
+	}
+
 	@Override
 	public Single<String> handleResize(HibBinary binary, ImageManipulationParameters parameters) {
 		// Validate the resize parameters
@@ -305,62 +487,139 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 		BinaryDaoWrapper binaryDao = boot.binaryDao();
 		Supplier<InputStream> stream = binaryDao.openBlockingStream(binary);
+		String sha512sum = binary.getSHA512Sum();
 
-		return getCacheFilePath(binary.getSHA512Sum(), parameters)
+		// The lookup is deferred so that it will be repeated when the single is subscribed again
+		return Single.defer(() -> getCacheFilePath(sha512sum, parameters))
 			.flatMap(cacheFileInfo -> {
 				if (cacheFileInfo.exists) {
 					return Single.just(cacheFileInfo.path);
 				} else {
-					// TODO handle execution timeout
-					// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
-					// regular worker
-					// pool
-					return workerPool.<String>rxExecuteBlocking(bh -> {
-						try (
-							InputStream is = stream.get();
-							ImageInputStream ins = ImageIO.createImageInputStream(is)) {
-							BufferedImage image;
-							ImageReader reader = getImageReader(ins);
-
-							try {
-								image = reader.read(0);
-							} catch (IOException e) {
-								log.error("Could not read input image", e);
-
-								throw error(BAD_REQUEST, "image_error_reading_failed");
-							}
-
-							if (log.isDebugEnabled()) {
-								log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
-							}
-
-							image = cropAndResize(image, parameters);
-
-							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-							String cacheFilePath = cacheFileInfo.path + "." + extension;
-							File outCacheFile = new File(cacheFilePath);
-
-							// Write image
-							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-								ImageWriteParam params = getImageWriteparams(extension);
-
-								// same as write(image), but with image parameters
-								getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-							} catch (Exception e) {
-								throw error(BAD_REQUEST, "image_error_writing_failed");
-							}
-
-							// Return buffer to written cache file
-							bh.complete(cacheFilePath);
-						} catch (Exception e) {
-							bh.fail(e);
-						}
-					}, false).toSingle();
+					String resizeKey = sha512sum + "-" + parameters.getCacheKey();
+					return deduplicate(resizeKey, resize(stream, parameters, cacheFileInfo));
 				}
 			});
 	}
 
+	/**
+	 * Return the pending resize operation for the given key or start a new one. Concurrent requests for the same image variant will thus share a single
+	 * resize operation. The operation is rejected if the limit of pending resize operations has been reached.
+	 *
+	 * @param resizeKey
+	 *            Key which identifies the image variant
+	 * @param resize
+	 *            Lazy resize operation which will only be subscribed if no other resize operation for the variant is pending
+	 * @return Single which emits the path to the cache file
+	 */
+	Single<String> deduplicate(String resizeKey, Single<String> resize) {
+		AtomicBoolean joined = new AtomicBoolean(true);
+		Single<String> pending = pendingResizes.computeIfAbsent(resizeKey, key -> {
+			joined.set(false);
+			if (pendingResizeCount.incrementAndGet() > options.getResizeQueueLimit()) {
+				pendingResizeCount.decrementAndGet();
+				return null;
+			}
+			return resize
+				.doFinally(() -> {
+					pendingResizes.remove(key);
+					pendingResizeCount.decrementAndGet();
+				}).cache();
+		});
+
+		if (pending == null) {
+			log.warn("Rejecting resize of image variant {" + resizeKey + "} since the limit of {" + options.getResizeQueueLimit()
+				+ "} pending resize operations has been reached.");
+			if (metrics.isEnabled()) {
+				metrics.counter(IMAGE_RESIZE_REJECTED).increment();
+			}
+			return Single.error(error(SERVICE_UNAVAILABLE, "image_error_resize_queue_full"));
+		}
+		if (joined.get()) {
+			if (log.isDebugEnabled()) {
+				log.debug("Joining pending resize of image variant {" + resizeKey + "}");
+			}
+			if (metrics.isEnabled()) {
+				metrics.counter(IMAGE_RESIZE_DEDUPLICATED).increment();
+			}
+		}
+		return pending;
+	}
+
+	/**
+	 * Resize the image and write the result to the cache file.
+	 *
+	 * @param stream
+	 *            Supplier for the stream of the original image
+	 * @param parameters
+	 * @param cacheFileInfo
+	 *            Information about the cache file to be written
+	 * @return Single which emits the path to the written cache file
+	 */
+	private Single<String> resize(Supplier<InputStream> stream, ImageManipulationParameters parameters, CacheFileInfo cacheFileInfo) {
+		// TODO handle execution timeout
+		// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
+		// regular worker
+		// pool
+		return workerPool.<String>rxExecuteBlocking(bh -> {
+			try (
+				InputStream is = stream.get();
+				ImageInputStream ins = ImageIO.createImageInputStream(is)) {
+				BufferedImage image;
+				ImageReader reader = getImageReader(ins);
+				DecodeParameters decodeParams;
+				try {
+					decodeParams = getDecodeParameters(reader, parameters);
+				} catch (IOException e) {
+					log.error("Could not read input image", e);
+
+					throw error(BAD_REQUEST, "image_error_reading_failed");
+				}
+
+				int permits = acquireDecodeBudget(decodeParams);
+				try {
+					try {
+						image = reader.read(0, decodeParams.getReadParam());
+					} catch (IOException e) {
+						log.error("Could not read input image", e);
+
+						throw error(BAD_REQUEST, "image_error_reading_failed");
+					}
+
+					if (log.isDebugEnabled()) {
+						log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
+					}
+
+					image = cropAndResize(image, parameters, decodeParams);
+				} finally {
+					if (permits > 0) {
+						decodeBudget.release(permits);
+					}
+				}
+
+				String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
+				String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+				String cacheFilePath = cacheFileInfo.path + "." + extension;
+				File outCacheFile = new File(cacheFilePath);
+
+				// Write image
+				try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
+					ImageWriteParam params = getImageWriteparams(extension);
+
+					// same as write(image), but with image parameters
+					getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
+				} catch (Exception e) {
+					throw error(BAD_REQUEST, "image_error_writing_failed");
+				}
+				registerCacheFile(cacheFileInfo, cacheFilePath);
+
+				// Return buffer to written cache file
+				bh.complete(cacheFilePath);
+			} catch (Exception e) {
+				bh.fail(e);
+			}
+		}, false).toSingle();
+	}
+
 	private ImageWriteParam getImageWriteparams(String extension) {
 		if (isJpeg(extension)) {
 			JPEGImageWriteParam params = new JPEGImageWriteParam(null);
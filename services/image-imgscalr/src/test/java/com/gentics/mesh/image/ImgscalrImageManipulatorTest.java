@@ -2,8 +2,11 @@ package com.gentics.mesh.image;
 
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.test.util.ImageTestUtil.createMockedBinary;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
@@ -17,11 +20,16 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -37,6 +45,8 @@ import com.gentics.mesh.core.data.dao.impl.BinaryDaoWrapperImpl;
 import com.gentics.mesh.core.image.ImageInfo;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ResizeMode;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
@@ -45,6 +55,8 @@ import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -68,7 +80,9 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		BootstrapInitializer boot = mock(BootstrapInitializer.class);
 		when(boot.binaryDao()).thenReturn(new BinaryDaoWrapperImpl(null, null, null));
 		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
-		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, boot);
+		// The reference images have been created from the fully decoded source images
+		options.setSubsampling(false);
+		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, boot, mock(MetricsService.class));
 	}
 
 	@Test
@@ -263,6 +277,64 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	}
 
+	@Test
+	public void testDecodeParameters() throws IOException {
+		ImageManipulatorOptions options = new ImageManipulatorOptions();
+		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
+		BootstrapInitializer boot = mock(BootstrapInitializer.class);
+		ImgscalrImageManipulator subsamplingManipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, boot, mock(MetricsService.class));
+
+		// Resize 1920x1080 to 200x100
+		DecodeParameters decodeParams = subsamplingManipulator.getDecodeParameters(getReader("testgrid-horizontal-hd_1920x1080.png"),
+			new ImageManipulationParametersImpl().setWidth(200).setHeight(100));
+		ImageReadParam readParam = decodeParams.getReadParam();
+		assertEquals(4, readParam.getSourceXSubsampling());
+		assertEquals(4, readParam.getSourceYSubsampling());
+		assertNull(readParam.getSourceRegion());
+		assertFalse(decodeParams.isCropped());
+		assertEquals(480 * 270 * 4, decodeParams.getEstimatedSize());
+
+		// Crop a 400x200 area and resize it to a width of 100
+		decodeParams = subsamplingManipulator.getDecodeParameters(getReader("testgrid-horizontal-hd_1920x1080.png"),
+			new ImageManipulationParametersImpl().setCropMode(CropMode.RECT).setRect(100, 50, 200, 400).setWidth(100));
+		readParam = decodeParams.getReadParam();
+		assertTrue(decodeParams.isCropped());
+		assertEquals(2, readParam.getSourceXSubsampling());
+		assertEquals(100, readParam.getSourceRegion().x);
+		assertEquals(50, readParam.getSourceRegion().y);
+		assertEquals(400, readParam.getSourceRegion().width);
+		assertEquals(200, readParam.getSourceRegion().height);
+		assertEquals(2.0, decodeParams.getAspectRatio(), 0.001);
+
+		// Target size is close to the source size
+		decodeParams = subsamplingManipulator.getDecodeParameters(getReader("testgrid-horizontal-hd_1920x1080.png"),
+			new ImageManipulationParametersImpl().setWidth(1000));
+		assertEquals(1, decodeParams.getReadParam().getSourceXSubsampling());
+
+		// Subsampling is disabled
+		decodeParams = manipulator.getDecodeParameters(getReader("testgrid-horizontal-hd_1920x1080.png"),
+			new ImageManipulationParametersImpl().setWidth(200).setHeight(100));
+		assertEquals(1, decodeParams.getReadParam().getSourceXSubsampling());
+
+		// Cropping and resizing the subsampled image
+		ImageManipulationParameters parameters = new ImageManipulationParametersImpl().setCropMode(CropMode.RECT).setRect(100, 50, 200, 400)
+			.setWidth(100);
+		decodeParams = subsamplingManipulator.getDecodeParameters(getReader("testgrid-horizontal-hd_1920x1080.png"), parameters);
+		BufferedImage image = getReader("testgrid-horizontal-hd_1920x1080.png").read(0, decodeParams.getReadParam());
+		BufferedImage outputImage = subsamplingManipulator.cropAndResize(image, parameters, decodeParams);
+		assertEquals(100, outputImage.getWidth());
+		assertEquals(50, outputImage.getHeight());
+	}
+
+	private ImageReader getReader(String imageName) throws IOException {
+		InputStream is = getClass().getResourceAsStream("/pictures/" + imageName);
+		ImageInputStream ins = ImageIO.createImageInputStream(is);
+		Iterator<ImageReader> it = ImageIO.getImageReaders(ins);
+		ImageReader reader = it.next();
+		reader.setInput(ins, true);
+		return reader;
+	}
+
 	@Test
 	public void testSmartResize() throws IOException {
 		// tests with horizontal input ...
@@ -679,4 +751,52 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 			System.out.println(key + "=" + metadata.get(key));
 		}
 	}
+
+	@Test
+	public void testResizeDeduplication() {
+		AtomicInteger resizes = new AtomicInteger();
+		SingleSubject<String> result = SingleSubject.create();
+		Single<String> resize = Single.defer(() -> {
+			resizes.incrementAndGet();
+			return result;
+		});
+
+		TestObserver<String> first = manipulator.deduplicate("sha512-variant", resize).test();
+		TestObserver<String> second = manipulator.deduplicate("sha512-variant", resize).test();
+		assertEquals("Concurrent requests for the same variant should share the resize operation", 1, resizes.get());
+		result.onSuccess("variant.jpg");
+		first.assertValue("variant.jpg");
+		second.assertValue("variant.jpg");
+
+		// The finished resize is no longer pending
+		manipulator.deduplicate("sha512-variant", Single.defer(() -> {
+			resizes.incrementAndGet();
+			return Single.just("variant.jpg");
+		})).test().assertValue("variant.jpg");
+		assertEquals(2, resizes.get());
+	}
+
+	@Test
+	public void testResizeQueueFull() {
+		ImageManipulatorOptions options = new ImageManipulatorOptions()
+			.setImageCacheDirectory(cacheDir.getAbsolutePath())
+			.setResizeQueueLimit(1);
+		ImgscalrImageManipulator limitedManipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, mock(BootstrapInitializer.class),
+			mock(MetricsService.class));
+
+		SingleSubject<String> pending = SingleSubject.create();
+		TestObserver<String> first = limitedManipulator.deduplicate("variant-a", pending).test();
+		// Joining the pending resize of the same variant is not limited
+		TestObserver<String> joined = limitedManipulator.deduplicate("variant-a", pending).test();
+
+		TestObserver<String> rejected = limitedManipulator.deduplicate("variant-b", Single.just("b.jpg")).test();
+		rejected.assertError(e -> e instanceof GenericRestException
+			&& ((GenericRestException) e).getStatus() == SERVICE_UNAVAILABLE
+			&& "image_error_resize_queue_full".equals(((GenericRestException) e).getI18nKey()));
+
+		pending.onSuccess("a.jpg");
+		first.assertValue("a.jpg");
+		joined.assertValue("a.jpg");
+		limitedManipulator.deduplicate("variant-b", Single.just("b.jpg")).test().assertValue("b.jpg");
+	}
 }
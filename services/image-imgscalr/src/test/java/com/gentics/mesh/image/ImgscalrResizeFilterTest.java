@@ -17,6 +17,7 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.dao.impl.BinaryDaoWrapperImpl;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.ResampleFilter;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 
 import io.vertx.reactivex.core.Vertx;
@@ -41,7 +42,7 @@ public class ImgscalrResizeFilterTest extends AbstractImageTest {
 		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
 		BootstrapInitializer boot = mock(BootstrapInitializer.class);
 		when(boot.binaryDao()).thenReturn(new BinaryDaoWrapperImpl(null, null, null));
-		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, boot);
+		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, boot, mock(MetricsService.class));
 	}
 
 	@Parameterized.Parameters(name = "filter={0}")
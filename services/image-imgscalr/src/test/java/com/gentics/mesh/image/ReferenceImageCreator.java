@@ -15,6 +15,7 @@ import org.codehaus.jettison.json.JSONObject;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.dao.impl.BinaryDaoWrapperImpl;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 
 import io.reactivex.Observable;
@@ -44,10 +45,11 @@ public class ReferenceImageCreator {
 		ImageManipulatorOptions options = new ImageManipulatorOptions();
 		String tmpDir = new File("target", "tmp_" + System.currentTimeMillis()).getAbsolutePath();
 		options.setImageCacheDirectory(tmpDir);
+		options.setSubsampling(false);
 
 		BootstrapInitializer boot = mock(BootstrapInitializer.class);
 		when(boot.binaryDao()).thenReturn(new BinaryDaoWrapperImpl(null, null, null));
-		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(vertx, options, boot);
+		ImgscalrImageManipulator manipulator = new ImgscalrImageManipulator(vertx, options, boot, mock(MetricsService.class));
 
 		readImageConfig().blockingForEach(image -> {
 			String imageName = image.getString("name");